@@ -1,9 +1,19 @@
 package com.fasterxml.jackson.module.afterburner;
 
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.module.afterburner.ser.SerializerModifier;
+import com.fasterxml.jackson.module.afterburner.deser.AdaptivePropertyOrder;
 import com.fasterxml.jackson.module.afterburner.deser.DeserializerModifier;
+import com.fasterxml.jackson.module.afterburner.util.GeneratorSettings;
+import com.fasterxml.jackson.module.afterburner.util.GeneratorSettings.Feature;
 
 public class AfterburnerModule extends Module
     implements java.io.Serializable // is this necessary?
@@ -37,6 +47,122 @@ public class AfterburnerModule extends Module
      * By default this feature is enabled.
      */
     protected boolean _cfgUseOptimizedBeanDeserializer = true;
+
+    /**
+     * Flag to indicate whether optimized bean deserializers should bind
+     * properties using a generated per-bean-type reader, which has
+     * unrolled code for matching and assigning each property, instead of
+     * dispatching separately for each property.
+     * Only used if {@link #_cfgUseOptimizedBeanDeserializer} is enabled.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _cfgUseGeneratedPropertyReaders = false;
+
+    /**
+     * Flag to indicate whether optimized bean deserializers should learn
+     * the order in which properties actually appear in input, and once
+     * that order is stable, switch to expecting properties in that order.
+     * Only used if {@link #_cfgUseOptimizedBeanDeserializer} is enabled.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _cfgUseAdaptivePropertyOrder = false;
+
+    /**
+     * Flag to indicate whether optimized bean serializers should write
+     * properties using a generated per-bean-type writer, which has
+     * unrolled code for accessing and writing each property, instead of
+     * dispatching separately for each property.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _cfgUseGeneratedPropertyWriters = false;
+
+    /**
+     * Flag to indicate whether generated per-bean-type writers should
+     * write names of simple properties as pre-encoded raw content, when
+     * it is known that a separator is needed, instead of regular
+     * name-writing calls. This is only done for standard JSON output
+     * without pretty printing.
+     * Only used if {@link #_cfgUseGeneratedPropertyWriters} is enabled.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _cfgUseRawPropertyNames = false;
+
+    /**
+     * Flag to indicate whether optimized bean serializers should cache
+     * inclusion decisions of standard name-based property filters,
+     * per filter instance, instead of calling filter for each property
+     * of each bean. Sets of names given to such filters must not be
+     * modified after filters have been constructed.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _cfgCacheFilterDecisions = false;
+
+    /**
+     * Flag to indicate whether optimized bean serializers should apply
+     * property projections given as writer attributes.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _cfgUsePropertyProjections = false;
+
+    /**
+     * Flag to indicate whether generated classes should be defined using
+     * one shared, weakly referenced child loader per value class loader
+     * (instead of defining them in value class loaders themselves), so
+     * that they may be unloaded once no longer used.
+     * Only used if {@link #_cfgUseValueClassLoader} is enabled.
+     * Mutually exclusive with {@link #_cfgUsePrivateMemberAccess}: if both are
+     * enabled, private members are accessed using Reflection.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _cfgUseWeakClassLoaders = false;
+
+    /**
+     * Flag to indicate whether 'private' fields and methods of beans should
+     * also be accessed using generated classes, defined as nestmates of bean
+     * classes. This requires Java 15 or above; with older JVMs, private members
+     * are accessed using Reflection regardless.
+     * Only used if {@link #_cfgUseValueClassLoader} is enabled, and
+     * {@link #_cfgUseWeakClassLoaders} is not (these are mutually exclusive,
+     * as nestmates must be defined by class loaders of bean classes).
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _cfgUsePrivateMemberAccess = false;
+
+    /**
+     * Per-type statistics of ordered property matching, populated if
+     * {@link #_cfgUseAdaptivePropertyOrder} is enabled; created lazily
+     * when module is registered.
+     * Statistics are owned by deserializers, so both keys and values are
+     * only weakly referenced, so as not to retain bean classes (and their
+     * class loaders) once deserializers are no longer used.
+     *
+     * @since 2.7.2
+     */
+    protected transient Map<JavaType, WeakReference<AdaptivePropertyOrder>> _adaptiveOrders;
     
     /*
     /********************************************************************** 
@@ -50,9 +176,22 @@ public class AfterburnerModule extends Module
     public void setupModule(SetupContext context)
     {
         ClassLoader cl = _cfgUseValueClassLoader ? null : getClass().getClassLoader();
-        context.addBeanDeserializerModifier(new DeserializerModifier(cl,
-                _cfgUseOptimizedBeanDeserializer));
-        context.addBeanSerializerModifier(new SerializerModifier(cl));
+        if (_cfgUseAdaptivePropertyOrder && (_adaptiveOrders == null)) {
+            _adaptiveOrders = Collections.synchronizedMap(
+                    new WeakHashMap<JavaType, WeakReference<AdaptivePropertyOrder>>());
+        }
+        GeneratorSettings settings = new GeneratorSettings(cl)
+            .with(Feature.USE_OPTIMIZED_BEAN_DESERIALIZER, _cfgUseOptimizedBeanDeserializer)
+            .with(Feature.USE_GENERATED_READERS, _cfgUseGeneratedPropertyReaders)
+            .with(Feature.USE_GENERATED_WRITERS, _cfgUseGeneratedPropertyWriters)
+            .with(Feature.USE_RAW_NAMES, _cfgUseRawPropertyNames)
+            .with(Feature.CACHE_FILTER_DECISIONS, _cfgCacheFilterDecisions)
+            .with(Feature.USE_PROJECTIONS, _cfgUsePropertyProjections)
+            .with(Feature.USE_WEAK_LOADERS, _cfgUseWeakClassLoaders)
+            .with(Feature.USE_PRIVATE_ACCESS, _cfgUsePrivateMemberAccess);
+        context.addBeanDeserializerModifier(new DeserializerModifier(settings,
+                _cfgUseAdaptivePropertyOrder ? _adaptiveOrders : null));
+        context.addBeanSerializerModifier(new SerializerModifier(settings));
     }
 
     @Override
@@ -90,5 +229,178 @@ public class AfterburnerModule extends Module
         _cfgUseOptimizedBeanDeserializer = state;
         return this;
     }
-}
 
+    /**
+     * Flag to indicate whether optimized bean deserializers should bind
+     * properties using a generated per-bean-type reader, which has
+     * unrolled code for matching and assigning each property.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    public AfterburnerModule setUseGeneratedPropertyReaders(boolean state) {
+        _cfgUseGeneratedPropertyReaders = state;
+        return this;
+    }
+
+    /**
+     * Flag to indicate whether optimized bean deserializers should learn
+     * the order in which properties actually appear in input documents
+     * (by sampling documents that do not match the expected order), and
+     * once it is stable, switch to expecting properties in that order.
+     * Effectiveness may be checked using {@link #getAdaptivePropertyOrders()}.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    public AfterburnerModule setUseAdaptivePropertyOrder(boolean state) {
+        _cfgUseAdaptivePropertyOrder = state;
+        return this;
+    }
+
+    /**
+     * Flag to indicate whether optimized bean serializers should write
+     * properties using a generated per-bean-type writer, which has
+     * unrolled code for accessing and writing each property (with
+     * inclusion criteria checked inline, where possible). With views,
+     * a separate writer is generated for each active view.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    public AfterburnerModule setUseGeneratedPropertyWriters(boolean state) {
+        _cfgUseGeneratedPropertyWriters = state;
+        return this;
+    }
+
+    /**
+     * Flag to indicate whether generated per-bean-type writers (see
+     * {@link #setUseGeneratedPropertyWriters}) should write names of simple
+     * properties as pre-encoded raw content (comma and quoted name),
+     * where possible. This is only done for standard JSON output
+     * without pretty printing; filters are never handled by
+     * generated writers.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    public AfterburnerModule setUseRawPropertyNames(boolean state) {
+        _cfgUseRawPropertyNames = state;
+        return this;
+    }
+
+    /**
+     * Flag to indicate whether optimized bean serializers should cache
+     * inclusion decisions of standard name-based property filters
+     * (ones constructed using {@code SimpleBeanPropertyFilter.filterOutAllExcept}
+     * and {@code SimpleBeanPropertyFilter.serializeAllExcept}) per filter
+     * instance, so that filter is only consulted once per property, not
+     * once per property of each bean serialized. Filters are matched by
+     * identity only, so sets of names given to these filters must not be
+     * modified after filters have been constructed (filters do not copy them).
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    public AfterburnerModule setCacheFilterDecisions(boolean state) {
+        _cfgCacheFilterDecisions = state;
+        return this;
+    }
+
+    /**
+     * Flag to indicate whether optimized bean serializers should apply
+     * property projections given as writer attributes (see
+     * {@link com.fasterxml.jackson.module.afterburner.ser.PropertyProjection#applyTo}),
+     * writing only properties included by projection for bean types it covers. Since this requires
+     * checking for attribute for each bean written, it is an opt-in feature.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    public AfterburnerModule setUsePropertyProjections(boolean state) {
+        _cfgUsePropertyProjections = state;
+        return this;
+    }
+
+    /**
+     * Flag to indicate whether generated classes should be defined using
+     * one shared child loader per value class loader, instead of
+     * defining them in value class loaders. Shared loaders are only weakly
+     * referenced, so generated classes may be unloaded along with bean classes,
+     * or once serializers and deserializers that use them are no longer used.
+     * As with {@link #setUseValueClassLoader} disabled, only 'public'
+     * properties of non-private classes can be accessed by generated code;
+     * others are accessed using Reflection.
+     * Note that this means that enabling this feature effectively disables
+     * {@link #setUsePrivateMemberAccess}.
+     * Memory used for generated classes may be checked using
+     * {@link com.fasterxml.jackson.module.afterburner.util.MyClassLoader#getMetaspaceUsed()}
+     * and {@link com.fasterxml.jackson.module.afterburner.util.MyClassLoader#getGeneratedClassCount()}.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    public AfterburnerModule setUseWeakClassLoaders(boolean state) {
+        _cfgUseWeakClassLoaders = state;
+        return this;
+    }
+
+    /**
+     * Flag to indicate whether 'private' fields and methods (declared by bean
+     * classes themselves) should also be accessed using generated code.
+     * This is done by defining generated classes as hidden nestmates of bean classes,
+     * which requires Java 15 or above; with older JVMs (or if classes
+     * can not be defined in packages of bean classes), private members are
+     * accessed using Reflection regardless.
+     * Only used if {@link #setUseValueClassLoader} is enabled; and mutually
+     * exclusive with {@link #setUseWeakClassLoaders}, since nestmates must be
+     * defined by class loaders of bean classes: if both are enabled, private
+     * members are accessed using Reflection.
+     *<p>
+     * By default this feature is disabled.
+     *
+     * @since 2.7.2
+     */
+    public AfterburnerModule setUsePrivateMemberAccess(boolean state) {
+        _cfgUsePrivateMemberAccess = state;
+        return this;
+    }
+
+    /*
+    /********************************************************************** 
+    /* Statistics
+    /********************************************************************** 
+     */
+
+    /**
+     * Accessor for hit rate statistics of ordered property matching
+     * by optimized bean deserializers, keyed by bean type; only available if
+     * adaptive property ordering is enabled.
+     * Returned Map is a snapshot, containing statistics of deserializers
+     * still in use.
+     *
+     * @since 2.7.2
+     */
+    public Map<JavaType, AdaptivePropertyOrder> getAdaptivePropertyOrders() {
+        if (_adaptiveOrders == null) {
+            return Collections.emptyMap();
+        }
+        Map<JavaType, AdaptivePropertyOrder> result = new LinkedHashMap<JavaType, AdaptivePropertyOrder>();
+        synchronized (_adaptiveOrders) {
+            for (Map.Entry<JavaType, WeakReference<AdaptivePropertyOrder>> entry : _adaptiveOrders.entrySet()) {
+                AdaptivePropertyOrder order = entry.getValue().get();
+                if (order != null) {
+                    result.put(entry.getKey(), order);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,186 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+/**
+ * Helper object used by {@link SuperSonicBeanDeserializer} for learning
+ * the order in which properties actually appear in input documents, when
+ * that differs from the order in which they were expected (declaration order,
+ * or one specified with {@link com.fasterxml.jackson.annotation.JsonPropertyOrder}).
+ *<p>
+ * Every document is counted either as a "hit" (all properties in expected order)
+ * or as a "miss"; and some of misses are sampled to record the observed order.
+ * Once enough consecutive samples agree, a new order is suggested to the
+ * deserializer, which will then swap it in.
+ *<p>
+ * Instances also serve as statistics about effectiveness of ordered
+ * matching for the bean type.
+ *
+ * @since 2.7.2
+ */
+public final class AdaptivePropertyOrder
+{
+    /**
+     * Every Nth document that does not match the expected order is sampled;
+     * must be a power of two.
+     */
+    protected final static int SAMPLE_INTERVAL = 8;
+
+    /**
+     * Number of consecutive samples that must have the same property order
+     * before it is considered stable.
+     */
+    protected final static int REQUIRED_MATCHES = 3;
+
+    /**
+     * Maximum number of times order may be changed; needed to avoid thrashing
+     * for input that alternates between different orders.
+     */
+    protected final static int MAX_REORDERINGS = 4;
+
+    protected final JavaType _beanType;
+
+    /* Counters are intentionally neither volatile nor atomic: they are only
+     * used as approximate statistics, and for deciding when to sample, so
+     * occasional lost update is fine.
+     */
+
+    protected long _hits;
+
+    protected long _misses;
+
+    protected volatile int _reorderings;
+
+    /**
+     * Order of properties observed in the latest sample, if any
+     * (guarded by 'this')
+     */
+    protected SettableBeanProperty[] _lastSample;
+
+    /**
+     * Number of consecutive samples that matched {@link #_lastSample}
+     * (guarded by 'this')
+     */
+    protected int _matches;
+
+    public AdaptivePropertyOrder(JavaType beanType) {
+        _beanType = beanType;
+    }
+
+    /*
+    /**********************************************************
+    /* Statistics
+    /**********************************************************
+     */
+
+    public JavaType getBeanType() { return _beanType; }
+
+    /**
+     * Number of documents in which all properties were found in expected
+     * order, since the last re-ordering.
+     */
+    public long getHitCount() { return _hits; }
+
+    /**
+     * Number of documents in which at least one property was not in
+     * expected order, since the last re-ordering.
+     */
+    public long getMissCount() { return _misses; }
+
+    /**
+     * Ratio of hits to all documents since the last re-ordering; 0.0 if no
+     * documents have been read.
+     */
+    public double getHitRate() {
+        long hits = _hits;
+        long total = hits + _misses;
+        return (total == 0L) ? 0.0 : ((double) hits) / total;
+    }
+
+    /**
+     * Number of times expected order has been changed based on samples.
+     */
+    public int getReorderCount() { return _reorderings; }
+
+    @Override
+    public String toString() {
+        return String.format("[AdaptivePropertyOrder for %s: hits=%d, misses=%d, reorderings=%d]",
+                _beanType, _hits, _misses, _reorderings);
+    }
+
+    /*
+    /**********************************************************
+    /* Methods for deserializer
+    /**********************************************************
+     */
+
+    /**
+     * Method called for documents in which all properties were in
+     * expected order.
+     */
+    public void hit() {
+        ++_hits;
+    }
+
+    /**
+     * Method called for documents in which an unexpected property was
+     * encountered, at most once per document.
+     *
+     * @return True if order of properties in the document should be sampled
+     *   and passed via {@link #sample}
+     */
+    public boolean miss() {
+        long count = ++_misses;
+        return ((count & (SAMPLE_INTERVAL-1)) == 0L) && (_reorderings < MAX_REORDERINGS);
+    }
+
+    /**
+     * Method called with observed order of properties of a sampled document.
+     *
+     * @param current Properties in currently expected order
+     * @param seen Properties in the order they appeared in document, without duplicates
+     * @param seenCount Number of entries in <code>seen</code>
+     *
+     * @return New order of properties, if one should be used; null if not
+     */
+    public synchronized SettableBeanProperty[] sample(SettableBeanProperty[] current,
+            SettableBeanProperty[] seen, int seenCount)
+    {
+        SettableBeanProperty[] sample = Arrays.copyOf(seen, seenCount);
+        if (!Arrays.equals(sample, _lastSample)) {
+            _lastSample = sample;
+            _matches = 1;
+            return null;
+        }
+        if (++_matches < REQUIRED_MATCHES) {
+            return null;
+        }
+        _lastSample = null;
+        _matches = 0;
+
+        // Stable; observed properties first, followed by ones not seen, in current order
+        final int len = current.length;
+        SettableBeanProperty[] result = Arrays.copyOf(sample, len);
+        int ix = seenCount;
+        main_loop:
+        for (int i = 0; i < len; ++i) {
+            SettableBeanProperty prop = current[i];
+            for (int j = 0; j < seenCount; ++j) {
+                if (sample[j] == prop) {
+                    continue main_loop;
+                }
+            }
+            result[ix++] = prop;
+        }
+        if (ix != len || Arrays.equals(result, current)) { // sanity check; should not occur
+            return null;
+        }
+        ++_reorderings;
+        _hits = 0L;
+        _misses = 0L;
+        return result;
+    }
+}
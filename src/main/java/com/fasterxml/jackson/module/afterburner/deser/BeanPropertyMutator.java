@@ -148,6 +148,270 @@ public abstract class BeanPropertyMutator
         }
     }
 
+    // @since 2.7.2
+    public void doubleSetter(Object bean, double value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            doubleSetter(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    public void floatSetter(Object bean, float value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            floatSetter(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    public void shortSetter(Object bean, short value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            shortSetter(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    public void byteSetter(Object bean, byte value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            byteSetter(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    public void charSetter(Object bean, char value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            charSetter(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    /*
+    /********************************************************************** 
+    /* Fluent setter calls (for Builders)
+    /********************************************************************** 
+     */
+
+    /* Variants of setter calls that return instance to use for further
+     * calls: value returned by setter, if it returns an Object; otherwise
+     * the bean itself.
+     *
+     * @since 2.7.2
+     */
+
+    public Object intFluentSetter(Object bean, int value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return intFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object longFluentSetter(Object bean, long value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return longFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object booleanFluentSetter(Object bean, boolean value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return booleanFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object stringFluentSetter(Object bean, String value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return stringFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object objectFluentSetter(Object bean, Object value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return objectFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object doubleFluentSetter(Object bean, double value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return doubleFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object floatFluentSetter(Object bean, float value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return floatFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object shortFluentSetter(Object bean, short value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return shortFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object byteFluentSetter(Object bean, byte value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return byteFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    public Object charFluentSetter(Object bean, char value) throws IOException
+    {
+        if (broken) {
+            return originalMutator.setAndReturn(bean, value);
+        }
+        try {
+            return charFluentSetter(bean, index, value);
+        } catch (IllegalAccessError e) {
+            return _reportFluentProblem(bean, value, e);
+        } catch (SecurityException e) {
+            return _reportFluentProblem(bean, value, e);
+        }
+    }
+
+    /**
+     * Method for calling the build method of a Builder, if one was
+     * registered for the mutator class.
+     *
+     * @since 2.7.2
+     */
+    public Object build(Object builder) {
+        throw new UnsupportedOperationException("No build method defined");
+    }
+
+    /**
+     * Method for calling the "any setter" method of a bean, if one was
+     * registered for the mutator class.
+     *
+     * @since 2.7.2
+     */
+    public void anySetter(Object bean, String propName, Object value) {
+        throw new UnsupportedOperationException("No any setter defined");
+    }
+
     /*
     /********************************************************************** 
     /* Field assignments
@@ -243,6 +507,97 @@ public abstract class BeanPropertyMutator
         }
     }
 
+    // @since 2.7.2
+    public void doubleField(Object bean, double value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            doubleField(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    public void floatField(Object bean, float value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            floatField(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    public void shortField(Object bean, short value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            shortField(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    public void byteField(Object bean, byte value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            byteField(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
+    public void charField(Object bean, char value) throws IOException
+    {
+        if (broken) {
+            originalMutator.set(bean, value);
+            return;
+        }
+        try {
+            charField(bean, index, value);
+            return;
+        } catch (IllegalAccessError e) {
+            _reportProblem(bean, value, e);
+            return;
+        } catch (SecurityException e) {
+            _reportProblem(bean, value, e);
+            return;
+        }
+    }
+
     protected void intSetter(Object bean, int propertyIndex, int value) {
         throw new UnsupportedOperationException("No intSetters defined");
     }
@@ -258,6 +613,21 @@ public abstract class BeanPropertyMutator
     protected void objectSetter(Object bean, int propertyIndex, Object value) {
         throw new UnsupportedOperationException("No objectSetters defined");
     }
+    protected Object intFluentSetter(Object bean, int propertyIndex, int value) {
+        throw new UnsupportedOperationException("No intFluentSetters defined");
+    }
+    protected Object longFluentSetter(Object bean, int propertyIndex, long value) {
+        throw new UnsupportedOperationException("No longFluentSetters defined");
+    }
+    protected Object booleanFluentSetter(Object bean, int propertyIndex, boolean value) {
+        throw new UnsupportedOperationException("No booleanFluentSetters defined");
+    }
+    protected Object stringFluentSetter(Object bean, int propertyIndex, String value) {
+        throw new UnsupportedOperationException("No stringFluentSetters defined");
+    }
+    protected Object objectFluentSetter(Object bean, int propertyIndex, Object value) {
+        throw new UnsupportedOperationException("No objectFluentSetters defined");
+    }
     protected void intField(Object bean, int propertyIndex, int value) {
         throw new UnsupportedOperationException("No intFields defined");
     }
@@ -274,13 +644,72 @@ public abstract class BeanPropertyMutator
         throw new UnsupportedOperationException("No objectFields defined");
     }
 
+    // @since 2.7.2
+    protected void doubleSetter(Object bean, int propertyIndex, double value) {
+        throw new UnsupportedOperationException("No doubleSetters defined");
+    }
+    protected void floatSetter(Object bean, int propertyIndex, float value) {
+        throw new UnsupportedOperationException("No floatSetters defined");
+    }
+    protected void shortSetter(Object bean, int propertyIndex, short value) {
+        throw new UnsupportedOperationException("No shortSetters defined");
+    }
+    protected void byteSetter(Object bean, int propertyIndex, byte value) {
+        throw new UnsupportedOperationException("No byteSetters defined");
+    }
+    protected void charSetter(Object bean, int propertyIndex, char value) {
+        throw new UnsupportedOperationException("No charSetters defined");
+    }
+    protected Object doubleFluentSetter(Object bean, int propertyIndex, double value) {
+        throw new UnsupportedOperationException("No doubleFluentSetters defined");
+    }
+    protected Object floatFluentSetter(Object bean, int propertyIndex, float value) {
+        throw new UnsupportedOperationException("No floatFluentSetters defined");
+    }
+    protected Object shortFluentSetter(Object bean, int propertyIndex, short value) {
+        throw new UnsupportedOperationException("No shortFluentSetters defined");
+    }
+    protected Object byteFluentSetter(Object bean, int propertyIndex, byte value) {
+        throw new UnsupportedOperationException("No byteFluentSetters defined");
+    }
+    protected Object charFluentSetter(Object bean, int propertyIndex, char value) {
+        throw new UnsupportedOperationException("No charFluentSetters defined");
+    }
+    protected void doubleField(Object bean, int propertyIndex, double value) {
+        throw new UnsupportedOperationException("No doubleFields defined");
+    }
+    protected void floatField(Object bean, int propertyIndex, float value) {
+        throw new UnsupportedOperationException("No floatFields defined");
+    }
+    protected void shortField(Object bean, int propertyIndex, short value) {
+        throw new UnsupportedOperationException("No shortFields defined");
+    }
+    protected void byteField(Object bean, int propertyIndex, byte value) {
+        throw new UnsupportedOperationException("No byteFields defined");
+    }
+    protected void charField(Object bean, int propertyIndex, char value) {
+        throw new UnsupportedOperationException("No charFields defined");
+    }
+
     /*
     /********************************************************************** 
     /* Helper methods
     /********************************************************************** 
      */
 
-    private synchronized void _reportProblem(Object bean, Object value, Throwable e) throws IOException
+    private void _reportProblem(Object bean, Object value, Throwable e) throws IOException
+    {
+        _markBroken(bean, e);
+        originalMutator.set(bean, value);
+    }
+
+    private Object _reportFluentProblem(Object bean, Object value, Throwable e) throws IOException
+    {
+        _markBroken(bean, e);
+        return originalMutator.setAndReturn(bean, value);
+    }
+
+    private synchronized void _markBroken(Object bean, Throwable e)
     {
         // yes, double-locking, so not guaranteed; but all we want here is to reduce likelihood
         // of multiple logging of same underlying problem. Not guaranteed, just improved.
@@ -291,6 +720,5 @@ public abstract class BeanPropertyMutator
                     e.getClass().getName(), e.getMessage());
             Logger.getLogger(BeanPropertyMutator.class.getName()).log(Level.WARNING, msg, e);
         }
-        originalMutator.set(bean, value);
     }
 }
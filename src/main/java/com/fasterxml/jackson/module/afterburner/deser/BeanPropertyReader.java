@@ -0,0 +1,244 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+/**
+ * Abstract class that defines interface for generated per-bean-type
+ * readers, which bind all properties of a bean in their expected order
+ * using straight-line code: matching of the expected name, parsing of
+ * the value and direct field assignment or setter call are all inlined
+ * for each property, instead of being dispatched through
+ * {@link SettableBeanProperty} and {@link BeanPropertyMutator} instances.
+ *
+ * @since 2.7.2
+ */
+public abstract class BeanPropertyReader
+{
+    /**
+     * Deserializer that uses this reader; needed for error reporting
+     */
+    protected final BeanDeserializerBase _deserializer;
+
+    /**
+     * Properties in the order they are expected, with indexes matching
+     * those used by the generated code.
+     */
+    protected final SettableBeanProperty[] _properties;
+
+    /**
+     * Names of {@link #_properties}, to be matched using
+     * {@link JsonParser#nextFieldName(SerializableString)}.
+     */
+    protected final SerializedString[] _propertyNames;
+
+    /*
+    /**********************************************************************
+    /* Life-cycle methods
+    /**********************************************************************
+     */
+
+    /**
+     * Default constructor used for creating a "blueprint" instance, from
+     * which per-deserializer instances specialize.
+     */
+    protected BeanPropertyReader() {
+        this(null, null, null);
+    }
+
+    protected BeanPropertyReader(BeanDeserializerBase deser,
+            SettableBeanProperty[] props, SerializedString[] names)
+    {
+        _deserializer = deser;
+        _properties = props;
+        _propertyNames = names;
+    }
+
+    /**
+     * Mutant factory method called to create the actual reader instance
+     * to use, from the blueprint instance.
+     */
+    public abstract BeanPropertyReader with(BeanDeserializerBase deser,
+            SettableBeanProperty[] props, SerializedString[] names);
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method that will try to match and bind properties in expected order,
+     * starting with the property at given index.
+     * Reading stops either after all properties have been bound, or at
+     * the first name that does not match the expected one; in latter case
+     * parser points to the unexpected token (either FIELD_NAME or END_OBJECT).
+     *
+     * @return Index of the first property that was not matched; or
+     *   number of properties, if all were matched
+     */
+    public int readProperties(JsonParser p, DeserializationContext ctxt,
+            Object bean, int startIndex) throws IOException {
+        throw new UnsupportedOperationException("No readProperties defined");
+    }
+
+    /**
+     * Method that will bind values of a JSON Array ("POJO as array" shape)
+     * to properties by position: value at index <code>i</code> is bound to
+     * property at index <code>i</code> (or skipped, if property is null).
+     * Called with parser pointing to START_ARRAY; reading stops either at
+     * END_ARRAY (in which case parser points to it), or after all properties
+     * have been bound (parser points to the last value).
+     *
+     * @return Number of values read, if END_ARRAY was encountered; or
+     *   number of properties, if all were bound
+     *
+     * @since 2.7.2
+     */
+    public int readElements(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException {
+        throw new UnsupportedOperationException("No readElements defined");
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods called from generated code
+    /**********************************************************************
+     */
+
+    protected final int _readInt(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getIntValue();
+        }
+        return _optimized(index)._deserializeInt(p, ctxt);
+    }
+
+    protected final long _readLong(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getLongValue();
+        }
+        return _optimized(index)._deserializeLong(p, ctxt);
+    }
+
+    protected final boolean _readBoolean(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (t == JsonToken.VALUE_FALSE) {
+            return false;
+        }
+        return _optimized(index)._deserializeBoolean(p, ctxt);
+    }
+
+    protected final double _readDouble(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeDouble(p, ctxt);
+    }
+
+    protected final float _readFloat(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeFloat(p, ctxt);
+    }
+
+    protected final short _readShort(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeShort(p, ctxt);
+    }
+
+    protected final byte _readByte(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeByte(p, ctxt);
+    }
+
+    protected final char _readChar(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeChar(p, ctxt);
+    }
+
+    protected final String _readString(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        String text = p.getValueAsString();
+        if (text == null) {
+            text = _optimized(index)._deserializeString(p, ctxt);
+        }
+        return text;
+    }
+
+    protected final Integer _readBoxedInt(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeBoxedInt(p, ctxt);
+    }
+
+    protected final Long _readBoxedLong(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeBoxedLong(p, ctxt);
+    }
+
+    protected final Double _readBoxedDouble(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeBoxedDouble(p, ctxt);
+    }
+
+    protected final Boolean _readBoxedBoolean(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeBoxedBoolean(p, ctxt);
+    }
+
+    protected final Object _readEnum(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _optimized(index)._deserializeEnum(p, ctxt);
+    }
+
+    protected final Object _readObject(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _properties[index].deserialize(p, ctxt);
+    }
+
+    /**
+     * Method called for properties for which no specialized code could be
+     * generated: will simply delegate to the property itself.
+     */
+    protected final void _readAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean, int index) throws IOException
+    {
+        _properties[index].deserializeAndSet(p, ctxt, bean);
+    }
+
+    /**
+     * Method called by generated code if binding of a property fails:
+     * will wrap the exception same way as the deserializer would.
+     */
+    protected final void _wrapAndThrow(Exception e, Object bean, int index,
+            DeserializationContext ctxt) throws IOException
+    {
+        _deserializer.wrapAndThrow(e, bean, _properties[index].getName(), ctxt);
+    }
+
+    private OptimizedSettableBeanProperty<?> _optimized(int index) {
+        return (OptimizedSettableBeanProperty<?>) _properties[index];
+    }
+}
@@ -4,15 +4,23 @@ import static org.objectweb.asm.Opcodes.*;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
 import com.fasterxml.jackson.databind.deser.ValueInstantiator;
 import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
 import com.fasterxml.jackson.databind.introspect.AnnotatedWithParams;
+import com.fasterxml.jackson.databind.util.ClassUtil;
 
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
@@ -23,11 +31,16 @@ import com.fasterxml.jackson.module.afterburner.util.MyClassLoader;
 /**
  * Helper class that tries to generate {@link ValueInstantiator} class
  * that calls constructors and/or factory methods directly, instead
- * of using Reflection.
+ * of using Reflection; or, for property-based creators, a
+ * {@link CreatorPropertyReader} that also reads creator parameters.
  */
 public class CreatorOptimizer
     extends DynamicPropertyAccessorBase
 {
+    private final static String PARSER_DESC = Type.getDescriptor(JsonParser.class);
+    private final static String CTXT_DESC = Type.getDescriptor(DeserializationContext.class);
+    private final static String READ_DESC_PREFIX = "("+PARSER_DESC+CTXT_DESC+"I)";
+
     protected final Class<?> _valueClass;
     
     protected final MyClassLoader _classLoader;
@@ -77,7 +90,7 @@ public class CreatorOptimizer
     protected OptimizedValueInstantiator createSubclass(Constructor<?> ctor, Method factory)
     {
         MyClassLoader loader = (_classLoader == null) ?
-            new MyClassLoader(_valueClass.getClassLoader(), true) : _classLoader;
+            MyClassLoader.sharedLoaderFor(_valueClass, true) : _classLoader;
         final ClassName baseName = ClassName.constructFor(_valueClass, "$Creator4JacksonDeserializer");
 
         // We need to know checksum even for lookups, so generate it first
@@ -180,4 +193,376 @@ public class CreatorOptimizer
                 factory.getName(), "()"+Type.getDescriptor(valueClass),
                 owner.isInterface());
     }
+
+    /*
+    /**********************************************************
+    /* Property-based creators
+    /**********************************************************
+     */
+
+    /**
+     * Method for building reader that reads creator properties and calls
+     * property-based creator directly.
+     *
+     * @param props Resolved creator properties, in creator parameter order
+     *
+     * @return Reader to use, if one could be generated; null if not
+     *
+     * @since 2.7.2
+     */
+    public CreatorPropertyReader createPropertyBasedReader(SuperSonicBeanDeserializer deser,
+            SettableBeanProperty[] props)
+    {
+        AnnotatedWithParams creator = _originalInstantiator.getWithArgsCreator();
+        if (creator == null) {
+            return null;
+        }
+        AnnotatedElement elem = creator.getAnnotated();
+        final Class<?>[] paramTypes;
+        final Member member;
+        if (elem instanceof Constructor<?>) {
+            Constructor<?> ctor = (Constructor<?>) elem;
+            paramTypes = ctor.getParameterTypes();
+            member = ctor;
+        } else if (elem instanceof Method) {
+            Method m = (Method) elem;
+            if (!Modifier.isStatic(m.getModifiers())) {
+                return null;
+            }
+            paramTypes = m.getParameterTypes();
+            member = m;
+        } else {
+            return null;
+        }
+        // can not access private ctors or methods; nor deal with injectable parameters
+        // (and creators without properties need no reader)
+        if (Modifier.isPrivate(member.getModifiers()) || (paramTypes.length != props.length)
+                || (props.length == 0)) {
+            return null;
+        }
+        final int len = props.length;
+        SerializedString[] names = new SerializedString[len];
+        // which parameters can be read without going through (custom) deserializer
+        boolean[] direct = new boolean[len];
+        for (int i = 0; i < len; ++i) {
+            SettableBeanProperty prop = props[i];
+            if ((prop == null) || (prop.getInjectableValueId() != null)) {
+                return null;
+            }
+            names[i] = new SerializedString(prop.getName());
+            direct[i] = (prop.getValueTypeDeserializer() == null)
+                    && ClassUtil.isJacksonStdImpl(prop.getValueDeserializer());
+        }
+
+        MyClassLoader loader = (_classLoader == null) ?
+            MyClassLoader.sharedLoaderFor(_valueClass, true) : _classLoader;
+        final ClassName baseName = ClassName.constructFor(_valueClass, "$CreatorReader4JacksonDeserializer");
+        final byte[] bytecode = generatePropertyBased(baseName, member, paramTypes, direct);
+        baseName.assignChecksum(bytecode);
+
+        Class<?> impl = null;
+        try {
+            impl = loader.loadClass(baseName.getDottedName());
+        } catch (ClassNotFoundException e) { }
+        if (impl == null) {
+            impl = loader.loadAndResolve(baseName, bytecode);
+        }
+        // Unless we got to define it in the same package as bean, can only access public stuff
+        if ((impl.getClassLoader() != _valueClass.getClassLoader())
+                && !(Modifier.isPublic(member.getModifiers())
+                        && Modifier.isPublic(member.getDeclaringClass().getModifiers()))) {
+            return null;
+        }
+        try {
+            CreatorPropertyReader blueprint = (CreatorPropertyReader) impl.newInstance();
+            return blueprint.with(deser, props, names);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to generate creator reader class '"+baseName+"': "+e.getMessage(), e);
+        }
+    }
+
+    protected byte[] generatePropertyBased(ClassName baseName, Member creator,
+            Class<?>[] paramTypes, boolean[] direct)
+    {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        String superClass = internalClassName(CreatorPropertyReader.class.getName());
+        final String tmpClassName = baseName.getSlashedTemplate();
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER + ACC_FINAL, tmpClassName, null, superClass, null);
+        cw.visitSource(baseName.getSourceFilename(), null);
+
+        // default (no-arg) constructor:
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // then three-argument constructor to be used by "with"
+        final String argsDesc = Type.getDescriptor(SuperSonicBeanDeserializer.class)
+                +Type.getDescriptor(SettableBeanProperty[].class)
+                +Type.getDescriptor(SerializedString[].class);
+        final String ctorSig = "("+argsDesc+")V";
+        mv = cw.visitMethod(ACC_PUBLIC, "<init>", ctorSig, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "<init>", ctorSig, false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(ACC_PUBLIC, "with", "("+argsDesc+")L"+superClass+";", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, tmpClassName);
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKESPECIAL, tmpClassName, "<init>", ctorSig, false);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        _addReadAndCreate(cw, superClass, creator, paramTypes, direct);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private void _addReadAndCreate(ClassWriter cw, String superClass, Member creator,
+            Class<?>[] paramTypes, boolean[] direct)
+    {
+        final int VAR_PARSER = 1;
+        final int VAR_CTXT = 2;
+        final String parserClass = Type.getInternalName(JsonParser.class);
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "readAndCreate",
+                "("+PARSER_DESC+CTXT_DESC+")Ljava/lang/Object;", null,
+                new String[] { "java/io/IOException" });
+        mv.visitCode();
+
+        // Parameter values are kept in local variables, following method arguments
+        final int count = paramTypes.length;
+        final Type[] types = new Type[count];
+        final int[] slots = new int[count];
+        int slot = VAR_CTXT+1;
+        for (int i = 0; i < count; ++i) {
+            types[i] = Type.getType(paramTypes[i]);
+            slots[i] = slot;
+            slot += types[i].getSize();
+        }
+        final int VAR_BEAN = slot;
+        final int VAR_EXCEPTION = slot+1;
+
+        final String namesDesc = Type.getDescriptor(SerializedString[].class);
+        for (int i = 0; i < count; ++i) {
+            // if (!p.nextFieldName(_propertyNames[i])) return _fallback(p, ctxt, values, i);
+            // (except that first name may already be the current token)
+            if (i == 0) {
+                mv.visitVarInsn(ALOAD, 0);
+            }
+            mv.visitVarInsn(ALOAD, VAR_PARSER);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, superClass, "_propertyNames", namesDesc);
+            generateIntConstant(mv, i);
+            mv.visitInsn(AALOAD);
+            if (i == 0) {
+                mv.visitMethodInsn(INVOKEVIRTUAL, superClass, "_firstFieldName",
+                        "("+PARSER_DESC+Type.getDescriptor(SerializableString.class)+")Z", false);
+            } else {
+                mv.visitMethodInsn(INVOKEVIRTUAL, parserClass,
+                        "nextFieldName", "("+Type.getDescriptor(SerializableString.class)+")Z", false);
+            }
+            Label matched = new Label();
+            mv.visitJumpInsn(IFNE, matched);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, VAR_PARSER);
+            mv.visitVarInsn(ALOAD, VAR_CTXT);
+            generateIntConstant(mv, count);
+            mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+            for (int j = 0; j < i; ++j) {
+                mv.visitInsn(DUP);
+                generateIntConstant(mv, j);
+                mv.visitVarInsn(types[j].getOpcode(ILOAD), slots[j]);
+                _box(mv, types[j]);
+                mv.visitInsn(AASTORE);
+            }
+            generateIntConstant(mv, i);
+            mv.visitMethodInsn(INVOKEVIRTUAL, superClass, "_fallback",
+                    "("+PARSER_DESC+CTXT_DESC+"[Ljava/lang/Object;I)Ljava/lang/Object;", false);
+            mv.visitInsn(ARETURN);
+            mv.visitLabel(matched);
+
+            // p.nextToken();
+            mv.visitVarInsn(ALOAD, VAR_PARSER);
+            mv.visitMethodInsn(INVOKEVIRTUAL, parserClass,
+                    "nextToken", "()"+Type.getDescriptor(JsonToken.class), false);
+            mv.visitInsn(POP);
+
+            // try { value = _readXxx(p, ctxt, i); } catch (Exception e) { _wrapAndThrow(e, i, ctxt); }
+            Label start = new Label();
+            Label end = new Label();
+            Label handler = new Label();
+            Label next = new Label();
+            mv.visitTryCatchBlock(start, end, handler, "java/lang/Exception");
+            mv.visitLabel(start);
+            _addRead(mv, superClass, types[i], direct[i], i);
+            mv.visitVarInsn(types[i].getOpcode(ISTORE), slots[i]);
+            mv.visitLabel(end);
+            mv.visitJumpInsn(GOTO, next);
+            mv.visitLabel(handler);
+            mv.visitVarInsn(ASTORE, VAR_EXCEPTION);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, VAR_EXCEPTION);
+            generateIntConstant(mv, i);
+            mv.visitVarInsn(ALOAD, VAR_CTXT);
+            mv.visitMethodInsn(INVOKEVIRTUAL, superClass, "_wrapAndThrow",
+                    "(Ljava/lang/Exception;I"+CTXT_DESC+")V", false);
+            // never gets here, but verifier needs a return
+            mv.visitInsn(ACONST_NULL);
+            mv.visitInsn(ARETURN);
+            mv.visitLabel(next);
+        }
+
+        // All parameters read: call the creator
+        Label start = new Label();
+        Label end = new Label();
+        Label handler = new Label();
+        Label created = new Label();
+        mv.visitTryCatchBlock(start, end, handler, "java/lang/Exception");
+        mv.visitLabel(start);
+        final Class<?> owner = creator.getDeclaringClass();
+        final String ownerName = Type.getInternalName(owner);
+        StringBuilder desc = new StringBuilder("(");
+        for (Type type : types) {
+            desc.append(type.getDescriptor());
+        }
+        desc.append(')');
+        if (creator instanceof Constructor<?>) {
+            mv.visitTypeInsn(NEW, ownerName);
+            mv.visitInsn(DUP);
+            _loadParams(mv, types, slots);
+            mv.visitMethodInsn(INVOKESPECIAL, ownerName, "<init>", desc.append('V').toString(), false);
+        } else {
+            _loadParams(mv, types, slots);
+            desc.append(Type.getDescriptor(((Method) creator).getReturnType()));
+            mv.visitMethodInsn(INVOKESTATIC, ownerName, creator.getName(), desc.toString(),
+                    owner.isInterface());
+        }
+        mv.visitVarInsn(ASTORE, VAR_BEAN);
+        mv.visitLabel(end);
+        mv.visitJumpInsn(GOTO, created);
+        mv.visitLabel(handler);
+        mv.visitVarInsn(ASTORE, VAR_EXCEPTION);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, VAR_EXCEPTION);
+        mv.visitVarInsn(ALOAD, VAR_CTXT);
+        mv.visitMethodInsn(INVOKEVIRTUAL, superClass, "_wrapInstantiationProblem",
+                "(Ljava/lang/Exception;"+CTXT_DESC+")V", false);
+        mv.visitInsn(ACONST_NULL);
+        mv.visitInsn(ARETURN);
+
+        // and finally: return _created(p, ctxt, bean);
+        mv.visitLabel(created);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, VAR_PARSER);
+        mv.visitVarInsn(ALOAD, VAR_CTXT);
+        mv.visitVarInsn(ALOAD, VAR_BEAN);
+        mv.visitMethodInsn(INVOKEVIRTUAL, superClass, "_created",
+                "("+PARSER_DESC+CTXT_DESC+"Ljava/lang/Object;)Ljava/lang/Object;", false);
+        mv.visitInsn(ARETURN);
+
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void _addRead(MethodVisitor mv, String superClass, Type type, boolean direct,
+            int index)
+    {
+        final Type valueType;
+        final String readMethod;
+        if (direct && type.equals(Type.INT_TYPE)) {
+            readMethod = "_readInt";
+            valueType = type;
+        } else if (direct && type.equals(Type.LONG_TYPE)) {
+            readMethod = "_readLong";
+            valueType = type;
+        } else if (direct && type.equals(Type.BOOLEAN_TYPE)) {
+            readMethod = "_readBoolean";
+            valueType = type;
+        } else if (direct && type.getDescriptor().equals("Ljava/lang/String;")) {
+            readMethod = "_readString";
+            valueType = type;
+        } else {
+            readMethod = "_readObject";
+            valueType = Type.getType(Object.class);
+        }
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        generateIntConstant(mv, index);
+        mv.visitMethodInsn(INVOKEVIRTUAL, superClass, readMethod,
+                READ_DESC_PREFIX+valueType.getDescriptor(), false);
+        if (valueType.equals(type)) {
+            return;
+        }
+        // Generic read; need to cast, and for primitives, unbox as well
+        String wrapper = _wrapperFor(type);
+        if (wrapper == null) {
+            if (!type.getDescriptor().equals("Ljava/lang/Object;")) {
+                mv.visitTypeInsn(CHECKCAST, type.getInternalName());
+            }
+        } else {
+            mv.visitTypeInsn(CHECKCAST, wrapper);
+            mv.visitMethodInsn(INVOKEVIRTUAL, wrapper, type.getClassName()+"Value",
+                    "()"+type.getDescriptor(), false);
+        }
+    }
+
+    private static void _loadParams(MethodVisitor mv, Type[] types, int[] slots)
+    {
+        for (int i = 0; i < types.length; ++i) {
+            mv.visitVarInsn(types[i].getOpcode(ILOAD), slots[i]);
+        }
+    }
+
+    private static void _box(MethodVisitor mv, Type type)
+    {
+        String wrapper = _wrapperFor(type);
+        if (wrapper != null) {
+            mv.visitMethodInsn(INVOKESTATIC, wrapper, "valueOf",
+                    "("+type.getDescriptor()+")L"+wrapper+";", false);
+        }
+    }
+
+    /**
+     * @return Internal name of wrapper type, if given type is primitive; null if not
+     */
+    private static String _wrapperFor(Type type)
+    {
+        switch (type.getSort()) {
+        case Type.BOOLEAN:
+            return "java/lang/Boolean";
+        case Type.CHAR:
+            return "java/lang/Character";
+        case Type.BYTE:
+            return "java/lang/Byte";
+        case Type.SHORT:
+            return "java/lang/Short";
+        case Type.INT:
+            return "java/lang/Integer";
+        case Type.FLOAT:
+            return "java/lang/Float";
+        case Type.LONG:
+            return "java/lang/Long";
+        case Type.DOUBLE:
+            return "java/lang/Double";
+        }
+        return null;
+    }
 }
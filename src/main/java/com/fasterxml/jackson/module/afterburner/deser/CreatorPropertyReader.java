@@ -0,0 +1,196 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+/**
+ * Abstract class that defines interface for generated readers used with
+ * property-based creators (constructors or factory methods annotated
+ * with {@link com.fasterxml.jackson.annotation.JsonCreator}): creator
+ * parameters are read, in their declared order, into local variables of
+ * the actual parameter types, after which creator is called directly,
+ * without buffering values or using Reflection.
+ *<p>
+ * If properties are not found in declared order, values read so far are
+ * handed over to the deserializer, which will continue using the standard
+ * buffering approach.
+ *
+ * @since 2.7.2
+ */
+public abstract class CreatorPropertyReader
+{
+    /**
+     * Deserializer that uses this reader; needed for fallback processing,
+     * as well as for handling of properties after creation.
+     */
+    protected final SuperSonicBeanDeserializer _deserializer;
+
+    /**
+     * Creator properties, in creator parameter order.
+     */
+    protected final SettableBeanProperty[] _properties;
+
+    /**
+     * Names of {@link #_properties}, to be matched using
+     * {@link JsonParser#nextFieldName(SerializableString)}.
+     */
+    protected final SerializedString[] _propertyNames;
+
+    /*
+    /**********************************************************************
+    /* Life-cycle methods
+    /**********************************************************************
+     */
+
+    /**
+     * Default constructor used for creating a "blueprint" instance, from
+     * which per-deserializer instances specialize.
+     */
+    protected CreatorPropertyReader() {
+        this(null, null, null);
+    }
+
+    protected CreatorPropertyReader(SuperSonicBeanDeserializer deser,
+            SettableBeanProperty[] props, SerializedString[] names)
+    {
+        _deserializer = deser;
+        _properties = props;
+        _propertyNames = names;
+    }
+
+    /**
+     * Mutant factory method called to create the actual reader instance
+     * to use, from the blueprint instance.
+     */
+    public abstract CreatorPropertyReader with(SuperSonicBeanDeserializer deser,
+            SettableBeanProperty[] props, SerializedString[] names);
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method called with parser pointing to START_OBJECT, or to the first
+     * FIELD_NAME (or END_OBJECT) of the Object, to read all
+     * properties of the Object and return fully deserialized bean.
+     */
+    public abstract Object readAndCreate(JsonParser p, DeserializationContext ctxt)
+        throws IOException;
+
+    /*
+    /**********************************************************************
+    /* Helper methods called from generated code
+    /**********************************************************************
+     */
+
+    /**
+     * Method called by generated code to match name of the first creator
+     * property: unlike with other properties, parser may already point to
+     * the first property name, instead of START_OBJECT.
+     */
+    protected final boolean _firstFieldName(JsonParser p, SerializableString name)
+        throws IOException
+    {
+        if (p.isExpectedStartObjectToken()) {
+            return p.nextFieldName(name);
+        }
+        return p.hasToken(JsonToken.FIELD_NAME) && name.getValue().equals(p.getCurrentName());
+    }
+
+    protected final int _readInt(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getIntValue();
+        }
+        Object value = _properties[index].deserialize(p, ctxt);
+        return (value == null) ? 0 : ((Number) value).intValue();
+    }
+
+    protected final long _readLong(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getLongValue();
+        }
+        Object value = _properties[index].deserialize(p, ctxt);
+        return (value == null) ? 0L : ((Number) value).longValue();
+    }
+
+    protected final boolean _readBoolean(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (t == JsonToken.VALUE_FALSE) {
+            return false;
+        }
+        Object value = _properties[index].deserialize(p, ctxt);
+        return (value == null) ? false : ((Boolean) value).booleanValue();
+    }
+
+    protected final String _readString(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return (String) _properties[index].deserialize(p, ctxt);
+    }
+
+    protected final Object _readObject(JsonParser p, DeserializationContext ctxt, int index)
+        throws IOException
+    {
+        return _properties[index].deserialize(p, ctxt);
+    }
+
+    /**
+     * Method called by generated code when the property at given index
+     * was not found where expected.
+     *
+     * @param values Values of creator properties that have been read
+     * @param count Number of creator properties read (and included in <code>values</code>)
+     */
+    protected final Object _fallback(JsonParser p, DeserializationContext ctxt,
+            Object[] values, int count) throws IOException
+    {
+        return _deserializer._deserializeUsingPropertyBased(p, ctxt, _properties, values, count);
+    }
+
+    /**
+     * Method called by generated code after bean has been created, to
+     * bind the remaining properties.
+     */
+    protected final Object _created(JsonParser p, DeserializationContext ctxt, Object bean)
+        throws IOException
+    {
+        return _deserializer._deserializeAfterCreation(p, ctxt, bean);
+    }
+
+    /**
+     * Method called by generated code if reading of a creator property fails
+     */
+    protected final void _wrapAndThrow(Exception e, int index, DeserializationContext ctxt)
+        throws IOException
+    {
+        _deserializer.wrapAndThrow(e, _deserializer.handledType(),
+                _properties[index].getName(), ctxt);
+    }
+
+    /**
+     * Method called by generated code if creator call fails
+     */
+    protected final void _wrapInstantiationProblem(Exception e, DeserializationContext ctxt)
+        throws IOException
+    {
+        _deserializer._wrapCreatorProblem(e, ctxt);
+    }
+}
@@ -1,6 +1,8 @@
 package com.fasterxml.jackson.module.afterburner.deser;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
 
@@ -8,9 +10,13 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.*;
 import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
 import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.deser.std.EnumDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
 import com.fasterxml.jackson.databind.introspect.*;
 import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.fasterxml.jackson.databind.util.EnumResolver;
+import com.fasterxml.jackson.module.afterburner.util.GeneratorSettings;
+import com.fasterxml.jackson.module.afterburner.util.GeneratorSettings.Feature;
 import com.fasterxml.jackson.module.afterburner.util.MyClassLoader;
 
 public class DeserializerModifier extends BeanDeserializerModifier
@@ -23,11 +29,42 @@ public class DeserializerModifier extends BeanDeserializerModifier
     
     protected final boolean _useCustomDeserializer;
 
+    /**
+     * Map in which {@link AdaptivePropertyOrder}s of optimized bean
+     * deserializers are registered (weakly, as deserializers own them),
+     * if adaptive property ordering is enabled; null if it is not enabled.
+     *
+     * @since 2.7.2
+     */
+    protected final Map<JavaType, WeakReference<AdaptivePropertyOrder>> _adaptiveOrders;
+
+    /**
+     * Settings for optional optimizations, as well as policy for class
+     * loaders and member access of generated classes.
+     *
+     * @since 2.7.2
+     */
+    protected final GeneratorSettings _settings;
+
     public DeserializerModifier(ClassLoader cl, boolean useCustomDeserializer)
     {
-        // If we were given parent class loader explicitly, use that:
-        _classLoader = (cl == null) ? null : new MyClassLoader(cl, false);
-        _useCustomDeserializer = useCustomDeserializer;
+        this(new GeneratorSettings(cl).with(Feature.USE_OPTIMIZED_BEAN_DESERIALIZER,
+                useCustomDeserializer), null);
+    }
+
+    /**
+     * @param adaptiveOrders Map to register per-type order statistics in, if
+     *   adaptive property ordering is to be used; null to disable it
+     *
+     * @since 2.7.2
+     */
+    public DeserializerModifier(GeneratorSettings settings,
+            Map<JavaType, WeakReference<AdaptivePropertyOrder>> adaptiveOrders)
+    {
+        _settings = settings;
+        _classLoader = settings.getClassLoader();
+        _useCustomDeserializer = settings.isEnabled(Feature.USE_OPTIMIZED_BEAN_DESERIALIZER);
+        _adaptiveOrders = adaptiveOrders;
     }
 
     /*
@@ -41,25 +78,36 @@ public class DeserializerModifier extends BeanDeserializerModifier
             BeanDescription beanDesc, BeanDeserializerBuilder builder) 
     {
         final Class<?> beanClass = beanDesc.getBeanClass();
-        // [module-afterburner#21]: Can't force access to sealed packages, or anything within "java."
-        if (!MyClassLoader.canAddClassInPackageOf(beanClass)) {
+        // [module-afterburner#21]: Can't force access to sealed packages, or anything within "java.",
+        //    nor private classes unless using class loader of bean class
+        if (!_settings.canGenerateFor(beanClass)) {
             return builder;
-        } 
-        /* Hmmh. Can we access stuff from private classes?
-         * Possibly, if we can use parent class loader.
-         * (should probably skip all non-public?)
-         */
-        if (_classLoader != null) {
-            if (Modifier.isPrivate(beanClass.getModifiers())) {
-                return builder;
-            }
         }
+        final MyClassLoader classLoader = _settings.classLoaderFor(beanClass);
+        // Final fields can not be assigned by generated code, but need not use Reflection either
+        _replaceFinalFields(builder);
         PropertyMutatorCollector collector = new PropertyMutatorCollector(beanClass);
         List<OptimizedSettableBeanProperty<?>> newProps = findOptimizableProperties(
                 config, collector, builder.getProperties());
+        // for Builders, may also call build method using generated code
+        AnnotatedMethod buildMethod = _findBuildMethod(builder);
+        if (buildMethod != null) {
+            collector.setBuildMethod(buildMethod);
+        }
+        // as well as "any setter", if there is one; but it can only be replaced
+        // if we are to replace the (standard) builder as well
+        AnnotatedMethod anySetter = null;
+        if ((builder.getClass() == BeanDeserializerBuilder.class)
+                && ((buildMethod != null) || _useCustomDeserializer)) {
+            anySetter = _findAnySetterMethod(builder);
+            if (anySetter != null) {
+                collector.setAnySetter(anySetter);
+            }
+        }
+        BeanPropertyMutator baseMutator = null;
         // and if we found any, create mutator proxy, replace property objects
-        if (!newProps.isEmpty()) {
-            BeanPropertyMutator baseMutator = collector.buildMutator(_classLoader);
+        if (!newProps.isEmpty() || (buildMethod != null) || (anySetter != null)) {
+            baseMutator = collector.buildMutator(classLoader);
             for (OptimizedSettableBeanProperty<?> prop : newProps) {
                 BeanPropertyMutator mut = baseMutator.with(prop.getOriginalProperty(),
                         prop.getOptimizedIndex());
@@ -68,14 +116,19 @@ public class DeserializerModifier extends BeanDeserializerModifier
         }
         // Second thing: see if we could (re)generate Creator(s):
         ValueInstantiator inst = builder.getValueInstantiator();
+        CreatorOptimizer propertyCreator = null;
         /* Hmmh. Probably better to require exact default implementation
          * and not sub-class; chances are sub-class uses its own
          * construction anyway.
          */
         if (inst.getClass() == StdValueInstantiator.class) {
+            // property-based creators can only be optimized along with deserializer itself
+            if (inst.canCreateFromObjectWith()) {
+                propertyCreator = new CreatorOptimizer(beanClass, classLoader, (StdValueInstantiator) inst);
+            }
             // also, only override if using default creator (no-arg ctor, no-arg static factory)
             if (inst.canCreateUsingDefault()) {
-                inst = new CreatorOptimizer(beanClass, _classLoader, (StdValueInstantiator) inst).createOptimized();
+                inst = new CreatorOptimizer(beanClass, classLoader, (StdValueInstantiator) inst).createOptimized();
                 if (inst != null) {
                     builder.setValueInstantiator(inst);
                 }
@@ -84,8 +137,42 @@ public class DeserializerModifier extends BeanDeserializerModifier
 
         // also: may want to replace actual BeanDeserializer as well? For this, need to replace builder
         // (but only if builder is the original standard one; don't want to break other impls)
+        if (builder.getClass() == BeanDeserializerBuilder.class) {
+            // Builder-based deserializers are not replaced, but build method call may be
+            if (buildMethod != null) {
+                return _withAnySetter(new SuperSonicDeserializerBuilder(builder, null, null, null, baseMutator),
+                        anySetter, baseMutator);
+            }
+        }
         if (_useCustomDeserializer && builder.getClass() == BeanDeserializerBuilder.class) {
-            return new SuperSonicDeserializerBuilder(builder);
+            PropertyReaderGenerator readers = _settings.isEnabled(Feature.USE_GENERATED_READERS)
+                    ? new PropertyReaderGenerator(beanClass, classLoader) : null;
+            AdaptivePropertyOrder order = null;
+            if (_adaptiveOrders != null) {
+                order = new AdaptivePropertyOrder(beanDesc.getType());
+                // remove first, so that key is the (weakly referenced) type of the new entry
+                synchronized (_adaptiveOrders) {
+                    _adaptiveOrders.remove(order.getBeanType());
+                    _adaptiveOrders.put(order.getBeanType(), new WeakReference<AdaptivePropertyOrder>(order));
+                }
+            }
+            return _withAnySetter(new SuperSonicDeserializerBuilder(builder, readers, order, propertyCreator),
+                    anySetter, baseMutator);
+        }
+        return builder;
+    }
+
+    /**
+     * Helper method for making given builder use the generated mutator for
+     * calling "any setter", if one was found.
+     *
+     * @since 2.7.2
+     */
+    protected SuperSonicDeserializerBuilder _withAnySetter(SuperSonicDeserializerBuilder builder,
+            AnnotatedMethod anySetter, BeanPropertyMutator mutator)
+    {
+        if (anySetter != null) {
+            builder.replaceAnySetter(new OptimizedSettableAnyProperty(builder.getAnySetter(), mutator));
         }
         return builder;
     }
@@ -112,9 +199,12 @@ public class DeserializerModifier extends BeanDeserializerModifier
             if (jdkMember == null) {
                 continue;
             }
-            // First: we can't access private fields or methods....
+            // First: we can't access private fields or methods, unless generated class can be a nestmate
             if (Modifier.isPrivate(jdkMember.getModifiers())) {
-                continue;
+                if (!_settings.canAccessPrivate(collector.getBeanClass(), jdkMember)) {
+                    continue;
+                }
+                collector.setPrivateAccess(true);
             }
             // (although, interestingly enough, can seem to access private classes...)
             
@@ -134,17 +224,42 @@ public class DeserializerModifier extends BeanDeserializerModifier
                         newProps.add(collector.addLongSetter(prop));
                     } else if (type == Boolean.TYPE) {
                         newProps.add(collector.addBooleanSetter(prop));
+                    } else if (type == Double.TYPE) {
+                        newProps.add(collector.addDoubleSetter(prop));
+                    } else if (type == Float.TYPE) {
+                        newProps.add(collector.addFloatSetter(prop));
+                    } else if (type == Short.TYPE) {
+                        newProps.add(collector.addShortSetter(prop));
+                    } else if (type == Byte.TYPE) {
+                        newProps.add(collector.addByteSetter(prop));
+                    } else if (type == Character.TYPE) {
+                        newProps.add(collector.addCharSetter(prop));
                     }
                 } else {
                     if (type == String.class) {
                         newProps.add(collector.addStringSetter(prop));
+                    } else if (_isPlainWrapper(prop, type)) {
+                        if (type == Integer.class) {
+                            newProps.add(collector.addBoxedIntSetter(prop));
+                        } else if (type == Long.class) {
+                            newProps.add(collector.addBoxedLongSetter(prop));
+                        } else if (type == Double.class) {
+                            newProps.add(collector.addBoxedDoubleSetter(prop));
+                        } else {
+                            newProps.add(collector.addBoxedBooleanSetter(prop));
+                        }
                     } else { // any other Object types; we can at least call accessor
-                        newProps.add(collector.addObjectSetter(prop));
+                        EnumValueLookup enumLookup = _findEnumLookup(config, prop, type);
+                        if (enumLookup != null) {
+                            newProps.add(collector.addEnumSetter(prop, enumLookup));
+                        } else {
+                            newProps.add(collector.addObjectSetter(prop));
+                        }
                     }
                 }
             } else if (prop instanceof FieldProperty) { // regular fields
                 // And as to fields, can not overwrite final fields (which may
-                // be overwritable via Reflection)
+                // be overwritable via Reflection, or method handles; see _replaceFinalFields)
                 if (Modifier.isFinal(prop.getMember().getMember().getModifiers())) {
                     continue;
                 }
@@ -157,12 +272,37 @@ public class DeserializerModifier extends BeanDeserializerModifier
                         newProps.add(collector.addLongField(prop));
                     } else if (type == Boolean.TYPE) {
                         newProps.add(collector.addBooleanField(prop));
+                    } else if (type == Double.TYPE) {
+                        newProps.add(collector.addDoubleField(prop));
+                    } else if (type == Float.TYPE) {
+                        newProps.add(collector.addFloatField(prop));
+                    } else if (type == Short.TYPE) {
+                        newProps.add(collector.addShortField(prop));
+                    } else if (type == Byte.TYPE) {
+                        newProps.add(collector.addByteField(prop));
+                    } else if (type == Character.TYPE) {
+                        newProps.add(collector.addCharField(prop));
                     }
                 } else {
                     if (type == String.class) {
                         newProps.add(collector.addStringField(prop));
+                    } else if (_isPlainWrapper(prop, type)) {
+                        if (type == Integer.class) {
+                            newProps.add(collector.addBoxedIntField(prop));
+                        } else if (type == Long.class) {
+                            newProps.add(collector.addBoxedLongField(prop));
+                        } else if (type == Double.class) {
+                            newProps.add(collector.addBoxedDoubleField(prop));
+                        } else {
+                            newProps.add(collector.addBoxedBooleanField(prop));
+                        }
                     } else { // any other Object types; we can at least call accessor
-                        newProps.add(collector.addObjectField(prop));
+                        EnumValueLookup enumLookup = _findEnumLookup(config, prop, type);
+                        if (enumLookup != null) {
+                            newProps.add(collector.addEnumField(prop, enumLookup));
+                        } else {
+                            newProps.add(collector.addObjectField(prop));
+                        }
                     }
                 } 
             }
@@ -170,6 +310,141 @@ public class DeserializerModifier extends BeanDeserializerModifier
         return newProps;
     }
 
+    /**
+     * Helper method for replacing standard properties for 'final' fields (ones
+     * databind assigns if {@link com.fasterxml.jackson.databind.MapperFeature#ALLOW_FINAL_FIELDS_AS_MUTATORS}
+     * is enabled) with {@link SettableFinalFieldProperty}s, where possible.
+     *
+     * @since 2.7.2
+     */
+    protected void _replaceFinalFields(BeanDeserializerBuilder builder)
+    {
+        List<SettableBeanProperty> finalProps = null;
+        Iterator<SettableBeanProperty> it = builder.getProperties();
+        while (it.hasNext()) {
+            SettableBeanProperty prop = it.next();
+            if ((prop.getClass() == FieldProperty.class)
+                    && Modifier.isFinal(prop.getMember().getMember().getModifiers())) {
+                SettableBeanProperty finalProp = SettableFinalFieldProperty.construct(prop);
+                if (finalProp != null) {
+                    if (finalProps == null) {
+                        finalProps = new ArrayList<SettableBeanProperty>();
+                    }
+                    finalProps.add(finalProp);
+                }
+            }
+        }
+        if (finalProps != null) {
+            for (SettableBeanProperty prop : finalProps) {
+                builder.addOrReplaceProperty(prop, true);
+            }
+        }
+    }
+
+    /**
+     * Helper method for finding build method of a Builder, if (and only if)
+     * it can be called from generated code.
+     *
+     * @since 2.7.2
+     */
+    protected AnnotatedMethod _findBuildMethod(BeanDeserializerBuilder builder)
+    {
+        AnnotatedMethod buildMethod = builder.getBuildMethod();
+        if ((buildMethod == null) || (buildMethod.getParameterCount() != 0)
+                || buildMethod.getRawReturnType().isPrimitive()) {
+            return null;
+        }
+        int mods = buildMethod.getAnnotated().getModifiers();
+        if (Modifier.isPrivate(mods) || Modifier.isStatic(mods)) {
+            return null;
+        }
+        return buildMethod;
+    }
+
+    /**
+     * Helper method for finding "any setter" method that generated mutators
+     * can call, if the standard {@link SettableAnyProperty} is used: method
+     * must be a non-private, non-static member method, with String-compatible
+     * name argument and a reference-typed value argument.
+     *
+     * @since 2.7.2
+     */
+    protected AnnotatedMethod _findAnySetterMethod(BeanDeserializerBuilder builder)
+    {
+        SettableAnyProperty prop = builder.getAnySetter();
+        if ((prop == null) || (prop.getClass() != SettableAnyProperty.class)) {
+            return null;
+        }
+        AnnotatedMember member = prop.getProperty().getMember();
+        if (!(member instanceof AnnotatedMethod)) {
+            return null;
+        }
+        AnnotatedMethod setter = (AnnotatedMethod) member;
+        if ((setter.getParameterCount() != 2)
+                || !setter.getRawParameterType(0).isAssignableFrom(String.class)
+                || setter.getRawParameterType(1).isPrimitive()) {
+            return null;
+        }
+        int mods = setter.getAnnotated().getModifiers();
+        if (Modifier.isPrivate(mods) || Modifier.isStatic(mods)) {
+            return null;
+        }
+        return setter;
+    }
+
+    /**
+     * Helper method for checking whether given property has one of wrapper types
+     * we have specialized properties for, and no type deserializer that would
+     * need to be used for reading the value.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _isPlainWrapper(SettableBeanProperty prop, Class<?> type)
+    {
+        if ((type != Integer.class) && (type != Long.class)
+                && (type != Double.class) && (type != Boolean.class)) {
+            return false;
+        }
+        return (prop.getValueTypeDeserializer() == null);
+    }
+
+    /**
+     * Helper method for constructing {@link EnumValueLookup} for given property,
+     * if it has an Enum type and no type deserializer. Names are resolved
+     * the same way as by standard {@link EnumDeserializer}; if that deserializer
+     * does not end up being used, lookup is simply dropped.
+     *
+     * @since 2.7.2
+     */
+    protected EnumValueLookup _findEnumLookup(DeserializationConfig config,
+            SettableBeanProperty prop, Class<?> type)
+    {
+        if (!type.isEnum() || (prop.getValueTypeDeserializer() != null)) {
+            return null;
+        }
+        EnumResolver resolver;
+        try {
+            AnnotatedMethod jsonValueMethod = config.introspect(config.constructType(type))
+                    .findJsonValueMethod();
+            if (jsonValueMethod != null) {
+                Method accessor = jsonValueMethod.getAnnotated();
+                if (config.canOverrideAccessModifiers()) {
+                    ClassUtil.checkAndFixAccess(accessor,
+                            config.isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS));
+                }
+                resolver = EnumResolver.constructUnsafeUsingMethod(type, accessor);
+            } else if (config.isEnabled(DeserializationFeature.READ_ENUMS_USING_TO_STRING)) {
+                resolver = EnumResolver.constructUnsafeUsingToString(type);
+            } else {
+                resolver = EnumResolver.constructUnsafe(type, config.getAnnotationIntrospector());
+            }
+        } catch (IllegalArgumentException e) {
+            // let the deserializer report the problem, if any
+            return null;
+        }
+        return EnumValueLookup.construct(resolver);
+    }
+
     /**
      * Helper method used to check whether given deserializer is the default
      * deserializer implementation: this is necessary to avoid overriding other
@@ -0,0 +1,60 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.EnumResolver;
+
+/**
+ * Lookup table used by Enum-valued properties to find Enum values by name
+ * directly from the text buffer of the parser, without constructing
+ * <code>String</code>s. Names are the same that
+ * {@link com.fasterxml.jackson.databind.deser.std.EnumDeserializer} uses
+ * for the same {@link EnumResolver}; anything not found is left for the
+ * deserializer to handle (to allow for coercions, error handling).
+ *
+ * @since 2.7.2
+ */
+public final class EnumValueLookup
+{
+    private final PropertyNameLookup _names;
+
+    private final Object[] _values;
+
+    private EnumValueLookup(PropertyNameLookup names, Object[] values)
+    {
+        _names = names;
+        _values = values;
+    }
+
+    /**
+     * @return Lookup table constructed, if one could be; null if not
+     */
+    public static EnumValueLookup construct(EnumResolver resolver)
+    {
+        List<String> keys = resolver.constructLookup().keys();
+        String[] names = keys.toArray(new String[keys.size()]);
+        PropertyNameLookup lookup = PropertyNameLookup.construct(names);
+        if (lookup == null) {
+            return null;
+        }
+        Object[] values = new Object[names.length];
+        for (int i = 0; i < names.length; ++i) {
+            values[i] = resolver.findEnum(names[i]);
+        }
+        return new EnumValueLookup(lookup, values);
+    }
+
+    /**
+     * Method for finding Enum value that matches current String value
+     * parser points to.
+     *
+     * @return Matching Enum value, if any; null if none
+     */
+    public Object find(JsonParser p) throws IOException
+    {
+        int ix = _names.find(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        return (ix < 0) ? null : _values[ix];
+    }
+}
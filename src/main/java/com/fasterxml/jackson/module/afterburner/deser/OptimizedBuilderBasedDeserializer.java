@@ -0,0 +1,190 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.*;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Deserializer used for Builder-based POJOs, to call build method of the
+ * Builder using generated code instead of Reflection. Since build method
+ * call is done by {@link BuilderBasedDeserializer} in a final method,
+ * we instead delegate to a variant constructed without build method (one that
+ * just returns Builder itself), and call build method on returned Builder.
+ *<p>
+ * In addition we retain the standard variant, to use in cases where
+ * contextualization results in something other than standard
+ * {@link BuilderBasedDeserializer} (such as "POJO as array" variant).
+ *
+ * @since 2.7.2
+ */
+public final class OptimizedBuilderBasedDeserializer
+    extends DelegatingDeserializer
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Deserializer that uses regular build method call; used if delegatee
+     * can not be used.
+     */
+    protected final BuilderBasedDeserializer _standardDeserializer;
+
+    /**
+     * Mutator that can call build method of the Builder
+     */
+    protected final BeanPropertyMutator _buildMutator;
+
+    protected final AnnotatedMethod _buildMethod;
+
+    // Intentionally not volatile, same as with BeanPropertyMutator
+    private boolean _broken;
+
+    public OptimizedBuilderBasedDeserializer(BuilderBasedDeserializer noBuildDeser,
+            BuilderBasedDeserializer standardDeser, AnnotatedMethod buildMethod,
+            BeanPropertyMutator buildMutator)
+    {
+        super(noBuildDeser);
+        _standardDeserializer = standardDeser;
+        _buildMethod = buildMethod;
+        _buildMutator = buildMutator;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new OptimizedBuilderBasedDeserializer((BuilderBasedDeserializer) newDelegatee,
+                _standardDeserializer, _buildMethod, _buildMutator);
+    }
+
+    /*
+    /**********************************************************************
+    /* Contextualization, resolution
+    /**********************************************************************
+     */
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        super.resolve(ctxt);
+        _standardDeserializer.resolve(ctxt);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt,
+            BeanProperty property) throws JsonMappingException
+    {
+        JavaType vt = ctxt.constructType(_delegatee.handledType());
+        JsonDeserializer<?> del = ctxt.handleSecondaryContextualization(_delegatee,
+                property, vt);
+        if (del == _delegatee) {
+            return this;
+        }
+        if (del.getClass() != BuilderBasedDeserializer.class) {
+            return ctxt.handleSecondaryContextualization(_standardDeserializer, property, vt);
+        }
+        return newDelegatingInstance(del);
+    }
+
+    @Override
+    public JsonDeserializer<Object> unwrappingDeserializer(NameTransformer unwrapper) {
+        JsonDeserializer<?> del = _delegatee.unwrappingDeserializer(unwrapper);
+        if (del == _delegatee) {
+            return this;
+        }
+        JsonDeserializer<Object> std = _standardDeserializer.unwrappingDeserializer(unwrapper);
+        if ((del.getClass() != BuilderBasedDeserializer.class)
+                || !(std instanceof BuilderBasedDeserializer)) {
+            return std;
+        }
+        return new OptimizedBuilderBasedDeserializer((BuilderBasedDeserializer) del,
+                (BuilderBasedDeserializer) std, _buildMethod, _buildMutator);
+    }
+
+    /*
+    /**********************************************************************
+    /* Deserialization
+    /**********************************************************************
+     */
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+    {
+        return _build(ctxt, _delegatee.deserialize(p, ctxt));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt, Object builder)
+        throws IOException
+    {
+        return _build(ctxt, ((JsonDeserializer<Object>) _delegatee).deserialize(p, ctxt, builder));
+    }
+
+    /* Note: no need to override 'deserializeWithType': type deserializers locate
+     * value deserializer via context, and thereby get this deserializer
+     */
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    protected Object _build(DeserializationContext ctxt, Object builder) throws IOException
+    {
+        if (builder == null) {
+            return null;
+        }
+        try {
+            if (!_broken) {
+                try {
+                    return _buildMutator.build(builder);
+                } catch (IllegalAccessError e) {
+                    _reportProblem(builder, e);
+                } catch (SecurityException e) {
+                    _reportProblem(builder, e);
+                }
+            }
+            return _buildMethod.getAnnotated().invoke(builder);
+        } catch (Exception e) {
+            _wrapInstantiationProblem(e, ctxt);
+            return null;
+        }
+    }
+
+    // Same as 'BeanDeserializerBase.wrapInstantiationProblem', not accessible from here
+    protected void _wrapInstantiationProblem(Throwable t, DeserializationContext ctxt)
+        throws IOException
+    {
+        while (t instanceof java.lang.reflect.InvocationTargetException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        }
+        if (!ctxt.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS)) {
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+        }
+        throw ctxt.instantiationException(_delegatee.handledType(), t);
+    }
+
+    private synchronized void _reportProblem(Object builder, Throwable e)
+    {
+        if (!_broken) {
+            _broken = true;
+            String msg = String.format("Disabling Afterburner build method calls for %s (mutator %s), due to access error (type %s, message=%s)%n",
+                    builder.getClass(), _buildMutator.getClass().getName(),
+                    e.getClass().getName(), e.getMessage());
+            Logger.getLogger(OptimizedBuilderBasedDeserializer.class.getName()).log(Level.WARNING, msg, e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableAnyProperty;
+
+/**
+ * {@link SettableAnyProperty} that calls the "any setter" method of the bean
+ * using a generated {@link BeanPropertyMutator}, instead of Reflection.
+ *
+ * @since 2.7.2
+ */
+public class OptimizedSettableAnyProperty extends SettableAnyProperty
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final BeanPropertyMutator _propertyMutator;
+
+    // Intentionally not volatile for performance, worst case is we throw a few extra exceptions
+    protected boolean _broken = false;
+
+    public OptimizedSettableAnyProperty(SettableAnyProperty src, BeanPropertyMutator mutator)
+    {
+        super(src);
+        _propertyMutator = mutator;
+    }
+
+    @Override
+    public SettableAnyProperty withValueDeserializer(JsonDeserializer<Object> deser) {
+        return new OptimizedSettableAnyProperty(super.withValueDeserializer(deser), _propertyMutator);
+    }
+
+    @Override
+    public void set(Object instance, String propName, Object value) throws IOException
+    {
+        if (!_broken) {
+            try {
+                _propertyMutator.anySetter(instance, propName, value);
+                return;
+            } catch (IllegalAccessError e) {
+                _reportProblem(instance, e);
+            } catch (SecurityException e) {
+                _reportProblem(instance, e);
+            } catch (Exception e) {
+                _throwAsIOE(e, propName, value);
+            }
+        }
+        super.set(instance, propName, value);
+    }
+
+    private synchronized void _reportProblem(Object bean, Throwable e)
+    {
+        if (!_broken) {
+            _broken = true;
+            String msg = String.format("Disabling Afterburner any setter calls for %s (mutator %s), due to access error (type %s, message=%s)%n",
+                    bean.getClass(), _propertyMutator.getClass().getName(),
+                    e.getClass().getName(), e.getMessage());
+            Logger.getLogger(OptimizedSettableAnyProperty.class.getName()).log(Level.WARNING, msg, e);
+        }
+    }
+}
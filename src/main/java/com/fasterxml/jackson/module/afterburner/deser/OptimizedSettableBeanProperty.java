@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.io.NumberInput;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.*;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.util.ClassUtil;
 
 /**
@@ -29,6 +30,16 @@ abstract class OptimizedSettableBeanProperty<T extends OptimizedSettableBeanProp
     protected final BeanPropertyMutator _propertyMutator;
     protected final int _optimizedIndex;
 
+    /**
+     * Whether property is set using a "fluent" setter, one that returns
+     * instance to use for setting further properties (typical for Builders);
+     * if so, {@link #setAndReturn} and {@link #deserializeSetAndReturn}
+     * need to return value setter returned.
+     *
+     * @since 2.7.2
+     */
+    protected final boolean _fluentSetter;
+
     /*
     /********************************************************************** 
     /* Life-cycle
@@ -42,6 +53,7 @@ abstract class OptimizedSettableBeanProperty<T extends OptimizedSettableBeanProp
         _originalSettable = src;
         _propertyMutator = mutator;
         _optimizedIndex = index;
+        _fluentSetter = _isFluentSetter(src.getMember());
     }
 
     protected OptimizedSettableBeanProperty(OptimizedSettableBeanProperty<T> src,
@@ -51,6 +63,7 @@ abstract class OptimizedSettableBeanProperty<T extends OptimizedSettableBeanProp
         _originalSettable = src._originalSettable.withValueDeserializer(deser);
         _propertyMutator = src._propertyMutator;
         _optimizedIndex = src._optimizedIndex;
+        _fluentSetter = src._fluentSetter;
     }
 
     protected OptimizedSettableBeanProperty(OptimizedSettableBeanProperty<T> src,
@@ -60,6 +73,7 @@ abstract class OptimizedSettableBeanProperty<T extends OptimizedSettableBeanProp
         _originalSettable = src._originalSettable.withName(name);
         _propertyMutator = src._propertyMutator;
         _optimizedIndex = src._optimizedIndex;
+        _fluentSetter = src._fluentSetter;
     }
 
     @Override
@@ -102,24 +116,20 @@ abstract class OptimizedSettableBeanProperty<T extends OptimizedSettableBeanProp
     /********************************************************************** 
      */
     
-    /* !!! 19-Feb-2012, tatu:
-     * 
-     * We do not yet generate code for these methods: it would not be hugely
-     * difficult to add them, but let's first see if anyone needs them...
-     * (it is non-trivial, adds code etc, so not without cost).
-     * 
-     * That is: we'll use Reflection fallback for Builder-based deserialization,
-     * so it will not be significantly faster.
+    /* Builders typically use "fluent" setters, ones that return the
+     * Builder instance to use for further calls; generated mutators have
+     * variants for these (see {@link BeanPropertyMutator#objectFluentSetter}).
+     * For fields and "plain" setters we simply return instance we were given.
      */
 
     @Override
     public abstract Object deserializeSetAndReturn(JsonParser jp,
             DeserializationContext ctxt, Object instance) throws IOException;
 
-
     @Override
     public Object setAndReturn(Object instance, Object value) throws IOException {
-        return _originalSettable.setAndReturn(instance, value);
+        set(instance, value);
+        return instance;
     }
 
     /*
@@ -197,6 +207,21 @@ abstract class OptimizedSettableBeanProperty<T extends OptimizedSettableBeanProp
         return (short) value;
     }
 
+    /**
+     * @since 2.7.2
+     */
+    protected final byte _deserializeByte(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        int value = _deserializeInt(p, ctxt);
+        // let's allow unsigned bytes as well, same as standard deserializer
+        if (value < Byte.MIN_VALUE || value > 255) {
+            throw ctxt.weirdStringException(String.valueOf(value),
+                    Byte.TYPE, "overflow, value can not be represented as 8-bit value");
+        }
+        return (byte) value;
+    }
+
     protected final int _deserializeInt(JsonParser p, DeserializationContext ctxt)
         throws IOException
     {
@@ -288,6 +313,135 @@ abstract class OptimizedSettableBeanProperty<T extends OptimizedSettableBeanProp
         throw ctxt.mappingException(Long.TYPE, p.getCurrentToken());
     }
 
+    /* For less commonly used types, only the common case is handled here;
+     * coercions (and handling of nulls) are left to the standard deserializer.
+     */
+
+    /**
+     * @since 2.7.2
+     */
+    protected final double _deserializeDouble(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        switch (p.getCurrentTokenId()) {
+        case JsonTokenId.ID_NUMBER_FLOAT:
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getDoubleValue();
+        }
+        Object value = deserialize(p, ctxt);
+        return (value == null) ? 0.0 : ((Number) value).doubleValue();
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    protected final float _deserializeFloat(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        switch (p.getCurrentTokenId()) {
+        case JsonTokenId.ID_NUMBER_FLOAT:
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getFloatValue();
+        }
+        Object value = deserialize(p, ctxt);
+        return (value == null) ? 0.0f : ((Number) value).floatValue();
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    protected final char _deserializeChar(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            String text = p.getText();
+            if (text.length() == 1) {
+                return text.charAt(0);
+            }
+        }
+        Object value = deserialize(p, ctxt);
+        return (value == null) ? '\0' : ((Character) value).charValue();
+    }
+
+    /* For wrapper types, nulls and the matching scalar token are handled
+     * here; the rest is again left to the standard deserializer.
+     */
+
+    /**
+     * @since 2.7.2
+     */
+    protected final Integer _deserializeBoxedInt(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        switch (p.getCurrentTokenId()) {
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getIntValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        }
+        return (Integer) deserialize(p, ctxt);
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    protected final Long _deserializeBoxedLong(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        switch (p.getCurrentTokenId()) {
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getLongValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        }
+        return (Long) deserialize(p, ctxt);
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    protected final Double _deserializeBoxedDouble(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        switch (p.getCurrentTokenId()) {
+        case JsonTokenId.ID_NUMBER_FLOAT:
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getDoubleValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        }
+        return (Double) deserialize(p, ctxt);
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    protected final Boolean _deserializeBoxedBoolean(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        switch (p.getCurrentTokenId()) {
+        case JsonTokenId.ID_TRUE:
+            return Boolean.TRUE;
+        case JsonTokenId.ID_FALSE:
+            return Boolean.FALSE;
+        case JsonTokenId.ID_NULL:
+            return null;
+        }
+        return (Boolean) deserialize(p, ctxt);
+    }
+
+    /**
+     * Method for reading Enum values; overridden by Enum-valued properties
+     * that can look up values directly.
+     *
+     * @since 2.7.2
+     */
+    protected Object _deserializeEnum(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        return deserialize(p, ctxt);
+    }
+
     protected final String _deserializeString(JsonParser p, DeserializationContext ctxt) throws IOException
     {
         switch (p.getCurrentTokenId()) {
@@ -353,6 +507,17 @@ abstract class OptimizedSettableBeanProperty<T extends OptimizedSettableBeanProp
         return "null".equals(value);
     }
 
+    /**
+     * Helper method for checking whether given member is a setter method that
+     * returns instance to use for further calls: similar to what
+     * {@link com.fasterxml.jackson.databind.deser.impl.MethodProperty#setAndReturn}
+     * does, except that primitive return values are ignored.
+     */
+    protected static boolean _isFluentSetter(AnnotatedMember member) {
+        return (member instanceof AnnotatedMethod)
+                && !((AnnotatedMethod) member).getRawReturnType().isPrimitive();
+    }
+
     /**
      * Helper method used to check whether given serializer is the default
      * serializer implementation: this is necessary to avoid overriding other
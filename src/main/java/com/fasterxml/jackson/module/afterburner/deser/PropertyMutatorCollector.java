@@ -9,8 +9,10 @@ import static org.objectweb.asm.Opcodes.*;
 
 import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
 import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.module.afterburner.util.ClassName;
 import com.fasterxml.jackson.module.afterburner.util.DynamicPropertyAccessorBase;
+import com.fasterxml.jackson.module.afterburner.util.GeneratedClassRegistry;
 import com.fasterxml.jackson.module.afterburner.util.MyClassLoader;
 
 /**
@@ -27,13 +29,42 @@ public class PropertyMutatorCollector
     private final List<SettableLongMethodProperty> _longSetters = new LinkedList<SettableLongMethodProperty>();
     private final List<SettableBooleanMethodProperty> _booleanSetters = new LinkedList<SettableBooleanMethodProperty>();
     private final List<SettableStringMethodProperty> _stringSetters = new LinkedList<SettableStringMethodProperty>();
-    private final List<SettableObjectMethodProperty> _objectSetters = new LinkedList<SettableObjectMethodProperty>();
+    // also contains properties of wrapper types, which use Object-valued setters
+    private final List<OptimizedSettableBeanProperty<?>> _objectSetters = new LinkedList<OptimizedSettableBeanProperty<?>>();
+    private final List<SettableDoubleMethodProperty> _doubleSetters = new LinkedList<SettableDoubleMethodProperty>();
+    private final List<SettableFloatMethodProperty> _floatSetters = new LinkedList<SettableFloatMethodProperty>();
+    private final List<SettableShortMethodProperty> _shortSetters = new LinkedList<SettableShortMethodProperty>();
+    private final List<SettableByteMethodProperty> _byteSetters = new LinkedList<SettableByteMethodProperty>();
+    private final List<SettableCharMethodProperty> _charSetters = new LinkedList<SettableCharMethodProperty>();
 
     private final List<SettableIntFieldProperty> _intFields = new LinkedList<SettableIntFieldProperty>();
     private final List<SettableLongFieldProperty> _longFields = new LinkedList<SettableLongFieldProperty>();
     private final List<SettableBooleanFieldProperty> _booleanFields = new LinkedList<SettableBooleanFieldProperty>();
     private final List<SettableStringFieldProperty> _stringFields = new LinkedList<SettableStringFieldProperty>();
-    private final List<SettableObjectFieldProperty> _objectFields = new LinkedList<SettableObjectFieldProperty>();
+    private final List<OptimizedSettableBeanProperty<?>> _objectFields = new LinkedList<OptimizedSettableBeanProperty<?>>();
+    private final List<SettableDoubleFieldProperty> _doubleFields = new LinkedList<SettableDoubleFieldProperty>();
+    private final List<SettableFloatFieldProperty> _floatFields = new LinkedList<SettableFloatFieldProperty>();
+    private final List<SettableShortFieldProperty> _shortFields = new LinkedList<SettableShortFieldProperty>();
+    private final List<SettableByteFieldProperty> _byteFields = new LinkedList<SettableByteFieldProperty>();
+    private final List<SettableCharFieldProperty> _charFields = new LinkedList<SettableCharFieldProperty>();
+
+    /**
+     * Build method of the Builder class, if mutator is for a Builder
+     * and build method is to be called using generated code.
+     *
+     * @since 2.7.2
+     */
+    private AnnotatedMethod _buildMethod;
+
+    private AnnotatedMethod _anySetter;
+
+    /**
+     * Whether some of the members to access are 'private', in which case
+     * generated class should be defined as a nestmate of the bean class.
+     *
+     * @since 2.7.2
+     */
+    private boolean _privateAccess;
 
     private final Class<?> beanClass;
     private final String beanClassName;
@@ -62,7 +93,22 @@ public class PropertyMutatorCollector
         return _add(_stringSetters, new SettableStringMethodProperty(prop, null, _stringSetters.size()));
     }
     public SettableObjectMethodProperty addObjectSetter(SettableBeanProperty prop) {
-        return _add(_objectSetters, new SettableObjectMethodProperty(prop, null, _objectSetters.size()));
+        return _addObjectSetter(new SettableObjectMethodProperty(prop, null, _objectSetters.size()));
+    }
+    public SettableDoubleMethodProperty addDoubleSetter(SettableBeanProperty prop) {
+        return _add(_doubleSetters, new SettableDoubleMethodProperty(prop, null, _doubleSetters.size()));
+    }
+    public SettableFloatMethodProperty addFloatSetter(SettableBeanProperty prop) {
+        return _add(_floatSetters, new SettableFloatMethodProperty(prop, null, _floatSetters.size()));
+    }
+    public SettableShortMethodProperty addShortSetter(SettableBeanProperty prop) {
+        return _add(_shortSetters, new SettableShortMethodProperty(prop, null, _shortSetters.size()));
+    }
+    public SettableByteMethodProperty addByteSetter(SettableBeanProperty prop) {
+        return _add(_byteSetters, new SettableByteMethodProperty(prop, null, _byteSetters.size()));
+    }
+    public SettableCharMethodProperty addCharSetter(SettableBeanProperty prop) {
+        return _add(_charSetters, new SettableCharMethodProperty(prop, null, _charSetters.size()));
     }
 
     public SettableIntFieldProperty addIntField(SettableBeanProperty prop) {
@@ -78,7 +124,118 @@ public class PropertyMutatorCollector
         return _add(_stringFields, new SettableStringFieldProperty(prop, null, _stringFields.size()));
     }
     public SettableObjectFieldProperty addObjectField(SettableBeanProperty prop) {
-        return _add(_objectFields, new SettableObjectFieldProperty(prop, null, _objectFields.size()));
+        return _addObjectField(new SettableObjectFieldProperty(prop, null, _objectFields.size()));
+    }
+    public SettableDoubleFieldProperty addDoubleField(SettableBeanProperty prop) {
+        return _add(_doubleFields, new SettableDoubleFieldProperty(prop, null, _doubleFields.size()));
+    }
+    public SettableFloatFieldProperty addFloatField(SettableBeanProperty prop) {
+        return _add(_floatFields, new SettableFloatFieldProperty(prop, null, _floatFields.size()));
+    }
+    public SettableShortFieldProperty addShortField(SettableBeanProperty prop) {
+        return _add(_shortFields, new SettableShortFieldProperty(prop, null, _shortFields.size()));
+    }
+    public SettableByteFieldProperty addByteField(SettableBeanProperty prop) {
+        return _add(_byteFields, new SettableByteFieldProperty(prop, null, _byteFields.size()));
+    }
+    public SettableCharFieldProperty addCharField(SettableBeanProperty prop) {
+        return _add(_charFields, new SettableCharFieldProperty(prop, null, _charFields.size()));
+    }
+
+    /**
+     * Method for specifying build method of a Builder class, to be called
+     * using {@link BeanPropertyMutator#build}. Method must be a non-private,
+     * no-arguments member method that returns an Object.
+     *
+     * @since 2.7.2
+     */
+    public void setBuildMethod(AnnotatedMethod buildMethod) {
+        _buildMethod = buildMethod;
+    }
+
+    /**
+     * Method for specifying "any setter" method of the bean, to be called
+     * using {@link BeanPropertyMutator#anySetter}. Method must be a non-private
+     * member method with two arguments: first one assignable from
+     * {@link java.lang.String}, and second one of some reference type.
+     *
+     * @since 2.7.2
+     */
+    public void setAnySetter(AnnotatedMethod anySetter) {
+        _anySetter = anySetter;
+    }
+
+    /**
+     * Method for indicating that some of properties added are accessed
+     * using 'private' members of the bean class, so generated class needs
+     * to be defined as a nestmate of the bean class, if possible (see
+     * {@link MyClassLoader#loadAndResolveNestmate}). If not possible,
+     * access to these properties will fail, and will use Reflection instead.
+     *
+     * @since 2.7.2
+     */
+    public void setPrivateAccess(boolean state) {
+        _privateAccess = state;
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Properties of wrapper types ({@link java.lang.Integer}, {@link java.lang.Long},
+     * {@link java.lang.Double}, {@link java.lang.Boolean}) use Object-valued
+     * mutators, and only differ from plain Object properties in how they
+     * read values.
+     *
+     * @since 2.7.2
+     */
+    public SettableBoxedIntMethodProperty addBoxedIntSetter(SettableBeanProperty prop) {
+        return _addObjectSetter(new SettableBoxedIntMethodProperty(prop, null, _objectSetters.size()));
+    }
+    public SettableBoxedLongMethodProperty addBoxedLongSetter(SettableBeanProperty prop) {
+        return _addObjectSetter(new SettableBoxedLongMethodProperty(prop, null, _objectSetters.size()));
+    }
+    public SettableBoxedDoubleMethodProperty addBoxedDoubleSetter(SettableBeanProperty prop) {
+        return _addObjectSetter(new SettableBoxedDoubleMethodProperty(prop, null, _objectSetters.size()));
+    }
+    public SettableBoxedBooleanMethodProperty addBoxedBooleanSetter(SettableBeanProperty prop) {
+        return _addObjectSetter(new SettableBoxedBooleanMethodProperty(prop, null, _objectSetters.size()));
+    }
+
+    public SettableBoxedIntFieldProperty addBoxedIntField(SettableBeanProperty prop) {
+        return _addObjectField(new SettableBoxedIntFieldProperty(prop, null, _objectFields.size()));
+    }
+    public SettableBoxedLongFieldProperty addBoxedLongField(SettableBeanProperty prop) {
+        return _addObjectField(new SettableBoxedLongFieldProperty(prop, null, _objectFields.size()));
+    }
+    public SettableBoxedDoubleFieldProperty addBoxedDoubleField(SettableBeanProperty prop) {
+        return _addObjectField(new SettableBoxedDoubleFieldProperty(prop, null, _objectFields.size()));
+    }
+    public SettableBoxedBooleanFieldProperty addBoxedBooleanField(SettableBeanProperty prop) {
+        return _addObjectField(new SettableBoxedBooleanFieldProperty(prop, null, _objectFields.size()));
+    }
+
+    // Enum-valued properties use Object-valued mutators as well
+
+    public SettableEnumMethodProperty addEnumSetter(SettableBeanProperty prop, EnumValueLookup lookup) {
+        return _addObjectSetter(new SettableEnumMethodProperty(prop, null, _objectSetters.size(), lookup));
+    }
+    public SettableEnumFieldProperty addEnumField(SettableBeanProperty prop, EnumValueLookup lookup) {
+        return _addObjectField(new SettableEnumFieldProperty(prop, null, _objectFields.size(), lookup));
+    }
+
+    private <T extends OptimizedSettableBeanProperty<T>> T _addObjectSetter(T prop) {
+        _add(_objectSetters, prop);
+        return prop;
+    }
+
+    private <T extends OptimizedSettableBeanProperty<T>> T _addObjectField(T prop) {
+        _add(_objectFields, prop);
+        return prop;
     }
 
     /*
@@ -95,11 +252,17 @@ public class PropertyMutatorCollector
     {
         // if we weren't passed a class loader, we will base it on value type CL, try to use parent
         if (classLoader == null) {
-            classLoader = new MyClassLoader(beanClass.getClassLoader(), true);
+            classLoader = MyClassLoader.sharedLoaderFor(beanClass, true);
         }
 
-        final ClassName baseName = ClassName.constructFor(beanClass, "$Access4JacksonDeserializer");
-        Class<?> accessorClass = generateMutatorClass(classLoader, baseName);
+        // Classes generated by other mappers may be reused as is, without generating bytecode
+        final String signature = _signature();
+        Class<?> accessorClass = GeneratedClassRegistry.find(beanClass, signature);
+        if (accessorClass == null) {
+            final ClassName baseName = ClassName.constructFor(beanClass, "$Access4JacksonDeserializer");
+            accessorClass = generateMutatorClass(classLoader, baseName);
+            GeneratedClassRegistry.register(beanClass, signature, accessorClass);
+        }
         try {
             return (BeanPropertyMutator) accessorClass.newInstance();
         } catch (Exception e) {
@@ -107,6 +270,58 @@ public class PropertyMutatorCollector
         }
     }
 
+    /**
+     * Method for constructing signature that determines contents of the
+     * mutator class to generate; used as key for {@link GeneratedClassRegistry}.
+     *
+     * @since 2.7.2
+     */
+    protected String _signature()
+    {
+        StringBuilder sb = new StringBuilder(100).append("mutator;");
+        _appendProps(sb, "intFields", _intFields);
+        _appendProps(sb, "longFields", _longFields);
+        _appendProps(sb, "booleanFields", _booleanFields);
+        _appendProps(sb, "stringFields", _stringFields);
+        _appendProps(sb, "objectFields", _objectFields);
+        _appendProps(sb, "doubleFields", _doubleFields);
+        _appendProps(sb, "floatFields", _floatFields);
+        _appendProps(sb, "shortFields", _shortFields);
+        _appendProps(sb, "byteFields", _byteFields);
+        _appendProps(sb, "charFields", _charFields);
+        _appendProps(sb, "intSetters", _intSetters);
+        _appendProps(sb, "longSetters", _longSetters);
+        _appendProps(sb, "booleanSetters", _booleanSetters);
+        _appendProps(sb, "stringSetters", _stringSetters);
+        _appendProps(sb, "objectSetters", _objectSetters);
+        _appendProps(sb, "doubleSetters", _doubleSetters);
+        _appendProps(sb, "floatSetters", _floatSetters);
+        _appendProps(sb, "shortSetters", _shortSetters);
+        _appendProps(sb, "byteSetters", _byteSetters);
+        _appendProps(sb, "charSetters", _charSetters);
+        if (_buildMethod != null) {
+            sb.append("buildMethod:");
+            _appendMember(sb, _buildMethod.getAnnotated());
+        }
+        if (_anySetter != null) {
+            sb.append("anySetter:");
+            _appendMember(sb, _anySetter.getAnnotated());
+        }
+        return sb.toString();
+    }
+
+    private static void _appendProps(StringBuilder sb, String kind,
+            List<? extends OptimizedSettableBeanProperty<?>> props)
+    {
+        if (!props.isEmpty()) {
+            sb.append(kind).append(':');
+            for (OptimizedSettableBeanProperty<?> prop : props) {
+                _appendMember(sb, prop.getMember().getMember());
+            }
+            sb.append(';');
+        }
+    }
+
     public Class<?> generateMutatorClass(MyClassLoader classLoader, ClassName baseName)
     {
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
@@ -174,6 +389,21 @@ public class PropertyMutatorCollector
         if (!_objectFields.isEmpty()) {
             _addFields(cw, _objectFields, "objectField", OBJECT_TYPE, ALOAD);
         }
+        if (!_doubleFields.isEmpty()) {
+            _addFields(cw, _doubleFields, "doubleField", Type.DOUBLE_TYPE, DLOAD);
+        }
+        if (!_floatFields.isEmpty()) {
+            _addFields(cw, _floatFields, "floatField", Type.FLOAT_TYPE, FLOAD);
+        }
+        if (!_shortFields.isEmpty()) {
+            _addFields(cw, _shortFields, "shortField", Type.SHORT_TYPE, ILOAD);
+        }
+        if (!_byteFields.isEmpty()) {
+            _addFields(cw, _byteFields, "byteField", Type.BYTE_TYPE, ILOAD);
+        }
+        if (!_charFields.isEmpty()) {
+            _addFields(cw, _charFields, "charField", Type.CHAR_TYPE, ILOAD);
+        }
 
         // and then method accessors:
         if (!_intSetters.isEmpty()) {
@@ -192,10 +422,72 @@ public class PropertyMutatorCollector
         if (!_objectSetters.isEmpty()) {
             _addSetters(cw, _objectSetters, "objectSetter", OBJECT_TYPE, ALOAD);
         }
+        if (!_doubleSetters.isEmpty()) {
+            _addSetters(cw, _doubleSetters, "doubleSetter", Type.DOUBLE_TYPE, DLOAD);
+        }
+        if (!_floatSetters.isEmpty()) {
+            _addSetters(cw, _floatSetters, "floatSetter", Type.FLOAT_TYPE, FLOAD);
+        }
+        if (!_shortSetters.isEmpty()) {
+            _addSetters(cw, _shortSetters, "shortSetter", Type.SHORT_TYPE, ILOAD);
+        }
+        if (!_byteSetters.isEmpty()) {
+            _addSetters(cw, _byteSetters, "byteSetter", Type.BYTE_TYPE, ILOAD);
+        }
+        if (!_charSetters.isEmpty()) {
+            _addSetters(cw, _charSetters, "charSetter", Type.CHAR_TYPE, ILOAD);
+        }
+
+        // "fluent" variants only needed if there are setters that return something
+        if (_hasFluentSetters(_intSetters)) {
+            _addFluentSetters(cw, _intSetters, "intFluentSetter", Type.INT_TYPE, ILOAD);
+        }
+        if (_hasFluentSetters(_longSetters)) {
+            _addFluentSetters(cw, _longSetters, "longFluentSetter", Type.LONG_TYPE, LLOAD);
+        }
+        if (_hasFluentSetters(_booleanSetters)) {
+            _addFluentSetters(cw, _booleanSetters, "booleanFluentSetter", Type.BOOLEAN_TYPE, ILOAD);
+        }
+        if (_hasFluentSetters(_stringSetters)) {
+            _addFluentSetters(cw, _stringSetters, "stringFluentSetter", STRING_TYPE, ALOAD);
+        }
+        if (_hasFluentSetters(_objectSetters)) {
+            _addFluentSetters(cw, _objectSetters, "objectFluentSetter", OBJECT_TYPE, ALOAD);
+        }
+        if (_hasFluentSetters(_doubleSetters)) {
+            _addFluentSetters(cw, _doubleSetters, "doubleFluentSetter", Type.DOUBLE_TYPE, DLOAD);
+        }
+        if (_hasFluentSetters(_floatSetters)) {
+            _addFluentSetters(cw, _floatSetters, "floatFluentSetter", Type.FLOAT_TYPE, FLOAD);
+        }
+        if (_hasFluentSetters(_shortSetters)) {
+            _addFluentSetters(cw, _shortSetters, "shortFluentSetter", Type.SHORT_TYPE, ILOAD);
+        }
+        if (_hasFluentSetters(_byteSetters)) {
+            _addFluentSetters(cw, _byteSetters, "byteFluentSetter", Type.BYTE_TYPE, ILOAD);
+        }
+        if (_hasFluentSetters(_charSetters)) {
+            _addFluentSetters(cw, _charSetters, "charFluentSetter", Type.CHAR_TYPE, ILOAD);
+        }
+
+        // and for Builders, build method
+        if (_buildMethod != null) {
+            _addBuildMethod(cw, _buildMethod.getAnnotated());
+        }
+        if (_anySetter != null) {
+            _addAnySetter(cw, _anySetter.getAnnotated());
+        }
 
         cw.visitEnd();
         byte[] bytecode = cw.toByteArray();
         baseName.assignChecksum(bytecode);
+        // private members can only be accessed by nestmates, which are never shared by name
+        if (_privateAccess) {
+            Class<?> nestmate = classLoader.loadAndResolveNestmate(baseName, bytecode);
+            if (nestmate != null) {
+                return nestmate;
+            }
+        }
         // already defined exactly as-is?
         try {
             return classLoader.loadClass(baseName.getDottedName());
@@ -210,7 +502,7 @@ public class PropertyMutatorCollector
     /**********************************************************
      */
 
-    private <T extends OptimizedSettableBeanProperty<T>> void _addSetters(ClassWriter cw, List<T> props,
+    private void _addSetters(ClassWriter cw, List<? extends OptimizedSettableBeanProperty<?>> props,
             String methodName, Type parameterType, int loadValueCode)
     {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, "(Ljava/lang/Object;I"+parameterType+")V", /*generic sig*/null, null);
@@ -218,8 +510,8 @@ public class PropertyMutatorCollector
         // first: cast bean to proper type
         mv.visitVarInsn(ALOAD, 1);
         mv.visitTypeInsn(CHECKCAST, beanClassName);
-        int localVarIndex = 4 + (parameterType.equals(Type.LONG_TYPE) ? 1 : 0);
-        mv.visitVarInsn(ASTORE, localVarIndex); // 3 args (0 == this), so 4 is the first local var slot, 5 for long
+        int localVarIndex = 3 + parameterType.getSize();
+        mv.visitVarInsn(ASTORE, localVarIndex); // 3 args (0 == this), so 4 is the first local var slot, 5 for long/double
 
         boolean mustCast = parameterType.equals(OBJECT_TYPE);
         // Ok; minor optimization, 3 or fewer accessors, just do IFs; over that, use switch
@@ -240,13 +532,137 @@ public class PropertyMutatorCollector
         mv.visitEnd();
     }
 
+    /*
+    /**********************************************************
+    /* Code generation; fluent setters, build method
+    /**********************************************************
+     */
+
+    private static boolean _hasFluentSetters(List<? extends OptimizedSettableBeanProperty<?>> props)
+    {
+        for (OptimizedSettableBeanProperty<?> prop : props) {
+            if (prop._fluentSetter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void _addFluentSetters(ClassWriter cw, List<? extends OptimizedSettableBeanProperty<?>> props,
+            String methodName, Type parameterType, int loadValueCode)
+    {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName,
+                "(Ljava/lang/Object;I"+parameterType+")Ljava/lang/Object;", /*generic sig*/null, null);
+        mv.visitCode();
+        // first: cast bean to proper type
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, beanClassName);
+        int localVarIndex = 3 + parameterType.getSize();
+        mv.visitVarInsn(ASTORE, localVarIndex);
+
+        boolean mustCast = parameterType.equals(OBJECT_TYPE);
+        // Builders rarely have just a couple of setters, so let's not bother with IFs
+        mv.visitVarInsn(ILOAD, 2); // load second arg (index)
+        Label[] labels = new Label[props.size()];
+        for (int i = 0, len = labels.length; i < len; ++i) {
+            labels[i] = new Label();
+        }
+        Label defaultLabel = new Label();
+        mv.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+        for (int i = 0, len = labels.length; i < len; ++i) {
+            mv.visitLabel(labels[i]);
+            mv.visitVarInsn(ALOAD, localVarIndex); // load bean
+            mv.visitVarInsn(loadValueCode, 3);
+            Method method = (Method) (props.get(i).getMember().getMember());
+            Type type = Type.getType(method.getParameterTypes()[0]);
+            Type returnType = Type.getType(method.getReturnType());
+            if (mustCast) {
+                mv.visitTypeInsn(CHECKCAST, type.getInternalName());
+            }
+            boolean isInterface = method.getDeclaringClass().isInterface();
+            mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                    beanClassName, method.getName(), "("+type+")"+returnType, isInterface);
+            // and then return whatever setter returned; or, if nothing (or null), the bean
+            switch (returnType.getSort()) {
+            case Type.VOID:
+                break;
+            case Type.LONG:
+            case Type.DOUBLE:
+                mv.visitInsn(POP2);
+                break;
+            case Type.OBJECT:
+            case Type.ARRAY:
+                Label isNull = new Label();
+                mv.visitInsn(DUP);
+                mv.visitJumpInsn(IFNULL, isNull);
+                mv.visitInsn(ARETURN);
+                mv.visitLabel(isNull);
+                mv.visitInsn(POP); // the null
+                break;
+            default:
+                mv.visitInsn(POP);
+            }
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitInsn(ARETURN);
+        }
+        mv.visitLabel(defaultLabel);
+        // and if no match, generate exception:
+        generateException(mv, beanClassName, props.size());
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+    }
+
+    private void _addBuildMethod(ClassWriter cw, Method method)
+    {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "build",
+                "(Ljava/lang/Object;)Ljava/lang/Object;", /*generic sig*/null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, beanClassName);
+        boolean isInterface = method.getDeclaringClass().isInterface();
+        mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                beanClassName, method.getName(), Type.getMethodDescriptor(method), isInterface);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+    }
+
+    private void _addAnySetter(ClassWriter cw, Method method)
+    {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "anySetter",
+                "(Ljava/lang/Object;Ljava/lang/String;Ljava/lang/Object;)V", /*generic sig*/null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, beanClassName);
+        // name is passed as is, since its type must be assignable from String
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, 3);
+        Class<?> valueType = method.getParameterTypes()[1];
+        if (valueType != Object.class) {
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(valueType));
+        }
+        boolean isInterface = method.getDeclaringClass().isInterface();
+        mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                beanClassName, method.getName(), Type.getMethodDescriptor(method), isInterface);
+        // any setters may also return something, which is just dropped
+        Type returnType = Type.getReturnType(method);
+        if (returnType.getSize() == 2) {
+            mv.visitInsn(POP2);
+        } else if (returnType.getSize() == 1) {
+            mv.visitInsn(POP);
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+    }
+
     /*
     /**********************************************************
     /* Code generation; field-based getters
     /**********************************************************
      */
 
-    private <T extends OptimizedSettableBeanProperty<T>> void _addFields(ClassWriter cw, List<T> props,
+    private void _addFields(ClassWriter cw, List<? extends OptimizedSettableBeanProperty<?>> props,
             String methodName, Type parameterType, int loadValueCode)
     {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, "(Ljava/lang/Object;I"+parameterType+")V", /*generic sig*/null, null);
@@ -254,8 +670,8 @@ public class PropertyMutatorCollector
         // first: cast bean to proper type
         mv.visitVarInsn(ALOAD, 1);
         mv.visitTypeInsn(CHECKCAST, beanClassName);
-        int localVarIndex = 4 + (parameterType.equals(Type.LONG_TYPE) ? 1 : 0);
-        mv.visitVarInsn(ASTORE, localVarIndex); // 3 args (0 == this), so 4 is the first local var slot, 5 for long
+        int localVarIndex = 3 + parameterType.getSize();
+        mv.visitVarInsn(ASTORE, localVarIndex); // 3 args (0 == this), so 4 is the first local var slot, 5 for long/double
 
         boolean mustCast = parameterType.equals(OBJECT_TYPE);
         // Ok; minor optimization, 3 or fewer fields, just do IFs; over that, use switch
@@ -302,8 +718,8 @@ public class PropertyMutatorCollector
         mv.visitInsn(RETURN);
     }
     
-    private <T extends OptimizedSettableBeanProperty<T>> void _addSettersUsingIf(MethodVisitor mv,
-            List<T> props, int loadValueCode, int beanIndex, boolean mustCast)
+    private void _addSettersUsingIf(MethodVisitor mv,
+            List<? extends OptimizedSettableBeanProperty<?>> props, int loadValueCode, int beanIndex, boolean mustCast)
     {
         mv.visitVarInsn(ILOAD, 2); // load second arg (index)
         Label next = new Label();
@@ -352,8 +768,8 @@ public class PropertyMutatorCollector
         }
     }
 
-    private <T extends OptimizedSettableBeanProperty<T>> void _addSettersUsingSwitch(MethodVisitor mv,
-            List<T> props, int loadValueCode, int beanIndex, boolean mustCast)
+    private void _addSettersUsingSwitch(MethodVisitor mv,
+            List<? extends OptimizedSettableBeanProperty<?>> props, int loadValueCode, int beanIndex, boolean mustCast)
     {
         mv.visitVarInsn(ILOAD, 2); // load second arg (index)
 
@@ -404,8 +820,8 @@ public class PropertyMutatorCollector
         mv.visitInsn(RETURN);
     }
     
-    private <T extends OptimizedSettableBeanProperty<T>> void _addFieldsUsingIf(MethodVisitor mv,
-            List<T> props, int loadValueCode, int beanIndex, boolean mustCast)
+    private void _addFieldsUsingIf(MethodVisitor mv,
+            List<? extends OptimizedSettableBeanProperty<?>> props, int loadValueCode, int beanIndex, boolean mustCast)
     {
         mv.visitVarInsn(ILOAD, 2); // load second arg (index)
         Label next = new Label();
@@ -445,8 +861,8 @@ public class PropertyMutatorCollector
         }
     }
 
-    private <T extends OptimizedSettableBeanProperty<T>> void _addFieldsUsingSwitch(MethodVisitor mv,
-            List<T> props, int loadValueCode, int beanIndex, boolean mustCast)
+    private void _addFieldsUsingSwitch(MethodVisitor mv,
+            List<? extends OptimizedSettableBeanProperty<?>> props, int loadValueCode, int beanIndex, boolean mustCast)
     {
         mv.visitVarInsn(ILOAD, 2); // load second arg (index)
 
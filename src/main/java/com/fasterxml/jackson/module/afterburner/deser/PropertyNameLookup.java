@@ -0,0 +1,140 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+/**
+ * Collision-free ("perfect") hash table that maps names of ordered properties
+ * of a bean to their indexes, used by {@link SuperSonicBeanDeserializer}
+ * for properties that are not in expected order; as well as names of Enum
+ * values to their indexes, used by Enum-valued properties.
+ *<p>
+ * Lookup is done using field name as exposed by parser: since parsers
+ * canonicalize names using their symbol tables, no new <code>String</code>s
+ * are created, and hash code of the name has usually been calculated
+ * already. Hash function is chosen when table is built so that
+ * every name maps to a distinct slot, so lookup needs just a single probe.
+ *
+ * @since 2.7.2
+ */
+public final class PropertyNameLookup
+{
+    /**
+     * Maximum table size as multiple of (power-of-two rounded) number
+     * of names; beyond this, we will rather not use a table at all.
+     */
+    private final static int MAX_SIZE_FACTOR = 32;
+
+    /**
+     * Number of alternative hash multipliers to try for each table size
+     */
+    private final static int MULTIPLIERS_TO_TRY = 256;
+
+    private final String[] _names;
+
+    private final int[] _indexes;
+
+    private final int _multiplier;
+
+    private final int _shift;
+
+    private PropertyNameLookup(String[] names, int[] indexes, int multiplier, int shift)
+    {
+        _names = names;
+        _indexes = indexes;
+        _multiplier = multiplier;
+        _shift = shift;
+    }
+
+    /**
+     * Factory method for constructing lookup table for given names, so that
+     * name at index <code>i</code> will be mapped to <code>i</code>.
+     *
+     * @return Lookup table constructed, if a collision-free hash function
+     *   could be found; null if not (or if there are duplicate names)
+     */
+    public static PropertyNameLookup construct(String[] names)
+    {
+        final int count = names.length;
+        if (count == 0) {
+            return null;
+        }
+        int bits = 1;
+        while ((1 << bits) < count) {
+            ++bits;
+        }
+        final int maxBits = bits + Integer.numberOfTrailingZeros(MAX_SIZE_FACTOR);
+        // start with 2x size: for anything smaller chances of finding a perfect hash are slim
+        for (++bits; bits <= maxBits; ++bits) {
+            final int size = 1 << bits;
+            final int shift = 32 - bits;
+            int multiplier = 0x9E3779B9;
+            for (int attempt = 0; attempt < MULTIPLIERS_TO_TRY; ++attempt) {
+                String[] slotNames = new String[size];
+                int[] slotIndexes = _fill(names, slotNames, multiplier, shift);
+                if (slotIndexes != null) {
+                    return new PropertyNameLookup(slotNames, slotIndexes, multiplier, shift);
+                }
+                // odd multipliers only, to retain all bits of the hash
+                multiplier = (multiplier + 0x632BE5AA) | 1;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Index of the property with given name, if any; -1 if none
+     */
+    public int find(String name)
+    {
+        final int slot = (name.hashCode() * _multiplier) >>> _shift;
+        final String match = _names[slot];
+        // names are typically interned, so identity check usually suffices
+        if (match == name || (match != null && match.equals(name))) {
+            return _indexes[slot];
+        }
+        return -1;
+    }
+
+    /**
+     * Alternate lookup method that takes name as a character sequence from
+     * given buffer, to avoid constructing a <code>String</code> for values
+     * that are not canonicalized by parser (like String values).
+     *
+     * @return Index of the name that consists of given characters, if any; -1 if none
+     */
+    public int find(char[] buffer, int offset, int len)
+    {
+        int hash = 0;
+        for (int i = offset, end = offset+len; i < end; ++i) {
+            hash = (hash * 31) + buffer[i];
+        }
+        final int slot = (hash * _multiplier) >>> _shift;
+        final String match = _names[slot];
+        if ((match == null) || (match.length() != len)) {
+            return -1;
+        }
+        for (int i = 0; i < len; ++i) {
+            if (match.charAt(i) != buffer[offset+i]) {
+                return -1;
+            }
+        }
+        return _indexes[slot];
+    }
+
+    public int size() {
+        return _names.length;
+    }
+
+    private static int[] _fill(String[] names, String[] slotNames, int multiplier, int shift)
+    {
+        int[] slotIndexes = new int[slotNames.length];
+        for (int i = 0, len = names.length; i < len; ++i) {
+            String name = names[i];
+            int slot = (name.hashCode() * multiplier) >>> shift;
+            if (slotNames[slot] != null) { // collision (or duplicate)
+                return null;
+            }
+            slotNames[slot] = name;
+            slotIndexes[slot] = i;
+        }
+        return slotIndexes;
+    }
+}
@@ -0,0 +1,534 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.objectweb.asm.*;
+
+import static org.objectweb.asm.Opcodes.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.module.afterburner.util.ClassName;
+import com.fasterxml.jackson.module.afterburner.util.DynamicPropertyAccessorBase;
+import com.fasterxml.jackson.module.afterburner.util.MyClassLoader;
+
+/**
+ * Helper class that generates a {@link BeanPropertyReader} implementation
+ * for given bean type and (ordered) set of properties: generated code
+ * has one unrolled block per property, with direct field assignments
+ * and setter calls, so that there is no per-property dynamic dispatch.
+ *
+ * @since 2.7.2
+ */
+public class PropertyReaderGenerator
+    extends DynamicPropertyAccessorBase
+{
+    // Local variable slots used by generated 'readProperties()'
+    private final static int VAR_PARSER = 1;
+    private final static int VAR_CTXT = 2;
+    private final static int VAR_BEAN = 3;
+    private final static int VAR_START = 4;
+    private final static int VAR_TYPED_BEAN = 5;
+    private final static int VAR_INDEX = 6;
+    private final static int VAR_EXCEPTION = 7;
+
+    private final static String PARSER_DESC = Type.getDescriptor(JsonParser.class);
+    private final static String CTXT_DESC = Type.getDescriptor(DeserializationContext.class);
+    private final static String READ_DESC_PREFIX = "("+PARSER_DESC+CTXT_DESC+"I)";
+
+    protected final Class<?> _beanClass;
+
+    protected final String _beanClassName;
+
+    /**
+     * Class loader to use for generated classes; if null, will try to
+     * use class loader of the target class.
+     */
+    protected final MyClassLoader _classLoader;
+
+    public PropertyReaderGenerator(Class<?> beanClass, MyClassLoader classLoader)
+    {
+        _beanClass = beanClass;
+        _beanClassName = Type.getInternalName(beanClass);
+        _classLoader = classLoader;
+    }
+
+    /*
+    /**********************************************************
+    /* Code generation; high level
+    /**********************************************************
+     */
+
+    /**
+     * Method for building reader for given ordered properties.
+     *
+     * @return Reader to use, if one could be generated; null if not
+     *   (typically since generated class could not be loaded in a way
+     *   that allows access to all properties)
+     */
+    public BeanPropertyReader buildReader(BeanDeserializerBase deser,
+            SettableBeanProperty[] props, SerializedString[] names)
+    {
+        return _buildReader(deser, props, names, false);
+    }
+
+    /**
+     * Method for building reader that binds elements of a JSON Array to
+     * given properties by position (see {@link BeanPropertyReader#readElements}).
+     *
+     * @param props Properties in positional order; may contain nulls for
+     *   values to skip
+     *
+     * @return Reader to use, if one could be generated; null if not
+     */
+    public BeanPropertyReader buildArrayReader(BeanDeserializerBase deser,
+            SettableBeanProperty[] props)
+    {
+        return _buildReader(deser, props, null, true);
+    }
+
+    protected BeanPropertyReader _buildReader(BeanDeserializerBase deser,
+            SettableBeanProperty[] props, SerializedString[] names, boolean forArray)
+    {
+        MyClassLoader classLoader = _classLoader;
+        // if we weren't passed a class loader, we will base it on value type CL, try to use parent
+        if (classLoader == null) {
+            classLoader = MyClassLoader.sharedLoaderFor(_beanClass, true);
+        }
+        final ClassName baseName = ClassName.constructFor(_beanClass,
+                forArray ? "$ArrayReader4JacksonDeserializer" : "$Reader4JacksonDeserializer");
+        Class<?> readerClass = generateReaderClass(classLoader, baseName, props, forArray);
+        // Unless we got to define it in the same package as bean, can only access public stuff
+        if ((readerClass.getClassLoader() != _beanClass.getClassLoader())
+                && !_allPublic(props)) {
+            return null;
+        }
+        try {
+            BeanPropertyReader blueprint = (BeanPropertyReader) readerClass.newInstance();
+            return blueprint.with(deser, props, names);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to generate reader class '"+readerClass.getName()+"': "+e.getMessage(), e);
+        }
+    }
+
+    public Class<?> generateReaderClass(MyClassLoader classLoader, ClassName baseName,
+            SettableBeanProperty[] props)
+    {
+        return generateReaderClass(classLoader, baseName, props, false);
+    }
+
+    /**
+     * @param forArray Whether to generate {@link BeanPropertyReader#readElements}
+     *   (true), or {@link BeanPropertyReader#readProperties} (false)
+     */
+    public Class<?> generateReaderClass(MyClassLoader classLoader, ClassName baseName,
+            SettableBeanProperty[] props, boolean forArray)
+    {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        String superClass = internalClassName(BeanPropertyReader.class.getName());
+        final String tmpClassName = baseName.getSlashedTemplate();
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER + ACC_FINAL, tmpClassName,
+                null, superClass, null);
+        cw.visitSource(baseName.getSourceFilename(), null);
+
+        // add default (no-arg) constructor first
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+
+        // then three-argument constructor to be used by "with"
+        final String argsDesc = Type.getDescriptor(BeanDeserializerBase.class)
+                +Type.getDescriptor(SettableBeanProperty[].class)
+                +Type.getDescriptor(SerializedString[].class);
+        final String ctorSig = "("+argsDesc+")V";
+        mv = cw.visitMethod(ACC_PUBLIC, "<init>", ctorSig, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "<init>", ctorSig, false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // same signature as 3-arg constructor:
+        mv = cw.visitMethod(ACC_PUBLIC, "with", "("+argsDesc+")L"+superClass+";", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, tmpClassName);
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKESPECIAL, tmpClassName, "<init>", ctorSig, false);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        if (forArray) {
+            _addReadElements(cw, superClass, props);
+        } else {
+            _addReadProperties(cw, superClass, props);
+        }
+
+        cw.visitEnd();
+        byte[] bytecode = cw.toByteArray();
+        baseName.assignChecksum(bytecode);
+        // already defined exactly as-is?
+        try {
+            return classLoader.loadClass(baseName.getDottedName());
+        } catch (ClassNotFoundException e) { }
+        // if not, load, resolve etc:
+        return classLoader.loadAndResolve(baseName, bytecode);
+    }
+
+    /*
+    /**********************************************************
+    /* Code generation; property reading
+    /**********************************************************
+     */
+
+    private void _addReadProperties(ClassWriter cw, String superClass, SettableBeanProperty[] props)
+    {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "readProperties",
+                "("+PARSER_DESC+CTXT_DESC+"Ljava/lang/Object;I)I", null,
+                new String[] { "java/io/IOException" });
+        mv.visitCode();
+
+        final int count = props.length;
+        final Label[] propLabels = new Label[count];
+        final Label[] setStart = new Label[count];
+        final Label[] setEnd = new Label[count];
+        for (int i = 0; i < count; ++i) {
+            propLabels[i] = new Label();
+            setStart[i] = new Label();
+            setEnd[i] = new Label();
+        }
+        final Label handler = new Label();
+        final Label allDone = new Label();
+
+        // try-catch blocks must be declared before their labels are visited; note
+        // that only binding of values is covered, not matching of names
+        for (int i = 0; i < count; ++i) {
+            mv.visitTryCatchBlock(setStart[i], setEnd[i], handler, "java/lang/Exception");
+        }
+
+        // first: cast bean to proper type
+        mv.visitVarInsn(ALOAD, VAR_BEAN);
+        mv.visitTypeInsn(CHECKCAST, _beanClassName);
+        mv.visitVarInsn(ASTORE, VAR_TYPED_BEAN);
+        // and index, for error reporting
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ISTORE, VAR_INDEX);
+
+        // then jump to the property to start with
+        mv.visitVarInsn(ILOAD, VAR_START);
+        mv.visitTableSwitchInsn(0, count-1, allDone, propLabels);
+
+        final String namesDesc = Type.getDescriptor(SerializedString[].class);
+        for (int i = 0; i < count; ++i) {
+            mv.visitLabel(propLabels[i]);
+            // if (!p.nextFieldName(_propertyNames[i])) return i;
+            mv.visitVarInsn(ALOAD, VAR_PARSER);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, superClass, "_propertyNames", namesDesc);
+            generateIntConstant(mv, i);
+            mv.visitInsn(AALOAD);
+            mv.visitMethodInsn(INVOKEVIRTUAL, internalClassName(JsonParser.class.getName()),
+                    "nextFieldName", "("+Type.getDescriptor(SerializableString.class)+")Z", false);
+            Label matched = new Label();
+            mv.visitJumpInsn(IFNE, matched);
+            generateIntConstant(mv, i);
+            mv.visitInsn(IRETURN);
+            mv.visitLabel(matched);
+            // p.nextToken();
+            mv.visitVarInsn(ALOAD, VAR_PARSER);
+            mv.visitMethodInsn(INVOKEVIRTUAL, internalClassName(JsonParser.class.getName()),
+                    "nextToken", "()"+Type.getDescriptor(JsonToken.class), false);
+            mv.visitInsn(POP);
+            generateIntConstant(mv, i);
+            mv.visitVarInsn(ISTORE, VAR_INDEX);
+            mv.visitLabel(setStart[i]);
+            _addReadAndSet(mv, superClass, props[i], i);
+            mv.visitLabel(setEnd[i]);
+        }
+        mv.visitLabel(allDone);
+        generateIntConstant(mv, count);
+        mv.visitInsn(IRETURN);
+
+        // and finally exception handler
+        _addExceptionHandler(mv, superClass, handler, count);
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+    }
+
+    private void _addReadElements(ClassWriter cw, String superClass, SettableBeanProperty[] props)
+    {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "readElements",
+                "("+PARSER_DESC+CTXT_DESC+"Ljava/lang/Object;)I", null,
+                new String[] { "java/io/IOException" });
+        mv.visitCode();
+
+        final int count = props.length;
+        final Label[] setStart = new Label[count];
+        final Label[] setEnd = new Label[count];
+        for (int i = 0; i < count; ++i) {
+            setStart[i] = new Label();
+            setEnd[i] = new Label();
+        }
+        final Label handler = new Label();
+        // as with 'readProperties', only binding of values is covered
+        for (int i = 0; i < count; ++i) {
+            if (props[i] != null) {
+                mv.visitTryCatchBlock(setStart[i], setEnd[i], handler, "java/lang/Exception");
+            }
+        }
+
+        // first: cast bean to proper type (note: VAR_START not used here)
+        mv.visitVarInsn(ALOAD, VAR_BEAN);
+        mv.visitTypeInsn(CHECKCAST, _beanClassName);
+        mv.visitVarInsn(ASTORE, VAR_TYPED_BEAN);
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ISTORE, VAR_INDEX);
+
+        final String tokenClass = internalClassName(JsonToken.class.getName());
+        final String tokenDesc = Type.getDescriptor(JsonToken.class);
+        for (int i = 0; i < count; ++i) {
+            // if (p.nextToken() == JsonToken.END_ARRAY) return i;
+            mv.visitVarInsn(ALOAD, VAR_PARSER);
+            mv.visitMethodInsn(INVOKEVIRTUAL, internalClassName(JsonParser.class.getName()),
+                    "nextToken", "()"+tokenDesc, false);
+            mv.visitFieldInsn(GETSTATIC, tokenClass, "END_ARRAY", tokenDesc);
+            Label notEnd = new Label();
+            mv.visitJumpInsn(IF_ACMPNE, notEnd);
+            generateIntConstant(mv, i);
+            mv.visitInsn(IRETURN);
+            mv.visitLabel(notEnd);
+            if (props[i] == null) { // no property for this position, just skip
+                mv.visitVarInsn(ALOAD, VAR_PARSER);
+                mv.visitMethodInsn(INVOKEVIRTUAL, internalClassName(JsonParser.class.getName()),
+                        "skipChildren", "()"+PARSER_DESC, false);
+                mv.visitInsn(POP);
+                continue;
+            }
+            generateIntConstant(mv, i);
+            mv.visitVarInsn(ISTORE, VAR_INDEX);
+            mv.visitLabel(setStart[i]);
+            _addReadAndSet(mv, superClass, props[i], i);
+            mv.visitLabel(setEnd[i]);
+        }
+        generateIntConstant(mv, count);
+        mv.visitInsn(IRETURN);
+
+        _addExceptionHandler(mv, superClass, handler, count);
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+    }
+
+    // Exception handler that calls '_wrapAndThrow(e, bean, index, ctxt)'
+    private void _addExceptionHandler(MethodVisitor mv, String superClass, Label handler,
+            int count)
+    {
+        mv.visitLabel(handler);
+        mv.visitVarInsn(ASTORE, VAR_EXCEPTION);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, VAR_EXCEPTION);
+        mv.visitVarInsn(ALOAD, VAR_BEAN);
+        mv.visitVarInsn(ILOAD, VAR_INDEX);
+        mv.visitVarInsn(ALOAD, VAR_CTXT);
+        mv.visitMethodInsn(INVOKEVIRTUAL, superClass, "_wrapAndThrow",
+                "(Ljava/lang/Exception;Ljava/lang/Object;I"+CTXT_DESC+")V", false);
+        // never gets here, but verifier needs a return
+        generateIntConstant(mv, count);
+        mv.visitInsn(IRETURN);
+    }
+
+    private void _addReadAndSet(MethodVisitor mv, String superClass,
+            SettableBeanProperty prop, int index)
+    {
+        final Class<?> propClass = prop.getClass();
+        final String readMethod;
+        final Type valueType;
+
+        // Members generated reader can not access (private ones, accessed using
+        // nestmate mutator) must be handled by the property itself
+        if ((prop instanceof OptimizedSettableBeanProperty<?>)
+                && !_canAccess(prop.getMember().getMember())) {
+            _addDelegatedReadAndSet(mv, superClass, index);
+            return;
+        }
+        if (propClass == SettableIntFieldProperty.class
+                || propClass == SettableIntMethodProperty.class) {
+            readMethod = "_readInt";
+            valueType = Type.INT_TYPE;
+        } else if (propClass == SettableLongFieldProperty.class
+                || propClass == SettableLongMethodProperty.class) {
+            readMethod = "_readLong";
+            valueType = Type.LONG_TYPE;
+        } else if (propClass == SettableBooleanFieldProperty.class
+                || propClass == SettableBooleanMethodProperty.class) {
+            readMethod = "_readBoolean";
+            valueType = Type.BOOLEAN_TYPE;
+        } else if (propClass == SettableDoubleFieldProperty.class
+                || propClass == SettableDoubleMethodProperty.class) {
+            readMethod = "_readDouble";
+            valueType = Type.DOUBLE_TYPE;
+        } else if (propClass == SettableFloatFieldProperty.class
+                || propClass == SettableFloatMethodProperty.class) {
+            readMethod = "_readFloat";
+            valueType = Type.FLOAT_TYPE;
+        } else if (propClass == SettableShortFieldProperty.class
+                || propClass == SettableShortMethodProperty.class) {
+            readMethod = "_readShort";
+            valueType = Type.SHORT_TYPE;
+        } else if (propClass == SettableByteFieldProperty.class
+                || propClass == SettableByteMethodProperty.class) {
+            readMethod = "_readByte";
+            valueType = Type.BYTE_TYPE;
+        } else if (propClass == SettableCharFieldProperty.class
+                || propClass == SettableCharMethodProperty.class) {
+            readMethod = "_readChar";
+            valueType = Type.CHAR_TYPE;
+        } else if (propClass == SettableStringFieldProperty.class
+                || propClass == SettableStringMethodProperty.class) {
+            readMethod = "_readString";
+            valueType = Type.getType(String.class);
+        } else if (propClass == SettableBoxedIntFieldProperty.class
+                || propClass == SettableBoxedIntMethodProperty.class) {
+            readMethod = "_readBoxedInt";
+            valueType = Type.getType(Integer.class);
+        } else if (propClass == SettableBoxedLongFieldProperty.class
+                || propClass == SettableBoxedLongMethodProperty.class) {
+            readMethod = "_readBoxedLong";
+            valueType = Type.getType(Long.class);
+        } else if (propClass == SettableBoxedDoubleFieldProperty.class
+                || propClass == SettableBoxedDoubleMethodProperty.class) {
+            readMethod = "_readBoxedDouble";
+            valueType = Type.getType(Double.class);
+        } else if (propClass == SettableBoxedBooleanFieldProperty.class
+                || propClass == SettableBoxedBooleanMethodProperty.class) {
+            readMethod = "_readBoxedBoolean";
+            valueType = Type.getType(Boolean.class);
+        } else if (propClass == SettableEnumFieldProperty.class
+                || propClass == SettableEnumMethodProperty.class) {
+            readMethod = "_readEnum";
+            valueType = Type.getType(Object.class);
+        } else if (propClass == SettableObjectFieldProperty.class
+                || propClass == SettableObjectMethodProperty.class) {
+            readMethod = "_readObject";
+            valueType = Type.getType(Object.class);
+        } else { // not one we optimize; just let property handle it
+            _addDelegatedReadAndSet(mv, superClass, index);
+            return;
+        }
+
+        // bean first, then value read using one of helper methods
+        mv.visitVarInsn(ALOAD, VAR_TYPED_BEAN);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, VAR_PARSER);
+        mv.visitVarInsn(ALOAD, VAR_CTXT);
+        generateIntConstant(mv, index);
+        mv.visitMethodInsn(INVOKEVIRTUAL, superClass, readMethod,
+                READ_DESC_PREFIX+valueType.getDescriptor(), false);
+
+        Member member = prop.getMember().getMember();
+        if (member instanceof Method) {
+            Method method = (Method) member;
+            Type type = Type.getType(method.getParameterTypes()[0]);
+            if (valueType.getSort() == Type.OBJECT && !type.equals(valueType)) {
+                mv.visitTypeInsn(CHECKCAST, type.getInternalName());
+            }
+            // to fix [Issue-5] (don't assume return type is 'void'), we need to:
+            Type returnType = Type.getType(method.getReturnType());
+            boolean isInterface = method.getDeclaringClass().isInterface();
+            mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                    _beanClassName, method.getName(), "("+type+")"+returnType, isInterface);
+            // and if something was returned, need to get rid of it
+            switch (returnType.getSize()) {
+            case 2:
+                mv.visitInsn(POP2);
+                break;
+            case 1:
+                mv.visitInsn(POP);
+                break;
+            }
+        } else {
+            AnnotatedField field = (AnnotatedField) prop.getMember();
+            Type type = Type.getType(field.getRawType());
+            if (valueType.getSort() == Type.OBJECT && !type.equals(valueType)) {
+                mv.visitTypeInsn(CHECKCAST, type.getInternalName());
+            }
+            mv.visitFieldInsn(PUTFIELD, _beanClassName, field.getName(), type.getDescriptor());
+        }
+    }
+
+    // Calls '_readAndSet(p, ctxt, bean, index)'
+    private void _addDelegatedReadAndSet(MethodVisitor mv, String superClass, int index)
+    {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, VAR_PARSER);
+        mv.visitVarInsn(ALOAD, VAR_CTXT);
+        mv.visitVarInsn(ALOAD, VAR_BEAN);
+        generateIntConstant(mv, index);
+        mv.visitMethodInsn(INVOKEVIRTUAL, superClass, "_readAndSet",
+                "("+PARSER_DESC+CTXT_DESC+"Ljava/lang/Object;I)V", false);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private boolean _canAccess(Member member)
+    {
+        final int mods = member.getModifiers();
+        if (Modifier.isPrivate(mods)) {
+            return false;
+        }
+        final Class<?> declaringClass = member.getDeclaringClass();
+        if (Modifier.isPublic(mods) && Modifier.isPublic(declaringClass.getModifiers())) {
+            return true;
+        }
+        // otherwise need to be in the same (runtime) package
+        return (declaringClass.getClassLoader() == _beanClass.getClassLoader())
+                && _packageName(declaringClass).equals(_packageName(_beanClass));
+    }
+
+    private boolean _allPublic(SettableBeanProperty[] props)
+    {
+        if (!Modifier.isPublic(_beanClass.getModifiers())) {
+            return false;
+        }
+        for (SettableBeanProperty prop : props) {
+            if (prop instanceof OptimizedSettableBeanProperty<?>) {
+                Member member = prop.getMember().getMember();
+                if (!Modifier.isPublic(member.getModifiers())
+                        || !Modifier.isPublic(member.getDeclaringClass().getModifiers())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String _packageName(Class<?> cls)
+    {
+        String name = cls.getName();
+        int ix = name.lastIndexOf('.');
+        return (ix < 0) ? "" : name.substring(0, ix);
+    }
+}
@@ -84,6 +84,7 @@ public final class SettableBooleanFieldProperty
         } else {
             b = _deserializeBoolean(p, ctxt);
         }
-        return setAndReturn(instance, b);
+        _propertyMutator.booleanField(instance, b);
+        return instance;
     }    
 }
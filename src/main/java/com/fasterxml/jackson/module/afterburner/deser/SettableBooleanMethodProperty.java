@@ -82,6 +82,19 @@ public final class SettableBooleanMethodProperty
         } else {
             b = _deserializeBoolean(p, ctxt);
         }
-        return setAndReturn(instance, b);
-    }    
+        if (_fluentSetter) {
+            return _propertyMutator.booleanFluentSetter(instance, b);
+        }
+        _propertyMutator.booleanSetter(instance, b);
+        return instance;
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        if (_fluentSetter) {
+            return _propertyMutator.booleanFluentSetter(instance, ((Boolean) value).booleanValue());
+        }
+        set(instance, value);
+        return instance;
+    }
 }
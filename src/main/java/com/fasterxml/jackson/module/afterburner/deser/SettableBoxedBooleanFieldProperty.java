@@ -0,0 +1,77 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+/**
+ * Property for nullable {@link java.lang.Boolean} values: handles nulls and
+ * matching scalar tokens inline, delegating others to standard deserializer.
+ *
+ * @since 2.7.2
+ */
+public final class SettableBoxedBooleanFieldProperty
+    extends OptimizedSettableBeanProperty<SettableBoxedBooleanFieldProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableBoxedBooleanFieldProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableBoxedBooleanFieldProperty(SettableBoxedBooleanFieldProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableBoxedBooleanFieldProperty(SettableBoxedBooleanFieldProperty src, PropertyName name) {
+        super(src, name);
+    }
+
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableBoxedBooleanFieldProperty(this, name);
+    }
+
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableBoxedBooleanFieldProperty(this, deser);
+    }
+
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableBoxedBooleanFieldProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        set(bean, _deserializeBoxedBoolean(p, ctxt));
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        _propertyMutator.objectField(bean, value);
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        _propertyMutator.objectField(instance, _deserializeBoxedBoolean(p, ctxt));
+        return instance;
+    }    
+}
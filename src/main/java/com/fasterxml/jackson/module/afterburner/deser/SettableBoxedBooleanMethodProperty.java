@@ -0,0 +1,83 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+/**
+ * Property for nullable {@link java.lang.Boolean} values: handles nulls and
+ * matching scalar tokens inline, delegating others to standard deserializer.
+ *
+ * @since 2.7.2
+ */
+public final class SettableBoxedBooleanMethodProperty
+    extends OptimizedSettableBeanProperty<SettableBoxedBooleanMethodProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableBoxedBooleanMethodProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableBoxedBooleanMethodProperty(SettableBoxedBooleanMethodProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableBoxedBooleanMethodProperty(SettableBoxedBooleanMethodProperty src, PropertyName name) {
+        super(src, name);
+    }
+
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableBoxedBooleanMethodProperty(this, name);
+    }
+
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableBoxedBooleanMethodProperty(this, deser);
+    }
+
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableBoxedBooleanMethodProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException {
+        set(bean, _deserializeBoxedBoolean(p, ctxt));
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        _propertyMutator.objectSetter(bean, value);
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException {
+        return setAndReturn(instance, _deserializeBoxedBoolean(p, ctxt));
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        if (_fluentSetter) {
+            return _propertyMutator.objectFluentSetter(instance, value);
+        }
+        set(instance, value);
+        return instance;
+    }
+}
@@ -0,0 +1,83 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+/**
+ * Property for nullable {@link java.lang.Double} values: handles nulls and
+ * matching scalar tokens inline, delegating others to standard deserializer.
+ *
+ * @since 2.7.2
+ */
+public final class SettableBoxedDoubleMethodProperty
+    extends OptimizedSettableBeanProperty<SettableBoxedDoubleMethodProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableBoxedDoubleMethodProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableBoxedDoubleMethodProperty(SettableBoxedDoubleMethodProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableBoxedDoubleMethodProperty(SettableBoxedDoubleMethodProperty src, PropertyName name) {
+        super(src, name);
+    }
+
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableBoxedDoubleMethodProperty(this, name);
+    }
+
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableBoxedDoubleMethodProperty(this, deser);
+    }
+
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableBoxedDoubleMethodProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException {
+        set(bean, _deserializeBoxedDouble(p, ctxt));
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        _propertyMutator.objectSetter(bean, value);
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException {
+        return setAndReturn(instance, _deserializeBoxedDouble(p, ctxt));
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        if (_fluentSetter) {
+            return _propertyMutator.objectFluentSetter(instance, value);
+        }
+        set(instance, value);
+        return instance;
+    }
+}
@@ -0,0 +1,77 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+/**
+ * Property for nullable {@link java.lang.Integer} values: handles nulls and
+ * matching scalar tokens inline, delegating others to standard deserializer.
+ *
+ * @since 2.7.2
+ */
+public final class SettableBoxedIntFieldProperty
+    extends OptimizedSettableBeanProperty<SettableBoxedIntFieldProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableBoxedIntFieldProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableBoxedIntFieldProperty(SettableBoxedIntFieldProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableBoxedIntFieldProperty(SettableBoxedIntFieldProperty src, PropertyName name) {
+        super(src, name);
+    }
+
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableBoxedIntFieldProperty(this, name);
+    }
+
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableBoxedIntFieldProperty(this, deser);
+    }
+
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableBoxedIntFieldProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        set(bean, _deserializeBoxedInt(p, ctxt));
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        _propertyMutator.objectField(bean, value);
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        _propertyMutator.objectField(instance, _deserializeBoxedInt(p, ctxt));
+        return instance;
+    }    
+}
@@ -0,0 +1,74 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+public final class SettableByteFieldProperty
+    extends OptimizedSettableBeanProperty<SettableByteFieldProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableByteFieldProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableByteFieldProperty(SettableByteFieldProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableByteFieldProperty(SettableByteFieldProperty src, PropertyName name) {
+        super(src, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableByteFieldProperty(this, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableByteFieldProperty(this, deser);
+    }
+    
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableByteFieldProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        byte v = _deserializeByte(p, ctxt);
+        _propertyMutator.byteField(bean, v);
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        // not optimal (due to boxing), but better than using reflection:
+        _propertyMutator.byteField(bean, ((Number) value).byteValue());
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        byte v = _deserializeByte(p, ctxt);
+        _propertyMutator.byteField(instance, v);
+        return instance;
+    }    
+}
@@ -0,0 +1,86 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+public final class SettableByteMethodProperty
+    extends OptimizedSettableBeanProperty<SettableByteMethodProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableByteMethodProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableByteMethodProperty(SettableByteMethodProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableByteMethodProperty(SettableByteMethodProperty src, PropertyName name) {
+        super(src, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableByteMethodProperty(this, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableByteMethodProperty(this, deser);
+    }
+    
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableByteMethodProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        byte v = _deserializeByte(p, ctxt);
+        _propertyMutator.byteSetter(bean, v);
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        // not optimal (due to boxing), but better than using reflection:
+        _propertyMutator.byteSetter(bean, ((Number) value).byteValue());
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        byte v = _deserializeByte(p, ctxt);
+        if (_fluentSetter) {
+            return _propertyMutator.byteFluentSetter(instance, v);
+        }
+        _propertyMutator.byteSetter(instance, v);
+        return instance;
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        if (_fluentSetter) {
+            return _propertyMutator.byteFluentSetter(instance, ((Number) value).byteValue());
+        }
+        set(instance, value);
+        return instance;
+    }
+}
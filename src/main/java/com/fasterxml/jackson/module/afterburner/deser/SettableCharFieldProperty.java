@@ -0,0 +1,74 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+public final class SettableCharFieldProperty
+    extends OptimizedSettableBeanProperty<SettableCharFieldProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableCharFieldProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableCharFieldProperty(SettableCharFieldProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableCharFieldProperty(SettableCharFieldProperty src, PropertyName name) {
+        super(src, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableCharFieldProperty(this, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableCharFieldProperty(this, deser);
+    }
+    
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableCharFieldProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        char v = _deserializeChar(p, ctxt);
+        _propertyMutator.charField(bean, v);
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        // not optimal (due to boxing), but better than using reflection:
+        _propertyMutator.charField(bean, ((Character) value).charValue());
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        char v = _deserializeChar(p, ctxt);
+        _propertyMutator.charField(instance, v);
+        return instance;
+    }    
+}
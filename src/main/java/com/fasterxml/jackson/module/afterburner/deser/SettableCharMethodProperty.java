@@ -0,0 +1,86 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+public final class SettableCharMethodProperty
+    extends OptimizedSettableBeanProperty<SettableCharMethodProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableCharMethodProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableCharMethodProperty(SettableCharMethodProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableCharMethodProperty(SettableCharMethodProperty src, PropertyName name) {
+        super(src, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableCharMethodProperty(this, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableCharMethodProperty(this, deser);
+    }
+    
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableCharMethodProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        char v = _deserializeChar(p, ctxt);
+        _propertyMutator.charSetter(bean, v);
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        // not optimal (due to boxing), but better than using reflection:
+        _propertyMutator.charSetter(bean, ((Character) value).charValue());
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        char v = _deserializeChar(p, ctxt);
+        if (_fluentSetter) {
+            return _propertyMutator.charFluentSetter(instance, v);
+        }
+        _propertyMutator.charSetter(instance, v);
+        return instance;
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        if (_fluentSetter) {
+            return _propertyMutator.charFluentSetter(instance, ((Character) value).charValue());
+        }
+        set(instance, value);
+        return instance;
+    }
+}
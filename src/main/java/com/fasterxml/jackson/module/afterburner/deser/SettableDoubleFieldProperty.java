@@ -0,0 +1,74 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+public final class SettableDoubleFieldProperty
+    extends OptimizedSettableBeanProperty<SettableDoubleFieldProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    public SettableDoubleFieldProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index)
+    {
+        super(src, mutator, index);
+    }
+
+    public SettableDoubleFieldProperty(SettableDoubleFieldProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+    }
+
+    public SettableDoubleFieldProperty(SettableDoubleFieldProperty src, PropertyName name) {
+        super(src, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableDoubleFieldProperty(this, name);
+    }
+    
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableDoubleFieldProperty(this, deser);
+    }
+    
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableDoubleFieldProperty(_originalSettable, mut, _optimizedIndex);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        double v = _deserializeDouble(p, ctxt);
+        _propertyMutator.doubleField(bean, v);
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        // not optimal (due to boxing), but better than using reflection:
+        _propertyMutator.doubleField(bean, ((Number) value).doubleValue());
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        double v = _deserializeDouble(p, ctxt);
+        _propertyMutator.doubleField(instance, v);
+        return instance;
+    }    
+}
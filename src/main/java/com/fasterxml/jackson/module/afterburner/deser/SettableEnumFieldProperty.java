@@ -0,0 +1,102 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.EnumDeserializer;
+
+/**
+ * Property for Enum values: names are matched using {@link EnumValueLookup}
+ * (as long as standard {@link EnumDeserializer} is used), and anything else
+ * is delegated to the deserializer.
+ *
+ * @since 2.7.2
+ */
+public final class SettableEnumFieldProperty
+    extends OptimizedSettableBeanProperty<SettableEnumFieldProperty>
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Lookup for Enum values by name; null if values are to be
+     * read using deserializer.
+     */
+    protected final transient EnumValueLookup _enumLookup;
+
+    public SettableEnumFieldProperty(SettableBeanProperty src,
+            BeanPropertyMutator mutator, int index, EnumValueLookup enumLookup)
+    {
+        super(src, mutator, index);
+        _enumLookup = enumLookup;
+    }
+
+    public SettableEnumFieldProperty(SettableEnumFieldProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+        // lookup only matches names used by the standard deserializer
+        _enumLookup = (deser.getClass() == EnumDeserializer.class) ? src._enumLookup : null;
+    }
+
+    public SettableEnumFieldProperty(SettableEnumFieldProperty src, PropertyName name) {
+        super(src, name);
+        _enumLookup = src._enumLookup;
+    }
+
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableEnumFieldProperty(this, name);
+    }
+
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        if (!_isDefaultDeserializer(deser)) {
+            return _originalSettable.withValueDeserializer(deser);
+        }
+        return new SettableEnumFieldProperty(this, deser);
+    }
+
+    @Override
+    public SettableBeanProperty withMutator(BeanPropertyMutator mut) {
+        return new SettableEnumFieldProperty(_originalSettable, mut, _optimizedIndex, _enumLookup);
+    }
+
+    /*
+    /********************************************************************** 
+    /* Deserialization
+    /********************************************************************** 
+     */
+    
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        set(bean, _deserializeEnum(p, ctxt));
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException {
+        _propertyMutator.objectField(bean, value);
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        _propertyMutator.objectField(instance, _deserializeEnum(p, ctxt));
+        return instance;
+    }
+
+    @Override
+    protected Object _deserializeEnum(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        if ((_enumLookup != null) && p.hasToken(JsonToken.VALUE_STRING)) {
+            Object value = _enumLookup.find(p);
+            if (value != null) {
+                return value;
+            }
+        }
+        return deserialize(p, ctxt);
+    }
+}
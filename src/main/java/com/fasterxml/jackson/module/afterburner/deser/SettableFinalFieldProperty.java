@@ -0,0 +1,169 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+
+/**
+ * {@link SettableBeanProperty} used for assigning values of 'final' fields:
+ * since generated code can not assign these, a {@link MethodHandle}
+ * is used instead (created once, instead of checking access on each
+ * call as with {@link Field#set}).
+ * Properties are only created for fields that databind itself would assign
+ * (see {@link MapperFeature#ALLOW_FINAL_FIELDS_AS_MUTATORS}), and where
+ * JVM allows assignment using method handles.
+ *
+ * @since 2.7.2
+ */
+public final class SettableFinalFieldProperty
+    extends SettableBeanProperty
+{
+    private static final long serialVersionUID = 1L;
+
+    private final static MethodType SETTER_TYPE = MethodType.methodType(Void.TYPE,
+            Object.class, Object.class);
+
+    /**
+     * Original property, used for JDK serialization (since method
+     * handles can not be serialized)
+     */
+    protected final SettableBeanProperty _originalSettable;
+
+    /**
+     * Setter for the field, with signature of <code>(Object,Object)void</code>.
+     */
+    protected final transient MethodHandle _setter;
+
+    protected SettableFinalFieldProperty(SettableBeanProperty src, MethodHandle setter)
+    {
+        super(src);
+        _originalSettable = src;
+        _setter = setter;
+    }
+
+    protected SettableFinalFieldProperty(SettableFinalFieldProperty src, JsonDeserializer<?> deser)
+    {
+        super(src, deser);
+        _originalSettable = src._originalSettable.withValueDeserializer(deser);
+        _setter = src._setter;
+    }
+
+    protected SettableFinalFieldProperty(SettableFinalFieldProperty src, PropertyName name)
+    {
+        super(src, name);
+        _originalSettable = src._originalSettable.withName(name);
+        _setter = src._setter;
+    }
+
+    /**
+     * Factory method for constructing property to replace given field-backed
+     * property with.
+     *
+     * @return Property constructed, if setter could be created; null if not (for
+     *   example, if field has not been made accessible)
+     */
+    public static SettableFinalFieldProperty construct(SettableBeanProperty src)
+    {
+        Field f = (Field) src.getMember().getMember();
+        try {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(f);
+            return new SettableFinalFieldProperty(src, setter.asType(SETTER_TYPE));
+        } catch (Exception e) { // most likely IllegalAccessException
+            return null;
+        }
+    }
+
+    @Override
+    public SettableBeanProperty withName(PropertyName name) {
+        return new SettableFinalFieldProperty(this, name);
+    }
+
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        return new SettableFinalFieldProperty(this, deser);
+    }
+
+    /*
+    /**********************************************************************
+    /* Overridden getters
+    /**********************************************************************
+     */
+
+    @Override
+    public <A extends Annotation> A getAnnotation(Class<A> ann) {
+        return _originalSettable.getAnnotation(ann);
+    }
+
+    @Override
+    public AnnotatedMember getMember() {
+        return _originalSettable.getMember();
+    }
+
+    /*
+    /**********************************************************************
+    /* Deserialization
+    /**********************************************************************
+     */
+
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        Object value = deserialize(p, ctxt);
+        try {
+            _setter.invokeExact(bean, value);
+        } catch (RuntimeException e) {
+            _throwAsIOE(p, e, value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) { // field setters can not throw checked exceptions
+            _throwAsIOE(p, new IllegalStateException(t), value);
+        }
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p,
+            DeserializationContext ctxt, Object instance) throws IOException
+    {
+        deserializeAndSet(p, ctxt, instance);
+        return instance;
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws IOException
+    {
+        try {
+            _setter.invokeExact(bean, value);
+        } catch (RuntimeException e) {
+            _throwAsIOE(e, value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) { // field setters can not throw checked exceptions
+            _throwAsIOE(new IllegalStateException(t), value);
+        }
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        set(instance, value);
+        return instance;
+    }
+
+    /*
+    /**********************************************************************
+    /* JDK serialization handling
+    /**********************************************************************
+     */
+
+    Object readResolve() {
+        return _originalSettable;
+    }
+}
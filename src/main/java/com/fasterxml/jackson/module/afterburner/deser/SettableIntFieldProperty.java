@@ -70,6 +70,7 @@ public final class SettableIntFieldProperty
             DeserializationContext ctxt, Object instance) throws IOException
     {
         int v = p.hasToken(JsonToken.VALUE_NUMBER_INT) ? p.getIntValue() : _deserializeInt(p, ctxt);
-        return setAndReturn(instance, v);
+        _propertyMutator.intField(instance, v);
+        return instance;
     }    
 }
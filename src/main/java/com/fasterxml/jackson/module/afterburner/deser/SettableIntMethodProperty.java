@@ -69,6 +69,19 @@ public final class SettableIntMethodProperty
         throws IOException
     {
         int v = p.hasToken(JsonToken.VALUE_NUMBER_INT) ? p.getIntValue() : _deserializeInt(p, ctxt);
-        return setAndReturn(instance, v);
-    }    
+        if (_fluentSetter) {
+            return _propertyMutator.intFluentSetter(instance, v);
+        }
+        _propertyMutator.intSetter(instance, v);
+        return instance;
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        if (_fluentSetter) {
+            return _propertyMutator.intFluentSetter(instance, ((Number) value).intValue());
+        }
+        set(instance, value);
+        return instance;
+    }
 }
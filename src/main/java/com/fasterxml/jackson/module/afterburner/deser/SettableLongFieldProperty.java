@@ -68,6 +68,7 @@ public final class SettableLongFieldProperty
             DeserializationContext ctxt, Object instance) throws IOException
     {
         long l = p.hasToken(JsonToken.VALUE_NUMBER_INT) ? p.getLongValue() : _deserializeLong(p, ctxt);
-        return setAndReturn(instance, l);
+        _propertyMutator.longField(instance, l);
+        return instance;
     }    
 }
@@ -68,6 +68,19 @@ public final class SettableLongMethodProperty
             DeserializationContext ctxt, Object instance) throws IOException
     {
         long l = p.hasToken(JsonToken.VALUE_NUMBER_INT) ? p.getLongValue() : _deserializeLong(p, ctxt);
-        return setAndReturn(instance, l);
-    }    
+        if (_fluentSetter) {
+            return _propertyMutator.longFluentSetter(instance, l);
+        }
+        _propertyMutator.longSetter(instance, l);
+        return instance;
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        if (_fluentSetter) {
+            return _propertyMutator.longFluentSetter(instance, ((Number) value).longValue());
+        }
+        set(instance, value);
+        return instance;
+    }
 }
@@ -65,6 +65,7 @@ public final class SettableObjectFieldProperty
     public Object deserializeSetAndReturn(JsonParser p,
             DeserializationContext ctxt, Object instance) throws IOException
     {
-        return setAndReturn(instance, deserialize(p, ctxt));
+        _propertyMutator.objectField(instance, deserialize(p, ctxt));
+        return instance;
     }    
 }
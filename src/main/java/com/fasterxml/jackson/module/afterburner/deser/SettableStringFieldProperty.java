@@ -73,6 +73,7 @@ public final class SettableStringFieldProperty
         if (text == null) {
             text = _deserializeString(p, ctxt);
         }
-        return setAndReturn(instance, text);
+        _propertyMutator.stringField(instance, text);
+        return instance;
     }
 }
@@ -72,6 +72,19 @@ public final class SettableStringMethodProperty
         if (text == null) {
             text = _deserializeString(p, ctxt);
         }
-        return setAndReturn(instance, text);
+        if (_fluentSetter) {
+            return _propertyMutator.stringFluentSetter(instance, text);
+        }
+        _propertyMutator.stringSetter(instance, text);
+        return instance;
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        if (_fluentSetter) {
+            return _propertyMutator.stringFluentSetter(instance, (String) value);
+        }
+        set(instance, value);
+        return instance;
     }
 }
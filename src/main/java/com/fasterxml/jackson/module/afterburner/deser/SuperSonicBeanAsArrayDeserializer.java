@@ -0,0 +1,134 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.io.IOException;
+import java.util.HashSet;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.BeanAsArrayDeserializer;
+import com.fasterxml.jackson.databind.deser.impl.ObjectIdReader;
+
+/**
+ * Variant of {@link BeanAsArrayDeserializer} used with
+ * {@link SuperSonicBeanDeserializer}: binds values of "POJO as array"
+ * shape by position, using generated {@link BeanPropertyReader} (if one
+ * is available), and otherwise directly calling properties (which in
+ * turn use generated mutators).
+ *
+ * @since 2.7.2
+ */
+public class SuperSonicBeanAsArrayDeserializer
+    extends BeanAsArrayDeserializer
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Generated reader that binds values in positional order, if
+     * generated readers are enabled; null if not.
+     */
+    protected final transient BeanPropertyReader _reader;
+
+    public SuperSonicBeanAsArrayDeserializer(BeanDeserializerBase delegate,
+            SettableBeanProperty[] ordered, BeanPropertyReader reader)
+    {
+        super(delegate, ordered);
+        _reader = reader;
+    }
+
+    @Override
+    public BeanAsArrayDeserializer withObjectIdReader(ObjectIdReader oir) {
+        return new SuperSonicBeanAsArrayDeserializer(_delegate.withObjectIdReader(oir),
+                _orderedProperties, _reader);
+    }
+
+    @Override
+    public BeanAsArrayDeserializer withIgnorableProperties(HashSet<String> ignorableProps) {
+        return new SuperSonicBeanAsArrayDeserializer(_delegate.withIgnorableProperties(ignorableProps),
+                _orderedProperties, _reader);
+    }
+
+    /*
+    /**********************************************************
+    /* JsonDeserializer implementation
+    /**********************************************************
+     */
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        if (!p.isExpectedStartArrayToken()) {
+            return _deserializeFromNonArray(p, ctxt);
+        }
+        if (!_vanillaProcessing) {
+            return _deserializeNonVanilla(p, ctxt);
+        }
+        final Object bean = _valueInstantiator.createUsingDefault(ctxt);
+        p.setCurrentValue(bean);
+        return _deserializeElements(p, ctxt, bean);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt, Object bean)
+        throws IOException
+    {
+        p.setCurrentValue(bean);
+        if (_injectables != null) {
+            injectValues(ctxt, bean);
+        }
+        return _deserializeElements(p, ctxt, bean);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    protected final Object _deserializeElements(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        final SettableBeanProperty[] props = _orderedProperties;
+        final int propCount = props.length;
+        int i;
+
+        if (_reader != null) {
+            i = _reader.readElements(p, ctxt, bean);
+        } else {
+            for (i = 0; i < propCount; ++i) {
+                if (p.nextToken() == JsonToken.END_ARRAY) {
+                    break;
+                }
+                SettableBeanProperty prop = props[i];
+                if (prop != null) {
+                    try {
+                        prop.deserializeAndSet(p, ctxt, bean);
+                    } catch (Exception e) {
+                        wrapAndThrow(e, bean, prop.getName(), ctxt);
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        // fewer values than properties: parser already at END_ARRAY
+        if (i < propCount) {
+            return bean;
+        }
+        if (p.nextToken() == JsonToken.END_ARRAY) {
+            return bean;
+        }
+        // Ok; extra fields? Let's fail, unless ignoring extra props is fine
+        if (!_ignoreAllUnknown) {
+            throw ctxt.mappingException("Unexpected JSON values; expected at most %d properties (in JSON Array)",
+                    propCount);
+        }
+        // otherwise, skip until end
+        do {
+            p.skipChildren();
+        } while (p.nextToken() != JsonToken.END_ARRAY);
+        return bean;
+    }
+}
@@ -7,6 +7,9 @@ import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.*;
+import com.fasterxml.jackson.databind.deser.impl.PropertyBasedCreator;
+import com.fasterxml.jackson.databind.deser.impl.PropertyValueBuffer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.databind.util.NameTransformer;
 
 public final class SuperSonicBeanDeserializer extends BeanDeserializer
@@ -16,15 +19,51 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
     /**
      * Names of properties being deserialized, in ordered they are
      * expected to have been written (as per serialization settings);
-     * used for speculative order-based optimizations
+     * used for finding properties for {@link #_orderedProperties}
      */
     protected final SerializedString[] _orderedPropertyNames;
 
     /**
-     * Properties matching names in {@link #_orderedPropertyNames}, 
-     * assigned after resolution when property instances are finalized.
+     * Properties in the order they are currently expected, along with
+     * their names (and generated reader, if any), assigned after resolution
+     * when property instances are finalized.
+     * Contained in a single immutable object so that the order may be
+     * changed atomically, if adaptive ordering is enabled.
      */
-    protected SettableBeanProperty[] _orderedProperties;
+    protected volatile OrderedProperties _orderedProperties;
+
+    /**
+     * Generator to use for creating {@link BeanPropertyReader}s, if
+     * generated readers are enabled; null if not.
+     *
+     * @since 2.7.2
+     */
+    protected final transient PropertyReaderGenerator _readerGenerator;
+
+    /**
+     * Object used for learning actual order of properties in input
+     * (and keeping track of hit rate of ordered matching), if
+     * adaptive ordering is enabled; null if not.
+     *
+     * @since 2.7.2
+     */
+    protected final transient AdaptivePropertyOrder _adaptiveOrder;
+
+    /**
+     * Optimizer to use for creating {@link #_creatorReader}, if bean
+     * has a property-based creator; null if not.
+     *
+     * @since 2.7.2
+     */
+    protected final transient CreatorOptimizer _creatorOptimizer;
+
+    /**
+     * Generated reader that reads creator properties and calls property-based
+     * creator directly, if one could be created.
+     *
+     * @since 2.7.2
+     */
+    protected transient CreatorPropertyReader _creatorReader;
 
     /*
     /**********************************************************
@@ -33,8 +72,21 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
      */
 
     public SuperSonicBeanDeserializer(BeanDeserializer src, List<SettableBeanProperty> props)
+    {
+        this(src, props, null, null, null);
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    public SuperSonicBeanDeserializer(BeanDeserializer src, List<SettableBeanProperty> props,
+            PropertyReaderGenerator readerGenerator, AdaptivePropertyOrder adaptiveOrder,
+            CreatorOptimizer creatorOptimizer)
     {
         super(src);
+        _readerGenerator = readerGenerator;
+        _adaptiveOrder = adaptiveOrder;
+        _creatorOptimizer = creatorOptimizer;
         final int len = props.size();
         _orderedPropertyNames = new SerializedString[len];
         for (int i = 0; i < len; ++i) {
@@ -47,6 +99,10 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
         super(src, unwrapper);
         _orderedProperties = src._orderedProperties;
         _orderedPropertyNames = src._orderedPropertyNames;
+        _readerGenerator = src._readerGenerator;
+        // names get transformed, so learning order would not help
+        _adaptiveOrder = null;
+        _creatorOptimizer = null;
     }
     
     @Override
@@ -59,9 +115,21 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
     //public BeanDeserializer withObjectIdReader(ObjectIdReader oir) {
 
     //public BeanDeserializer withIgnorableProperties(HashSet<String> ignorableProps)
-    
-    //protected BeanDeserializerBase asArrayDeserializer()
-    
+
+    /**
+     * Overridden to use positional binding that uses generated reader
+     * (if enabled) for "POJO as array" shape.
+     *
+     * @since 2.7.2
+     */
+    @Override
+    protected BeanDeserializerBase asArrayDeserializer() {
+        SettableBeanProperty[] props = _beanProperties.getPropertiesInInsertionOrder();
+        BeanPropertyReader reader = (_readerGenerator == null) ? null
+                : _readerGenerator.buildArrayReader(this, props);
+        return new SuperSonicBeanAsArrayDeserializer(this, props, reader);
+    }
+
     /*
     /**********************************************************
     /* BenaDeserializer overrides
@@ -106,12 +174,31 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
             throw new IllegalStateException("Afterburner internal error: BeanDeserializer for "
                     +_beanType+" has no properties that match expected ordering (should have "+len+") -- can not create optimized deserializer");
         }
-        _orderedProperties = props.toArray(new SettableBeanProperty[props.size()]);
+        _orderedProperties = _orderedProperties(props.toArray(new SettableBeanProperty[i]));
+
+        if ((_creatorOptimizer != null) && (_propertyBasedCreator != null)
+                && (_delegateDeserializer == null) && (_objectIdReader == null)
+                && (_injectables == null)) {
+            Collection<SettableBeanProperty> creatorProps = _propertyBasedCreator.properties();
+            SettableBeanProperty[] byIndex = new SettableBeanProperty[creatorProps.size()];
+            for (SettableBeanProperty prop : creatorProps) {
+                int ix = prop.getCreatorIndex();
+                if (ix < 0 || ix >= byIndex.length) { // injectables, most likely; can't optimize
+                    return;
+                }
+                byIndex[ix] = prop;
+            }
+            _creatorReader = _creatorOptimizer.createPropertyBasedReader(this, byIndex);
+        }
     }
 
     @Override
     public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
     {
+        // Generated reader for property-based creator? (never used with Object Ids etc.)
+        if ((_creatorReader != null) && p.isExpectedStartObjectToken()) {
+            return _creatorReader.readAndCreate(p, ctxt);
+        }
         if (!_vanillaProcessing || _objectIdReader != null) {
             // should we ever get here? Just in case
             return super.deserialize(p, ctxt);
@@ -142,27 +229,7 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
         if (_injectables != null) {
             injectValues(ctxt, bean);
         }
-        for (int i = 0, len = _orderedProperties.length; i < len; ++i) {
-            SettableBeanProperty prop = _orderedProperties[i];
-            if (!p.nextFieldName(_orderedPropertyNames[i])) { // miss...
-                if (p.getCurrentToken() == JsonToken.END_OBJECT) {
-                    return bean;
-                }
-                // we likely point to FIELD_NAME, so can just call parent impl
-                return super.deserialize(p, ctxt, bean);
-            }
-            p.nextToken(); // skip field, returns value token
-            try {
-                prop.deserializeAndSet(p, ctxt, bean);
-            } catch (Exception e) {
-                wrapAndThrow(e, bean, prop.getName(), ctxt);
-            }
-        }
-        // also, need to ensure we get closing END_OBJECT...
-        if (p.nextToken() != JsonToken.END_OBJECT) {
-            return super.deserialize(p, ctxt, bean);
-        }
-        return bean;
+        return _deserializeOrdered(p, ctxt, bean, _orderedProperties, 0, false);
     }
     
     // much of below is cut'n pasted from BeanSerializer
@@ -181,45 +248,15 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
         if (_externalTypeIdHandler != null) {
             return deserializeWithExternalTypeId(p, ctxt, bean);
         }
-        SettableBeanProperty prop = _orderedProperties[0];
-        // First: verify that first name is expected
         if (p.isExpectedStartObjectToken()) {
-            if (!p.nextFieldName(_orderedPropertyNames[0])) {
-                return super.deserialize(p,  ctxt, bean);
-            }
-        } else if (!p.hasTokenId(JsonTokenId.ID_FIELD_NAME)
-                || !prop.getName().equals(p.getCurrentName())) {
+            return _deserializeOrdered(p, ctxt, bean, _orderedProperties, 0, false);
+        }
+        if (!p.hasTokenId(JsonTokenId.ID_FIELD_NAME)) {
             // no, something funky, use base impl for special cases
             return super.deserialize(p,  ctxt, bean);
         }
-        p.nextToken();
-        try {
-            prop.deserializeAndSet(p, ctxt, bean);
-        } catch (Exception e) {
-            wrapAndThrow(e, bean, prop.getName(), ctxt);
-        }
-        // then rest of properties
-        for (int i = 1, len = _orderedProperties.length; i < len; ++i) {
-            if (!p.nextFieldName(_orderedPropertyNames[i])) { // miss...
-                if (p.hasTokenId(JsonTokenId.ID_END_OBJECT)) {
-                    return bean;
-                }
-                // we likely point to FIELD_NAME, so can just call parent impl
-                return super.deserialize(p, ctxt, bean);
-            }
-            prop = _orderedProperties[i];
-            p.nextToken(); // skip field, returns value token
-            try {
-                prop.deserializeAndSet(p, ctxt, bean);
-            } catch (Exception e) {
-                wrapAndThrow(e, bean, prop.getName(), ctxt);
-            }
-        }
-        // also, need to ensure we get closing END_OBJECT...
-        if (p.nextToken() != JsonToken.END_OBJECT) {
-            return super.deserialize(p, ctxt, bean);
-        }
-        return bean;
+        // already pointing to the first name: verify that it is the expected one
+        return _deserializeFromName(p, ctxt, bean);
     }
 
     // much of below is cut'n pasted from BeanSerializer
@@ -227,6 +264,9 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
     public final Object deserializeFromObject(JsonParser p, DeserializationContext ctxt) throws IOException
     {
         if (_nonStandardCreation) {
+            if (_creatorReader != null) {
+                return _creatorReader.readAndCreate(p, ctxt);
+            }
             if (_unwrappedPropertyHandler != null) {
                 return deserializeWithUnwrapped(p, ctxt);
             }
@@ -247,45 +287,460 @@ public final class SuperSonicBeanDeserializer extends BeanDeserializer
         if (_injectables != null) {
             injectValues(ctxt, bean);
         }
-        SettableBeanProperty prop = _orderedProperties[0];
-        // First: verify that first name is expected
         if (p.isExpectedStartObjectToken()) {
-            if (!p.nextFieldName(_orderedPropertyNames[0])) {
-                return super.deserialize(p,  ctxt, bean);
-            }
-        } else if (!p.hasTokenId(JsonTokenId.ID_FIELD_NAME)
-                || !prop.getName().equals(p.getCurrentName())) {
-            return super.deserialize(p,  ctxt, bean);
+            return _deserializeOrdered(p, ctxt, bean, _orderedProperties, 0, false);
         }
-        // and deserialize
-        p.nextToken();
-        try {
-            prop.deserializeAndSet(p, ctxt, bean);
-        } catch (Exception e) {
-            wrapAndThrow(e, bean, prop.getName(), ctxt);
+        if (!p.hasTokenId(JsonTokenId.ID_FIELD_NAME)) {
+            // no, something funky, use base impl for special cases
+            return super.deserialize(p,  ctxt, bean);
         }
+        // already pointing to the first name: verify that it is the expected one
+        return _deserializeFromName(p, ctxt, bean);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
 
-        // then rest of properties
-        for (int i = 1, len = _orderedProperties.length; i < len; ++i) {
-            prop = _orderedProperties[i];
-            if (!p.nextFieldName(_orderedPropertyNames[i])) { // miss...
-                if (p.hasTokenId(JsonTokenId.ID_END_OBJECT)) {
-                    return bean;
+    /**
+     * Helper method that binds properties in expected order, starting
+     * with property at given index. If an unexpected property is encountered,
+     * it is bound using regular lookup, after which ordered matching resumes
+     * from the property following it.
+     *
+     * @param missed Whether an unexpected property has already been encountered
+     *   in the current document
+     */
+    private final Object _deserializeOrdered(JsonParser p, DeserializationContext ctxt,
+            Object bean, OrderedProperties ordered, int i, boolean missed) throws IOException
+    {
+        final SettableBeanProperty[] props = ordered.properties;
+        final int len = props.length;
+        while (true) {
+            if (ordered.reader != null) {
+                i = ordered.reader.readProperties(p, ctxt, bean, i);
+            } else {
+                final SerializedString[] names = ordered.names;
+                for (; i < len; ++i) {
+                    if (!p.nextFieldName(names[i])) { // miss...
+                        break;
+                    }
+                    SettableBeanProperty prop = props[i];
+                    p.nextToken(); // skip field, returns value token
+                    try {
+                        prop.deserializeAndSet(p, ctxt, bean);
+                    } catch (Exception e) {
+                        wrapAndThrow(e, bean, prop.getName(), ctxt);
+                    }
                 }
-                // we likely point to FIELD_NAME, so can just call parent impl
+            }
+            if (i == len) {
+                // also, need to ensure we get closing END_OBJECT...
+                if (p.nextToken() != JsonToken.END_OBJECT) {
+                    return super.deserialize(p, ctxt, bean);
+                }
+                break;
+            }
+            // miss...
+            if (p.hasTokenId(JsonTokenId.ID_END_OBJECT)) {
+                break;
+            }
+            // views need special handling, parent impl knows how
+            if (_needViewProcesing) {
                 return super.deserialize(p, ctxt, bean);
             }
-            p.nextToken(); // skip field, returns value token
+            if (!missed) {
+                return _deserializeMissed(p, ctxt, bean, ordered, i);
+            }
+            i = _deserializeOutOfOrder(p, ctxt, bean, ordered, i);
+        }
+        if (!missed && (_adaptiveOrder != null)) {
+            _adaptiveOrder.hit();
+        }
+        return bean;
+    }
+
+    /**
+     * Helper method called when parser already points to the first
+     * FIELD_NAME (as opposed to START_OBJECT) and we need to see if it is
+     * the expected one.
+     */
+    private final Object _deserializeFromName(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        final OrderedProperties ordered = _orderedProperties;
+        SettableBeanProperty prop = ordered.properties[0];
+        if (prop.getName().equals(p.getCurrentName())) {
+            p.nextToken();
             try {
                 prop.deserializeAndSet(p, ctxt, bean);
             } catch (Exception e) {
                 wrapAndThrow(e, bean, prop.getName(), ctxt);
             }
+            return _deserializeOrdered(p, ctxt, bean, ordered, 1, false);
         }
-        // also, need to ensure we get closing END_OBJECT...
-        if (p.nextToken() != JsonToken.END_OBJECT) {
+        if (_needViewProcesing) {
             return super.deserialize(p, ctxt, bean);
         }
+        return _deserializeMissed(p, ctxt, bean, ordered, 0);
+    }
+
+    /**
+     * Helper method called when the first unexpected property of a document
+     * is encountered: properties before index <code>i</code> have been bound
+     * in expected order, and parser points to the unexpected FIELD_NAME.
+     */
+    private final Object _deserializeMissed(JsonParser p, DeserializationContext ctxt,
+            Object bean, OrderedProperties ordered, int i) throws IOException
+    {
+        if ((_adaptiveOrder != null) && _adaptiveOrder.miss()) {
+            return _deserializeSampled(p, ctxt, bean, ordered, i);
+        }
+        i = _deserializeOutOfOrder(p, ctxt, bean, ordered, i);
+        return _deserializeOrdered(p, ctxt, bean, ordered, i, true);
+    }
+
+    /**
+     * Helper method that binds rest of properties of a document using regular
+     * lookup, recording the order in which they appear; and then passes the
+     * observed order to {@link #_adaptiveOrder}, swapping in new order if
+     * one is suggested.
+     */
+    private final Object _deserializeSampled(JsonParser p, DeserializationContext ctxt,
+            Object bean, OrderedProperties ordered, int i) throws IOException
+    {
+        final SettableBeanProperty[] props = ordered.properties;
+        final int len = props.length;
+        // properties before index were seen in expected order
+        SettableBeanProperty[] seen = Arrays.copyOf(props, len);
+        int seenCount = i;
+
+        for (JsonToken t = p.getCurrentToken(); t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            final String propName = p.getCurrentName();
+            p.nextToken();
+            final SettableBeanProperty prop = _beanProperties.find(propName);
+            if (prop == null) {
+                _handleUnknown(p, ctxt, bean, propName);
+                continue;
+            }
+            try {
+                prop.deserializeAndSet(p, ctxt, bean);
+            } catch (Exception e) {
+                wrapAndThrow(e, bean, propName, ctxt);
+            }
+            // only record ordered properties, and just the first occurrence of each
+            if ((_indexOf(props, len, prop) >= 0) && (_indexOf(seen, seenCount, prop) < 0)) {
+                seen[seenCount++] = prop;
+            }
+        }
+        SettableBeanProperty[] reordered = _adaptiveOrder.sample(props, seen, seenCount);
+        if (reordered != null) {
+            _orderedProperties = _orderedProperties(reordered);
+        }
+        return bean;
+    }
+
+    /**
+     * Helper method called when the current FIELD_NAME is not the one expected
+     * at given index: will bind the property using regular lookup (or handle
+     * it as unknown property), and figure out where to resume ordered matching.
+     * Ordered properties are found using perfect hash lookup, if available;
+     * others using regular lookup.
+     *
+     * @return Index of the property following the one just bound, if it was one
+     *   of ordered properties; otherwise index that was passed
+     */
+    private final int _deserializeOutOfOrder(JsonParser p, DeserializationContext ctxt,
+            Object bean, OrderedProperties ordered, int i) throws IOException
+    {
+        final String propName = p.getCurrentName();
+        p.nextToken();
+        final SettableBeanProperty[] props = ordered.properties;
+        if (ordered.lookup != null) {
+            final int ix = ordered.lookup.find(propName);
+            if (ix >= 0) {
+                final SettableBeanProperty prop = props[ix];
+                try {
+                    prop.deserializeAndSet(p, ctxt, bean);
+                } catch (Exception e) {
+                    wrapAndThrow(e, bean, propName, ctxt);
+                }
+                return ix+1;
+            }
+        }
+        final SettableBeanProperty prop = _beanProperties.find(propName);
+        if (prop == null) {
+            _handleUnknown(p, ctxt, bean, propName);
+            // extra property, so the one we expected is still the next one
+            return i;
+        }
+        try {
+            prop.deserializeAndSet(p, ctxt, bean);
+        } catch (Exception e) {
+            wrapAndThrow(e, bean, propName, ctxt);
+        }
+        // Re-sync: most likely property is near where we are, so search from there
+        for (int j = i, len = props.length; j < len; ++j) {
+            if (props[j] == prop) {
+                return j+1;
+            }
+        }
+        for (int j = 0; j < i; ++j) {
+            if (props[j] == prop) {
+                return j+1;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Helper method called by {@link CreatorPropertyReader} after it has
+     * created the bean, with parser pointing to the value of the last
+     * creator property.
+     */
+    final Object _deserializeAfterCreation(JsonParser p, DeserializationContext ctxt,
+            Object bean) throws IOException
+    {
+        if (bean == null) {
+            throw ctxt.instantiationException(_beanType.getRawClass(), "JSON Creator returned null");
+        }
+        // [databind#631]: Assign current value, to be accessible by custom serializers
+        p.setCurrentValue(bean);
+        //  polymorphic?
+        if (bean.getClass() != _beanType.getRawClass()) {
+            p.nextToken();
+            return handlePolymorphic(p, ctxt, bean, null);
+        }
+        final OrderedProperties ordered = _orderedProperties;
+        return _deserializeOrdered(p, ctxt, bean, ordered, ordered.creatorPropertyCount, false);
+    }
+
+    /**
+     * Helper method called by {@link CreatorPropertyReader} when creator
+     * properties were not found in the expected order: continues using
+     * standard buffering approach, starting with values read so far.
+     * Much of this is cut'n pasted from <code>BeanDeserializer</code>.
+     *
+     * @param creatorProps Creator properties in creator parameter order
+     * @param values Values read for the first <code>count</code> creator properties
+     */
+    final Object _deserializeUsingPropertyBased(JsonParser p, DeserializationContext ctxt,
+            SettableBeanProperty[] creatorProps, Object[] values, int count) throws IOException
+    {
+        final PropertyBasedCreator creator = _propertyBasedCreator;
+        PropertyValueBuffer buffer = creator.startBuilding(p, ctxt, _objectIdReader);
+        for (int i = 0; i < count; ++i) {
+            buffer.assignParameter(creatorProps[i], values[i]);
+        }
+        TokenBuffer unknown = null;
+
+        JsonToken t = p.getCurrentToken();
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            String propName = p.getCurrentName();
+            p.nextToken(); // to point to value
+            // creator property?
+            SettableBeanProperty creatorProp = creator.findCreatorProperty(propName);
+            if (creatorProp != null) {
+                // Last creator property to set?
+                if (buffer.assignParameter(creatorProp,
+                        _deserializeWithErrorWrapping(p, ctxt, creatorProp))) {
+                    p.nextToken(); // to move to following FIELD_NAME/END_OBJECT
+                    Object bean;
+                    try {
+                        bean = creator.build(ctxt, buffer);
+                    } catch (Exception e) {
+                        wrapInstantiationProblem(e, ctxt);
+                        bean = null; // never gets here
+                    }
+                    if (bean == null) {
+                        throw ctxt.instantiationException(_beanType.getRawClass(), "JSON Creator returned null");
+                    }
+                    // [databind#631]: Assign current value, to be accessible by custom serializers
+                    p.setCurrentValue(bean);
+                    //  polymorphic?
+                    if (bean.getClass() != _beanType.getRawClass()) {
+                        return handlePolymorphic(p, ctxt, bean, unknown);
+                    }
+                    if (unknown != null) { // nope, just extra unknown stuff...
+                        bean = handleUnknownProperties(ctxt, bean, unknown);
+                    }
+                    // or just clean?
+                    return deserialize(p, ctxt, bean);
+                }
+                continue;
+            }
+            // regular property? needs buffering
+            SettableBeanProperty prop = _beanProperties.find(propName);
+            if (prop != null) {
+                buffer.bufferProperty(prop, _deserializeWithErrorWrapping(p, ctxt, prop));
+                continue;
+            }
+            // things marked as ignorable should not be passed to any setter
+            if (_ignorableProps != null && _ignorableProps.contains(propName)) {
+                handleIgnoredProperty(p, ctxt, handledType(), propName);
+                continue;
+            }
+            // "any property"?
+            if (_anySetter != null) {
+                try {
+                    buffer.bufferAnyProperty(_anySetter, propName, _anySetter.deserialize(p, ctxt));
+                } catch (Exception e) {
+                    wrapAndThrow(e, _beanType.getRawClass(), propName, ctxt);
+                }
+                continue;
+            }
+            // Ok then, let's collect the whole field; name and value
+            if (unknown == null) {
+                unknown = new TokenBuffer(p, ctxt);
+            }
+            unknown.writeFieldName(propName);
+            unknown.copyCurrentStructure(p);
+        }
+
+        // We hit END_OBJECT, so:
+        Object bean;
+        try {
+            bean =  creator.build(ctxt, buffer);
+        } catch (Exception e) {
+            wrapInstantiationProblem(e, ctxt);
+            bean = null; // never gets here
+        }
+        if (unknown != null) {
+            // polymorphic?
+            if (bean.getClass() != _beanType.getRawClass()) {
+                return handlePolymorphic(null, ctxt, bean, unknown);
+            }
+            // no, just some extra unknown properties
+            return handleUnknownProperties(ctxt, bean, unknown);
+        }
         return bean;
     }
+
+    /**
+     * Helper method called by {@link CreatorPropertyReader} if creator call
+     * fails: wraps exception same way as standard value instantiator and
+     * deserializer would.
+     */
+    final void _wrapCreatorProblem(Exception e, DeserializationContext ctxt) throws IOException
+    {
+        Throwable t = e;
+        if (!(e instanceof JsonMappingException)) {
+            String msg = String.format("Instantiation of %s value failed (%s): %s",
+                    _valueInstantiator.getValueTypeDesc(), e.getClass().getName(), e.getMessage());
+            t = JsonMappingException.from(ctxt.getParser(), msg, e);
+        }
+        wrapInstantiationProblem(t, ctxt);
+    }
+
+    /**
+     * Helper method called for properties not known to the bean: unless the
+     * property is to be ignored, values are passed directly to the "any setter",
+     * if there is one; otherwise handling is same as with standard deserializer.
+     */
+    private final void _handleUnknown(JsonParser p, DeserializationContext ctxt,
+            Object bean, String propName) throws IOException
+    {
+        if ((_anySetter != null)
+                && ((_ignorableProps == null) || !_ignorableProps.contains(propName))) {
+            try {
+                _anySetter.deserializeAndSet(p, ctxt, bean, propName);
+            } catch (Exception e) {
+                wrapAndThrow(e, bean, propName, ctxt);
+            }
+            return;
+        }
+        handleUnknownVanilla(p, ctxt, bean, propName);
+    }
+
+    private final static int _indexOf(SettableBeanProperty[] props, int count,
+            SettableBeanProperty prop)
+    {
+        for (int i = 0; i < count; ++i) {
+            if (props[i] == prop) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Helper method for constructing container for properties in given order,
+     * along with their names and generated reader (if enabled).
+     */
+    private OrderedProperties _orderedProperties(SettableBeanProperty[] props)
+    {
+        final int len = props.length;
+        SerializedString[] names = new SerializedString[len];
+        String[] nameStrs = new String[len];
+        for (int i = 0; i < len; ++i) {
+            nameStrs[i] = props[i].getName();
+            names[i] = new SerializedString(nameStrs[i]);
+        }
+        BeanPropertyReader reader = (_readerGenerator == null) ? null
+                : _readerGenerator.buildReader(this, props, names);
+        // with property-based creator, need to know where to continue after creation
+        int creatorCount = 0;
+        if (_propertyBasedCreator != null) {
+            while ((creatorCount < len)
+                    && (_propertyBasedCreator.findCreatorProperty(nameStrs[creatorCount]) != null)) {
+                ++creatorCount;
+            }
+        }
+        return new OrderedProperties(props, names, reader,
+                PropertyNameLookup.construct(nameStrs), creatorCount);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper classes
+    /**********************************************************
+     */
+
+    /**
+     * Immutable container for properties in expected order, their names,
+     * optional generated reader that binds them, and lookup table for
+     * finding properties that are not in expected order.
+     *
+     * @since 2.7.2
+     */
+    protected final static class OrderedProperties
+        implements java.io.Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        public final SettableBeanProperty[] properties;
+
+        public final SerializedString[] names;
+
+        /**
+         * Generated reader, if any; not serialized, so that deserialized
+         * instances will simply use non-generated matching.
+         */
+        public final transient BeanPropertyReader reader;
+
+        /**
+         * Perfect hash table from names to indexes of properties, if one
+         * could be constructed; not serialized, similar to {@link #reader}.
+         */
+        public final transient PropertyNameLookup lookup;
+
+        /**
+         * Number of leading properties that are passed to property-based
+         * creator (if any); that is, index of the property from which to
+         * continue after bean has been created.
+         */
+        public final int creatorPropertyCount;
+
+        public OrderedProperties(SettableBeanProperty[] props, SerializedString[] names,
+                BeanPropertyReader reader, PropertyNameLookup lookup, int creatorCount)
+        {
+            properties = props;
+            this.names = names;
+            this.reader = reader;
+            this.lookup = lookup;
+            creatorPropertyCount = creatorCount;
+        }
+    }
 }
@@ -2,13 +2,79 @@ package com.fasterxml.jackson.module.afterburner.deser;
 
 import java.util.*;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.*;
+import com.fasterxml.jackson.databind.deser.impl.BeanPropertyMap;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 
 public class SuperSonicDeserializerBuilder extends BeanDeserializerBuilder
 {
+    /**
+     * Generator for per-bean property readers, if use of generated
+     * readers is enabled; null if not.
+     *
+     * @since 2.7.2
+     */
+    protected final PropertyReaderGenerator _readerGenerator;
+
+    /**
+     * Object for learning actual order of properties, if adaptive
+     * ordering is enabled; null if not.
+     *
+     * @since 2.7.2
+     */
+    protected final AdaptivePropertyOrder _adaptiveOrder;
+
+    /**
+     * Optimizer for property-based creator, if bean has one; null if not.
+     *
+     * @since 2.7.2
+     */
+    protected final CreatorOptimizer _creatorOptimizer;
+
+    /**
+     * Mutator that can call build method of the Builder using generated code,
+     * if building a Builder-based deserializer; null if not.
+     *
+     * @since 2.7.2
+     */
+    protected final BeanPropertyMutator _buildMutator;
+
     public SuperSonicDeserializerBuilder(BeanDeserializerBuilder base) {
+        this(base, null, null, null);
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    public SuperSonicDeserializerBuilder(BeanDeserializerBuilder base,
+            PropertyReaderGenerator readerGenerator, AdaptivePropertyOrder adaptiveOrder,
+            CreatorOptimizer creatorOptimizer) {
+        this(base, readerGenerator, adaptiveOrder, creatorOptimizer, null);
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    public SuperSonicDeserializerBuilder(BeanDeserializerBuilder base,
+            PropertyReaderGenerator readerGenerator, AdaptivePropertyOrder adaptiveOrder,
+            CreatorOptimizer creatorOptimizer, BeanPropertyMutator buildMutator) {
         super(base);
+        _readerGenerator = readerGenerator;
+        _adaptiveOrder = adaptiveOrder;
+        _creatorOptimizer = creatorOptimizer;
+        _buildMutator = buildMutator;
+    }
+
+    /**
+     * Method for replacing "any setter" of the builder: unlike with
+     * {@link #setAnySetter}, existing one may be replaced.
+     *
+     * @since 2.7.2
+     */
+    public void replaceAnySetter(SettableAnyProperty anySetter) {
+        _anySetter = anySetter;
     }
 
     @Override
@@ -26,9 +92,46 @@ public class SuperSonicDeserializerBuilder extends BeanDeserializerBuilder
                 do {
                     props.add(it.next());
                 } while (it.hasNext());
-                return new SuperSonicBeanDeserializer(beanDeser, props);
+                return new SuperSonicBeanDeserializer(beanDeser, props, _readerGenerator, _adaptiveOrder,
+                        _creatorOptimizer);
             }
         }
         return deser;
     }
+
+    @Override
+    public JsonDeserializer<?> buildBuilderBased(JavaType valueType, String expBuildMethodName)
+    {
+        JsonDeserializer<?> deser = super.buildBuilderBased(valueType, expBuildMethodName);
+        if ((_buildMutator == null) || (_buildMethod == null) || (_objectIdReader != null)
+                || (deser.getClass() != BuilderBasedDeserializer.class)) {
+            return deser;
+        }
+        /* Build method is to be called by generated code, so need a variant that
+         * just returns Builder. Can not simply call 'super.buildBuilderBased()' again,
+         * as properties already have their indexes assigned.
+         */
+        Collection<SettableBeanProperty> props = _properties.values();
+        BeanPropertyMap propertyMap = BeanPropertyMap.construct(props, _caseInsensitivePropertyComparison);
+        boolean anyViews = !_defaultViewInclusion;
+        if (!anyViews) {
+            for (SettableBeanProperty prop : props) {
+                if (prop.hasViews()) {
+                    anyViews = true;
+                    break;
+                }
+            }
+        }
+        AnnotatedMethod buildMethod = _buildMethod;
+        _buildMethod = null;
+        BuilderBasedDeserializer noBuildDeser;
+        try {
+            noBuildDeser = new BuilderBasedDeserializer(this, _beanDesc, propertyMap,
+                    _backRefProperties, _ignorableProps, _ignoreAllUnknown, anyViews);
+        } finally {
+            _buildMethod = buildMethod;
+        }
+        return new OptimizedBuilderBasedDeserializer(noBuildDeser,
+                (BuilderBasedDeserializer) deser, buildMethod, _buildMutator);
+    }
 }
@@ -0,0 +1,149 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.json.JsonWriteContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+/**
+ * Abstract class that defines interface for generated per-bean-type
+ * writers, which write all properties of a bean using straight-line code:
+ * for simple properties (primitives, {@link String}s) accessing the value,
+ * checking inclusion criteria and writing name and value are all inlined,
+ * instead of being dispatched through {@link BeanPropertyWriter} and
+ * {@link BeanPropertyAccessor} instances. Other properties are written by
+ * calling their writers, from a call site specific to each property.
+ *
+ * @since 2.7.2
+ */
+public abstract class BeanFieldsWriter
+{
+    /**
+     * Serializer that uses this writer; needed for error reporting
+     */
+    protected final BeanSerializerBase _serializer;
+
+    /**
+     * Properties to write, with indexes matching those used by
+     * the generated code.
+     */
+    protected final BeanPropertyWriter[] _properties;
+
+    /**
+     * Pre-encoded names of {@link #_properties}
+     */
+    protected final SerializableString[] _propertyNames;
+
+    /**
+     * Pre-encoded separators for {@link #_properties} (comma, followed by
+     * quoted name), to be written as raw content by generated code when
+     * it is known that a comma is needed; only used with
+     * {@link #_rawContext}.
+     */
+    protected final SerializableString[] _rawPropertyNames;
+
+    /*
+    /**********************************************************************
+    /* Life-cycle methods
+    /**********************************************************************
+     */
+
+    /**
+     * Default constructor used for creating a "blueprint" instance, from
+     * which per-serializer instances specialize.
+     */
+    protected BeanFieldsWriter() {
+        this(null, null);
+    }
+
+    protected BeanFieldsWriter(BeanSerializerBase ser, BeanPropertyWriter[] props)
+    {
+        _serializer = ser;
+        _properties = props;
+        if (props == null) {
+            _propertyNames = null;
+            _rawPropertyNames = null;
+        } else {
+            final JsonStringEncoder enc = JsonStringEncoder.getInstance();
+            _propertyNames = new SerializableString[props.length];
+            _rawPropertyNames = new SerializableString[props.length];
+            for (int i = 0; i < props.length; ++i) {
+                _propertyNames[i] = props[i].getSerializedName();
+                _rawPropertyNames[i] = new SerializedString(",\""
+                        +new String(enc.quoteAsString(props[i].getName()))+"\"");
+            }
+        }
+    }
+
+    /**
+     * Mutant factory method called to create the actual writer instance
+     * to use, from the blueprint instance.
+     */
+    public abstract BeanFieldsWriter with(BeanSerializerBase ser, BeanPropertyWriter[] props);
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method that writes all properties of given bean as fields of the
+     * current JSON Object; equivalent to
+     * {@link BeanSerializerBase#serializeFields} without filters
+     * or "any getter". Writers for specific views are built with
+     * the set of properties visible in that view.
+     */
+    public abstract void serializeFields(Object bean, JsonGenerator gen,
+            SerializerProvider provider) throws IOException;
+
+    /*
+    /**********************************************************************
+    /* Helper methods called from generated code
+    /**********************************************************************
+     */
+
+    /**
+     * Method called by generated code (if raw names are enabled) to check
+     * whether names can be written as raw content using
+     * {@link #_rawPropertyNames}: this is only the case with standard JSON
+     * generators that use no pretty printer and quote names.
+     *
+     * @return Output context to update when writing names, if raw names
+     *   can be used; null if not
+     */
+    protected final static JsonWriteContext _rawContext(JsonGenerator gen)
+    {
+        if ((gen instanceof JsonGeneratorImpl) && (gen.getPrettyPrinter() == null)
+                && gen.isEnabled(JsonGenerator.Feature.QUOTE_FIELD_NAMES)) {
+            return ((JsonGeneratorImpl) gen).getOutputContext();
+        }
+        return null;
+    }
+
+    /**
+     * Method called by generated code when writing of property with
+     * given index fails; reports problem the same way as
+     * {@link BeanSerializerBase} would.
+     */
+    protected final void _wrapAndThrow(Throwable t, Object bean, int index,
+            JsonGenerator gen, SerializerProvider provider) throws IOException
+    {
+        final String name = _properties[index].getName();
+        if (t instanceof StackOverflowError) {
+            // as with databind, avoid "from" method, as there are few frames to spare
+            JsonMappingException mapE = new JsonMappingException(gen, "Infinite recursion (StackOverflowError)", t);
+            mapE.prependPath(new JsonMappingException.Reference(bean, name));
+            throw mapE;
+        }
+        _serializer.wrapAndThrow(provider, t, bean, name);
+    }
+}
@@ -24,6 +24,55 @@ public abstract class BeanPropertyAccessor
         throw new UnsupportedOperationException("No objectGetters defined");
     }
 
+    /** @since 2.7.2 */
+    public double doubleGetter(Object bean, int property) {
+        throw new UnsupportedOperationException("No doubleGetters defined");
+    }
+    public float floatGetter(Object bean, int property) {
+        throw new UnsupportedOperationException("No floatGetters defined");
+    }
+    public short shortGetter(Object bean, int property) {
+        throw new UnsupportedOperationException("No shortGetters defined");
+    }
+    public byte byteGetter(Object bean, int property) {
+        throw new UnsupportedOperationException("No byteGetters defined");
+    }
+    public char charGetter(Object bean, int property) {
+        throw new UnsupportedOperationException("No charGetters defined");
+    }
+
+    /**
+     * Method for calling the "any getter" method of a bean, if one was
+     * registered for the accessor class.
+     *
+     * @since 2.7.2
+     */
+    public Object anyGetter(Object bean) {
+        throw new UnsupportedOperationException("No any getter defined");
+    }
+
+    /**
+     * Methods for calling the "value method" of a bean (one used for
+     * serializing the whole bean as a single value), if one was registered
+     * for the accessor class. Only the method matching the return type
+     * of the value method is implemented: {@link #objectValueGetter} is used
+     * for all reference types other than {@link java.lang.String}.
+     *
+     * @since 2.7.2
+     */
+    public Object objectValueGetter(Object bean) {
+        throw new UnsupportedOperationException("No objectValueGetter defined");
+    }
+    public String stringValueGetter(Object bean) {
+        throw new UnsupportedOperationException("No stringValueGetter defined");
+    }
+    public int intValueGetter(Object bean) {
+        throw new UnsupportedOperationException("No intValueGetter defined");
+    }
+    public long longValueGetter(Object bean) {
+        throw new UnsupportedOperationException("No longValueGetter defined");
+    }
+
     /** @since 2.5 */
     public boolean booleanField(Object bean, int property) {
         throw new UnsupportedOperationException("No booleanFields defined");
@@ -40,4 +89,21 @@ public abstract class BeanPropertyAccessor
     public Object objectField(Object bean, int property) {
         throw new UnsupportedOperationException("No objectFields defined");
     }
+
+    /** @since 2.7.2 */
+    public double doubleField(Object bean, int property) {
+        throw new UnsupportedOperationException("No doubleFields defined");
+    }
+    public float floatField(Object bean, int property) {
+        throw new UnsupportedOperationException("No floatFields defined");
+    }
+    public short shortField(Object bean, int property) {
+        throw new UnsupportedOperationException("No shortFields defined");
+    }
+    public byte byteField(Object bean, int property) {
+        throw new UnsupportedOperationException("No byteFields defined");
+    }
+    public char charField(Object bean, int property) {
+        throw new UnsupportedOperationException("No charFields defined");
+    }
 }
@@ -0,0 +1,127 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+
+/**
+ * Writer for nullable {@link java.lang.Double} valued properties: handles
+ * nulls inline, and writes non-null values directly without dynamic
+ * serializer lookup.
+ *
+ * @since 2.7.2
+ */
+public final class BoxedDoubleMethodPropertyWriter
+    extends OptimizedBeanPropertyWriter<BoxedDoubleMethodPropertyWriter>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final double _suppressableDouble;
+    private final boolean _suppressableDoubleSet;
+
+    public BoxedDoubleMethodPropertyWriter(BeanPropertyWriter src, BeanPropertyAccessor acc, int index,
+            JsonSerializer<Object> ser) {
+        super(src, acc, index, ser);
+
+        if (_suppressableValue instanceof Double) {
+            _suppressableDouble = ((Double)_suppressableValue).doubleValue();
+            _suppressableDoubleSet = true;
+        } else {
+            _suppressableDouble = 0.0;
+            _suppressableDoubleSet = false;
+        }
+    }
+
+    @Override
+    public BeanPropertyWriter withSerializer(JsonSerializer<Object> ser) {
+        return new BoxedDoubleMethodPropertyWriter(this, _propertyAccessor, _propertyIndex, ser);
+    }
+
+    @Override
+    public BoxedDoubleMethodPropertyWriter withAccessor(BeanPropertyAccessor acc) {
+        if (acc == null) throw new IllegalArgumentException();
+        return new BoxedDoubleMethodPropertyWriter(this, acc, _propertyIndex, _serializer);
+    }
+
+    /*
+    /**********************************************************
+    /* Overrides
+    /**********************************************************
+     */
+
+    @Override
+    public final void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken) {
+            fallbackWriter.serializeAsField(bean, gen, prov);
+            return;
+        }
+        Double value;
+        try {
+            value = (Double) _propertyAccessor.objectGetter(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, false);
+            return;
+        }
+        // Null (etc) handling; copied from super-class impl
+        if (value == null) {
+            if (_nullSerializer != null) {
+                gen.writeFieldName(_fastName);
+                _nullSerializer.serialize(null, gen, prov);
+            } else if (!_suppressNulls) {
+                gen.writeFieldName(_fastName);
+                prov.defaultSerializeNull(gen);
+            }
+            return;
+        }
+        double v = value.doubleValue();
+        if (!_suppressableDoubleSet || Double.doubleToLongBits(_suppressableDouble) != Double.doubleToLongBits(v)) {
+            gen.writeFieldName(_fastName);
+            gen.writeNumber(v);
+        }
+    }
+
+    @Override
+    public final void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken) {
+            fallbackWriter.serializeAsElement(bean, gen, prov);
+            return;
+        }
+        Double value;
+        try {
+            value = (Double) _propertyAccessor.objectGetter(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, true);
+            return;
+        }
+        if (value == null) {
+            if (_nullSerializer != null) {
+                _nullSerializer.serialize(null, gen, prov);
+            } else if (_suppressNulls) {
+                serializeAsPlaceholder(bean, gen, prov);
+            } else {
+                prov.defaultSerializeNull(gen);
+            }
+            return;
+        }
+        double v = value.doubleValue();
+        if (!_suppressableDoubleSet || Double.doubleToLongBits(_suppressableDouble) != Double.doubleToLongBits(v)) {
+            gen.writeNumber(v);
+        } else { // important: MUST output a placeholder
+            serializeAsPlaceholder(bean, gen, prov);
+        }
+    }
+
+    /**
+     * Only the standard serializer is compatible with direct writes; anything
+     * else (like one created for <code>@JsonFormat(shape=STRING)</code>)
+     * requires use of the fallback writer.
+     */
+    @Override
+    protected boolean isDefaultSerializer(JsonSerializer<?> ser) {
+        return (ser == null) || (ser.getClass() == NumberSerializers.DoubleSerializer.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+
+public final class ByteFieldPropertyWriter
+    extends OptimizedBeanPropertyWriter<ByteFieldPropertyWriter>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final byte _suppressableByte;
+    private final boolean _suppressableByteSet;
+
+    public ByteFieldPropertyWriter(BeanPropertyWriter src, BeanPropertyAccessor acc, int index,
+            JsonSerializer<Object> ser) {
+        super(src, acc, index, ser);
+
+        if (_suppressableValue instanceof Byte) {
+            _suppressableByte = ((Byte)_suppressableValue).byteValue();
+            _suppressableByteSet = true;
+        } else {
+            _suppressableByte = 0;
+            _suppressableByteSet = false;
+        }
+    }
+
+    @Override
+    public BeanPropertyWriter withSerializer(JsonSerializer<Object> ser) {
+        return new ByteFieldPropertyWriter(this, _propertyAccessor, _propertyIndex, ser);
+    }
+    
+    @Override
+    public ByteFieldPropertyWriter withAccessor(BeanPropertyAccessor acc) {
+        if (acc == null) throw new IllegalArgumentException();
+        return new ByteFieldPropertyWriter(this, acc, _propertyIndex, _serializer);
+    }
+
+    /*
+    /**********************************************************
+    /* Overrides
+    /**********************************************************
+     */
+
+    @Override
+    public final void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken) {
+            fallbackWriter.serializeAsField(bean, gen, prov);
+            return;
+        }
+        byte value;
+        try {
+            value = _propertyAccessor.byteField(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, false);
+            return;
+        }
+        if (!_suppressableByteSet || _suppressableByte != value) {
+            gen.writeFieldName(_fastName);
+            gen.writeNumber((int) value);
+        }
+    }
+
+    @Override
+    public final void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken) {
+            fallbackWriter.serializeAsElement(bean, gen, prov);
+            return;
+        }
+        byte value;
+        try {
+            value = _propertyAccessor.byteField(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, true);
+            return;
+        }
+        if (!_suppressableByteSet || _suppressableByte != value) {
+            gen.writeNumber((int) value);
+        } else { // important: MUST output a placeholder
+            serializeAsPlaceholder(bean, gen, prov);
+        }
+    }
+}
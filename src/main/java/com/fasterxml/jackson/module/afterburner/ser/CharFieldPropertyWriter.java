@@ -0,0 +1,86 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+
+public final class CharFieldPropertyWriter
+    extends OptimizedBeanPropertyWriter<CharFieldPropertyWriter>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final char _suppressableChar;
+    private final boolean _suppressableCharSet;
+
+    public CharFieldPropertyWriter(BeanPropertyWriter src, BeanPropertyAccessor acc, int index,
+            JsonSerializer<Object> ser) {
+        super(src, acc, index, ser);
+
+        if (_suppressableValue instanceof Character) {
+            _suppressableChar = ((Character)_suppressableValue).charValue();
+            _suppressableCharSet = true;
+        } else {
+            _suppressableChar = '\0';
+            _suppressableCharSet = false;
+        }
+    }
+
+    @Override
+    public BeanPropertyWriter withSerializer(JsonSerializer<Object> ser) {
+        return new CharFieldPropertyWriter(this, _propertyAccessor, _propertyIndex, ser);
+    }
+    
+    @Override
+    public CharFieldPropertyWriter withAccessor(BeanPropertyAccessor acc) {
+        if (acc == null) throw new IllegalArgumentException();
+        return new CharFieldPropertyWriter(this, acc, _propertyIndex, _serializer);
+    }
+
+    /*
+    /**********************************************************
+    /* Overrides
+    /**********************************************************
+     */
+
+    @Override
+    public final void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken) {
+            fallbackWriter.serializeAsField(bean, gen, prov);
+            return;
+        }
+        char value;
+        try {
+            value = _propertyAccessor.charField(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, false);
+            return;
+        }
+        if (!_suppressableCharSet || _suppressableChar != value) {
+            gen.writeFieldName(_fastName);
+            gen.writeString(String.valueOf(value));
+        }
+    }
+
+    @Override
+    public final void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken) {
+            fallbackWriter.serializeAsElement(bean, gen, prov);
+            return;
+        }
+        char value;
+        try {
+            value = _propertyAccessor.charField(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, true);
+            return;
+        }
+        if (!_suppressableCharSet || _suppressableChar != value) {
+            gen.writeString(String.valueOf(value));
+        } else { // important: MUST output a placeholder
+            serializeAsPlaceholder(bean, gen, prov);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+
+public final class DoubleMethodPropertyWriter
+    extends OptimizedBeanPropertyWriter<DoubleMethodPropertyWriter>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final double _suppressableDouble;
+    private final boolean _suppressableDoubleSet;
+
+    public DoubleMethodPropertyWriter(BeanPropertyWriter src, BeanPropertyAccessor acc, int index,
+            JsonSerializer<Object> ser) {
+        super(src, acc, index, ser);
+
+        if (_suppressableValue instanceof Double) {
+            _suppressableDouble = ((Double)_suppressableValue).doubleValue();
+            _suppressableDoubleSet = true;
+        } else {
+            _suppressableDouble = 0.0;
+            _suppressableDoubleSet = false;
+        }
+    }
+
+    @Override
+    public BeanPropertyWriter withSerializer(JsonSerializer<Object> ser) {
+        return new DoubleMethodPropertyWriter(this, _propertyAccessor, _propertyIndex, ser);
+    }
+    
+    @Override
+    public DoubleMethodPropertyWriter withAccessor(BeanPropertyAccessor acc) {
+        if (acc == null) throw new IllegalArgumentException();
+        return new DoubleMethodPropertyWriter(this, acc, _propertyIndex, _serializer);
+    }
+
+    /*
+    /**********************************************************
+    /* Overrides
+    /**********************************************************
+     */
+
+    @Override
+    public final void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken) {
+            fallbackWriter.serializeAsField(bean, gen, prov);
+            return;
+        }
+        double value;
+        try {
+            value = _propertyAccessor.doubleGetter(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, false);
+            return;
+        }
+        if (!_suppressableDoubleSet || Double.doubleToLongBits(_suppressableDouble) != Double.doubleToLongBits(value)) {
+            gen.writeFieldName(_fastName);
+            gen.writeNumber(value);
+        }
+    }
+
+    @Override
+    public final void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken) {
+            fallbackWriter.serializeAsElement(bean, gen, prov);
+            return;
+        }
+        double value;
+        try {
+            value = _propertyAccessor.doubleGetter(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, true);
+            return;
+        }
+        if (!_suppressableDoubleSet || Double.doubleToLongBits(_suppressableDouble) != Double.doubleToLongBits(value)) {
+            gen.writeNumber(value);
+        } else { // important: MUST output a placeholder
+            serializeAsPlaceholder(bean, gen, prov);
+        }
+    }
+}
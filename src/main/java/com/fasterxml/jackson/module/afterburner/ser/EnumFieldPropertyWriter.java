@@ -0,0 +1,191 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.EnumSerializer;
+import com.fasterxml.jackson.databind.ser.std.JsonValueSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Writer for Enum valued properties: writes pre-encoded names, indexed by
+ * ordinal, instead of calling serializer for each value.
+ *<p>
+ * Names are captured from the standard serializer ({@link EnumSerializer},
+ * or {@link JsonValueSerializer} for Enums with <code>@JsonValue</code>) the
+ * first time a value is written, so they are the same as what the serializer
+ * would write; this also covers renaming, as well as shape overrides (in which
+ * case serializer keeps on being used). Serializer is also used whenever
+ * {@link SerializationFeature#WRITE_ENUMS_USING_INDEX} or
+ * {@link SerializationFeature#WRITE_ENUMS_USING_TO_STRING} is enabled.
+ *
+ * @since 2.7.2
+ */
+public final class EnumFieldPropertyWriter
+    extends OptimizedBeanPropertyWriter<EnumFieldPropertyWriter>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final static int FEATURES_FOR_SERIALIZER = SerializationFeature.WRITE_ENUMS_USING_INDEX.getMask()
+            | SerializationFeature.WRITE_ENUMS_USING_TO_STRING.getMask();
+
+    /**
+     * Marker used to indicate that serializer does not write Enums as Strings
+     */
+    private final static SerializableString[] NO_NAMES = new SerializableString[0];
+
+    /**
+     * Names to write, indexed by ordinal; null until first value is written.
+     */
+    private transient volatile SerializableString[] _names;
+
+    public EnumFieldPropertyWriter(BeanPropertyWriter src, BeanPropertyAccessor acc, int index,
+            JsonSerializer<Object> ser) {
+        super(src, acc, index, ser);
+    }
+
+    @Override
+    public BeanPropertyWriter withSerializer(JsonSerializer<Object> ser) {
+        return new EnumFieldPropertyWriter(this, _propertyAccessor, _propertyIndex, ser);
+    }
+
+    @Override
+    public EnumFieldPropertyWriter withAccessor(BeanPropertyAccessor acc) {
+        if (acc == null) throw new IllegalArgumentException();
+        return new EnumFieldPropertyWriter(this, acc, _propertyIndex, _serializer);
+    }
+
+    /*
+    /**********************************************************
+    /* Overrides
+    /**********************************************************
+     */
+
+    @Override
+    public final void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken || (_serializer == null)) {
+            fallbackWriter.serializeAsField(bean, gen, prov);
+            return;
+        }
+        Enum<?> value;
+        try {
+            value = (Enum<?>) _propertyAccessor.objectField(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, false);
+            return;
+        }
+        // Null (etc) handling; copied from super-class impl
+        if (value == null) {
+            if (_nullSerializer != null) {
+                gen.writeFieldName(_fastName);
+                _nullSerializer.serialize(null, gen, prov);
+            } else if (!_suppressNulls) {
+                gen.writeFieldName(_fastName);
+                prov.defaultSerializeNull(gen);
+            }
+            return;
+        }
+        // (non-null Enums are never "empty", so only need to check actual value)
+        if (value.equals(_suppressableValue)) {
+            return;
+        }
+        gen.writeFieldName(_fastName);
+        SerializableString[] names = _findNames(value, prov);
+        if (names == NO_NAMES) {
+            _serializer.serialize(value, gen, prov);
+        } else {
+            gen.writeString(names[value.ordinal()]);
+        }
+    }
+
+    @Override
+    public final void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (broken || (_serializer == null)) {
+            fallbackWriter.serializeAsElement(bean, gen, prov);
+            return;
+        }
+        Enum<?> value;
+        try {
+            value = (Enum<?>) _propertyAccessor.objectField(bean, _propertyIndex);
+        } catch (Throwable t) {
+            _handleProblem(bean, gen, prov, t, true);
+            return;
+        }
+        if (value == null) {
+            if (_nullSerializer != null) {
+                _nullSerializer.serialize(null, gen, prov);
+            } else if (_suppressNulls) {
+                serializeAsPlaceholder(bean, gen, prov);
+            } else {
+                prov.defaultSerializeNull(gen);
+            }
+            return;
+        }
+        if (value.equals(_suppressableValue)) {
+            serializeAsPlaceholder(bean, gen, prov);
+            return;
+        }
+        SerializableString[] names = _findNames(value, prov);
+        if (names == NO_NAMES) {
+            _serializer.serialize(value, gen, prov);
+        } else {
+            gen.writeString(names[value.ordinal()]);
+        }
+    }
+
+    /**
+     * Only the standard serializers are known to write Enums in a way that
+     * can be captured.
+     */
+    @Override
+    protected boolean isDefaultSerializer(JsonSerializer<?> ser) {
+        return (ser == null) || (ser.getClass() == EnumSerializer.class)
+                || (ser.getClass() == JsonValueSerializer.class);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private SerializableString[] _findNames(Enum<?> value, SerializerProvider prov) throws IOException
+    {
+        final SerializationConfig config = prov.getConfig();
+        if ((config.getSerializationFeatures() & FEATURES_FOR_SERIALIZER) != 0) {
+            return NO_NAMES;
+        }
+        SerializableString[] names = _names;
+        if (names == null) {
+            names = _captureNames(value.getDeclaringClass().getEnumConstants(), prov);
+            _names = names;
+        }
+        return names;
+    }
+
+    private SerializableString[] _captureNames(Enum<?>[] enums, SerializerProvider prov) throws IOException
+    {
+        final SerializationConfig config = prov.getConfig();
+        SerializableString[] names = new SerializableString[enums.length];
+        for (int i = 0; i < enums.length; ++i) {
+            TokenBuffer buffer = new TokenBuffer(null, false);
+            _serializer.serialize(enums[i], buffer, prov);
+            JsonParser p = buffer.asParser();
+            if (p.nextToken() != JsonToken.VALUE_STRING) {
+                return NO_NAMES;
+            }
+            names[i] = config.compileString(p.getText());
+        }
+        return names;
+    }
+}
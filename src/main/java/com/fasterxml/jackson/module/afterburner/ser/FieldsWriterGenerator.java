@@ -0,0 +1,616 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.objectweb.asm.*;
+
+import static org.objectweb.asm.Opcodes.*;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.json.JsonWriteContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.module.afterburner.util.ClassName;
+import com.fasterxml.jackson.module.afterburner.util.DynamicPropertyAccessorBase;
+import com.fasterxml.jackson.module.afterburner.util.MyClassLoader;
+
+/**
+ * Helper class that generates a {@link BeanFieldsWriter} implementation
+ * for given bean type and set of properties: generated code has one
+ * unrolled block per property, with direct field accesses and getter calls
+ * for simple properties, and inclusion criteria compiled in as constants.
+ * For other (Object-valued) properties null handling is inlined, and
+ * non-null values are passed to a writer method specific to the inclusion
+ * mode of the property, so that no inclusion checks are done at runtime
+ * for properties that do not need them.
+ * Optionally names may also be written as pre-encoded raw content
+ * (see {@link BeanFieldsWriter#_rawPropertyNames}), whenever it is known
+ * that a preceding property has been written.
+ *
+ * @since 2.7.2
+ */
+public class FieldsWriterGenerator
+    extends DynamicPropertyAccessorBase
+{
+    // Local variable slots used by generated 'serializeFields()'
+    private final static int VAR_BEAN = 1;
+    private final static int VAR_GEN = 2;
+    private final static int VAR_PROVIDER = 3;
+    private final static int VAR_TYPED_BEAN = 4;
+    private final static int VAR_INDEX = 5;
+    private final static int VAR_EXCEPTION = 6;
+    private final static int VAR_CONTEXT = 7;
+    private final static int VAR_VALUE = 8; // note: 2 slots for long, double
+
+    // Results of generating inline code for a property
+    private final static int NOT_INLINED = 0;
+    private final static int INLINED = 1;
+    private final static int INLINED_ALWAYS_WRITTEN = 2;
+
+    private final static String GEN_CLASS = Type.getInternalName(JsonGenerator.class);
+    private final static String GEN_DESC = Type.getDescriptor(JsonGenerator.class);
+    private final static String PROVIDER_CLASS = Type.getInternalName(SerializerProvider.class);
+    private final static String PROVIDER_DESC = Type.getDescriptor(SerializerProvider.class);
+    private final static String NAMES_DESC = Type.getDescriptor(SerializableString[].class);
+    private final static String PROPS_DESC = Type.getDescriptor(BeanPropertyWriter[].class);
+
+    protected final Class<?> _beanClass;
+
+    protected final String _beanClassName;
+
+    /**
+     * Class loader to use for generated classes; if null, will try to
+     * use class loader of the target class.
+     */
+    protected final MyClassLoader _classLoader;
+
+    /**
+     * Whether generated code should write names as raw content, where possible
+     */
+    protected final boolean _useRawNames;
+
+    public FieldsWriterGenerator(Class<?> beanClass, MyClassLoader classLoader) {
+        this(beanClass, classLoader, false);
+    }
+
+    public FieldsWriterGenerator(Class<?> beanClass, MyClassLoader classLoader,
+            boolean useRawNames)
+    {
+        _beanClass = beanClass;
+        _beanClassName = Type.getInternalName(beanClass);
+        _classLoader = classLoader;
+        _useRawNames = useRawNames;
+    }
+
+    /*
+    /**********************************************************
+    /* Code generation; high level
+    /**********************************************************
+     */
+
+    /**
+     * Method for building writer for given properties.
+     *
+     * @return Writer to use, if one could be generated; null if not
+     *   (typically since generated class could not be loaded in a way
+     *   that allows access to all properties)
+     */
+    public BeanFieldsWriter buildWriter(BeanSerializerBase ser, BeanPropertyWriter[] props)
+    {
+        MyClassLoader classLoader = _classLoader;
+        // if we weren't passed a class loader, we will base it on value type CL, try to use parent
+        if (classLoader == null) {
+            classLoader = MyClassLoader.sharedLoaderFor(_beanClass, true);
+        }
+        final ClassName baseName = ClassName.constructFor(_beanClass, "$Writer4JacksonSerializer");
+        Class<?> writerClass = generateWriterClass(classLoader, baseName, props);
+        // Unless we got to define it in the same package as bean, can only access public stuff
+        if ((writerClass.getClassLoader() != _beanClass.getClassLoader())
+                && !_allPublic(props)) {
+            return null;
+        }
+        try {
+            BeanFieldsWriter blueprint = (BeanFieldsWriter) writerClass.newInstance();
+            return blueprint.with(ser, props);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to generate writer class '"+writerClass.getName()+"': "+e.getMessage(), e);
+        }
+    }
+
+    public Class<?> generateWriterClass(MyClassLoader classLoader, ClassName baseName,
+            BeanPropertyWriter[] props)
+    {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        String superClass = internalClassName(BeanFieldsWriter.class.getName());
+        final String tmpClassName = baseName.getSlashedTemplate();
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER + ACC_FINAL, tmpClassName,
+                null, superClass, null);
+        cw.visitSource(baseName.getSourceFilename(), null);
+
+        // add default (no-arg) constructor first
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+
+        // then two-argument constructor to be used by "with"
+        final String argsDesc = Type.getDescriptor(BeanSerializerBase.class) + PROPS_DESC;
+        final String ctorSig = "("+argsDesc+")V";
+        mv = cw.visitMethod(ACC_PUBLIC, "<init>", ctorSig, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "<init>", ctorSig, false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // same signature as 2-arg constructor:
+        mv = cw.visitMethod(ACC_PUBLIC, "with", "("+argsDesc+")L"+superClass+";", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, tmpClassName);
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitMethodInsn(INVOKESPECIAL, tmpClassName, "<init>", ctorSig, false);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        _addSerializeFields(cw, superClass, props);
+
+        cw.visitEnd();
+        byte[] bytecode = cw.toByteArray();
+        baseName.assignChecksum(bytecode);
+        // already defined exactly as-is?
+        try {
+            return classLoader.loadClass(baseName.getDottedName());
+        } catch (ClassNotFoundException e) { }
+        // if not, load, resolve etc:
+        return classLoader.loadAndResolve(baseName, bytecode);
+    }
+
+    /*
+    /**********************************************************
+    /* Code generation; property writing
+    /**********************************************************
+     */
+
+    private void _addSerializeFields(ClassWriter cw, String superClass, BeanPropertyWriter[] props)
+    {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "serializeFields",
+                "(Ljava/lang/Object;"+GEN_DESC+PROVIDER_DESC+")V", null,
+                new String[] { "java/io/IOException" });
+        mv.visitCode();
+
+        final Label start = new Label();
+        final Label end = new Label();
+        final Label handler = new Label();
+        // try-catch block must be declared before its labels are visited
+        // (and can not be empty, as may happen with views)
+        final boolean hasProps = (props.length > 0);
+        if (hasProps) {
+            mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+        }
+
+        // first: cast bean to proper type
+        mv.visitVarInsn(ALOAD, VAR_BEAN);
+        mv.visitTypeInsn(CHECKCAST, _beanClassName);
+        mv.visitVarInsn(ASTORE, VAR_TYPED_BEAN);
+        // and index, for error reporting
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ISTORE, VAR_INDEX);
+        // as well as context to update, if raw names are to be written
+        if (_useRawNames) {
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitMethodInsn(INVOKESTATIC, superClass, "_rawContext",
+                    "("+GEN_DESC+")"+Type.getDescriptor(JsonWriteContext.class), false);
+            mv.visitVarInsn(ASTORE, VAR_CONTEXT);
+        }
+
+        mv.visitLabel(start);
+        // raw names can only be used once we know that there is a preceding field
+        boolean fieldWritten = false;
+        for (int i = 0, len = props.length; i < len; ++i) {
+            generateIntConstant(mv, i);
+            mv.visitVarInsn(ISTORE, VAR_INDEX);
+            int result = _addInlineWrite(mv, superClass, props[i], i, _useRawNames && fieldWritten);
+            if (result == NOT_INLINED) {
+                _addWriterCall(mv, superClass, i);
+            } else if (result == INLINED_ALWAYS_WRITTEN) {
+                fieldWritten = true;
+            }
+        }
+        mv.visitLabel(end);
+        mv.visitInsn(RETURN);
+
+        // and finally exception handler that calls '_wrapAndThrow(t, bean, index, gen, provider)'
+        if (hasProps) {
+            mv.visitLabel(handler);
+            mv.visitVarInsn(ASTORE, VAR_EXCEPTION);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, VAR_EXCEPTION);
+            mv.visitVarInsn(ALOAD, VAR_BEAN);
+            mv.visitVarInsn(ILOAD, VAR_INDEX);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ALOAD, VAR_PROVIDER);
+            mv.visitMethodInsn(INVOKEVIRTUAL, superClass, "_wrapAndThrow",
+                    "(Ljava/lang/Throwable;Ljava/lang/Object;I"+GEN_DESC+PROVIDER_DESC+")V", false);
+            mv.visitInsn(RETURN);
+        }
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+    }
+
+    // _properties[index].serializeAsField(bean, gen, provider);
+    private void _addWriterCall(MethodVisitor mv, String superClass, int index)
+    {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, superClass, "_properties", PROPS_DESC);
+        generateIntConstant(mv, index);
+        mv.visitInsn(AALOAD);
+        mv.visitVarInsn(ALOAD, VAR_BEAN);
+        mv.visitVarInsn(ALOAD, VAR_GEN);
+        mv.visitVarInsn(ALOAD, VAR_PROVIDER);
+        mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(BeanPropertyWriter.class),
+                "serializeAsField", "(Ljava/lang/Object;"+GEN_DESC+PROVIDER_DESC+")V", false);
+    }
+
+    /**
+     * Method that generates inline code for accessing and writing value of
+     * given property, if it is one of kinds that can be handled that way.
+     *
+     * @param rawName Whether name may be written as raw content
+     *
+     * @return {@link #NOT_INLINED} if property is to be written by its writer;
+     *   {@link #INLINED_ALWAYS_WRITTEN} if code was generated and it always
+     *   writes the property, {@link #INLINED} otherwise
+     */
+    private int _addInlineWrite(MethodVisitor mv, String superClass,
+            BeanPropertyWriter prop, int index, boolean rawName)
+    {
+        if (!(prop instanceof OptimizedBeanPropertyWriter<?>)) {
+            return NOT_INLINED;
+        }
+        final OptimizedBeanPropertyWriter<?> w = (OptimizedBeanPropertyWriter<?>) prop;
+        final Member member = prop.getMember().getMember();
+        if (w.broken || !_canAccess(member)) {
+            return NOT_INLINED;
+        }
+        final Object suppressable = w._getSuppressableValue();
+        final Class<?> writerClass = prop.getClass();
+        final Label skip = new Label();
+        boolean alwaysWritten = true;
+
+        if (writerClass == IntFieldPropertyWriter.class
+                || writerClass == IntMethodPropertyWriter.class) {
+            _addGetValue(mv, member, Type.INT_TYPE);
+            mv.visitVarInsn(ISTORE, VAR_VALUE);
+            if (suppressable instanceof Integer) {
+                alwaysWritten = false;
+                mv.visitVarInsn(ILOAD, VAR_VALUE);
+                generateIntConstant(mv, ((Integer) suppressable).intValue());
+                mv.visitJumpInsn(IF_ICMPEQ, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ILOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeNumber", "(I)V", false);
+        } else if (writerClass == LongFieldPropertyWriter.class
+                || writerClass == LongMethodPropertyWriter.class) {
+            _addGetValue(mv, member, Type.LONG_TYPE);
+            mv.visitVarInsn(LSTORE, VAR_VALUE);
+            if (suppressable instanceof Long) {
+                alwaysWritten = false;
+                mv.visitVarInsn(LLOAD, VAR_VALUE);
+                mv.visitLdcInsn(suppressable);
+                mv.visitInsn(LCMP);
+                mv.visitJumpInsn(IFEQ, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(LLOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeNumber", "(J)V", false);
+        } else if (writerClass == BooleanFieldPropertyWriter.class
+                || writerClass == BooleanMethodPropertyWriter.class) {
+            _addGetValue(mv, member, Type.BOOLEAN_TYPE);
+            mv.visitVarInsn(ISTORE, VAR_VALUE);
+            if (suppressable instanceof Boolean) {
+                alwaysWritten = false;
+                mv.visitVarInsn(ILOAD, VAR_VALUE);
+                mv.visitJumpInsn(((Boolean) suppressable).booleanValue() ? IFNE : IFEQ, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ILOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeBoolean", "(Z)V", false);
+        } else if (writerClass == DoubleFieldPropertyWriter.class
+                || writerClass == DoubleMethodPropertyWriter.class) {
+            _addGetValue(mv, member, Type.DOUBLE_TYPE);
+            mv.visitVarInsn(DSTORE, VAR_VALUE);
+            if (suppressable instanceof Double) {
+                alwaysWritten = false;
+                // as with writer, compare bit patterns, not values
+                mv.visitVarInsn(DLOAD, VAR_VALUE);
+                mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "doubleToLongBits", "(D)J", false);
+                mv.visitLdcInsn(Double.doubleToLongBits(((Double) suppressable).doubleValue()));
+                mv.visitInsn(LCMP);
+                mv.visitJumpInsn(IFEQ, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(DLOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeNumber", "(D)V", false);
+        } else if (writerClass == FloatFieldPropertyWriter.class
+                || writerClass == FloatMethodPropertyWriter.class) {
+            _addGetValue(mv, member, Type.FLOAT_TYPE);
+            mv.visitVarInsn(FSTORE, VAR_VALUE);
+            if (suppressable instanceof Float) {
+                alwaysWritten = false;
+                mv.visitVarInsn(FLOAD, VAR_VALUE);
+                mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "floatToIntBits", "(F)I", false);
+                generateIntConstant(mv, Float.floatToIntBits(((Float) suppressable).floatValue()));
+                mv.visitJumpInsn(IF_ICMPEQ, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(FLOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeNumber", "(F)V", false);
+        } else if (writerClass == ShortFieldPropertyWriter.class
+                || writerClass == ShortMethodPropertyWriter.class) {
+            _addGetValue(mv, member, Type.SHORT_TYPE);
+            mv.visitVarInsn(ISTORE, VAR_VALUE);
+            if (suppressable instanceof Short) {
+                alwaysWritten = false;
+                mv.visitVarInsn(ILOAD, VAR_VALUE);
+                generateIntConstant(mv, ((Short) suppressable).intValue());
+                mv.visitJumpInsn(IF_ICMPEQ, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ILOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeNumber", "(S)V", false);
+        } else if (writerClass == ByteFieldPropertyWriter.class
+                || writerClass == ByteMethodPropertyWriter.class) {
+            _addGetValue(mv, member, Type.BYTE_TYPE);
+            mv.visitVarInsn(ISTORE, VAR_VALUE);
+            if (suppressable instanceof Byte) {
+                alwaysWritten = false;
+                mv.visitVarInsn(ILOAD, VAR_VALUE);
+                generateIntConstant(mv, ((Byte) suppressable).intValue());
+                mv.visitJumpInsn(IF_ICMPEQ, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ILOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeNumber", "(I)V", false);
+        } else if (writerClass == CharFieldPropertyWriter.class
+                || writerClass == CharMethodPropertyWriter.class) {
+            _addGetValue(mv, member, Type.CHAR_TYPE);
+            mv.visitVarInsn(ISTORE, VAR_VALUE);
+            if (suppressable instanceof Character) {
+                alwaysWritten = false;
+                mv.visitVarInsn(ILOAD, VAR_VALUE);
+                generateIntConstant(mv, ((Character) suppressable).charValue());
+                mv.visitJumpInsn(IF_ICMPEQ, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ILOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/String", "valueOf", "(C)Ljava/lang/String;", false);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeString", "(Ljava/lang/String;)V", false);
+        } else if (writerClass == StringFieldPropertyWriter.class
+                || writerClass == StringMethodPropertyWriter.class) {
+            // custom null serializers, other suppressable values are left for writer
+            if (prop.hasNullSerializer()
+                    || ((suppressable != null) && (suppressable != BeanPropertyWriter.MARKER_FOR_EMPTY)
+                            && !(suppressable instanceof String))) {
+                return NOT_INLINED;
+            }
+            alwaysWritten = (suppressable == null) && !prop.willSuppressNulls();
+            _addGetValue(mv, member, Type.getType(String.class));
+            mv.visitVarInsn(ASTORE, VAR_VALUE);
+            Label notNull = new Label();
+            mv.visitVarInsn(ALOAD, VAR_VALUE);
+            mv.visitJumpInsn(IFNONNULL, notNull);
+            if (!prop.willSuppressNulls()) {
+                _addWriteName(mv, superClass, prop, index, rawName);
+                mv.visitVarInsn(ALOAD, VAR_PROVIDER);
+                mv.visitVarInsn(ALOAD, VAR_GEN);
+                mv.visitMethodInsn(INVOKEVIRTUAL, PROVIDER_CLASS, "defaultSerializeNull", "("+GEN_DESC+")V", false);
+            }
+            mv.visitJumpInsn(GOTO, skip);
+            mv.visitLabel(notNull);
+            if (suppressable == BeanPropertyWriter.MARKER_FOR_EMPTY) {
+                mv.visitVarInsn(ALOAD, VAR_VALUE);
+                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "length", "()I", false);
+                mv.visitJumpInsn(IFEQ, skip);
+            } else if (suppressable != null) {
+                mv.visitLdcInsn(suppressable);
+                mv.visitVarInsn(ALOAD, VAR_VALUE);
+                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "equals", "(Ljava/lang/Object;)Z", false);
+                mv.visitJumpInsn(IFNE, skip);
+            }
+            _addWriteName(mv, superClass, prop, index, rawName);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ALOAD, VAR_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeString", "(Ljava/lang/String;)V", false);
+        } else if (writerClass == ObjectFieldPropertyWriter.class
+                || writerClass == ObjectMethodPropertyWriter.class) {
+            if (prop.hasNullSerializer() || prop.getType().isPrimitive()) {
+                return NOT_INLINED;
+            }
+            // value itself is written by writer, but inclusion mode is chosen here
+            final String method;
+            if (suppressable == null) {
+                method = "serializeNonNullValue";
+            } else if (suppressable == BeanPropertyWriter.MARKER_FOR_EMPTY) {
+                method = "serializeNonEmptyValue";
+            } else {
+                method = "serializeNonDefaultValue";
+            }
+            alwaysWritten = (suppressable == null) && !prop.willSuppressNulls();
+            _addGetValue(mv, member, Type.getType(Object.class));
+            mv.visitVarInsn(ASTORE, VAR_VALUE);
+            Label notNull = new Label();
+            mv.visitVarInsn(ALOAD, VAR_VALUE);
+            mv.visitJumpInsn(IFNONNULL, notNull);
+            if (!prop.willSuppressNulls()) {
+                _addWriteName(mv, superClass, prop, index, rawName);
+                mv.visitVarInsn(ALOAD, VAR_PROVIDER);
+                mv.visitVarInsn(ALOAD, VAR_GEN);
+                mv.visitMethodInsn(INVOKEVIRTUAL, PROVIDER_CLASS, "defaultSerializeNull", "("+GEN_DESC+")V", false);
+            }
+            mv.visitJumpInsn(GOTO, skip);
+            mv.visitLabel(notNull);
+            // ((ObjectXxxPropertyWriter) _properties[index]).serializeXxxValue(bean, value, gen, provider);
+            final String writerName = Type.getInternalName(writerClass);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, superClass, "_properties", PROPS_DESC);
+            generateIntConstant(mv, index);
+            mv.visitInsn(AALOAD);
+            mv.visitTypeInsn(CHECKCAST, writerName);
+            mv.visitVarInsn(ALOAD, VAR_BEAN);
+            mv.visitVarInsn(ALOAD, VAR_VALUE);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ALOAD, VAR_PROVIDER);
+            mv.visitMethodInsn(INVOKEVIRTUAL, writerName, method,
+                    "(Ljava/lang/Object;Ljava/lang/Object;"+GEN_DESC+PROVIDER_DESC+")V", false);
+        } else { // not one we inline
+            return NOT_INLINED;
+        }
+        mv.visitLabel(skip);
+        return alwaysWritten ? INLINED_ALWAYS_WRITTEN : INLINED;
+    }
+
+    /**
+     * Helper method for generating code that writes name of given property:
+     * if raw names may be used, and context is available, pre-encoded separator
+     * is written as raw content, and context is updated separately; otherwise
+     * name is written normally.
+     */
+    private void _addWriteName(MethodVisitor mv, String superClass,
+            BeanPropertyWriter prop, int index, boolean rawName)
+    {
+        Label done = null;
+        if (rawName) {
+            done = new Label();
+            Label notRaw = new Label();
+            mv.visitVarInsn(ALOAD, VAR_CONTEXT);
+            mv.visitJumpInsn(IFNULL, notRaw);
+            // gen.writeRaw(_rawPropertyNames[index]);
+            mv.visitVarInsn(ALOAD, VAR_GEN);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, superClass, "_rawPropertyNames", NAMES_DESC);
+            generateIntConstant(mv, index);
+            mv.visitInsn(AALOAD);
+            mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeRaw",
+                    "("+Type.getDescriptor(SerializableString.class)+")V", false);
+            // context.writeFieldName(name); (colon is added when value is written)
+            mv.visitVarInsn(ALOAD, VAR_CONTEXT);
+            mv.visitLdcInsn(prop.getName());
+            mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(JsonWriteContext.class),
+                    "writeFieldName", "(Ljava/lang/String;)I", false);
+            mv.visitInsn(POP);
+            mv.visitJumpInsn(GOTO, done);
+            mv.visitLabel(notRaw);
+        }
+        // gen.writeFieldName(_propertyNames[index]);
+        mv.visitVarInsn(ALOAD, VAR_GEN);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, superClass, "_propertyNames", NAMES_DESC);
+        generateIntConstant(mv, index);
+        mv.visitInsn(AALOAD);
+        mv.visitMethodInsn(INVOKEVIRTUAL, GEN_CLASS, "writeFieldName",
+                "("+Type.getDescriptor(SerializableString.class)+")V", false);
+        if (done != null) {
+            mv.visitLabel(done);
+        }
+    }
+
+    /**
+     * Helper method for generating code that pushes value of given field
+     * or getter of bean on stack, as given type.
+     */
+    private void _addGetValue(MethodVisitor mv, Member member, Type valueType)
+    {
+        mv.visitVarInsn(ALOAD, VAR_TYPED_BEAN);
+        Type type;
+        if (member instanceof Method) {
+            Method method = (Method) member;
+            type = Type.getType(method.getReturnType());
+            boolean isInterface = _beanClass.isInterface();
+            mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                    _beanClassName, method.getName(), "()"+type.getDescriptor(), isInterface);
+        } else {
+            Field field = (Field) member;
+            type = Type.getType(field.getType());
+            mv.visitFieldInsn(GETFIELD, _beanClassName, field.getName(), type.getDescriptor());
+        }
+        // generic types are erased, so may need a cast
+        if (valueType.getSort() == Type.OBJECT && !type.equals(valueType)
+                && !valueType.getInternalName().equals("java/lang/Object")) {
+            mv.visitTypeInsn(CHECKCAST, valueType.getInternalName());
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    /**
+     * Helper method for checking whether generated class (assuming it is
+     * loaded in the package of the bean class) can access given member
+     * directly.
+     */
+    private boolean _canAccess(Member member)
+    {
+        final int mods = member.getModifiers();
+        if (Modifier.isPrivate(mods)) {
+            return false;
+        }
+        final Class<?> declaringClass = member.getDeclaringClass();
+        if (Modifier.isPublic(mods) && Modifier.isPublic(declaringClass.getModifiers())) {
+            return true;
+        }
+        // otherwise need to be in the same (runtime) package
+        return (declaringClass.getClassLoader() == _beanClass.getClassLoader())
+                && _packageName(declaringClass).equals(_packageName(_beanClass));
+    }
+
+    private boolean _allPublic(BeanPropertyWriter[] props)
+    {
+        if (!Modifier.isPublic(_beanClass.getModifiers())) {
+            return false;
+        }
+        for (BeanPropertyWriter prop : props) {
+            if (prop instanceof OptimizedBeanPropertyWriter<?>) {
+                Member member = prop.getMember().getMember();
+                if (!Modifier.isPublic(member.getModifiers())
+                        || !Modifier.isPublic(member.getDeclaringClass().getModifiers())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String _packageName(Class<?> cls)
+    {
+        String name = cls.getName();
+        int ix = name.lastIndexOf('.');
+        return (ix < 0) ? "" : name.substring(0, ix);
+    }
+}
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
-import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
 
 public class ObjectMethodPropertyWriter
     extends OptimizedBeanPropertyWriter<ObjectMethodPropertyWriter>
@@ -60,12 +59,7 @@ public class ObjectMethodPropertyWriter
         }
         JsonSerializer<Object> ser = _serializer;
         if (ser == null) {
-            Class<?> cls = value.getClass();
-            PropertySerializerMap map = _dynamicSerializers;
-            ser = map.serializerFor(cls);
-            if (ser == null) {
-                ser = _findAndAddDynamic(map, cls, prov);
-            }
+            ser = _findDynamicSerializer(value.getClass(), prov);
         }
         if (_suppressableValue != null) {
             if (MARKER_FOR_EMPTY == _suppressableValue) {
@@ -117,12 +111,7 @@ public class ObjectMethodPropertyWriter
         }
         JsonSerializer<Object> ser = _serializer;
         if (ser == null) {
-            Class<?> cls = value.getClass();
-            PropertySerializerMap map = _dynamicSerializers;
-            ser = map.serializerFor(cls);
-            if (ser == null) {
-                ser = _findAndAddDynamic(map, cls, prov);
-            }
+            ser = _findDynamicSerializer(value.getClass(), prov);
         }
         if (_suppressableValue != null) {
             if (MARKER_FOR_EMPTY == _suppressableValue) {
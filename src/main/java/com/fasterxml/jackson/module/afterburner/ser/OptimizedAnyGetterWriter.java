@@ -0,0 +1,164 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.ser.AnyGetterWriter;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+
+/**
+ * {@link AnyGetterWriter} that calls the "any getter" method of the bean
+ * using a generated {@link BeanPropertyAccessor}, instead of Reflection.
+ * Serialization of returned Maps is the same as with the standard writer.
+ *
+ * @since 2.7.2
+ */
+public class OptimizedAnyGetterWriter extends AnyGetterWriter
+{
+    protected final BeanPropertyAccessor _propertyAccessor;
+
+    // Intentionally not volatile for performance, worst case is we throw a few extra exceptions
+    protected boolean _broken = false;
+
+    protected OptimizedAnyGetterWriter(BeanProperty property, AnnotatedMember accessor,
+            JsonSerializer<?> serializer, BeanPropertyAccessor acc)
+    {
+        super(property, accessor, serializer);
+        _propertyAccessor = acc;
+    }
+
+    /**
+     * Factory method for constructing optimized variant of given standard
+     * writer. Since the standard writer does not expose property it is for,
+     * nor the serializer it uses, these are copied using Reflection, once.
+     *
+     * @return Optimized writer, if it could be constructed; null if not
+     */
+    public static OptimizedAnyGetterWriter construct(AnyGetterWriter src,
+            AnnotatedMember accessor, BeanPropertyAccessor acc)
+    {
+        // only the standard implementation is known to be safe to replace
+        if (src.getClass() != AnyGetterWriter.class) {
+            return null;
+        }
+        try {
+            BeanProperty property = (BeanProperty) _fieldValue(src, "_property");
+            JsonSerializer<?> ser = (JsonSerializer<?>) _fieldValue(src, "_serializer");
+            if ((property == null) || (ser == null)) {
+                return null;
+            }
+            return new OptimizedAnyGetterWriter(property, accessor, ser, acc);
+        } catch (Exception e) { // whatever the reason, just can't optimize
+            return null;
+        }
+    }
+
+    private static Object _fieldValue(AnyGetterWriter src, String name) throws Exception
+    {
+        Field f = AnyGetterWriter.class.getDeclaredField(name);
+        f.setAccessible(true);
+        return f.get(src);
+    }
+
+    /*
+    /**********************************************************
+    /* Overrides
+    /**********************************************************
+     */
+
+    @Override
+    public void getAndSerialize(Object bean, JsonGenerator gen, SerializerProvider provider)
+        throws Exception
+    {
+        if (_broken) {
+            super.getAndSerialize(bean, gen, provider);
+            return;
+        }
+        Object value;
+        try {
+            value = _propertyAccessor.anyGetter(bean);
+        } catch (Throwable t) {
+            _handleProblem(bean, t);
+            super.getAndSerialize(bean, gen, provider);
+            return;
+        }
+        if (value == null) {
+            return;
+        }
+        _verifyMap(gen, value);
+        // same as standard writer, MapSerializer just writes the entries
+        if (_mapSerializer != null) {
+            _mapSerializer.serializeFields((Map<?,?>) value, gen, provider);
+            return;
+        }
+        _serializer.serialize(value, gen, provider);
+    }
+
+    @Override
+    public void getAndFilter(Object bean, JsonGenerator gen, SerializerProvider provider,
+            PropertyFilter filter)
+        throws Exception
+    {
+        if (_broken) {
+            super.getAndFilter(bean, gen, provider, filter);
+            return;
+        }
+        Object value;
+        try {
+            value = _propertyAccessor.anyGetter(bean);
+        } catch (Throwable t) {
+            _handleProblem(bean, t);
+            super.getAndFilter(bean, gen, provider, filter);
+            return;
+        }
+        if (value == null) {
+            return;
+        }
+        _verifyMap(gen, value);
+        if (_mapSerializer != null) {
+            _mapSerializer.serializeFilteredFields((Map<?,?>) value, gen, provider, filter, null);
+            return;
+        }
+        _serializer.serialize(value, gen, provider);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    protected void _verifyMap(JsonGenerator gen, Object value) throws JsonMappingException
+    {
+        if (!(value instanceof Map<?,?>)) {
+            throw JsonMappingException.from(gen, "Value returned by 'any-getter' ("
+                    +_accessor.getName()+"()) not java.util.Map but "+value.getClass().getName());
+        }
+    }
+
+    /**
+     * Method called when the generated accessor fails: access errors disable
+     * use of the accessor (and caller falls back to Reflection); other
+     * problems are thrown as is, as they come from the any getter itself.
+     */
+    protected void _handleProblem(Object bean, Throwable t) throws Exception
+    {
+        if ((t instanceof IllegalAccessError) || (t instanceof SecurityException)) {
+            _broken = true;
+            String msg = String.format("Disabling Afterburner any getter calls for %s (accessor %s), due to access error (type %s, message=%s)%n",
+                    bean.getClass(), _propertyAccessor.getClass().getName(),
+                    t.getClass().getName(), t.getMessage());
+            Logger.getLogger(OptimizedAnyGetterWriter.class.getName()).log(Level.WARNING, msg, t);
+            return;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw (Exception) t;
+    }
+}
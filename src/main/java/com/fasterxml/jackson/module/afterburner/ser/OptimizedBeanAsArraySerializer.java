@@ -0,0 +1,380 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.ObjectIdWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Variant of {@link com.fasterxml.jackson.databind.ser.impl.BeanAsArraySerializer}
+ * that writes values of simple properties (primitives and {@link String})
+ * directly using generated {@link BeanPropertyAccessor}, without dispatching
+ * through property writers. Kinds of properties are resolved when serializer is constructed,
+ * which happens after properties have been resolved; other properties (as well
+ * as ones that have custom inclusion criteria, or null serializer) are
+ * written using their writers as usual.
+ *
+ * @since 2.7.2
+ */
+public class OptimizedBeanAsArraySerializer
+    extends BeanSerializerBase
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final static int KIND_WRITER = 0;
+    protected final static int KIND_INT_GETTER = 1;
+    protected final static int KIND_INT_FIELD = 2;
+    protected final static int KIND_LONG_GETTER = 3;
+    protected final static int KIND_LONG_FIELD = 4;
+    protected final static int KIND_BOOLEAN_GETTER = 5;
+    protected final static int KIND_BOOLEAN_FIELD = 6;
+    protected final static int KIND_STRING_GETTER = 7;
+    protected final static int KIND_STRING_FIELD = 8;
+    protected final static int KIND_DOUBLE_GETTER = 9;
+    protected final static int KIND_DOUBLE_FIELD = 10;
+    protected final static int KIND_FLOAT_GETTER = 11;
+    protected final static int KIND_FLOAT_FIELD = 12;
+    protected final static int KIND_SHORT_GETTER = 13;
+    protected final static int KIND_SHORT_FIELD = 14;
+    protected final static int KIND_BYTE_GETTER = 15;
+    protected final static int KIND_BYTE_FIELD = 16;
+    protected final static int KIND_CHAR_GETTER = 17;
+    protected final static int KIND_CHAR_FIELD = 18;
+
+    /**
+     * Serializer that would produce JSON Object version; used in
+     * cases where array output can not be used.
+     */
+    protected final BeanSerializerBase _defaultSerializer;
+
+    /**
+     * Kind of each property in {@link #_props}, to determine how its
+     * value is to be accessed and written.
+     */
+    protected final int[] _propertyKinds;
+
+    /*
+    /**********************************************************
+    /* Life-cycle: constructors
+    /**********************************************************
+     */
+
+    public OptimizedBeanAsArraySerializer(BeanSerializerBase src) {
+        super(src, (ObjectIdWriter) null);
+        _defaultSerializer = src;
+        _propertyKinds = _findKinds(_props);
+    }
+
+    protected OptimizedBeanAsArraySerializer(BeanSerializerBase src, String[] toIgnore) {
+        super(src, toIgnore);
+        _defaultSerializer = src;
+        _propertyKinds = _findKinds(_props);
+    }
+
+    protected OptimizedBeanAsArraySerializer(BeanSerializerBase src,
+            ObjectIdWriter oiw, Object filterId) {
+        super(src, oiw, filterId);
+        _defaultSerializer = src;
+        _propertyKinds = _findKinds(_props);
+    }
+
+    /*
+    /**********************************************************
+    /* Life-cycle: factory methods, fluent factories
+    /**********************************************************
+     */
+
+    @Override
+    public JsonSerializer<Object> unwrappingSerializer(NameTransformer transformer) {
+        // can not unwrap arrays, need to "undo" as-array serialization
+        return _defaultSerializer.unwrappingSerializer(transformer);
+    }
+
+    @Override
+    public boolean isUnwrappingSerializer() {
+        return false;
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        // can't handle Object Ids, for now, so:
+        return _defaultSerializer.withObjectIdWriter(objectIdWriter);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new OptimizedBeanAsArraySerializer(this, _objectIdWriter, filterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withIgnorals(String[] toIgnore) {
+        return new OptimizedBeanAsArraySerializer(this, toIgnore);
+    }
+
+    @Override
+    protected BeanSerializerBase asArraySerializer() {
+        return this;
+    }
+
+    /*
+    /**********************************************************
+    /* JsonSerializer implementation
+    /**********************************************************
+     */
+
+    @Override
+    public void serializeWithType(Object bean, JsonGenerator gen,
+            SerializerProvider provider, TypeSerializer typeSer)
+        throws IOException
+    {
+        if (_objectIdWriter != null) {
+            _serializeWithObjectId(bean, gen, provider, typeSer);
+            return;
+        }
+        String typeStr = (_typeId == null) ? null : _customTypeId(bean);
+        if (typeStr == null) {
+            typeSer.writeTypePrefixForArray(bean, gen);
+        } else {
+            typeSer.writeCustomTypePrefixForArray(bean, gen, typeStr);
+        }
+        _serializeAsArray(bean, gen, provider);
+        if (typeStr == null) {
+            typeSer.writeTypeSuffixForArray(bean, gen);
+        } else {
+            typeSer.writeCustomTypeSuffixForArray(bean, gen, typeStr);
+        }
+    }
+
+    @Override
+    public final void serialize(Object bean, JsonGenerator gen, SerializerProvider provider)
+        throws IOException
+    {
+        if (provider.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+                && _hasSingleElement(provider)) {
+            _serializeAsArray(bean, gen, provider);
+            return;
+        }
+        gen.writeStartArray();
+        gen.setCurrentValue(bean);
+        _serializeAsArray(bean, gen, provider);
+        gen.writeEndArray();
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private boolean _hasSingleElement(SerializerProvider provider) {
+        if (_filteredProps != null && provider.getActiveView() != null) {
+            return _filteredProps.length == 1;
+        }
+        return _props.length == 1;
+    }
+
+    protected final void _serializeAsArray(Object bean, JsonGenerator gen, SerializerProvider provider)
+        throws IOException
+    {
+        final BeanPropertyWriter[] props;
+        final int[] kinds;
+        // kinds only known for the full set of properties
+        if (_filteredProps != null && provider.getActiveView() != null) {
+            props = _filteredProps;
+            kinds = null;
+        } else {
+            props = _props;
+            kinds = _propertyKinds;
+        }
+
+        int i = 0;
+        try {
+            for (final int len = props.length; i < len; ++i) {
+                BeanPropertyWriter prop = props[i];
+                if (prop == null) { // can have nulls in filtered list; but if so, MUST write placeholders
+                    gen.writeNull();
+                    continue;
+                }
+                final int kind = (kinds == null) ? KIND_WRITER : kinds[i];
+                if (kind == KIND_WRITER || ((OptimizedBeanPropertyWriter<?>) prop).broken) {
+                    prop.serializeAsElement(bean, gen, provider);
+                    continue;
+                }
+                final OptimizedBeanPropertyWriter<?> w = (OptimizedBeanPropertyWriter<?>) prop;
+                try {
+                    _writeValue(bean, gen, provider, w._propertyAccessor, w._propertyIndex, kind);
+                } catch (IllegalAccessError e) {
+                    w._handleProblem(bean, gen, provider, e, true);
+                } catch (SecurityException e) {
+                    w._handleProblem(bean, gen, provider, e, true);
+                }
+            }
+        } catch (Exception e) {
+            wrapAndThrow(provider, e, bean, props[i].getName());
+        } catch (StackOverflowError e) {
+            JsonMappingException mapE = JsonMappingException.from(gen, "Infinite recursion (StackOverflowError)", e);
+            mapE.prependPath(new JsonMappingException.Reference(bean, props[i].getName()));
+            throw mapE;
+        }
+    }
+
+    private final static void _writeValue(Object bean, JsonGenerator gen, SerializerProvider provider,
+            BeanPropertyAccessor acc, int index, int kind) throws IOException
+    {
+        switch (kind) {
+        case KIND_INT_GETTER:
+            gen.writeNumber(acc.intGetter(bean, index));
+            return;
+        case KIND_INT_FIELD:
+            gen.writeNumber(acc.intField(bean, index));
+            return;
+        case KIND_LONG_GETTER:
+            gen.writeNumber(acc.longGetter(bean, index));
+            return;
+        case KIND_LONG_FIELD:
+            gen.writeNumber(acc.longField(bean, index));
+            return;
+        case KIND_BOOLEAN_GETTER:
+            gen.writeBoolean(acc.booleanGetter(bean, index));
+            return;
+        case KIND_BOOLEAN_FIELD:
+            gen.writeBoolean(acc.booleanField(bean, index));
+            return;
+        case KIND_DOUBLE_GETTER:
+            gen.writeNumber(acc.doubleGetter(bean, index));
+            return;
+        case KIND_DOUBLE_FIELD:
+            gen.writeNumber(acc.doubleField(bean, index));
+            return;
+        case KIND_FLOAT_GETTER:
+            gen.writeNumber(acc.floatGetter(bean, index));
+            return;
+        case KIND_FLOAT_FIELD:
+            gen.writeNumber(acc.floatField(bean, index));
+            return;
+        case KIND_SHORT_GETTER:
+            gen.writeNumber(acc.shortGetter(bean, index));
+            return;
+        case KIND_SHORT_FIELD:
+            gen.writeNumber(acc.shortField(bean, index));
+            return;
+        case KIND_BYTE_GETTER:
+            gen.writeNumber((int) acc.byteGetter(bean, index));
+            return;
+        case KIND_BYTE_FIELD:
+            gen.writeNumber((int) acc.byteField(bean, index));
+            return;
+        case KIND_CHAR_GETTER:
+            gen.writeString(String.valueOf(acc.charGetter(bean, index)));
+            return;
+        case KIND_CHAR_FIELD:
+            gen.writeString(String.valueOf(acc.charField(bean, index)));
+            return;
+        case KIND_STRING_GETTER:
+            _writeString(gen, provider, acc.stringGetter(bean, index));
+            return;
+        case KIND_STRING_FIELD:
+        default:
+            _writeString(gen, provider, acc.stringField(bean, index));
+            return;
+        }
+    }
+
+    private final static void _writeString(JsonGenerator gen, SerializerProvider provider,
+            String value) throws IOException
+    {
+        if (value == null) {
+            provider.defaultSerializeNull(gen);
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    protected static int[] _findKinds(BeanPropertyWriter[] props)
+    {
+        final int len = props.length;
+        int[] kinds = new int[len];
+        for (int i = 0; i < len; ++i) {
+            kinds[i] = _findKind(props[i]);
+        }
+        return kinds;
+    }
+
+    protected static int _findKind(BeanPropertyWriter prop)
+    {
+        if (!(prop instanceof OptimizedBeanPropertyWriter<?>)) {
+            return KIND_WRITER;
+        }
+        // inclusion criteria need to be checked by writers themselves
+        if (((OptimizedBeanPropertyWriter<?>) prop)._hasSuppressableValue()) {
+            return KIND_WRITER;
+        }
+        if (prop instanceof IntMethodPropertyWriter) {
+            return KIND_INT_GETTER;
+        }
+        if (prop instanceof IntFieldPropertyWriter) {
+            return KIND_INT_FIELD;
+        }
+        if (prop instanceof LongMethodPropertyWriter) {
+            return KIND_LONG_GETTER;
+        }
+        if (prop instanceof LongFieldPropertyWriter) {
+            return KIND_LONG_FIELD;
+        }
+        if (prop instanceof BooleanMethodPropertyWriter) {
+            return KIND_BOOLEAN_GETTER;
+        }
+        if (prop instanceof BooleanFieldPropertyWriter) {
+            return KIND_BOOLEAN_FIELD;
+        }
+        if (prop instanceof DoubleMethodPropertyWriter) {
+            return KIND_DOUBLE_GETTER;
+        }
+        if (prop instanceof DoubleFieldPropertyWriter) {
+            return KIND_DOUBLE_FIELD;
+        }
+        if (prop instanceof FloatMethodPropertyWriter) {
+            return KIND_FLOAT_GETTER;
+        }
+        if (prop instanceof FloatFieldPropertyWriter) {
+            return KIND_FLOAT_FIELD;
+        }
+        if (prop instanceof ShortMethodPropertyWriter) {
+            return KIND_SHORT_GETTER;
+        }
+        if (prop instanceof ShortFieldPropertyWriter) {
+            return KIND_SHORT_FIELD;
+        }
+        if (prop instanceof ByteMethodPropertyWriter) {
+            return KIND_BYTE_GETTER;
+        }
+        if (prop instanceof ByteFieldPropertyWriter) {
+            return KIND_BYTE_FIELD;
+        }
+        if (prop instanceof CharMethodPropertyWriter) {
+            return KIND_CHAR_GETTER;
+        }
+        if (prop instanceof CharFieldPropertyWriter) {
+            return KIND_CHAR_FIELD;
+        }
+        // and with Strings, custom null serializer also needs to be honored
+        if (!prop.hasNullSerializer()) {
+            if (prop instanceof StringMethodPropertyWriter) {
+                return KIND_STRING_GETTER;
+            }
+            if (prop instanceof StringFieldPropertyWriter) {
+                return KIND_STRING_FIELD;
+            }
+        }
+        return KIND_WRITER;
+    }
+
+    @Override public String toString() {
+        return "OptimizedBeanAsArraySerializer for "+handledType().getName();
+    }
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
 import com.fasterxml.jackson.databind.util.ClassUtil;
 
 /**
@@ -35,6 +36,26 @@ abstract class OptimizedBeanPropertyWriter<T extends OptimizedBeanPropertyWriter
     // Not volatile to prevent overhead, worst case is we trip the exception a few extra times
     protected boolean broken = false;
 
+    /**
+     * Entries of the inline cache used for finding serializers for dynamic
+     * (runtime) value types: first two distinct types seen get cached,
+     * checked by identity before falling back to
+     * {@link #_dynamicSerializers}. Entries are immutable, so racy
+     * assignment is safe (worst case being a lost entry).
+     *
+     * @since 2.7.2
+     */
+    protected transient DynamicSerializerEntry _dynamicEntry1, _dynamicEntry2;
+
+    /**
+     * Number of dynamic serializer lookups that were done when both inline
+     * cache entries were taken by other types ("megamorphic" lookups).
+     * Not synchronized, so only approximate with concurrent access.
+     *
+     * @since 2.7.2
+     */
+    protected transient long _megamorphicLookups;
+
     protected OptimizedBeanPropertyWriter(BeanPropertyWriter src,
             BeanPropertyAccessor propertyAccessor, int propertyIndex,
             JsonSerializer<Object> ser)
@@ -56,6 +77,31 @@ abstract class OptimizedBeanPropertyWriter<T extends OptimizedBeanPropertyWriter
         return srcIn;
     }
 
+    /*
+    /**********************************************************
+    /* Statistics
+    /**********************************************************
+     */
+
+    /**
+     * Accessor for number of dynamic serializer lookups that could not
+     * use the inline cache since two other value types had already been
+     * cached; non-zero value indicates that the property has a
+     * megamorphic value type. Approximate with concurrent access.
+     *
+     * @since 2.7.2
+     */
+    public long getMegamorphicLookupCount() {
+        return _megamorphicLookups;
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    public boolean isMegamorphic() {
+        return _megamorphicLookups > 0L;
+    }
+
     // Overridden since 2.6.3
     @Override
     public void assignTypeSerializer(TypeSerializer typeSer) {
@@ -92,8 +138,150 @@ abstract class OptimizedBeanPropertyWriter<T extends OptimizedBeanPropertyWriter
 
     public abstract T withAccessor(BeanPropertyAccessor acc);
 
+    /**
+     * Accessor for checking whether this writer has inclusion criteria
+     * (value to suppress, or suppression of nulls) that has to be checked
+     * before writing value.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _hasSuppressableValue() {
+        return (_suppressableValue != null) || _suppressNulls;
+    }
+
+    /**
+     * Accessor for value to suppress, if any, for code generated to check
+     * inclusion criteria inline.
+     *
+     * @since 2.7.2
+     */
+    protected Object _getSuppressableValue() {
+        return _suppressableValue;
+    }
+
     public abstract BeanPropertyWriter withSerializer(JsonSerializer<Object> ser);
 
+    /**
+     * Method for finding serializer for value of given runtime type, when
+     * no static serializer is known; uses inline cache for up to two types
+     * before doing lookup via {@link #_dynamicSerializers}.
+     *
+     * @since 2.7.2
+     */
+    protected final JsonSerializer<Object> _findDynamicSerializer(Class<?> cls,
+            SerializerProvider prov) throws JsonMappingException
+    {
+        final DynamicSerializerEntry entry1 = _dynamicEntry1;
+        if (entry1 != null) {
+            if (entry1.type == cls) {
+                return entry1.serializer;
+            }
+            final DynamicSerializerEntry entry2 = _dynamicEntry2;
+            if (entry2 != null) {
+                if (entry2.type == cls) {
+                    return entry2.serializer;
+                }
+                ++_megamorphicLookups;
+                return _findSerializerFromMap(cls, prov);
+            }
+            JsonSerializer<Object> ser = _findSerializerFromMap(cls, prov);
+            _dynamicEntry2 = new DynamicSerializerEntry(cls, ser);
+            return ser;
+        }
+        JsonSerializer<Object> ser = _findSerializerFromMap(cls, prov);
+        _dynamicEntry1 = new DynamicSerializerEntry(cls, ser);
+        return ser;
+    }
+
+    /*
+    /**********************************************************
+    /* Value writing with inclusion criteria known by caller
+    /**********************************************************
+     */
+
+    /**
+     * Method called by generated {@link BeanFieldsWriter}s to write non-null
+     * value of this property, for properties with no value suppression:
+     * caller has already handled nulls.
+     *
+     * @since 2.7.2
+     */
+    public final void serializeNonNullValue(Object bean, Object value,
+            JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        JsonSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            ser = _findDynamicSerializer(value.getClass(), prov);
+        }
+        _serializeValue(bean, value, ser, gen, prov);
+    }
+
+    /**
+     * Method called by generated {@link BeanFieldsWriter}s to write non-null
+     * value of this property, for properties that suppress "empty" values
+     * ({@link #MARKER_FOR_EMPTY}).
+     *
+     * @since 2.7.2
+     */
+    public final void serializeNonEmptyValue(Object bean, Object value,
+            JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        JsonSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            ser = _findDynamicSerializer(value.getClass(), prov);
+        }
+        if (!ser.isEmpty(prov, value)) {
+            _serializeValue(bean, value, ser, gen, prov);
+        }
+    }
+
+    /**
+     * Method called by generated {@link BeanFieldsWriter}s to write non-null
+     * value of this property, for properties that suppress values equal to
+     * specific value (default value).
+     *
+     * @since 2.7.2
+     */
+    public final void serializeNonDefaultValue(Object bean, Object value,
+            JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (!_suppressableValue.equals(value)) {
+            JsonSerializer<Object> ser = _serializer;
+            if (ser == null) {
+                ser = _findDynamicSerializer(value.getClass(), prov);
+            }
+            _serializeValue(bean, value, ser, gen, prov);
+        }
+    }
+
+    private void _serializeValue(Object bean, Object value, JsonSerializer<Object> ser,
+            JsonGenerator gen, SerializerProvider prov) throws Exception
+    {
+        if (value == bean) {
+            // three choices: exception; handled by call; or pass-through
+            if (_handleSelfReference(bean, gen, prov, ser)) {
+                return;
+            }
+        }
+        gen.writeFieldName(_fastName);
+        if (_typeSerializer == null) {
+            ser.serialize(value, gen, prov);
+        } else {
+            ser.serializeWithType(value, gen, prov, _typeSerializer);
+        }
+    }
+
+    private JsonSerializer<Object> _findSerializerFromMap(Class<?> cls,
+            SerializerProvider prov) throws JsonMappingException
+    {
+        PropertySerializerMap map = _dynamicSerializers;
+        JsonSerializer<Object> ser = map.serializerFor(cls);
+        if (ser == null) {
+            ser = _findAndAddDynamic(map, cls, prov);
+        }
+        return ser;
+    }
+
     @Override
     public abstract void serializeAsField(Object bean, JsonGenerator jgen, SerializerProvider prov) throws Exception;
 
@@ -140,4 +328,20 @@ abstract class OptimizedBeanPropertyWriter<T extends OptimizedBeanPropertyWriter
     {
         return (ser == null) || ClassUtil.isJacksonStdImpl(ser);
     }
+
+    /**
+     * Immutable entry of the dynamic serializer inline cache.
+     *
+     * @since 2.7.2
+     */
+    protected final static class DynamicSerializerEntry
+    {
+        public final Class<?> type;
+        public final JsonSerializer<Object> serializer;
+
+        public DynamicSerializerEntry(Class<?> type, JsonSerializer<Object> serializer) {
+            this.type = type;
+            this.serializer = serializer;
+        }
+    }
 }
@@ -0,0 +1,602 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeSerializer;
+import com.fasterxml.jackson.databind.jsontype.impl.AsWrapperTypeSerializer;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.MinimalClassNameIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.TypeNameIdResolver;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.FilteredBeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.ObjectIdWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+/**
+ * Sub-class of standard {@link BeanSerializer}, used for beans that have
+ * optimized property writers; the only difference is that "POJO as array"
+ * shape is handled by {@link OptimizedBeanAsArraySerializer}, instead of
+ * the standard {@link com.fasterxml.jackson.databind.ser.impl.BeanAsArraySerializer};
+ * and that properties may be written using generated {@link BeanFieldsWriter},
+ * if enabled. With active views, separate writers are generated for the
+ * properties visible in each view, so that no per-property view checks
+ * are needed. Similarly, inclusion decisions of standard name-based
+ * property filters may be cached, and {@link PropertyProjection}s applied,
+ * if enabled. For polymorphic handling, pre-encoded type ids of standard
+ * type id resolvers are cached.
+ *
+ * @since 2.7.2
+ */
+public class OptimizedBeanSerializer extends BeanSerializer
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Generator for {@link #_fieldsWriter}, if generated writers are
+     * enabled; null if not.
+     */
+    protected final transient FieldsWriterGenerator _writerGenerator;
+
+    /**
+     * Generated writer for all properties, if one could be built;
+     * built lazily on first use, once properties have been resolved.
+     */
+    protected transient BeanFieldsWriter _fieldsWriter;
+
+    protected transient volatile boolean _fieldsWriterBuilt;
+
+    /**
+     * Generated writers for properties included in specific active views,
+     * built lazily as views are encountered.
+     */
+    protected final transient ConcurrentHashMap<Class<?>, BeanFieldsWriter> _viewWriters
+        = new ConcurrentHashMap<Class<?>, BeanFieldsWriter>(4, 0.75f, 2);
+
+    /**
+     * Whether inclusion decisions of standard name-based filters are to
+     * be cached (see {@link #_filteredProperties}).
+     */
+    protected final boolean _cacheFilterDecisions;
+
+    /**
+     * Size of {@link #_filteredProperties}; must be a power of two.
+     */
+    protected final static int FILTER_CACHE_SIZE = 4;
+
+    /**
+     * Properties included by recently used property filters, in slots
+     * indexed by identity hash code of filter instance, so that a few filters
+     * used alternately do not keep replacing each other's entries.
+     * Entries are immutable, so a stale read just means decisions get
+     * evaluated again.
+     *<p>
+     * Note that filters are matched by identity only: sets of names given
+     * to filters are assumed not to change once filters have been constructed.
+     */
+    protected final transient FilteredProperties[] _filteredProperties
+        = new FilteredProperties[FILTER_CACHE_SIZE];
+
+    /**
+     * Whether {@link PropertyProjection}s passed as attributes are to be
+     * applied.
+     */
+    protected final boolean _useProjections;
+
+    /**
+     * Properties included by the most recently used projection.
+     */
+    protected transient FilteredProperties _projectedProperties;
+
+    /**
+     * Type id information for the most recently used type serializer,
+     * for standard type serializers and type id resolvers.
+     */
+    protected transient TypeIdInfo _typeIdInfo;
+
+    public OptimizedBeanSerializer(BeanSerializerBase src) {
+        this(src, null, false, false);
+    }
+
+    public OptimizedBeanSerializer(BeanSerializerBase src, FieldsWriterGenerator writerGenerator) {
+        this(src, writerGenerator, false, false);
+    }
+
+    public OptimizedBeanSerializer(BeanSerializerBase src, FieldsWriterGenerator writerGenerator,
+            boolean cacheFilterDecisions, boolean useProjections) {
+        super(src);
+        _writerGenerator = writerGenerator;
+        _cacheFilterDecisions = cacheFilterDecisions;
+        _useProjections = useProjections;
+    }
+
+    protected OptimizedBeanSerializer(OptimizedBeanSerializer src,
+            ObjectIdWriter objectIdWriter, Object filterId) {
+        super(src, objectIdWriter, filterId);
+        _writerGenerator = src._writerGenerator;
+        _cacheFilterDecisions = src._cacheFilterDecisions;
+        _useProjections = src._useProjections;
+    }
+
+    protected OptimizedBeanSerializer(OptimizedBeanSerializer src, String[] toIgnore) {
+        super(src, toIgnore);
+        _writerGenerator = src._writerGenerator;
+        _cacheFilterDecisions = src._cacheFilterDecisions;
+        _useProjections = src._useProjections;
+    }
+
+    /*
+    /**********************************************************
+    /* Life-cycle: factory methods, fluent factories
+    /**********************************************************
+     */
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        return new OptimizedBeanSerializer(this, objectIdWriter, _propertyFilterId);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new OptimizedBeanSerializer(this, _objectIdWriter, filterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withIgnorals(String[] toIgnore) {
+        return new OptimizedBeanSerializer(this, toIgnore);
+    }
+
+    @Override
+    protected BeanSerializerBase asArraySerializer()
+    {
+        // same restrictions as with the standard as-array serializer
+        if ((_objectIdWriter == null)
+                && (_anyGetterWriter == null)
+                && (_propertyFilterId == null)
+                ) {
+            return new OptimizedBeanAsArraySerializer(this);
+        }
+        return this;
+    }
+
+    /*
+    /**********************************************************
+    /* BeanSerializerBase overrides
+    /**********************************************************
+     */
+
+    @Override
+    public void serializeWithType(Object bean, JsonGenerator gen,
+            SerializerProvider provider, TypeSerializer typeSer)
+        throws IOException
+    {
+        // Object ids, custom type id properties and native type ids need standard handling
+        if ((_objectIdWriter != null) || (_typeId != null) || gen.canWriteTypeId()) {
+            super.serializeWithType(bean, gen, provider, typeSer);
+            return;
+        }
+        TypeIdInfo info = _typeIdInfo;
+        if ((info == null) || (info.typeSerializer != typeSer) || (info.type != bean.getClass())) {
+            info = _findTypeIdInfo(bean, typeSer);
+            _typeIdInfo = info;
+        }
+        if (info.typeId == null) { // not cacheable
+            super.serializeWithType(bean, gen, provider, typeSer);
+            return;
+        }
+        gen.writeStartObject();
+        if (info.asWrapper) {
+            gen.writeFieldName(info.typeId);
+            gen.writeStartObject();
+        } else {
+            gen.writeFieldName(info.propertyName);
+            gen.writeString(info.typeId);
+        }
+        gen.setCurrentValue(bean); // [databind#631]
+        if (_propertyFilterId != null) {
+            serializeFieldsFiltered(bean, gen, provider);
+        } else {
+            serializeFields(bean, gen, provider);
+        }
+        gen.writeEndObject();
+        if (info.asWrapper) {
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Helper method for resolving type id to use for given value, if
+     * type serializer and type id resolver are standard ones for which
+     * type id only depends on type of value.
+     */
+    protected TypeIdInfo _findTypeIdInfo(Object bean, TypeSerializer typeSer)
+    {
+        final Class<?> serClass = typeSer.getClass();
+        final boolean asWrapper = (serClass == AsWrapperTypeSerializer.class);
+        final Class<?> resolverClass = typeSer.getTypeIdResolver().getClass();
+        String id = null;
+        if ((asWrapper || (serClass == AsPropertyTypeSerializer.class))
+                && ((resolverClass == TypeNameIdResolver.class)
+                        || (resolverClass == ClassNameIdResolver.class)
+                        || (resolverClass == MinimalClassNameIdResolver.class))) {
+            id = typeSer.getTypeIdResolver().idFromValue(bean);
+        }
+        if (id == null) {
+            return new TypeIdInfo(typeSer, bean.getClass(), asWrapper, null, null);
+        }
+        return new TypeIdInfo(typeSer, bean.getClass(), asWrapper, new SerializedString(id),
+                asWrapper ? null : new SerializedString(typeSer.getPropertyName()));
+    }
+
+    @Override
+    protected void serializeFields(Object bean, JsonGenerator gen, SerializerProvider provider)
+        throws IOException
+    {
+        if (_useProjections) {
+            BeanPropertyWriter[] projected = _findProjectedProperties(provider);
+            if (projected != null) {
+                _serializeProperties(bean, gen, provider, projected, null, false);
+                return;
+            }
+        }
+        if (_writerGenerator != null) {
+            BeanFieldsWriter writer = _findFieldsWriter();
+            if (writer != null) {
+                if (_filteredProps != null) {
+                    final Class<?> view = provider.getActiveView();
+                    // formats that can not omit fields need to be told about excluded ones,
+                    // which only standard handling does
+                    if (view != null) {
+                        writer = gen.canOmitFields() ? _findViewWriter(view) : null;
+                    }
+                }
+                if (writer != null) {
+                    writer.serializeFields(bean, gen, provider);
+                    return;
+                }
+            }
+        }
+        super.serializeFields(bean, gen, provider);
+    }
+
+    @Override
+    protected void serializeFieldsFiltered(Object bean, JsonGenerator gen,
+            SerializerProvider provider) throws IOException
+    {
+        final BeanPropertyWriter[] projected = _useProjections ? _findProjectedProperties(provider) : null;
+        final boolean cacheDecisions = _cacheFilterDecisions && gen.canOmitFields();
+        if ((projected == null) && !cacheDecisions) {
+            super.serializeFieldsFiltered(bean, gen, provider);
+            return;
+        }
+        final PropertyFilter filter = findPropertyFilter(provider, _propertyFilterId, bean);
+        // better also allow missing filter, as databind does
+        if (filter == null) {
+            serializeFields(bean, gen, provider);
+            return;
+        }
+        final BeanPropertyWriter[] allProps = (projected == null) ? _currentProperties(provider) : projected;
+        if (!cacheDecisions || !_hasNameBasedDecisions(filter)) {
+            _serializeProperties(bean, gen, provider, allProps, filter, true);
+            return;
+        }
+        final int slot = System.identityHashCode(filter) & (FILTER_CACHE_SIZE - 1);
+        FilteredProperties filtered = _filteredProperties[slot];
+        if ((filtered == null) || (filtered.source != filter) || (filtered.allProperties != allProps)) {
+            filtered = _findFilteredProperties(filter, allProps, bean, gen, provider);
+            _filteredProperties[slot] = filtered;
+        }
+        _serializeProperties(bean, gen, provider, filtered.properties, filter, false);
+    }
+
+    /**
+     * Helper method that writes given properties, same way as
+     * {@link #serializeFields} and {@link #serializeFieldsFiltered} do.
+     *
+     * @param filter Filter to use for "any getter", if any
+     * @param callFilter Whether properties are to be written via filter
+     *   or directly
+     */
+    protected void _serializeProperties(Object bean, JsonGenerator gen, SerializerProvider provider,
+            BeanPropertyWriter[] props, PropertyFilter filter, boolean callFilter)
+        throws IOException
+    {
+        int i = 0;
+        try {
+            for (final int len = props.length; i < len; ++i) {
+                BeanPropertyWriter prop = props[i];
+                if (prop != null) { // can have nulls in filtered list
+                    if (callFilter) {
+                        filter.serializeAsField(bean, gen, provider, prop);
+                    } else {
+                        prop.serializeAsField(bean, gen, provider);
+                    }
+                }
+            }
+            if (_anyGetterWriter != null) {
+                if (filter == null) {
+                    _anyGetterWriter.getAndSerialize(bean, gen, provider);
+                } else {
+                    _anyGetterWriter.getAndFilter(bean, gen, provider, filter);
+                }
+            }
+        } catch (Exception e) {
+            String name = (i == props.length) ? "[anySetter]" : props[i].getName();
+            wrapAndThrow(provider, e, bean, name);
+        } catch (StackOverflowError e) {
+            // as with databind, avoid "from" method, as there are few frames to spare
+            JsonMappingException mapE = new JsonMappingException(gen, "Infinite recursion (StackOverflowError)", e);
+            String name = (i == props.length) ? "[anySetter]" : props[i].getName();
+            mapE.prependPath(new JsonMappingException.Reference(bean, name));
+            throw mapE;
+        }
+    }
+
+    /**
+     * Helper method for accessing properties to write with current
+     * active view, if any.
+     */
+    protected final BeanPropertyWriter[] _currentProperties(SerializerProvider provider)
+    {
+        if (_filteredProps != null && provider.getActiveView() != null) {
+            return _filteredProps;
+        }
+        return _props;
+    }
+
+    /**
+     * Helper method for finding properties to write with {@link PropertyProjection}
+     * given as attribute, if any.
+     *
+     * @return Properties to write, if there is a projection for type of
+     *   this serializer; null if not
+     */
+    protected BeanPropertyWriter[] _findProjectedProperties(SerializerProvider provider)
+    {
+        final Object attr = provider.getAttribute(PropertyProjection.class);
+        if (attr == null) {
+            return null;
+        }
+        final BeanPropertyWriter[] allProps = _currentProperties(provider);
+        FilteredProperties projected = _projectedProperties;
+        if ((projected == null) || (projected.source != attr) || (projected.allProperties != allProps)) {
+            Set<String> names = ((PropertyProjection) attr).includedProperties(handledType());
+            BeanPropertyWriter[] props = null;
+            if (names != null) {
+                props = new BeanPropertyWriter[allProps.length];
+                int count = 0;
+                for (BeanPropertyWriter prop : allProps) {
+                    if ((prop != null) && names.contains(prop.getName())) {
+                        props[count++] = prop;
+                    }
+                }
+                props = _trim(props, count);
+            }
+            projected = new FilteredProperties(attr, allProps, props);
+            _projectedProperties = projected;
+        }
+        return projected.properties;
+    }
+
+    /**
+     * Helper method for checking whether inclusion decisions of given filter
+     * only depend on names of properties, and may thereby be cached: this is
+     * the case for standard filters that include or exclude named properties.
+     */
+    protected boolean _hasNameBasedDecisions(PropertyFilter filter)
+    {
+        if (filter == null) {
+            return false;
+        }
+        Class<?> cls = filter.getClass();
+        return (cls == SimpleBeanPropertyFilter.FilterExceptFilter.class)
+                || (cls == SimpleBeanPropertyFilter.SerializeExceptFilter.class);
+    }
+
+    /**
+     * Helper method that determines which of given properties given filter
+     * includes: this is done by letting filter "serialize" placeholder
+     * writers that just record whether they were called.
+     */
+    protected FilteredProperties _findFilteredProperties(PropertyFilter filter,
+            BeanPropertyWriter[] allProps, Object bean, JsonGenerator gen,
+            SerializerProvider provider) throws IOException
+    {
+        BeanPropertyWriter[] result = new BeanPropertyWriter[allProps.length];
+        int count = 0;
+        for (BeanPropertyWriter prop : allProps) {
+            if (prop == null) { // can have nulls in filtered list
+                continue;
+            }
+            InclusionProbe probe = new InclusionProbe(prop);
+            try {
+                filter.serializeAsField(bean, gen, provider, probe);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw JsonMappingException.from(gen, e.getMessage(), e);
+            }
+            if (probe.included) {
+                result[count++] = prop;
+            }
+        }
+        return new FilteredProperties(filter, allProps, _trim(result, count));
+    }
+
+    protected BeanFieldsWriter _findFieldsWriter()
+    {
+        // may get built more than once by concurrent calls, but that is harmless
+        if (!_fieldsWriterBuilt) {
+            if (_anyGetterWriter == null) {
+                _fieldsWriter = _writerGenerator.buildWriter(this, _props);
+            }
+            _fieldsWriterBuilt = true;
+        }
+        return _fieldsWriter;
+    }
+
+    /**
+     * Method for finding generated writer for properties that are to be
+     * included with given active view; only called if a writer for all
+     * properties could be built.
+     *
+     * @return Writer to use, if one could be generated; null if not
+     */
+    protected BeanFieldsWriter _findViewWriter(Class<?> view)
+    {
+        BeanFieldsWriter writer = _viewWriters.get(view);
+        if (writer == null) {
+            BeanPropertyWriter[] props = _findViewProperties(view);
+            if (props == null) {
+                return null;
+            }
+            writer = _writerGenerator.buildWriter(this, props);
+            if (writer == null) {
+                return null;
+            }
+            _viewWriters.put(view, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Helper method for determining properties that are included with given
+     * active view, using the same rules as view-based filtered writers.
+     *
+     * @return Properties to include, if they could be determined; null if not
+     *   (in case filtered writers are of unrecognized types)
+     */
+    protected BeanPropertyWriter[] _findViewProperties(Class<?> view)
+    {
+        final BeanPropertyWriter[] filtered = _filteredProps;
+        BeanPropertyWriter[] result = new BeanPropertyWriter[filtered.length];
+        int count = 0;
+        for (int i = 0, len = filtered.length; i < len; ++i) {
+            final BeanPropertyWriter fp = filtered[i];
+            if (fp == null) { // excluded from all views
+                continue;
+            }
+            final BeanPropertyWriter prop = _props[i];
+            if (fp != prop) {
+                // must be one of standard view-based writers, with known semantics
+                if (fp.getClass().getEnclosingClass() != FilteredBeanPropertyWriter.class) {
+                    return null;
+                }
+                if (!_isIncludedIn(fp.getViews(), view)) {
+                    continue;
+                }
+            }
+            result[count++] = prop;
+        }
+        return _trim(result, count);
+    }
+
+    private static BeanPropertyWriter[] _trim(BeanPropertyWriter[] props, int count)
+    {
+        if (count < props.length) {
+            BeanPropertyWriter[] trimmed = new BeanPropertyWriter[count];
+            System.arraycopy(props, 0, trimmed, 0, count);
+            return trimmed;
+        }
+        return props;
+    }
+
+    private static boolean _isIncludedIn(Class<?>[] views, Class<?> activeView)
+    {
+        if (views == null) {
+            return true;
+        }
+        for (Class<?> view : views) {
+            if (view.isAssignableFrom(activeView)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override public String toString() {
+        return "OptimizedBeanSerializer for "+handledType().getName();
+    }
+
+    /*
+    /**********************************************************
+    /* Helper classes
+    /**********************************************************
+     */
+
+    /**
+     * Immutable container for properties that given filter or projection
+     * includes, out of given set of properties.
+     */
+    protected final static class FilteredProperties
+    {
+        public final Object source;
+        public final BeanPropertyWriter[] allProperties;
+        public final BeanPropertyWriter[] properties;
+
+        public FilteredProperties(Object source, BeanPropertyWriter[] allProps,
+                BeanPropertyWriter[] props) {
+            this.source = source;
+            allProperties = allProps;
+            properties = props;
+        }
+    }
+
+    /**
+     * Immutable container for pre-encoded type id (and name of type id
+     * property, if any) to use with given type serializer, for given type.
+     */
+    protected final static class TypeIdInfo
+    {
+        public final TypeSerializer typeSerializer;
+        public final Class<?> type;
+        public final boolean asWrapper;
+
+        /**
+         * Type id to write; null if type id can not be cached
+         */
+        public final SerializableString typeId;
+        public final SerializableString propertyName;
+
+        public TypeIdInfo(TypeSerializer typeSer, Class<?> type, boolean asWrapper,
+                SerializableString typeId, SerializableString propertyName) {
+            typeSerializer = typeSer;
+            this.type = type;
+            this.asWrapper = asWrapper;
+            this.typeId = typeId;
+            this.propertyName = propertyName;
+        }
+    }
+
+    /**
+     * Placeholder writer passed to filters, to find out whether they would
+     * write the property; has same name and metadata as the actual writer.
+     */
+    @SuppressWarnings("serial")
+    private final static class InclusionProbe extends BeanPropertyWriter
+    {
+        boolean included;
+
+        public InclusionProbe(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) {
+            included = true;
+        }
+
+        @Override
+        public void serializeAsOmittedField(Object bean, JsonGenerator gen, SerializerProvider prov) { }
+    }
+}
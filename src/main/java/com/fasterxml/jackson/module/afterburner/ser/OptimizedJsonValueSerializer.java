@@ -0,0 +1,250 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.JsonValueSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+
+/**
+ * {@link JsonValueSerializer} that calls the "value method" of the bean
+ * using a generated {@link BeanPropertyAccessor}, instead of Reflection.
+ * Values returned by value methods with return type of {@code String},
+ * {@code int} or {@code long} are also written directly, without boxing,
+ * as long as standard serializers would be used for them.
+ *
+ * @since 2.7.2
+ */
+public class OptimizedJsonValueSerializer extends JsonValueSerializer
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final static int VALUE_OBJECT = 0;
+    protected final static int VALUE_STRING = 1;
+    protected final static int VALUE_INT = 2;
+    protected final static int VALUE_LONG = 3;
+
+    protected final BeanPropertyAccessor _propertyAccessor;
+
+    /**
+     * Which one of value getters of {@link #_propertyAccessor} is to be called
+     */
+    protected final int _valueKind;
+
+    /**
+     * Whether values can be written directly using generator, instead of
+     * boxing them and calling the value serializer.
+     */
+    protected final boolean _writeDirectly;
+
+    // Intentionally not volatile for performance, worst case is we throw a few extra exceptions
+    protected boolean _broken = false;
+
+    public OptimizedJsonValueSerializer(Method valueMethod, BeanPropertyAccessor acc)
+    {
+        super(valueMethod, null);
+        _propertyAccessor = acc;
+        _valueKind = _valueKind(valueMethod.getReturnType());
+        _writeDirectly = false;
+    }
+
+    protected OptimizedJsonValueSerializer(OptimizedJsonValueSerializer src, BeanProperty property,
+            JsonSerializer<?> ser, boolean forceTypeInfo)
+    {
+        super(src, property, ser, forceTypeInfo);
+        _propertyAccessor = src._propertyAccessor;
+        _valueKind = src._valueKind;
+        _writeDirectly = _canWriteDirectly(_valueKind, ser);
+        _broken = src._broken;
+    }
+
+    @Override
+    public JsonValueSerializer withResolved(BeanProperty property,
+            JsonSerializer<?> ser, boolean forceTypeInfo)
+    {
+        if (_property == property && _valueSerializer == ser
+                && forceTypeInfo == _forceTypeInformation) {
+            return this;
+        }
+        return new OptimizedJsonValueSerializer(this, property, ser, forceTypeInfo);
+    }
+
+    /**
+     * Helper method for checking whether accessor methods for given return type
+     * can be generated.
+     */
+    public static boolean isSupportedType(Class<?> type) {
+        return !type.isPrimitive() || (type == Integer.TYPE) || (type == Long.TYPE);
+    }
+
+    private static int _valueKind(Class<?> type)
+    {
+        if (type == Integer.TYPE) {
+            return VALUE_INT;
+        }
+        if (type == Long.TYPE) {
+            return VALUE_LONG;
+        }
+        if (type == String.class) {
+            return VALUE_STRING;
+        }
+        return VALUE_OBJECT;
+    }
+
+    // Only standard serializers are known to just write the value as is
+    private static boolean _canWriteDirectly(int valueKind, JsonSerializer<?> ser)
+    {
+        if (ser == null) {
+            return false;
+        }
+        switch (valueKind) {
+        case VALUE_INT:
+            return ser.getClass() == NumberSerializers.IntegerSerializer.class;
+        case VALUE_LONG:
+            return ser.getClass() == NumberSerializers.LongSerializer.class;
+        case VALUE_STRING:
+            return ser.getClass() == StringSerializer.class;
+        }
+        return false;
+    }
+
+    /*
+    /**********************************************************
+    /* Actual serialization
+    /**********************************************************
+     */
+
+    @Override
+    public void serialize(Object bean, JsonGenerator gen, SerializerProvider prov) throws IOException
+    {
+        if (_broken) {
+            super.serialize(bean, gen, prov);
+            return;
+        }
+        try {
+            if (_writeDirectly) {
+                switch (_valueKind) {
+                case VALUE_INT:
+                    gen.writeNumber(_propertyAccessor.intValueGetter(bean));
+                    return;
+                case VALUE_LONG:
+                    gen.writeNumber(_propertyAccessor.longValueGetter(bean));
+                    return;
+                default: // only Strings remain
+                    String str = _propertyAccessor.stringValueGetter(bean);
+                    if (str == null) {
+                        prov.defaultSerializeNull(gen);
+                    } else {
+                        gen.writeString(str);
+                    }
+                    return;
+                }
+            }
+            Object value = _getValue(bean);
+            if (value == null) {
+                prov.defaultSerializeNull(gen);
+                return;
+            }
+            JsonSerializer<Object> ser = _valueSerializer;
+            if (ser == null) {
+                ser = prov.findTypedValueSerializer(value.getClass(), true, _property);
+            }
+            ser.serialize(value, gen, prov);
+        } catch (IOException e) {
+            throw e;
+        } catch (Throwable t) {
+            if (!_isAccessProblem(bean, t)) {
+                throw _wrap(t, bean);
+            }
+            super.serialize(bean, gen, prov);
+        }
+    }
+
+    @Override
+    public void serializeWithType(Object bean, JsonGenerator gen, SerializerProvider provider,
+            TypeSerializer typeSer0) throws IOException
+    {
+        if (_broken) {
+            super.serializeWithType(bean, gen, provider, typeSer0);
+            return;
+        }
+        try {
+            Object value = _getValue(bean);
+            if (value == null) {
+                provider.defaultSerializeNull(gen);
+                return;
+            }
+            JsonSerializer<Object> ser = _valueSerializer;
+            if (ser == null) {
+                ser = provider.findValueSerializer(value.getClass(), _property);
+            } else if (_forceTypeInformation) {
+                // same as standard serializer, natural types need to be wrapped
+                typeSer0.writeTypePrefixForScalar(bean, gen);
+                ser.serialize(value, gen, provider);
+                typeSer0.writeTypeSuffixForScalar(bean, gen);
+                return;
+            }
+            ser.serializeWithType(value, gen, provider, typeSer0);
+        } catch (IOException e) {
+            throw e;
+        } catch (Throwable t) {
+            if (!_isAccessProblem(bean, t)) {
+                throw _wrap(t, bean);
+            }
+            super.serializeWithType(bean, gen, provider, typeSer0);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    protected Object _getValue(Object bean)
+    {
+        switch (_valueKind) {
+        case VALUE_INT:
+            return Integer.valueOf(_propertyAccessor.intValueGetter(bean));
+        case VALUE_LONG:
+            return Long.valueOf(_propertyAccessor.longValueGetter(bean));
+        case VALUE_STRING:
+            return _propertyAccessor.stringValueGetter(bean);
+        }
+        return _propertyAccessor.objectValueGetter(bean);
+    }
+
+    /**
+     * Helper method for checking whether given problem was an access error
+     * caused by generated accessor; if so, its use is disabled and caller
+     * will fall back to using Reflection.
+     */
+    protected boolean _isAccessProblem(Object bean, Throwable t)
+    {
+        if (!(t instanceof IllegalAccessError) && !(t instanceof SecurityException)) {
+            return false;
+        }
+        _broken = true;
+        String msg = String.format("Disabling Afterburner value method calls for %s (accessor %s), due to access error (type %s, message=%s)%n",
+                bean.getClass(), _propertyAccessor.getClass().getName(),
+                t.getClass().getName(), t.getMessage());
+        Logger.getLogger(OptimizedJsonValueSerializer.class.getName()).log(Level.WARNING, msg, t);
+        return true;
+    }
+
+    // Same as what standard serializer does, minus unwrapping of reflection exceptions
+    protected JsonMappingException _wrap(Throwable t, Object bean)
+    {
+        // Errors shouldn't be wrapped (and often can't, as well)
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return JsonMappingException.wrapWithPath(t, bean, _accessorMethod.getName() + "()");
+    }
+}
@@ -8,9 +8,11 @@ import org.objectweb.asm.*;
 import static org.objectweb.asm.Opcodes.*;
 
 import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.module.afterburner.util.ClassName;
 import com.fasterxml.jackson.module.afterburner.util.DynamicPropertyAccessorBase;
+import com.fasterxml.jackson.module.afterburner.util.GeneratedClassRegistry;
 import com.fasterxml.jackson.module.afterburner.util.MyClassLoader;
 
 /**
@@ -27,13 +29,36 @@ public class PropertyAccessorCollector
     private final List<IntMethodPropertyWriter> _intGetters = new LinkedList<IntMethodPropertyWriter>();
     private final List<LongMethodPropertyWriter> _longGetters = new LinkedList<LongMethodPropertyWriter>();
     private final List<StringMethodPropertyWriter> _stringGetters = new LinkedList<StringMethodPropertyWriter>();
-    private final List<ObjectMethodPropertyWriter> _objectGetters = new LinkedList<ObjectMethodPropertyWriter>();
+    // also contains writers for wrapper types, which use Object-valued getters
+    private final List<OptimizedBeanPropertyWriter<?>> _objectGetters = new LinkedList<OptimizedBeanPropertyWriter<?>>();
+    private final List<DoubleMethodPropertyWriter> _doubleGetters = new LinkedList<DoubleMethodPropertyWriter>();
+    private final List<FloatMethodPropertyWriter> _floatGetters = new LinkedList<FloatMethodPropertyWriter>();
+    private final List<ShortMethodPropertyWriter> _shortGetters = new LinkedList<ShortMethodPropertyWriter>();
+    private final List<ByteMethodPropertyWriter> _byteGetters = new LinkedList<ByteMethodPropertyWriter>();
+    private final List<CharMethodPropertyWriter> _charGetters = new LinkedList<CharMethodPropertyWriter>();
     
     private final List<BooleanFieldPropertyWriter> _booleanFields = new LinkedList<BooleanFieldPropertyWriter>();
     private final List<IntFieldPropertyWriter> _intFields = new LinkedList<IntFieldPropertyWriter>();
     private final List<LongFieldPropertyWriter> _longFields = new LinkedList<LongFieldPropertyWriter>();
     private final List<StringFieldPropertyWriter> _stringFields = new LinkedList<StringFieldPropertyWriter>();
-    private final List<ObjectFieldPropertyWriter> _objectFields = new LinkedList<ObjectFieldPropertyWriter>();
+    private final List<OptimizedBeanPropertyWriter<?>> _objectFields = new LinkedList<OptimizedBeanPropertyWriter<?>>();
+    private final List<DoubleFieldPropertyWriter> _doubleFields = new LinkedList<DoubleFieldPropertyWriter>();
+    private final List<FloatFieldPropertyWriter> _floatFields = new LinkedList<FloatFieldPropertyWriter>();
+    private final List<ShortFieldPropertyWriter> _shortFields = new LinkedList<ShortFieldPropertyWriter>();
+    private final List<ByteFieldPropertyWriter> _byteFields = new LinkedList<ByteFieldPropertyWriter>();
+    private final List<CharFieldPropertyWriter> _charFields = new LinkedList<CharFieldPropertyWriter>();
+
+    private AnnotatedMethod _anyGetter;
+
+    private AnnotatedMethod _valueMethod;
+
+    /**
+     * Whether some of the members to access are 'private', in which case
+     * generated class should be defined as a nestmate of the bean class.
+     *
+     * @since 2.7.2
+     */
+    private boolean _privateAccess;
 
     private final Class<?> beanClass;
     private final String beanClassName;
@@ -62,7 +87,22 @@ public class PropertyAccessorCollector
         return _add(_stringGetters, new StringMethodPropertyWriter(bpw, null, _stringGetters.size(), null));
     }
     public ObjectMethodPropertyWriter addObjectGetter(BeanPropertyWriter bpw) {
-        return _add(_objectGetters, new ObjectMethodPropertyWriter(bpw, null, _objectGetters.size(), null));
+        return _addObjectGetter(new ObjectMethodPropertyWriter(bpw, null, _objectGetters.size(), null));
+    }
+    public DoubleMethodPropertyWriter addDoubleGetter(BeanPropertyWriter bpw) {
+        return _add(_doubleGetters, new DoubleMethodPropertyWriter(bpw, null, _doubleGetters.size(), null));
+    }
+    public FloatMethodPropertyWriter addFloatGetter(BeanPropertyWriter bpw) {
+        return _add(_floatGetters, new FloatMethodPropertyWriter(bpw, null, _floatGetters.size(), null));
+    }
+    public ShortMethodPropertyWriter addShortGetter(BeanPropertyWriter bpw) {
+        return _add(_shortGetters, new ShortMethodPropertyWriter(bpw, null, _shortGetters.size(), null));
+    }
+    public ByteMethodPropertyWriter addByteGetter(BeanPropertyWriter bpw) {
+        return _add(_byteGetters, new ByteMethodPropertyWriter(bpw, null, _byteGetters.size(), null));
+    }
+    public CharMethodPropertyWriter addCharGetter(BeanPropertyWriter bpw) {
+        return _add(_charGetters, new CharMethodPropertyWriter(bpw, null, _charGetters.size(), null));
     }
 
     public BooleanFieldPropertyWriter addBooleanField(BeanPropertyWriter bpw) {
@@ -78,7 +118,114 @@ public class PropertyAccessorCollector
         return _add(_stringFields, new StringFieldPropertyWriter(bpw, null, _stringFields.size(), null));
     }
     public ObjectFieldPropertyWriter addObjectField(BeanPropertyWriter bpw) {
-        return _add(_objectFields, new ObjectFieldPropertyWriter(bpw, null, _objectFields.size(), null));
+        return _addObjectField(new ObjectFieldPropertyWriter(bpw, null, _objectFields.size(), null));
+    }
+    public DoubleFieldPropertyWriter addDoubleField(BeanPropertyWriter bpw) {
+        return _add(_doubleFields, new DoubleFieldPropertyWriter(bpw, null, _doubleFields.size(), null));
+    }
+    public FloatFieldPropertyWriter addFloatField(BeanPropertyWriter bpw) {
+        return _add(_floatFields, new FloatFieldPropertyWriter(bpw, null, _floatFields.size(), null));
+    }
+    public ShortFieldPropertyWriter addShortField(BeanPropertyWriter bpw) {
+        return _add(_shortFields, new ShortFieldPropertyWriter(bpw, null, _shortFields.size(), null));
+    }
+    public ByteFieldPropertyWriter addByteField(BeanPropertyWriter bpw) {
+        return _add(_byteFields, new ByteFieldPropertyWriter(bpw, null, _byteFields.size(), null));
+    }
+    public CharFieldPropertyWriter addCharField(BeanPropertyWriter bpw) {
+        return _add(_charFields, new CharFieldPropertyWriter(bpw, null, _charFields.size(), null));
+    }
+
+    /**
+     * Writers for wrapper types ({@link java.lang.Integer}, {@link java.lang.Long},
+     * {@link java.lang.Double}, {@link java.lang.Boolean}) use Object-valued
+     * accessors, and only differ from plain Object writers in how they
+     * write values.
+     *
+     * @since 2.7.2
+     */
+    public BoxedIntMethodPropertyWriter addBoxedIntGetter(BeanPropertyWriter bpw) {
+        return _addObjectGetter(new BoxedIntMethodPropertyWriter(bpw, null, _objectGetters.size(), null));
+    }
+    public BoxedLongMethodPropertyWriter addBoxedLongGetter(BeanPropertyWriter bpw) {
+        return _addObjectGetter(new BoxedLongMethodPropertyWriter(bpw, null, _objectGetters.size(), null));
+    }
+    public BoxedDoubleMethodPropertyWriter addBoxedDoubleGetter(BeanPropertyWriter bpw) {
+        return _addObjectGetter(new BoxedDoubleMethodPropertyWriter(bpw, null, _objectGetters.size(), null));
+    }
+    public BoxedBooleanMethodPropertyWriter addBoxedBooleanGetter(BeanPropertyWriter bpw) {
+        return _addObjectGetter(new BoxedBooleanMethodPropertyWriter(bpw, null, _objectGetters.size(), null));
+    }
+
+    public BoxedIntFieldPropertyWriter addBoxedIntField(BeanPropertyWriter bpw) {
+        return _addObjectField(new BoxedIntFieldPropertyWriter(bpw, null, _objectFields.size(), null));
+    }
+    public BoxedLongFieldPropertyWriter addBoxedLongField(BeanPropertyWriter bpw) {
+        return _addObjectField(new BoxedLongFieldPropertyWriter(bpw, null, _objectFields.size(), null));
+    }
+    public BoxedDoubleFieldPropertyWriter addBoxedDoubleField(BeanPropertyWriter bpw) {
+        return _addObjectField(new BoxedDoubleFieldPropertyWriter(bpw, null, _objectFields.size(), null));
+    }
+    public BoxedBooleanFieldPropertyWriter addBoxedBooleanField(BeanPropertyWriter bpw) {
+        return _addObjectField(new BoxedBooleanFieldPropertyWriter(bpw, null, _objectFields.size(), null));
+    }
+
+    /**
+     * Writers for Enum types also use Object-valued accessors.
+     *
+     * @since 2.7.2
+     */
+    public EnumMethodPropertyWriter addEnumGetter(BeanPropertyWriter bpw) {
+        return _addObjectGetter(new EnumMethodPropertyWriter(bpw, null, _objectGetters.size(), null));
+    }
+    public EnumFieldPropertyWriter addEnumField(BeanPropertyWriter bpw) {
+        return _addObjectField(new EnumFieldPropertyWriter(bpw, null, _objectFields.size(), null));
+    }
+
+    /**
+     * Method for specifying "any getter" method of the bean, to be called
+     * using {@link BeanPropertyAccessor#anyGetter}. Method must be a non-private,
+     * no-arguments member method that returns an Object.
+     *
+     * @since 2.7.2
+     */
+    public void setAnyGetter(AnnotatedMethod anyGetter) {
+        _anyGetter = anyGetter;
+    }
+
+    /**
+     * Method for specifying "value method" of the bean, to be called using
+     * one of value getters of {@link BeanPropertyAccessor}, depending on its
+     * return type. Method must be a non-private, no-arguments member method
+     * that returns a reference type, {@code int} or {@code long}.
+     *
+     * @since 2.7.2
+     */
+    public void setValueMethod(AnnotatedMethod valueMethod) {
+        _valueMethod = valueMethod;
+    }
+
+    /**
+     * Method for indicating that some of properties added are accessed
+     * using 'private' members of the bean class, so generated class needs
+     * to be defined as a nestmate of the bean class, if possible (see
+     * {@link MyClassLoader#loadAndResolveNestmate}). If not possible,
+     * access to these properties will fail, and will use Reflection instead.
+     *
+     * @since 2.7.2
+     */
+    public void setPrivateAccess(boolean state) {
+        _privateAccess = state;
+    }
+
+    private <T extends OptimizedBeanPropertyWriter<T>> T _addObjectGetter(T writer) {
+        _add(_objectGetters, writer);
+        return writer;
+    }
+
+    private <T extends OptimizedBeanPropertyWriter<T>> T _addObjectField(T writer) {
+        _add(_objectFields, writer);
+        return writer;
     }
 
     /*
@@ -91,10 +238,16 @@ public class PropertyAccessorCollector
     {
         // if we weren't passed a class loader, we will base it on value type CL, try to use parent
         if (classLoader == null) {
-            classLoader = new MyClassLoader(beanClass.getClassLoader(), true);
+            classLoader = MyClassLoader.sharedLoaderFor(beanClass, true);
+        }
+        // Classes generated by other mappers may be reused as is, without generating bytecode
+        final String signature = _signature();
+        Class<?> accessorClass = GeneratedClassRegistry.find(beanClass, signature);
+        if (accessorClass == null) {
+            final ClassName baseName = ClassName.constructFor(beanClass, "$Access4JacksonDeserializer");
+            accessorClass = generateAccessorClass(classLoader, baseName);
+            GeneratedClassRegistry.register(beanClass, signature, accessorClass);
         }
-        final ClassName baseName = ClassName.constructFor(beanClass, "$Access4JacksonDeserializer");
-        Class<?> accessorClass = generateAccessorClass(classLoader, baseName);
         try {
             return (BeanPropertyAccessor) accessorClass.newInstance();
         } catch (Exception e) {
@@ -102,6 +255,58 @@ public class PropertyAccessorCollector
         }
     }
 
+    /**
+     * Method for constructing signature that determines contents of the
+     * accessor class to generate; used as key for {@link GeneratedClassRegistry}.
+     *
+     * @since 2.7.2
+     */
+    protected String _signature()
+    {
+        StringBuilder sb = new StringBuilder(100).append("accessor;");
+        _appendProps(sb, "intFields", _intFields);
+        _appendProps(sb, "longFields", _longFields);
+        _appendProps(sb, "stringFields", _stringFields);
+        _appendProps(sb, "objectFields", _objectFields);
+        _appendProps(sb, "booleanFields", _booleanFields);
+        _appendProps(sb, "doubleFields", _doubleFields);
+        _appendProps(sb, "floatFields", _floatFields);
+        _appendProps(sb, "shortFields", _shortFields);
+        _appendProps(sb, "byteFields", _byteFields);
+        _appendProps(sb, "charFields", _charFields);
+        _appendProps(sb, "intGetters", _intGetters);
+        _appendProps(sb, "longGetters", _longGetters);
+        _appendProps(sb, "stringGetters", _stringGetters);
+        _appendProps(sb, "objectGetters", _objectGetters);
+        _appendProps(sb, "booleanGetters", _booleanGetters);
+        _appendProps(sb, "doubleGetters", _doubleGetters);
+        _appendProps(sb, "floatGetters", _floatGetters);
+        _appendProps(sb, "shortGetters", _shortGetters);
+        _appendProps(sb, "byteGetters", _byteGetters);
+        _appendProps(sb, "charGetters", _charGetters);
+        if (_anyGetter != null) {
+            sb.append("anyGetter:");
+            _appendMember(sb, _anyGetter.getAnnotated());
+        }
+        if (_valueMethod != null) {
+            sb.append("valueMethod:");
+            _appendMember(sb, _valueMethod.getAnnotated());
+        }
+        return sb.toString();
+    }
+
+    private static void _appendProps(StringBuilder sb, String kind,
+            List<? extends OptimizedBeanPropertyWriter<?>> props)
+    {
+        if (!props.isEmpty()) {
+            sb.append(kind).append(':');
+            for (OptimizedBeanPropertyWriter<?> prop : props) {
+                _appendMember(sb, prop.getMember().getMember());
+            }
+            sb.append(';');
+        }
+    }
+
     public Class<?> generateAccessorClass(MyClassLoader classLoader, ClassName baseName)
     {
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
@@ -141,6 +346,21 @@ public class PropertyAccessorCollector
             // booleans treated as ints 0 (false) and 1 (true)
             _addFields(cw, _booleanFields, "booleanField", Type.BOOLEAN_TYPE, IRETURN);
         }
+        if (!_doubleFields.isEmpty()) {
+            _addFields(cw, _doubleFields, "doubleField", Type.DOUBLE_TYPE, DRETURN);
+        }
+        if (!_floatFields.isEmpty()) {
+            _addFields(cw, _floatFields, "floatField", Type.FLOAT_TYPE, FRETURN);
+        }
+        if (!_shortFields.isEmpty()) {
+            _addFields(cw, _shortFields, "shortField", Type.SHORT_TYPE, IRETURN);
+        }
+        if (!_byteFields.isEmpty()) {
+            _addFields(cw, _byteFields, "byteField", Type.BYTE_TYPE, IRETURN);
+        }
+        if (!_charFields.isEmpty()) {
+            _addFields(cw, _charFields, "charField", Type.CHAR_TYPE, IRETURN);
+        }
 
         // and then method accessors:
         if (!_intGetters.isEmpty()) {
@@ -158,10 +378,38 @@ public class PropertyAccessorCollector
         if (!_booleanGetters.isEmpty()) {
             _addGetters(cw, _booleanGetters, "booleanGetter", Type.BOOLEAN_TYPE, IRETURN);
         }
+        if (!_doubleGetters.isEmpty()) {
+            _addGetters(cw, _doubleGetters, "doubleGetter", Type.DOUBLE_TYPE, DRETURN);
+        }
+        if (!_floatGetters.isEmpty()) {
+            _addGetters(cw, _floatGetters, "floatGetter", Type.FLOAT_TYPE, FRETURN);
+        }
+        if (!_shortGetters.isEmpty()) {
+            _addGetters(cw, _shortGetters, "shortGetter", Type.SHORT_TYPE, IRETURN);
+        }
+        if (!_byteGetters.isEmpty()) {
+            _addGetters(cw, _byteGetters, "byteGetter", Type.BYTE_TYPE, IRETURN);
+        }
+        if (!_charGetters.isEmpty()) {
+            _addGetters(cw, _charGetters, "charGetter", Type.CHAR_TYPE, IRETURN);
+        }
+        if (_anyGetter != null) {
+            _addAnyGetter(cw, _anyGetter.getAnnotated());
+        }
+        if (_valueMethod != null) {
+            _addValueGetter(cw, _valueMethod.getAnnotated());
+        }
 
         cw.visitEnd();
         byte[] bytecode = cw.toByteArray();
         baseName.assignChecksum(bytecode);
+        // private members can only be accessed by nestmates, which are never shared by name
+        if (_privateAccess) {
+            Class<?> nestmate = classLoader.loadAndResolveNestmate(baseName, bytecode);
+            if (nestmate != null) {
+                return nestmate;
+            }
+        }
 
         // Did we already generate this?
         try {
@@ -177,7 +425,7 @@ public class PropertyAccessorCollector
     /**********************************************************
      */
 
-    private <T extends OptimizedBeanPropertyWriter<T>> void _addGetters(ClassWriter cw, List<T> props,
+    private void _addGetters(ClassWriter cw, List<? extends OptimizedBeanPropertyWriter<?>> props,
             String methodName, Type returnType, int returnOpcode)
     {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, "(Ljava/lang/Object;I)"+returnType, /*generic sig*/null, null);
@@ -205,13 +453,66 @@ public class PropertyAccessorCollector
         mv.visitEnd();
     }
     
+    private void _addAnyGetter(ClassWriter cw, Method method)
+    {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "anyGetter",
+                "(Ljava/lang/Object;)Ljava/lang/Object;", /*generic sig*/null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, beanClassName);
+        int invokeInsn = beanClass.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL;
+        mv.visitMethodInsn(invokeInsn, beanClassName, method.getName(),
+                Type.getMethodDescriptor(method), beanClass.isInterface());
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+    }
+
+    private void _addValueGetter(ClassWriter cw, Method method)
+    {
+        final Class<?> type = method.getReturnType();
+        final String methodName;
+        final Type returnType;
+        final int returnOpcode;
+        if (type == Integer.TYPE) {
+            methodName = "intValueGetter";
+            returnType = Type.INT_TYPE;
+            returnOpcode = IRETURN;
+        } else if (type == Long.TYPE) {
+            methodName = "longValueGetter";
+            returnType = Type.LONG_TYPE;
+            returnOpcode = LRETURN;
+        } else if (type == String.class) {
+            methodName = "stringValueGetter";
+            returnType = STRING_TYPE;
+            returnOpcode = ARETURN;
+        } else if (!type.isPrimitive()) {
+            methodName = "objectValueGetter";
+            returnType = OBJECT_TYPE;
+            returnOpcode = ARETURN;
+        } else {
+            throw new IllegalArgumentException("Unsupported return type for value method "+method);
+        }
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName,
+                "(Ljava/lang/Object;)"+returnType, /*generic sig*/null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, beanClassName);
+        int invokeInsn = beanClass.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL;
+        mv.visitMethodInsn(invokeInsn, beanClassName, method.getName(),
+                Type.getMethodDescriptor(method), beanClass.isInterface());
+        mv.visitInsn(returnOpcode);
+        mv.visitMaxs(0, 0); // don't care (real values: 1,1)
+        mv.visitEnd();
+    }
+
     /*
     /**********************************************************
     /* Code generation; field-based getters
     /**********************************************************
      */
     
-    private <T extends OptimizedBeanPropertyWriter<T>> void _addFields(ClassWriter cw, List<T> props,
+    private void _addFields(ClassWriter cw, List<? extends OptimizedBeanPropertyWriter<?>> props,
             String methodName, Type returnType, int returnOpcode)
     {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, "(Ljava/lang/Object;I)"+returnType, /*generic sig*/null, null);
@@ -257,8 +558,8 @@ public class PropertyAccessorCollector
         mv.visitInsn(returnOpcode);
     }
     
-    private <T extends OptimizedBeanPropertyWriter<T>> void _addGettersUsingIf(MethodVisitor mv,
-            List<T> props, int returnOpcode)
+    private void _addGettersUsingIf(MethodVisitor mv,
+            List<? extends OptimizedBeanPropertyWriter<?>> props, int returnOpcode)
     {
         mv.visitVarInsn(ILOAD, 2); // load second arg (index)
         Label next = new Label();
@@ -291,8 +592,8 @@ public class PropertyAccessorCollector
         }
     }
 
-    private <T extends OptimizedBeanPropertyWriter<T>> void _addGettersUsingSwitch(MethodVisitor mv,
-            List<T> props, int returnOpcode)
+    private void _addGettersUsingSwitch(MethodVisitor mv,
+            List<? extends OptimizedBeanPropertyWriter<?>> props, int returnOpcode)
     {
         mv.visitVarInsn(ILOAD, 2); // load second arg (index)
 
@@ -323,8 +624,8 @@ public class PropertyAccessorCollector
         mv.visitInsn(returnOpcode);
     }
     
-    private <T extends OptimizedBeanPropertyWriter<T>> void _addFieldsUsingIf(MethodVisitor mv,
-            List<T> props, int returnOpcode)
+    private void _addFieldsUsingIf(MethodVisitor mv,
+            List<? extends OptimizedBeanPropertyWriter<?>> props, int returnOpcode)
     {
         mv.visitVarInsn(ILOAD, 2); // load second arg (index)
         Label next = new Label();
@@ -354,8 +655,8 @@ public class PropertyAccessorCollector
         }
     }
 
-    private <T extends OptimizedBeanPropertyWriter<T>> void _addFieldsUsingSwitch(MethodVisitor mv,
-            List<T> props, int returnOpcode)
+    private void _addFieldsUsingSwitch(MethodVisitor mv,
+            List<? extends OptimizedBeanPropertyWriter<?>> props, int returnOpcode)
     {
         mv.visitVarInsn(ILOAD, 2); // load second arg (index)
 
@@ -0,0 +1,81 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Immutable definition of subsets of properties to serialize, per bean type,
+ * to be passed as an {@link ObjectWriter} attribute (using this class as the
+ * key; see {@link #applyTo}). Beans of types that have a projection
+ * only have properties with listed names written; beans of other types
+ * are serialized normally. Types are matched exactly, not including sub-types.
+ *<p>
+ * Projections are only applied by optimized bean serializers, if enabled
+ * with {@link com.fasterxml.jackson.module.afterburner.AfterburnerModule#setUsePropertyProjections}.
+ * Properties of "any getters" are not affected by projections, nor are
+ * beans serialized as arrays (with {@code JsonFormat.Shape.ARRAY}).
+ *<p>
+ * Sets of included properties are resolved and cached by serializers per
+ * projection instance, so it is more efficient to reuse projections than
+ * to construct new ones for each call.
+ *
+ * @since 2.7.2
+ */
+public final class PropertyProjection
+{
+    private final static PropertyProjection EMPTY = new PropertyProjection(
+            Collections.<Class<?>, Set<String>>emptyMap());
+
+    private final Map<Class<?>, Set<String>> _includes;
+
+    private PropertyProjection(Map<Class<?>, Set<String>> includes) {
+        _includes = includes;
+    }
+
+    /**
+     * Factory method for projection that has no property subsets for any
+     * types: starting point for constructing projections.
+     */
+    public static PropertyProjection empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Fluent factory method for constructing a projection that only
+     * includes properties with given names for beans of given type
+     * (replacing earlier definition for the type, if any).
+     */
+    public PropertyProjection withProperties(Class<?> beanType, String... names) {
+        return withProperties(beanType, Arrays.asList(names));
+    }
+
+    public PropertyProjection withProperties(Class<?> beanType, Collection<String> names)
+    {
+        Map<Class<?>, Set<String>> includes = new HashMap<Class<?>, Set<String>>(_includes);
+        includes.put(beanType, Collections.unmodifiableSet(new HashSet<String>(names)));
+        return new PropertyProjection(includes);
+    }
+
+    /**
+     * Method for constructing a writer that uses this projection.
+     */
+    public ObjectWriter applyTo(ObjectWriter w) {
+        return w.withAttribute(PropertyProjection.class, this);
+    }
+
+    /**
+     * Accessor for names of properties to include for beans of given type.
+     *
+     * @return Names of properties to include, if projection has them for
+     *   given type; null if all properties are to be included
+     */
+    public Set<String> includedProperties(Class<?> beanType) {
+        return _includes.get(beanType);
+    }
+
+    @Override
+    public String toString() {
+        return "[PropertyProjection: "+_includes+"]";
+    }
+}
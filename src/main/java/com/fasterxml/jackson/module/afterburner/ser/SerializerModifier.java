@@ -8,7 +8,10 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.ser.*;
+import com.fasterxml.jackson.databind.ser.std.JsonValueSerializer;
 import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.fasterxml.jackson.module.afterburner.util.GeneratorSettings;
+import com.fasterxml.jackson.module.afterburner.util.GeneratorSettings.Feature;
 import com.fasterxml.jackson.module.afterburner.util.MyClassLoader;
 
 public class SerializerModifier extends BeanSerializerModifier
@@ -18,11 +21,26 @@ public class SerializerModifier extends BeanSerializerModifier
      * use class loader of the target class.
      */
     protected final MyClassLoader _classLoader;
-    
-    public SerializerModifier(ClassLoader cl)
+
+    /**
+     * Settings for optional optimizations, as well as policy for class
+     * loaders and member access of generated classes.
+     *
+     * @since 2.7.2
+     */
+    protected final GeneratorSettings _settings;
+
+    public SerializerModifier(ClassLoader cl) {
+        this(new GeneratorSettings(cl));
+    }
+
+    /**
+     * @since 2.7.2
+     */
+    public SerializerModifier(GeneratorSettings settings)
     {
-        // If we were given parent class loader explicitly, use that:
-        _classLoader = (cl == null) ? null : new MyClassLoader(cl, false);
+        _settings = settings;
+        _classLoader = settings.getClassLoader();
     }
 
     @Override
@@ -30,22 +48,12 @@ public class SerializerModifier extends BeanSerializerModifier
             BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties)
     {
         final Class<?> beanClass = beanDesc.getBeanClass();
-        // [Issue#21]: Can't force access to sealed packages, or anything within "java."
-        //    namespace. (how about javax.?)
-        if (!MyClassLoader.canAddClassInPackageOf(beanClass)) {
+        // [Issue#21]: Can't force access to sealed packages, or anything within "java.",
+        //    nor private classes unless using class loader of bean class
+        if (!_settings.canGenerateFor(beanClass)) {
             return beanProperties;
         }
 
-        /* Hmmh. Can we access stuff from private classes?
-         * Possibly, if we can use parent class loader.
-         * (should probably skip all non-public?)
-         */
-        if (_classLoader != null) {
-            if (Modifier.isPrivate(beanClass.getModifiers())) {
-                return beanProperties;
-            }
-        }
-        
         PropertyAccessorCollector collector = findProperties(beanClass, config, beanProperties);
         if (collector.isEmpty()) {
             return beanProperties;
@@ -60,7 +68,7 @@ public class SerializerModifier extends BeanSerializerModifier
             BeanPropertyWriter bpw = it.next();
             if (bpw instanceof OptimizedBeanPropertyWriter<?>) {
                 if (acc == null) {
-                    acc = collector.findAccessor(_classLoader);
+                    acc = collector.findAccessor(_settings.classLoaderFor(beanClass));
                 }
                 it.set(((OptimizedBeanPropertyWriter<?>) bpw).withAccessor(acc));
             }
@@ -68,6 +76,71 @@ public class SerializerModifier extends BeanSerializerModifier
         return beanProperties;
     }
 
+    /**
+     * Standard {@link AnyGetterWriter}s are replaced with
+     * {@link OptimizedAnyGetterWriter}s, to call "any getter" methods
+     * using generated accessors.
+     *
+     * @since 2.7.2
+     */
+    @Override
+    public BeanSerializerBuilder updateBuilder(SerializationConfig config,
+            BeanDescription beanDesc, BeanSerializerBuilder builder)
+    {
+        AnyGetterWriter anyGetter = builder.getAnyGetter();
+        if (anyGetter == null) {
+            return builder;
+        }
+        final Class<?> beanClass = beanDesc.getBeanClass();
+        AnnotatedMethod method = _findAnyGetterMethod(beanDesc);
+        if ((method != null) && _settings.canGenerateFor(beanClass)) {
+            PropertyAccessorCollector collector = new PropertyAccessorCollector(beanClass);
+            collector.setAnyGetter(method);
+            AnyGetterWriter w = OptimizedAnyGetterWriter.construct(anyGetter, method,
+                    collector.findAccessor(_settings.classLoaderFor(beanClass)));
+            if (w != null) {
+                builder.setAnyGetter(w);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Standard {@link BeanSerializer}s for beans that have optimized
+     * property writers are replaced with {@link OptimizedBeanSerializer}s,
+     * to use optimized "POJO as array" serialization, as well as generated
+     * {@link BeanFieldsWriter}s, cached filter decisions and property
+     * projections, if enabled. Standard {@link JsonValueSerializer}s are
+     * replaced with {@link OptimizedJsonValueSerializer}s, to call
+     * value methods using generated accessors.
+     *
+     * @since 2.7.2
+     */
+    @Override
+    public JsonSerializer<?> modifySerializer(SerializationConfig config,
+            BeanDescription beanDesc, JsonSerializer<?> serializer)
+    {
+        if (serializer.getClass() == JsonValueSerializer.class) {
+            return _optimizeValueSerializer(config, beanDesc, serializer);
+        }
+        if (serializer.getClass() == BeanSerializer.class) {
+            Iterator<PropertyWriter> it = serializer.properties();
+            while (it.hasNext()) {
+                if (it.next() instanceof OptimizedBeanPropertyWriter<?>) {
+                    final Class<?> beanClass = beanDesc.getBeanClass();
+                    FieldsWriterGenerator writers = _settings.isEnabled(Feature.USE_GENERATED_WRITERS)
+                            ? new FieldsWriterGenerator(beanClass, _settings.classLoaderFor(beanClass),
+                                    _settings.isEnabled(Feature.USE_RAW_NAMES))
+                            : null;
+                    return new OptimizedBeanSerializer((BeanSerializer) serializer, writers,
+                            _settings.isEnabled(Feature.CACHE_FILTER_DECISIONS),
+                            _settings.isEnabled(Feature.USE_PROJECTIONS));
+                }
+            }
+        }
+        return serializer;
+    }
+
     protected PropertyAccessorCollector findProperties(Class<?> beanClass,
             SerializationConfig config, List<BeanPropertyWriter> beanProperties)
     {
@@ -82,9 +155,12 @@ public class SerializerModifier extends BeanSerializerModifier
             if (jdkMember == null) {
                 continue;
             }
-            // We can't access private fields or methods, skip:
+            // We can't access private fields or methods, skip; unless generated class can be a nestmate
             if (Modifier.isPrivate(jdkMember.getModifiers())) {
-                continue;
+                if (!_settings.canAccessPrivate(beanClass, jdkMember)) {
+                    continue;
+                }
+                collector.setPrivateAccess(true);
             }
             // (although, interestingly enough, can seem to access private classes...)
             
@@ -129,6 +205,36 @@ public class SerializerModifier extends BeanSerializerModifier
                     } else {
                         it.set(collector.addBooleanField(bpw));
                     }
+                } else if (type == Double.TYPE) {
+                    if (isMethod) {
+                        it.set(collector.addDoubleGetter(bpw));
+                    } else {
+                        it.set(collector.addDoubleField(bpw));
+                    }
+                } else if (type == Float.TYPE) {
+                    if (isMethod) {
+                        it.set(collector.addFloatGetter(bpw));
+                    } else {
+                        it.set(collector.addFloatField(bpw));
+                    }
+                } else if (type == Short.TYPE) {
+                    if (isMethod) {
+                        it.set(collector.addShortGetter(bpw));
+                    } else {
+                        it.set(collector.addShortField(bpw));
+                    }
+                } else if (type == Byte.TYPE) {
+                    if (isMethod) {
+                        it.set(collector.addByteGetter(bpw));
+                    } else {
+                        it.set(collector.addByteField(bpw));
+                    }
+                } else if (type == Character.TYPE) {
+                    if (isMethod) {
+                        it.set(collector.addCharGetter(bpw));
+                    } else {
+                        it.set(collector.addCharField(bpw));
+                    }
                 }
             } else {
                 if (type == String.class) {
@@ -137,6 +243,23 @@ public class SerializerModifier extends BeanSerializerModifier
                     } else {
                         it.set(collector.addStringField(bpw));
                     }
+                } else if (_isPlainEnum(bpw, type)) {
+                    if (isMethod) {
+                        it.set(collector.addEnumGetter(bpw));
+                    } else {
+                        it.set(collector.addEnumField(bpw));
+                    }
+                } else if (_isPlainWrapper(bpw, type)) {
+                    // nullable wrappers: nulls handled inline, values written directly
+                    if (type == Integer.class) {
+                        it.set(isMethod ? collector.addBoxedIntGetter(bpw) : collector.addBoxedIntField(bpw));
+                    } else if (type == Long.class) {
+                        it.set(isMethod ? collector.addBoxedLongGetter(bpw) : collector.addBoxedLongField(bpw));
+                    } else if (type == Double.class) {
+                        it.set(isMethod ? collector.addBoxedDoubleGetter(bpw) : collector.addBoxedDoubleField(bpw));
+                    } else {
+                        it.set(isMethod ? collector.addBoxedBooleanGetter(bpw) : collector.addBoxedBooleanField(bpw));
+                    }
                 } else { // any other Object types; we can at least call accessor
                     if (isMethod) {
                         it.set(collector.addObjectGetter(bpw));
@@ -149,6 +272,93 @@ public class SerializerModifier extends BeanSerializerModifier
         return collector;
     }
 
+    /**
+     * Helper method for constructing {@link OptimizedJsonValueSerializer} to
+     * replace given standard serializer, if value method can be called
+     * using generated code; if not, returns serializer as is.
+     *
+     * @since 2.7.2
+     */
+    protected JsonSerializer<?> _optimizeValueSerializer(SerializationConfig config,
+            BeanDescription beanDesc, JsonSerializer<?> serializer)
+    {
+        final Class<?> beanClass = beanDesc.getBeanClass();
+        AnnotatedMethod method = beanDesc.findJsonValueMethod();
+        if ((method == null) || !_settings.canGenerateFor(beanClass)
+                || !OptimizedJsonValueSerializer.isSupportedType(method.getRawReturnType())) {
+            return serializer;
+        }
+        int mods = method.getAnnotated().getModifiers();
+        if (Modifier.isPrivate(mods) || Modifier.isStatic(mods)) {
+            return serializer;
+        }
+        // custom serializer specified for the value method is not exposed, so must skip
+        AnnotationIntrospector intr = config.getAnnotationIntrospector();
+        if ((intr != null) && (intr.findSerializer(method) != null)) {
+            return serializer;
+        }
+        PropertyAccessorCollector collector = new PropertyAccessorCollector(beanClass);
+        collector.setValueMethod(method);
+        return new OptimizedJsonValueSerializer(method.getAnnotated(),
+                collector.findAccessor(_settings.classLoaderFor(beanClass)));
+    }
+
+    /**
+     * Helper method for finding "any getter" method that generated accessors
+     * can call: it must be a non-private, non-static member method
+     * without arguments (fields are not supported).
+     *
+     * @since 2.7.2
+     */
+    protected AnnotatedMethod _findAnyGetterMethod(BeanDescription beanDesc)
+    {
+        AnnotatedMember member = beanDesc.findAnyGetter();
+        if (!(member instanceof AnnotatedMethod)) {
+            return null;
+        }
+        AnnotatedMethod method = (AnnotatedMethod) member;
+        if ((method.getParameterCount() != 0) || method.getRawReturnType().isPrimitive()) {
+            return null;
+        }
+        int mods = method.getAnnotated().getModifiers();
+        if (Modifier.isPrivate(mods) || Modifier.isStatic(mods)) {
+            return null;
+        }
+        return method;
+    }
+
+    /**
+     * Helper method for checking whether given property has one of wrapper types
+     * we have specialized writers for, and no serializer or type serializer
+     * that would need to be used instead of writing value directly.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _isPlainWrapper(BeanPropertyWriter bpw, Class<?> type)
+    {
+        if ((type != Integer.class) && (type != Long.class)
+                && (type != Double.class) && (type != Boolean.class)) {
+            return false;
+        }
+        return !bpw.hasSerializer() && (bpw.getTypeSerializer() == null);
+    }
+
+    /**
+     * Helper method for checking whether given property has an Enum type
+     * for which names can be pre-encoded: this excludes abstract Enum types
+     * (ones with constant-specific bodies), since values of such properties
+     * are serialized using dynamically located serializers.
+     *
+     * @since 2.7.2
+     */
+    protected boolean _isPlainEnum(BeanPropertyWriter bpw, Class<?> type)
+    {
+        if (!type.isEnum() || !Modifier.isFinal(type.getModifiers())) {
+            return false;
+        }
+        return !bpw.hasSerializer() && (bpw.getTypeSerializer() == null);
+    }
+
     /**
      * Helper method used to check whether given serializer is the default
      * serializer implementation: this is necessary to avoid overriding other
@@ -81,6 +81,15 @@ public final class StringFieldPropertyWriter
             _handleProblem(bean, gen, prov, t, true);
             return;
         }
+        // Null (etc) handling; copied from super-class impl
+        if (value == null) {
+            if (_suppressNulls) {
+                serializeAsPlaceholder(bean, gen, prov);
+            } else {
+                prov.defaultSerializeNull(gen);
+            }
+            return;
+        }
         if (_suppressableValue != null) {
             if (MARKER_FOR_EMPTY == _suppressableValue) {
                 if (value.length() == 0) {
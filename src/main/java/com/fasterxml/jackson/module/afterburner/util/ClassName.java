@@ -13,6 +13,13 @@ public class ClassName
 
     // Basenames with no checksum suffix
     protected final String _dottedBase;
+
+    /**
+     * Class that generated class is for (and in same package as), if known
+     *
+     * @since 2.7.2
+     */
+    protected final Class<?> _baseClass;
     
     protected String _slashedBase;
 
@@ -20,12 +27,13 @@ public class ClassName
     
     protected long _checksum;
     
-    private ClassName(String dottedBase) {
+    private ClassName(String dottedBase, Class<?> baseClass) {
         _dottedBase = dottedBase;
+        _baseClass = baseClass;
     }
 
     public static ClassName constructFor(Class<?> baseClass, String suffix) {
-        return new ClassName(baseClass.getName() + suffix);
+        return new ClassName(baseClass.getName() + suffix, baseClass);
     }
 
     public void assignChecksum(byte[] data) {
@@ -41,6 +49,13 @@ public class ClassName
         _checksum = l;
     }
     
+    /**
+     * @since 2.7.2
+     */
+    public Class<?> getBaseClass() {
+        return _baseClass;
+    }
+
     public String getDottedTemplate() {
         return _dottedBase + TEMPLATE_SUFFIX;
     }
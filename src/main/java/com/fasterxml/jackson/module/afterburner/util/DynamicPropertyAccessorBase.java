@@ -1,9 +1,12 @@
 package com.fasterxml.jackson.module.afterburner.util;
 
-
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.util.List;
 
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
 
 import static org.objectweb.asm.Opcodes.*;
 
@@ -42,7 +45,24 @@ public class DynamicPropertyAccessorBase
         mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
         mv.visitInsn(ATHROW);
     }
-    
+
+    /**
+     * Helper method for pushing given int constant on stack, using the
+     * most compact instruction available.
+     */
+    protected static void generateIntConstant(MethodVisitor mv, int value)
+    {
+        if (value >= -1 && value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(Integer.valueOf(value));
+        }
+    }
+
     /*
     /**********************************************************
     /* Helper methods, other
@@ -53,6 +73,24 @@ public class DynamicPropertyAccessorBase
         return className.replace(".", "/");
     }
     
+    /**
+     * Helper method for appending description of given member into signature
+     * of generated class (see {@link GeneratedClassRegistry}): this includes
+     * everything about member that generated code depends on.
+     *
+     * @since 2.7.2
+     */
+    protected static void _appendMember(StringBuilder sb, Member member)
+    {
+        sb.append(member.getDeclaringClass().getName()).append('#').append(member.getName());
+        if (member instanceof Method) {
+            sb.append(Type.getMethodDescriptor((Method) member));
+        } else if (member instanceof Field) {
+            sb.append(':').append(Type.getDescriptor(((Field) member).getType()));
+        }
+        sb.append(',');
+    }
+
     protected <T> T _add(List<T> list, T value) {
         list.add(value);
         ++_accessorCount;
@@ -0,0 +1,50 @@
+package com.fasterxml.jackson.module.afterburner.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM-wide registry of generated accessor classes, shared by all mappers:
+ * used for finding classes generated earlier for a bean class, by a signature
+ * that determines contents of the class, without having to generate (and
+ * checksum) bytecode again.
+ *<p>
+ * Only classes defined by the class loader of the bean class itself are
+ * registered: this way registry does not retain other class loaders, and
+ * registered classes have the same access to bean members as ones that
+ * would be generated.
+ *
+ * @since 2.7.2
+ */
+public final class GeneratedClassRegistry
+{
+    private final static ClassValue<ConcurrentHashMap<String, Class<?>>> _classes
+        = new ClassValue<ConcurrentHashMap<String, Class<?>>>() {
+        @Override
+        protected ConcurrentHashMap<String, Class<?>> computeValue(Class<?> beanClass) {
+            return new ConcurrentHashMap<String, Class<?>>(4);
+        }
+    };
+
+    private GeneratedClassRegistry() { }
+
+    /**
+     * Method for finding class generated for given bean class, with given signature.
+     *
+     * @return Generated class, if one has been registered; null if not
+     */
+    public static Class<?> find(Class<?> beanClass, String signature) {
+        return _classes.get(beanClass).get(signature);
+    }
+
+    /**
+     * Method for registering class generated for given bean class, if it
+     * was defined by the class loader of the bean class; if not, it is
+     * not registered.
+     */
+    public static void register(Class<?> beanClass, String signature, Class<?> generatedClass)
+    {
+        if (generatedClass.getClassLoader() == beanClass.getClassLoader()) {
+            _classes.get(beanClass).putIfAbsent(signature, generatedClass);
+        }
+    }
+}
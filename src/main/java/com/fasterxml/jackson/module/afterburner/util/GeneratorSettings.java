@@ -0,0 +1,175 @@
+package com.fasterxml.jackson.module.afterburner.util;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+
+/**
+ * Immutable container for settings that serializer and deserializer
+ * modifiers need: which optional optimizations are enabled, as well as
+ * the shared policy for choosing class loaders for generated classes,
+ * and for deciding which bean classes and members these may access.
+ *
+ * @since 2.7.2
+ */
+public final class GeneratorSettings
+{
+    /**
+     * Enumeration of optional optimizations; all are disabled by default.
+     */
+    public enum Feature {
+        /**
+         * Whether standard bean deserializers are to be replaced with
+         * optimized ones.
+         */
+        USE_OPTIMIZED_BEAN_DESERIALIZER,
+
+        /**
+         * Whether optimized bean deserializers should use generated
+         * per-bean-type property readers.
+         */
+        USE_GENERATED_READERS,
+
+        /**
+         * Whether optimized bean serializers should use generated
+         * per-bean-type fields writers.
+         */
+        USE_GENERATED_WRITERS,
+
+        /**
+         * Whether generated fields writers should write names as pre-encoded
+         * raw content, where possible.
+         */
+        USE_RAW_NAMES,
+
+        /**
+         * Whether optimized bean serializers should cache inclusion decisions
+         * of standard name-based property filters.
+         */
+        CACHE_FILTER_DECISIONS,
+
+        /**
+         * Whether optimized bean serializers should apply property projections.
+         */
+        USE_PROJECTIONS,
+
+        /**
+         * Whether generated classes should be defined by shared child loaders of
+         * bean class loaders, which are only weakly referenced, so that classes
+         * can be unloaded (instead of defining them in bean class loaders);
+         * only used if no explicit class loader is given.
+         */
+        USE_WEAK_LOADERS,
+
+        /**
+         * Whether 'private' members of bean classes should be accessed using
+         * generated classes, defined as nestmates of bean classes, where possible.
+         */
+        USE_PRIVATE_ACCESS
+        ;
+
+        public int getMask() { return (1 << ordinal()); }
+    }
+
+    /**
+     * Class loader to use for generated classes; if null, will try to
+     * use class loader of the target class.
+     */
+    private final MyClassLoader _classLoader;
+
+    /**
+     * Bit mask of enabled {@link Feature}s.
+     */
+    private final int _features;
+
+    /**
+     * @param cl Parent class loader for generated classes, if given explicitly;
+     *   null to use class loaders of bean classes
+     */
+    public GeneratorSettings(ClassLoader cl) {
+        this((cl == null) ? null : new MyClassLoader(cl, false), 0);
+    }
+
+    private GeneratorSettings(MyClassLoader cl, int features) {
+        _classLoader = cl;
+        _features = features;
+    }
+
+    /**
+     * Mutant factory method for constructing settings with given feature
+     * enabled or disabled.
+     */
+    public GeneratorSettings with(Feature f, boolean state)
+    {
+        int features = state ? (_features | f.getMask()) : (_features & ~f.getMask());
+        return (features == _features) ? this : new GeneratorSettings(_classLoader, features);
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public boolean isEnabled(Feature f) {
+        return (_features & f.getMask()) != 0;
+    }
+
+    /**
+     * @return Class loader explicitly given for generated classes, if any; null if none
+     */
+    public MyClassLoader getClassLoader() {
+        return _classLoader;
+    }
+
+    /*
+    /**********************************************************************
+    /* Access policy
+    /**********************************************************************
+     */
+
+    /**
+     * Method for finding class loader to use for classes generated for
+     * given bean class; null if class loader of bean class is to be used.
+     */
+    public MyClassLoader classLoaderFor(Class<?> beanClass)
+    {
+        if ((_classLoader == null) && isEnabled(Feature.USE_WEAK_LOADERS)) {
+            return MyClassLoader.sharedLoaderFor(beanClass, false);
+        }
+        return _classLoader;
+    }
+
+    /**
+     * Method for checking whether classes can be generated for given
+     * bean class at all.
+     */
+    public boolean canGenerateFor(Class<?> beanClass)
+    {
+        // [module-afterburner#21]: Can't force access to sealed packages, or anything within "java."
+        if (!MyClassLoader.canAddClassInPackageOf(beanClass)) {
+            return false;
+        }
+        // nor access private classes, unless using class loader of bean class
+        if ((_classLoader != null) || isEnabled(Feature.USE_WEAK_LOADERS)) {
+            if (Modifier.isPrivate(beanClass.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method for checking whether given 'private' member of given bean class
+     * may be accessed by generated class: this is only possible if members
+     * are to be accessed at all, member is declared by bean class itself,
+     * and generated class can be defined as nestmate of bean class
+     * (which requires Java 15 or above).
+     */
+    public boolean canAccessPrivate(Class<?> beanClass, Member member)
+    {
+        return isEnabled(Feature.USE_PRIVATE_ACCESS)
+                && (member.getDeclaringClass() == beanClass)
+                && (classLoaderFor(beanClass) == null)
+                && LookupClassDefiner.isNestmateAvailable();
+    }
+}
@@ -0,0 +1,136 @@
+package com.fasterxml.jackson.module.afterburner.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+
+/**
+ * Helper class for defining generated classes using
+ * {@code MethodHandles.Lookup.defineClass}, on JVMs that have it (Java 9 and above).
+ * Unlike calling {@link ClassLoader}'s <code>defineClass</code> using Reflection,
+ * this does not require access to JDK internals, but still defines class in the
+ * same runtime package as the class it is generated for, so that
+ * 'protected' and 'package access' members can be accessed.
+ *<p>
+ * On Java 15 and above, classes may also be defined as hidden nestmates of
+ * the class they are generated for, using {@code MethodHandles.Lookup.defineHiddenClass};
+ * such classes can also access 'private' members of that class.
+ *<p>
+ * Methods are located using Reflection, since module is to work on
+ * older JVMs as well.
+ *
+ * @since 2.7.2
+ */
+public final class LookupClassDefiner
+{
+    /**
+     * <code>MethodHandles.privateLookupIn(Class, Lookup)</code>, if available
+     */
+    private final static Method PRIVATE_LOOKUP_IN;
+
+    /**
+     * <code>MethodHandles.Lookup.defineClass(byte[])</code>, if available
+     */
+    private final static Method DEFINE_CLASS;
+
+    /**
+     * <code>MethodHandles.Lookup.defineHiddenClass(byte[], boolean, ClassOption...)</code>,
+     * if available
+     */
+    private final static Method DEFINE_HIDDEN_CLASS;
+
+    /**
+     * <code>MethodHandles.Lookup.ClassOption[] { NESTMATE }</code>, if available
+     */
+    private final static Object NESTMATE_OPTIONS;
+
+    static {
+        Method lookupIn = null, define = null;
+        try {
+            lookupIn = MethodHandles.class.getMethod("privateLookupIn",
+                    Class.class, MethodHandles.Lookup.class);
+            define = MethodHandles.Lookup.class.getMethod("defineClass", byte[].class);
+        } catch (Exception e) { // pre-Java 9 JVM
+            lookupIn = null;
+            define = null;
+        }
+        PRIVATE_LOOKUP_IN = lookupIn;
+        DEFINE_CLASS = define;
+
+        Method defineHidden = null;
+        Object options = null;
+        if (lookupIn != null) {
+            try {
+                Class<?> optionType = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+                options = Array.newInstance(optionType, 1);
+                Array.set(options, 0, optionType.getField("NESTMATE").get(null));
+                defineHidden = MethodHandles.Lookup.class.getMethod("defineHiddenClass",
+                        byte[].class, Boolean.TYPE, options.getClass());
+            } catch (Exception e) { // pre-Java 15 JVM
+                defineHidden = null;
+                options = null;
+            }
+        }
+        DEFINE_HIDDEN_CLASS = defineHidden;
+        NESTMATE_OPTIONS = options;
+    }
+
+    private LookupClassDefiner() { }
+
+    /**
+     * Accessor for checking whether JVM supports defining classes using lookups.
+     */
+    public static boolean isAvailable() {
+        return DEFINE_CLASS != null;
+    }
+
+    /**
+     * Method for trying to define class with given bytecode in the package of
+     * given class (and using its class loader).
+     *
+     * @return Class defined, if successful; null if JVM does not support defining
+     *    classes using lookups, or access to package of class is not allowed
+     *    (for example, because it is in a module that does not open it)
+     */
+    public static Class<?> defineClass(Class<?> hostClass, byte[] byteCode)
+    {
+        if (DEFINE_CLASS == null) {
+            return null;
+        }
+        try {
+            Object lookup = PRIVATE_LOOKUP_IN.invoke(null, hostClass, MethodHandles.lookup());
+            return (Class<?>) DEFINE_CLASS.invoke(lookup, (Object) byteCode);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Accessor for checking whether JVM supports defining hidden nestmate classes.
+     */
+    public static boolean isNestmateAvailable() {
+        return DEFINE_HIDDEN_CLASS != null;
+    }
+
+    /**
+     * Method for trying to define a hidden class with given bytecode, as a nestmate
+     * of given class. Hidden classes can not be found by name, and may be
+     * unloaded as soon as they are no longer used.
+     *
+     * @return Class defined, if successful; null if JVM does not support defining
+     *    hidden classes, or access to package of class is not allowed
+     */
+    public static Class<?> defineNestmateClass(Class<?> hostClass, byte[] byteCode)
+    {
+        if (DEFINE_HIDDEN_CLASS == null) {
+            return null;
+        }
+        try {
+            Object lookup = PRIVATE_LOOKUP_IN.invoke(null, hostClass, MethodHandles.lookup());
+            lookup = DEFINE_HIDDEN_CLASS.invoke(lookup, byteCode, Boolean.TRUE, NESTMATE_OPTIONS);
+            return ((MethodHandles.Lookup) lookup).lookupClass();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
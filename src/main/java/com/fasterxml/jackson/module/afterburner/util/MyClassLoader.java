@@ -1,7 +1,13 @@
 package com.fasterxml.jackson.module.afterburner.util;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Class loader that is needed to load generated classes.
@@ -16,13 +22,127 @@ public class MyClassLoader extends ClassLoader
      * force access to protected/package-access properties.
      */
     protected final boolean _cfgUseParentLoader;
-    
+
+    /**
+     * Shared loaders, keyed by parent class loader; separately for loaders
+     * that try to use parent loader, and ones that do not.
+     * Both parent loaders and shared loaders are only weakly referenced,
+     * so that neither is kept from being garbage collected (along with
+     * classes they have loaded) by Afterburner.
+     *
+     * @since 2.7.2
+     */
+    private final static Map<ClassLoader, WeakReference<MyClassLoader>> _sharedInjecting
+        = new WeakHashMap<ClassLoader, WeakReference<MyClassLoader>>();
+
+    private final static Map<ClassLoader, WeakReference<MyClassLoader>> _sharedChild
+        = new WeakHashMap<ClassLoader, WeakReference<MyClassLoader>>();
+
+    private final static AtomicLong _generatedClassCount = new AtomicLong();
+
+    private final static AtomicLong _generatedBytes = new AtomicLong();
+
     public MyClassLoader(ClassLoader parent, boolean tryToUseParent)
     {
         super(parent);
         _cfgUseParentLoader = tryToUseParent;
     }
 
+    /**
+     * Factory method for finding shared loader for given parent loader,
+     * instead of constructing a new one for each generated class.
+     * If shared loader is not to use parent loader for defining classes
+     * (that is, <code>tryToUseParent</code> is false), generated classes
+     * are defined by shared loader itself; and since it is only weakly
+     * referenced, these classes may be unloaded once they are no longer used,
+     * even if parent loader remains.
+     *
+     * @param parent Parent loader for shared loader; null for bootstrap loader
+     *
+     * @since 2.7.2
+     */
+    public static MyClassLoader sharedLoaderFor(ClassLoader parent, boolean tryToUseParent)
+    {
+        final Map<ClassLoader, WeakReference<MyClassLoader>> loaders = tryToUseParent
+                ? _sharedInjecting : _sharedChild;
+        synchronized (loaders) {
+            WeakReference<MyClassLoader> ref = loaders.get(parent);
+            MyClassLoader loader = (ref == null) ? null : ref.get();
+            if (loader == null) {
+                loader = new MyClassLoader(parent, tryToUseParent);
+                loaders.put(parent, new WeakReference<MyClassLoader>(loader));
+            }
+            return loader;
+        }
+    }
+
+    /**
+     * Convenience method for finding shared loader to use for classes generated
+     * for given bean class; see {@link #sharedLoaderFor(ClassLoader, boolean)}.
+     *
+     * @since 2.7.2
+     */
+    public static MyClassLoader sharedLoaderFor(Class<?> beanClass, boolean tryToUseParent) {
+        return sharedLoaderFor(beanClass.getClassLoader(), tryToUseParent);
+    }
+
+    /*
+    /**********************************************************
+    /* Statistics
+    /**********************************************************
+     */
+
+    /**
+     * Accessor for number of classes generated and defined by Afterburner
+     * (by any loader) since this class was loaded.
+     *
+     * @since 2.7.2
+     */
+    public static long getGeneratedClassCount() {
+        return _generatedClassCount.get();
+    }
+
+    /**
+     * Accessor for total length of bytecode of classes that
+     * {@link #getGeneratedClassCount()} counts.
+     *
+     * @since 2.7.2
+     */
+    public static long getGeneratedBytecodeLength() {
+        return _generatedBytes.get();
+    }
+
+    /**
+     * Accessor for amount of memory, in bytes, currently used for class metadata
+     * by the JVM: that is, "Metaspace" (or, with older JVMs, "Perm Gen")
+     * memory pool.
+     *
+     * @return Memory used, in bytes, if known; -1 if JVM does not expose such
+     *    memory pool
+     *
+     * @since 2.7.2
+     */
+    public static long getMetaspaceUsed()
+    {
+        try {
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                String name = pool.getName();
+                if (name.equals("Metaspace") || name.endsWith("Perm Gen")) {
+                    return pool.getUsage().getUsed();
+                }
+            }
+        } catch (RuntimeException e) { // e.g. SecurityException
+            ;
+        }
+        return -1L;
+    }
+
+    /*
+    /**********************************************************
+    /* Class loading
+    /**********************************************************
+     */
+
     /**
      * Helper method called to check whether it is acceptable to create a new
      * class in package that given class is part of.
@@ -57,6 +177,14 @@ public class MyClassLoader extends ClassLoader
      */
     public Class<?> loadAndResolve(ClassName className, byte[] byteCode)
         throws IllegalArgumentException
+    {
+        // Shared loaders may be asked to load same class concurrently
+        synchronized (getClassLoadingLock(className.getDottedName())) {
+            return _loadAndResolve(className, byteCode);
+        }
+    }
+
+    private Class<?> _loadAndResolve(ClassName className, byte[] byteCode)
     {
         // First things first: just to be sure; maybe we have already loaded it?
         Class<?> old = findLoadedClass(className.getDottedName());
@@ -75,13 +203,28 @@ public class MyClassLoader extends ClassLoader
             ClassLoader cl = getParent();
             // if we have parent, that is
             if (cl != null) {
+                // Preferably using lookup of the class that generated class is for,
+                // which needs no access to JDK internals (on Java 9 and above)
+                Class<?> baseClass = className.getBaseClass();
+                if ((baseClass != null) && (baseClass.getClassLoader() == cl)) {
+                    impl = LookupClassDefiner.defineClass(baseClass, byteCode);
+                    if (impl != null) {
+                        _generated(byteCode);
+                        return impl;
+                    }
+                }
+            }
+            // but if lookups are not supported, force access to ClassLoader.defineClass
+            if ((cl != null) && !LookupClassDefiner.isAvailable()) {
                 try {
                     Method method = ClassLoader.class.getDeclaredMethod("defineClass",
                             new Class[] {String.class, byte[].class, int.class,
                             int.class});
                     method.setAccessible(true);
-                    return (Class<?>)method.invoke(getParent(),
+                    impl = (Class<?>)method.invoke(getParent(),
                             className.getDottedName(), byteCode, 0, byteCode.length);
+                    _generated(byteCode);
+                    return impl;
                 } catch (Exception e) {
                     // Should we handle this somehow?
                 }
@@ -101,8 +244,42 @@ public class MyClassLoader extends ClassLoader
         }
         // important: must also resolve the class...
         resolveClass(impl);
+        _generated(byteCode);
+        return impl;
+    }
+
+    /**
+     * Method for defining generated class as a hidden nestmate of the class it
+     * is generated for (see {@link LookupClassDefiner#defineNestmateClass}),
+     * so that it can access 'private' members of that class.
+     * Only done if generated classes would otherwise be defined using
+     * class loader of that class.
+     *
+     * @return Class defined, if successful; null if not (in which case caller
+     *    should use {@link #loadAndResolve} instead)
+     *
+     * @since 2.7.2
+     */
+    public Class<?> loadAndResolveNestmate(ClassName className, byte[] byteCode)
+    {
+        Class<?> baseClass = className.getBaseClass();
+        if (!_cfgUseParentLoader || (baseClass == null)
+                || (baseClass.getClassLoader() != getParent())
+                || !LookupClassDefiner.isNestmateAvailable()) {
+            return null;
+        }
+        replaceName(byteCode, className.getSlashedTemplate(), className.getSlashedName());
+        Class<?> impl = LookupClassDefiner.defineNestmateClass(baseClass, byteCode);
+        if (impl != null) {
+            _generated(byteCode);
+        }
         return impl;
     }
+
+    private static void _generated(byte[] byteCode) {
+        _generatedClassCount.incrementAndGet();
+        _generatedBytes.addAndGet(byteCode.length);
+    }
     
     public static int replaceName(byte[] byteCode,
             String from, String to)
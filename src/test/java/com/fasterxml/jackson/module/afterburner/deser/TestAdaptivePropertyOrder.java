@@ -0,0 +1,152 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestAdaptivePropertyOrder extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "a", "b", "c", "d" })
+    static class Ordered {
+        public int a;
+        public String b;
+        public long c;
+        public boolean d;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final static String REVERSED = aposToQuotes("{'d':true,'c':3,'b':'x','a':1}");
+
+    public void testLearnsReversedOrder() throws Exception
+    {
+        _testLearnsReversedOrder(false);
+    }
+
+    public void testLearnsReversedOrderWithReaders() throws Exception
+    {
+        _testLearnsReversedOrder(true);
+    }
+
+    private void _testLearnsReversedOrder(boolean useReaders) throws Exception
+    {
+        AfterburnerModule module = new AfterburnerModule()
+            .setUseAdaptivePropertyOrder(true)
+            .setUseGeneratedPropertyReaders(useReaders);
+        ObjectMapper mapper = new ObjectMapper().registerModule(module);
+
+        for (int i = 0; i < 100; ++i) {
+            _verify(mapper.readValue(REVERSED, Ordered.class));
+        }
+        AdaptivePropertyOrder stats = _stats(module, mapper);
+        assertEquals(1, stats.getReorderCount());
+        assertTrue(stats.getHitCount() > 0L);
+        assertEquals(0L, stats.getMissCount());
+        assertEquals(1.0, stats.getHitRate());
+
+        // and original order still works, just is not the fast path any more
+        _verify(mapper.readValue(aposToQuotes("{'a':1,'b':'x','c':3,'d':true}"), Ordered.class));
+        assertEquals(1L, stats.getMissCount());
+
+        SuperSonicBeanDeserializer deser = _deserializer(mapper);
+        assertEquals("d", deser._orderedProperties.names[0].getValue());
+        assertEquals("a", deser._orderedProperties.properties[3].getName());
+        if (useReaders) {
+            assertNotNull(deser._orderedProperties.reader);
+        }
+    }
+
+    public void testPartialOrderLearned() throws Exception
+    {
+        AfterburnerModule module = new AfterburnerModule().setUseAdaptivePropertyOrder(true);
+        ObjectMapper mapper = new ObjectMapper().registerModule(module);
+        final String JSON = aposToQuotes("{'a':1,'c':3,'b':'x'}");
+        for (int i = 0; i < 100; ++i) {
+            Ordered o = mapper.readValue(JSON, Ordered.class);
+            assertEquals(3L, o.c);
+        }
+        assertEquals(1, _stats(module, mapper).getReorderCount());
+        SuperSonicBeanDeserializer deser = _deserializer(mapper);
+        assertEquals("c", deser._orderedProperties.names[1].getValue());
+        // and one not seen remains last
+        assertEquals("d", deser._orderedProperties.names[3].getValue());
+    }
+
+    public void testNoStableOrder() throws Exception
+    {
+        AfterburnerModule module = new AfterburnerModule().setUseAdaptivePropertyOrder(true);
+        ObjectMapper mapper = new ObjectMapper().registerModule(module);
+        final String[] DOCS = new String[] {
+            REVERSED,
+            aposToQuotes("{'b':'x','a':1,'d':true,'c':3}"),
+            aposToQuotes("{'c':3,'d':true,'a':1,'b':'x'}")
+        };
+        for (int i = 0; i < 300; ++i) {
+            _verify(mapper.readValue(DOCS[i % DOCS.length], Ordered.class));
+        }
+        AdaptivePropertyOrder stats = _stats(module, mapper);
+        assertEquals(0, stats.getReorderCount());
+        assertEquals(0L, stats.getHitCount());
+        assertEquals(300L, stats.getMissCount());
+    }
+
+    // statistics must not retain types once deserializers are gone
+    public void testStatisticsNotRetained() throws Exception
+    {
+        AfterburnerModule module = new AfterburnerModule().setUseAdaptivePropertyOrder(true);
+        _useMapper(module);
+        assertEquals(1, module.getAdaptivePropertyOrders().size());
+        for (int i = 0; i < 20 && !module.getAdaptivePropertyOrders().isEmpty(); ++i) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertTrue(module.getAdaptivePropertyOrders().isEmpty());
+    }
+
+    private void _useMapper(AfterburnerModule module) throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper().registerModule(module);
+        _verify(mapper.readValue(REVERSED, Ordered.class));
+    }
+
+    public void testDisabledByDefault() throws Exception
+    {
+        AfterburnerModule module = new AfterburnerModule();
+        ObjectMapper mapper = new ObjectMapper().registerModule(module);
+        for (int i = 0; i < 100; ++i) {
+            _verify(mapper.readValue(REVERSED, Ordered.class));
+        }
+        assertTrue(module.getAdaptivePropertyOrders().isEmpty());
+        assertNull(_deserializer(mapper)._adaptiveOrder);
+    }
+
+    private AdaptivePropertyOrder _stats(AfterburnerModule module, ObjectMapper mapper)
+    {
+        Map<JavaType, AdaptivePropertyOrder> orders = module.getAdaptivePropertyOrders();
+        AdaptivePropertyOrder stats = orders.get(mapper.constructType(Ordered.class));
+        assertNotNull(stats);
+        return stats;
+    }
+
+    private SuperSonicBeanDeserializer _deserializer(ObjectMapper mapper) throws Exception
+    {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(mapper.getDeserializationConfig(), null, null);
+        return (SuperSonicBeanDeserializer) ctxt.findRootValueDeserializer(mapper.constructType(Ordered.class));
+    }
+
+    private void _verify(Ordered o) {
+        assertEquals(1, o.a);
+        assertEquals("x", o.b);
+        assertEquals(3L, o.c);
+        assertTrue(o.d);
+    }
+}
@@ -0,0 +1,203 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestBuilderMutators extends AfterburnerTestBase
+{
+    @JsonDeserialize(builder=Value.Builder.class)
+    static class Value {
+        final int id;
+        final long count;
+        final boolean enabled;
+        final String name;
+        final List<String> tags;
+        final int extra;
+
+        Value(int id, long count, boolean enabled, String name, List<String> tags, int extra) {
+            this.id = id;
+            this.count = count;
+            this.enabled = enabled;
+            this.name = name;
+            this.tags = tags;
+            this.extra = extra;
+        }
+
+        // Lombok-style builder
+        @JsonPOJOBuilder(withPrefix="")
+        static class Builder {
+            private int id;
+            private long count;
+            private boolean enabled;
+            private String name;
+            private List<String> tags;
+
+            public int extra;
+
+            public Builder id(int v) { id = v; return this; }
+            public Builder count(long v) { count = v; return this; }
+            public Builder enabled(boolean v) { enabled = v; return this; }
+            public Builder name(String v) { name = v; return this; }
+            public Builder tags(List<String> v) { tags = v; return this; }
+
+            public Value build() {
+                if (id < 0) {
+                    throw new IllegalStateException("Negative id");
+                }
+                return new Value(id, count, enabled, name, tags, extra);
+            }
+        }
+    }
+
+    // Builder that returns new instance for each property
+    @JsonDeserialize(builder=Point.Builder.class)
+    static class Point {
+        final int x, y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        static class Builder {
+            private final int x, y;
+
+            public Builder() { this(0, 0); }
+
+            private Builder(int x, int y) {
+                this.x = x;
+                this.y = y;
+            }
+
+            public Builder withX(int v) { return new Builder(v, y); }
+            public Builder withY(int v) { return new Builder(x, v); }
+
+            public Point build() { return new Point(x, y); }
+        }
+    }
+
+    // Builder with "plain" setters, as well as one that returns null
+    @JsonDeserialize(builder=Plain.Builder.class)
+    static class Plain {
+        final String a, b;
+
+        Plain(String a, String b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @JsonPOJOBuilder(withPrefix="set", buildMethodName="create")
+        static class Builder {
+            private String a, b;
+
+            public void setA(String v) { a = v; }
+            public Builder setB(String v) { b = v; return null; }
+
+            public Plain create() { return new Plain(a, b); }
+        }
+    }
+
+    @JsonFormat(shape=JsonFormat.Shape.ARRAY)
+    @JsonDeserialize(builder=ArrayPoint.Builder.class)
+    static class ArrayPoint {
+        final int x, y;
+
+        ArrayPoint(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @JsonFormat(shape=JsonFormat.Shape.ARRAY)
+        @JsonPOJOBuilder(withPrefix="")
+        @com.fasterxml.jackson.annotation.JsonPropertyOrder({ "x", "y" })
+        static class Builder {
+            private int x, y;
+
+            public Builder x(int v) { x = v; return this; }
+            public Builder y(int v) { y = v; return this; }
+
+            public ArrayPoint build() { return new ArrayPoint(x, y); }
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    public void testBuildMethodIsGenerated() throws Exception
+    {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) MAPPER.getDeserializationContext())
+                .createInstance(MAPPER.getDeserializationConfig(), null, null);
+        JsonDeserializer<?> deser = ctxt.findRootValueDeserializer(MAPPER.constructType(Value.class));
+        assertEquals(OptimizedBuilderBasedDeserializer.class, deser.getClass());
+        OptimizedBuilderBasedDeserializer builderDeser = (OptimizedBuilderBasedDeserializer) deser;
+        assertFalse(builderDeser._buildMutator.getClass() == BeanPropertyMutator.class);
+    }
+
+    public void testFluentBuilder() throws Exception
+    {
+        Value v = MAPPER.readValue(aposToQuotes(
+                "{'id':1,'count':2,'enabled':true,'name':'foo','tags':['a','b'],'extra':3}"),
+                Value.class);
+        assertEquals(1, v.id);
+        assertEquals(2L, v.count);
+        assertTrue(v.enabled);
+        assertEquals("foo", v.name);
+        assertEquals(Arrays.asList("a", "b"), v.tags);
+        assertEquals(3, v.extra);
+    }
+
+    public void testImmutableBuilder() throws Exception
+    {
+        Point p = MAPPER.readValue(aposToQuotes("{'x':1,'y':2}"), Point.class);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+        p = MAPPER.readValue(aposToQuotes("{'y':3}"), Point.class);
+        assertEquals(0, p.x);
+        assertEquals(3, p.y);
+    }
+
+    public void testPlainSetters() throws Exception
+    {
+        Plain p = MAPPER.readValue(aposToQuotes("{'a':'x','b':'y'}"), Plain.class);
+        assertEquals("x", p.a);
+        assertEquals("y", p.b);
+    }
+
+    public void testBuilderAsArray() throws Exception
+    {
+        ArrayPoint p = MAPPER.readValue("[1,2]", ArrayPoint.class);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+    }
+
+    public void testWithinContainer() throws Exception
+    {
+        List<Point> points = MAPPER.readValue(aposToQuotes("[{'x':1},{'y':2},null]"),
+                MAPPER.getTypeFactory().constructCollectionType(List.class, Point.class));
+        assertEquals(3, points.size());
+        assertEquals(1, points.get(0).x);
+        assertEquals(2, points.get(1).y);
+        assertNull(points.get(2));
+    }
+
+    public void testBuildFailure() throws Exception
+    {
+        try {
+            MAPPER.readValue(aposToQuotes("{'id':-1}"), Value.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Negative id");
+        }
+    }
+}
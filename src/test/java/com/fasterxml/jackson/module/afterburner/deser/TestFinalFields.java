@@ -1,7 +1,11 @@
 package com.fasterxml.jackson.module.afterburner.deser;
 
+import java.util.*;
+
 import com.fasterxml.jackson.annotation.*;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
 import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
 
 public class TestFinalFields extends AfterburnerTestBase
@@ -34,6 +38,24 @@ public class TestFinalFields extends AfterburnerTestBase
         }
     }
 
+    // immutable value type without creator: final fields must be assigned as is
+    @JsonPropertyOrder({ "id", "name", "tags", "ok" })
+    static class Immutable
+    {
+        public final long id;
+        public final String name;
+        @JsonProperty
+        private final List<String> tags;
+        public final boolean ok;
+
+        private Immutable() {
+            id = 0L;
+            name = null;
+            tags = null;
+            ok = false;
+        }
+    }
+
     /*
     /**********************************************************
     /* Unit tests
@@ -54,6 +76,52 @@ public class TestFinalFields extends AfterburnerTestBase
         assertEquals(98021, result[0].address.zip2);
     }
 
+    public void testFinalFieldsWithoutCreator() throws Exception
+    {
+        ObjectMapper mapper = mapperWithModule();
+        final String json = aposToQuotes("{'id':3,'name':'abc','tags':['a','b'],'ok':true}");
+        for (int i = 0; i < 2; ++i) {
+            Immutable result = mapper.readValue(json, Immutable.class);
+            assertEquals(3L, result.id);
+            assertEquals("abc", result.name);
+            assertEquals(Arrays.asList("a", "b"), result.tags);
+            assertTrue(result.ok);
+            assertEquals(json, mapper.writeValueAsString(result));
+        }
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(mapper.getDeserializationConfig(), null, null);
+        BeanDeserializerBase deser = (BeanDeserializerBase) ctxt.findRootValueDeserializer(
+                mapper.constructType(Immutable.class));
+        for (String name : new String[] { "id", "name", "tags", "ok" }) {
+            assertEquals(SettableFinalFieldProperty.class, deser.findProperty(name).getClass());
+        }
+
+        // nulls and type mismatches are handled same as by databind
+        Immutable result = mapper.readValue(aposToQuotes("{'id':null,'name':null}"), Immutable.class);
+        assertEquals(0L, result.id);
+        assertNull(result.name);
+        try {
+            mapper.readValue(aposToQuotes("{'ok':[1]}"), Immutable.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "boolean");
+        }
+        // failures of setter itself are not hidden either
+        try {
+            deser.findProperty("name").set(result, Integer.valueOf(3));
+            fail("Should not pass");
+        } catch (ClassCastException e) {
+            verifyException(e, "java.lang.Integer");
+        }
+        // and can not be assigned if databind would not do it either
+        ObjectMapper noFinal = mapperWithModule()
+            .disable(MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        result = noFinal.readValue(aposToQuotes("{'id':3,'tags':['a']}"), Immutable.class);
+        assertEquals(0L, result.id);
+        assertEquals(Arrays.asList("a"), result.tags);
+    }
+
     // For [Afterburner#42]
     
     public void testFinalFields42() throws Exception
@@ -0,0 +1,142 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestGeneratedPropertyReader extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "id", "count", "enabled", "name", "tags", "x", "y", "hidden", "custom" })
+    static class MixedBean {
+        public int id;
+        public long count;
+        public boolean enabled;
+        public String name;
+        public List<String> tags;
+
+        protected int _x;
+        protected String _y;
+        private int hidden;
+
+        @JsonDeserialize(using=UpperCaseDeserializer.class)
+        public String custom;
+
+        public void setX(int x) { _x = x; }
+        // non-void return type is fine too
+        public MixedBean setY(String y) { _y = y; return this; }
+
+        public void setHidden(int h) { hidden = h; }
+        public int hidden() { return hidden; }
+    }
+
+    @SuppressWarnings("serial")
+    static class UpperCaseDeserializer extends StdDeserializer<String> {
+        public UpperCaseDeserializer() { super(String.class); }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws java.io.IOException {
+            return p.getText().toUpperCase();
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUseGeneratedPropertyReaders(true));
+
+    public void testReaderIsGenerated() throws Exception
+    {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) MAPPER.getDeserializationContext())
+                .createInstance(MAPPER.getDeserializationConfig(), null, null);
+        JsonDeserializer<?> deser = ctxt.findRootValueDeserializer(MAPPER.constructType(MixedBean.class));
+        assertEquals(SuperSonicBeanDeserializer.class, deser.getClass());
+        assertNotNull(((SuperSonicBeanDeserializer) deser)._orderedProperties.reader);
+    }
+
+    public void testInOrder() throws Exception
+    {
+        MixedBean bean = MAPPER.readValue(aposToQuotes(
+                "{'id':1,'count':2,'enabled':true,'name':'foo','tags':['a','b'],"
+                +"'x':3,'y':'bar','hidden':4,'custom':'abc'}"),
+                MixedBean.class);
+        _verify(bean);
+    }
+
+    public void testOutOfOrder() throws Exception
+    {
+        MixedBean bean = MAPPER.readValue(aposToQuotes(
+                "{'id':1,'count':2,'name':'foo','enabled':true,'custom':'abc',"
+                +"'x':3,'y':'bar','hidden':4,'tags':['a','b']}"),
+                MixedBean.class);
+        _verify(bean);
+    }
+
+    public void testPartial() throws Exception
+    {
+        MixedBean bean = MAPPER.readValue("{\"id\":1,\"count\":2}", MixedBean.class);
+        assertEquals(1, bean.id);
+        assertEquals(2L, bean.count);
+        assertNull(bean.name);
+
+        bean = MAPPER.readValue("{}", MixedBean.class);
+        assertEquals(0, bean.id);
+    }
+
+    public void testCoercions() throws Exception
+    {
+        MixedBean bean = MAPPER.readValue(aposToQuotes(
+                "{'id':'1','count':'2','enabled':'true','name':5,'x':null}"),
+                MixedBean.class);
+        assertEquals(1, bean.id);
+        assertEquals(2L, bean.count);
+        assertTrue(bean.enabled);
+        assertEquals("5", bean.name);
+        assertEquals(0, bean._x);
+    }
+
+    public void testWithinContainer() throws Exception
+    {
+        MixedBean[] beans = MAPPER.readValue(aposToQuotes(
+                "[{'id':1,'name':'a'},{'id':2,'name':'b'}]"), MixedBean[].class);
+        assertEquals(2, beans.length);
+        assertEquals(1, beans[0].id);
+        assertEquals("b", beans[1].name);
+    }
+
+    public void testFailureHasPath() throws Exception
+    {
+        try {
+            MAPPER.readValue("{\"id\":1,\"count\":\"abc\"}", MixedBean.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "not a valid long value");
+            List<JsonMappingException.Reference> path = e.getPath();
+            assertEquals(1, path.size());
+            assertEquals("count", path.get(0).getFieldName());
+        }
+    }
+
+    private void _verify(MixedBean bean)
+    {
+        assertEquals(1, bean.id);
+        assertEquals(2L, bean.count);
+        assertTrue(bean.enabled);
+        assertEquals("foo", bean.name);
+        assertEquals(Arrays.asList("a", "b"), bean.tags);
+        assertEquals(3, bean._x);
+        assertEquals("bar", bean._y);
+        assertEquals(4, bean.hidden());
+        assertEquals("ABC", bean.custom);
+    }
+}
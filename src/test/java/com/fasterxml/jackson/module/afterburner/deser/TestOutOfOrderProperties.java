@@ -0,0 +1,129 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestOutOfOrderProperties extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "a", "b", "c", "d" })
+    @JsonIgnoreProperties({ "ignored" })
+    static class Ordered {
+        public int a;
+        public String b;
+        public long c;
+        public boolean d;
+    }
+
+    @JsonPropertyOrder({ "a", "b", "c" })
+    static class WithAnySetter {
+        public int a, b, c;
+
+        protected Map<String,Object> extra = new LinkedHashMap<String,Object>();
+
+        @JsonAnySetter
+        public void set(String name, Object value) {
+            extra.put(name, value);
+        }
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.NAME, include=JsonTypeInfo.As.PROPERTY, property="type")
+    @JsonSubTypes({ @JsonSubTypes.Type(value=Impl.class, name="impl") })
+    static abstract class Base { }
+
+    @JsonPropertyOrder({ "x", "y" })
+    static class Impl extends Base {
+        public int x, y;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper READER_MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUseGeneratedPropertyReaders(true));
+
+    public void testExtraLeadingField() throws Exception
+    {
+        for (ObjectMapper mapper : _mappers()) {
+            Ordered o = mapper.readerFor(Ordered.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(aposToQuotes("{'extra':[1,{'x':2}],'a':1,'b':'x','c':3,'d':true}"));
+            _verify(o);
+        }
+    }
+
+    public void testIgnoredAndSwapped() throws Exception
+    {
+        for (ObjectMapper mapper : _mappers()) {
+            _verify(mapper.readValue(aposToQuotes("{'a':1,'ignored':5,'c':3,'b':'x','d':true}"),
+                    Ordered.class));
+            _verify(mapper.readValue(aposToQuotes("{'d':true,'c':3,'b':'x','a':1}"),
+                    Ordered.class));
+            _verify(mapper.readValue(aposToQuotes("{'a':1,'b':'x','c':3,'d':true,'ignored':false}"),
+                    Ordered.class));
+        }
+    }
+
+    public void testDuplicates() throws Exception
+    {
+        for (ObjectMapper mapper : _mappers()) {
+            Ordered o = mapper.readValue(aposToQuotes("{'a':0,'b':'x','a':1,'c':3,'d':true}"),
+                    Ordered.class);
+            _verify(o);
+        }
+    }
+
+    public void testUnknownStillFails() throws Exception
+    {
+        for (ObjectMapper mapper : _mappers()) {
+            try {
+                mapper.readValue(aposToQuotes("{'a':1,'bogus':2}"), Ordered.class);
+                fail("Should not pass");
+            } catch (UnrecognizedPropertyException e) {
+                verifyException(e, "bogus");
+            }
+        }
+    }
+
+    public void testAnySetter() throws Exception
+    {
+        for (ObjectMapper mapper : _mappers()) {
+            WithAnySetter w = mapper.readValue(aposToQuotes("{'a':1,'foo':'bar','b':2,'c':3}"),
+                    WithAnySetter.class);
+            assertEquals(1, w.a);
+            assertEquals(2, w.b);
+            assertEquals(3, w.c);
+            assertEquals(Collections.singletonMap("foo", "bar"), w.extra);
+        }
+    }
+
+    public void testPolymorphicFirstFieldMismatch() throws Exception
+    {
+        for (ObjectMapper mapper : _mappers()) {
+            Base b = mapper.readValue(aposToQuotes("{'type':'impl','y':2,'x':1}"), Base.class);
+            assertEquals(Impl.class, b.getClass());
+            assertEquals(1, ((Impl) b).x);
+            assertEquals(2, ((Impl) b).y);
+        }
+    }
+
+    private List<ObjectMapper> _mappers() {
+        return Arrays.asList(MAPPER, READER_MAPPER);
+    }
+
+    private void _verify(Ordered o) {
+        assertEquals(1, o.a);
+        assertEquals("x", o.b);
+        assertEquals(3L, o.c);
+        assertTrue(o.d);
+    }
+}
@@ -0,0 +1,322 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestPropertyBasedCreatorReader extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "id", "count", "enabled", "name", "ratio", "tags", "custom", "extra" })
+    static class Value {
+        final int id;
+        final long count;
+        final boolean enabled;
+        final String name;
+        final double ratio;
+        final List<String> tags;
+        final String custom;
+
+        public String extra;
+
+        @JsonCreator
+        public Value(@JsonProperty("id") int id, @JsonProperty("count") long count,
+                @JsonProperty("enabled") boolean enabled, @JsonProperty("name") String name,
+                @JsonProperty("ratio") double ratio, @JsonProperty("tags") List<String> tags,
+                @JsonProperty("custom") @JsonDeserialize(using=UpperCaseDeserializer.class) String custom)
+        {
+            if (id < 0) {
+                throw new IllegalArgumentException("Negative id");
+            }
+            this.id = id;
+            this.count = count;
+            this.enabled = enabled;
+            this.name = name;
+            this.ratio = ratio;
+            this.tags = tags;
+            this.custom = custom;
+        }
+    }
+
+    static class FactoryValue {
+        final int x;
+        final String y;
+
+        private FactoryValue(int x, String y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @JsonCreator
+        static FactoryValue create(@JsonProperty("x") int x, @JsonProperty("y") String y) {
+            return new FactoryValue(x, y);
+        }
+    }
+
+    // Value that records how its creator got called
+    static class TracedValue {
+        final static String READER_SUFFIX = "$CreatorReader4JacksonDeserializer";
+
+        static boolean calledByReader, fallback;
+
+        final int a, b;
+
+        @JsonCreator
+        public TracedValue(@JsonProperty("a") int a, @JsonProperty("b") int b) {
+            StackTraceElement[] stack = new Throwable().getStackTrace();
+            calledByReader = stack[1].getClassName().contains(READER_SUFFIX);
+            fallback = false;
+            for (StackTraceElement elem : stack) {
+                if ("_deserializeUsingPropertyBased".equals(elem.getMethodName())) {
+                    fallback = true;
+                }
+            }
+            if (a < 0) {
+                throw new IllegalStateException("Negative a");
+            }
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.NAME, include=JsonTypeInfo.As.PROPERTY, property="type")
+    @JsonTypeName("traced")
+    static class TypedValue {
+        final int a, b;
+
+        @JsonCreator
+        public TypedValue(@JsonProperty("a") int a, @JsonProperty("b") int b) {
+            TracedValue.calledByReader = new Throwable().getStackTrace()[1]
+                    .getClassName().contains(TracedValue.READER_SUFFIX);
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    static class UpperCaseDeserializer extends StdDeserializer<String> {
+        public UpperCaseDeserializer() { super(String.class); }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws java.io.IOException {
+            return p.getText().toUpperCase();
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final static String FULL = aposToQuotes(
+            "{'id':1,'count':2,'enabled':true,'name':'foo','ratio':0.5,"
+            +"'tags':['a','b'],'custom':'abc','extra':'x'}");
+
+    public void testReaderIsGenerated() throws Exception
+    {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) MAPPER.getDeserializationContext())
+                .createInstance(MAPPER.getDeserializationConfig(), null, null);
+        JsonDeserializer<?> deser = ctxt.findRootValueDeserializer(MAPPER.constructType(Value.class));
+        assertEquals(SuperSonicBeanDeserializer.class, deser.getClass());
+        assertNotNull(((SuperSonicBeanDeserializer) deser)._creatorReader);
+    }
+
+    public void testInOrder() throws Exception
+    {
+        _verify(MAPPER.readValue(FULL, Value.class), "x");
+    }
+
+    public void testOutOfOrder() throws Exception
+    {
+        // creator properties after a regular one
+        _verify(MAPPER.readValue(aposToQuotes(
+                "{'id':1,'count':2,'extra':'x','enabled':true,'name':'foo','ratio':0.5,"
+                +"'tags':['a','b'],'custom':'abc'}"), Value.class), "x");
+        // creator properties swapped
+        _verify(MAPPER.readValue(aposToQuotes(
+                "{'custom':'abc','id':1,'count':2,'enabled':true,'name':'foo','ratio':0.5,"
+                +"'tags':['a','b']}"), Value.class), null);
+    }
+
+    public void testMissingProperties() throws Exception
+    {
+        Value v = MAPPER.readValue(aposToQuotes("{'id':3,'count':4}"), Value.class);
+        assertEquals(3, v.id);
+        assertEquals(4L, v.count);
+        assertFalse(v.enabled);
+        assertNull(v.name);
+        assertEquals(0.0, v.ratio);
+    }
+
+    public void testCoercionsAndNulls() throws Exception
+    {
+        Value v = MAPPER.readValue(aposToQuotes(
+                "{'id':'1','count':'2','enabled':'true','name':5,'ratio':null,"
+                +"'tags':null,'custom':'abc'}"), Value.class);
+        assertEquals(1, v.id);
+        assertEquals(2L, v.count);
+        assertTrue(v.enabled);
+        assertEquals("5", v.name);
+        assertEquals(0.0, v.ratio);
+        assertNull(v.tags);
+    }
+
+    public void testUnknownProperty() throws Exception
+    {
+        Value v = MAPPER.readerFor(Value.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(aposToQuotes("{'id':1,'bogus':[1,2],'count':2}"));
+        assertEquals(1, v.id);
+        assertEquals(2L, v.count);
+    }
+
+    public void testFactoryMethod() throws Exception
+    {
+        FactoryValue v = MAPPER.readValue(aposToQuotes("{'x':1,'y':'foo'}"), FactoryValue.class);
+        assertEquals(1, v.x);
+        assertEquals("foo", v.y);
+        v = MAPPER.readValue(aposToQuotes("{'y':'bar','x':2}"), FactoryValue.class);
+        assertEquals(2, v.x);
+        assertEquals("bar", v.y);
+    }
+
+    public void testWithinContainer() throws Exception
+    {
+        List<Value> values = MAPPER.readValue("["+FULL+","+FULL+"]",
+                MAPPER.getTypeFactory().constructCollectionType(List.class, Value.class));
+        assertEquals(2, values.size());
+        _verify(values.get(1), "x");
+    }
+
+    public void testPropertyFailure() throws Exception
+    {
+        try {
+            MAPPER.readValue(aposToQuotes("{'id':1,'count':'abc'}"), Value.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "not a valid long value");
+            List<JsonMappingException.Reference> path = e.getPath();
+            assertEquals(1, path.size());
+            assertEquals("count", path.get(0).getFieldName());
+        }
+    }
+
+    public void testCreatorFailure() throws Exception
+    {
+        try {
+            MAPPER.readValue(FULL.replace("\"id\":1", "\"id\":-1"), Value.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Negative id");
+        }
+    }
+
+    public void testReaderIsUsed() throws Exception
+    {
+        TracedValue v = _readTraced("{'a':1,'b':2}");
+        assertTrue(TracedValue.calledByReader);
+        assertFalse(TracedValue.fallback);
+        assertEquals(1, v.a);
+        assertEquals(2, v.b);
+
+        // root value within array goes through the same path
+        TracedValue[] values = MAPPER.readValue(aposToQuotes("[{'a':3,'b':4}]"), TracedValue[].class);
+        assertTrue(TracedValue.calledByReader);
+        assertEquals(4, values[0].b);
+    }
+
+    public void testReaderFallback() throws Exception
+    {
+        TracedValue v = _readTraced("{'b':2,'a':1}");
+        assertFalse(TracedValue.calledByReader);
+        assertTrue(TracedValue.fallback);
+        assertEquals(1, v.a);
+        assertEquals(2, v.b);
+    }
+
+    public void testReaderMissingAndUnknown() throws Exception
+    {
+        TracedValue v = _readTraced("{'a':1}");
+        assertTrue(TracedValue.fallback);
+        assertEquals(1, v.a);
+        assertEquals(0, v.b);
+
+        v = _readTraced("{}");
+        assertTrue(TracedValue.fallback);
+        assertEquals(0, v.a);
+
+        v = MAPPER.readerFor(TracedValue.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(aposToQuotes("{'a':1,'x':[true],'b':2}"));
+        assertTrue(TracedValue.fallback);
+        assertEquals(2, v.b);
+        // and unknown properties after creation
+        v = MAPPER.readerFor(TracedValue.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(aposToQuotes("{'a':1,'b':2,'x':{'y':3}}"));
+        assertTrue(TracedValue.calledByReader);
+        assertEquals(2, v.b);
+
+        try {
+            _readTraced("{'a':1,'b':2,'x':3}");
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Unrecognized field \"x\"");
+        }
+    }
+
+    public void testReaderCreatorFailure() throws Exception
+    {
+        try {
+            _readTraced("{'a':-1,'b':2}");
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            assertTrue(TracedValue.calledByReader);
+            verifyException(e, "Negative a");
+            assertEquals(IllegalStateException.class, e.getCause().getClass());
+        }
+    }
+
+    // parser points to the first property (after type id), not START_OBJECT
+    public void testReaderWithTypeId() throws Exception
+    {
+        TracedValue.calledByReader = false;
+        TypedValue v = MAPPER.readValue(aposToQuotes("{'type':'traced','a':1,'b':2}"),
+                TypedValue.class);
+        assertTrue(TracedValue.calledByReader);
+        assertEquals(1, v.a);
+        assertEquals(2, v.b);
+
+        // and with type id buffered
+        v = MAPPER.readValue(aposToQuotes("{'a':3,'b':4,'type':'traced'}"), TypedValue.class);
+        assertEquals(3, v.a);
+        assertEquals(4, v.b);
+    }
+
+    private TracedValue _readTraced(String json) throws Exception
+    {
+        TracedValue.calledByReader = false;
+        TracedValue.fallback = false;
+        return MAPPER.readValue(aposToQuotes(json), TracedValue.class);
+    }
+
+    private void _verify(Value v, String extra)
+    {
+        assertEquals(1, v.id);
+        assertEquals(2L, v.count);
+        assertTrue(v.enabled);
+        assertEquals("foo", v.name);
+        assertEquals(0.5, v.ratio);
+        assertEquals(Arrays.asList("a", "b"), v.tags);
+        assertEquals("ABC", v.custom);
+        assertEquals(extra, v.extra);
+    }
+}
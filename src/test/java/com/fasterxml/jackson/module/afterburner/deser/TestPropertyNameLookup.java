@@ -0,0 +1,82 @@
+package com.fasterxml.jackson.module.afterburner.deser;
+
+import java.lang.reflect.Field;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestPropertyNameLookup extends AfterburnerTestBase
+{
+    static class WideBean {
+        public int f0, f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11;
+        public int f12, f13, f14, f15, f16, f17, f18, f19, f20, f21, f22, f23;
+        public int f24, f25, f26, f27, f28, f29, f30, f31, f32, f33, f34, f35;
+        public int f36, f37, f38, f39, f40, f41, f42, f43, f44, f45, f46, f47;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testLookupTable()
+    {
+        for (int count = 1; count <= 80; ++count) {
+            String[] names = new String[count];
+            for (int i = 0; i < count; ++i) {
+                names[i] = "property"+i;
+            }
+            PropertyNameLookup lookup = PropertyNameLookup.construct(names);
+            assertNotNull("No table for "+count+" names", lookup);
+            for (int i = 0; i < count; ++i) {
+                assertEquals(i, lookup.find(names[i]));
+                // should not rely on identity
+                assertEquals(i, lookup.find(new String(names[i])));
+            }
+            assertEquals(-1, lookup.find("property"+count));
+            assertEquals(-1, lookup.find(""));
+        }
+    }
+
+    public void testDuplicateNames()
+    {
+        assertNull(PropertyNameLookup.construct(new String[] { "a", "b", "a" }));
+        assertNull(PropertyNameLookup.construct(new String[0]));
+    }
+
+    public void testWideBeanReversed() throws Exception
+    {
+        ObjectMapper mapper = mapperWithModule();
+        Field[] fields = new Field[48];
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = fields.length; --i >= 0; ) {
+            fields[i] = WideBean.class.getField("f"+i);
+            sb.append("\"f").append(i).append("\":").append(i * 3);
+            sb.append((i == 0) ? "}" : ",");
+        }
+        for (int round = 0; round < 3; ++round) {
+            WideBean bean = mapper.readValue(sb.toString(), WideBean.class);
+            for (int i = 0; i < fields.length; ++i) {
+                assertEquals(i * 3, fields[i].getInt(bean));
+            }
+        }
+    }
+
+    public void testWideBeanUnknown() throws Exception
+    {
+        ObjectMapper mapper = mapperWithModule();
+        WideBean bean = mapper.readerFor(WideBean.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(aposToQuotes("{'f7':7,'f70':1,'f3':3}"));
+        assertEquals(7, bean.f7);
+        assertEquals(3, bean.f3);
+        try {
+            mapper.readValue(aposToQuotes("{'f7':7,'f70':1}"), WideBean.class);
+            fail("Should not pass");
+        } catch (UnrecognizedPropertyException e) {
+            verifyException(e, "f70");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.fasterxml.jackson.module.afterburner.roundtrip;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class AnyPropertiesTest extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "id", "name" })
+    static class Extensible
+    {
+        public int id;
+        public String name;
+
+        protected Map<String,Object> _extra = new LinkedHashMap<String,Object>();
+
+        @JsonAnyGetter
+        public Map<String,Object> extra() { return _extra; }
+
+        @JsonAnySetter
+        public void set(String key, Object value) {
+            _extra.put(key, value);
+        }
+    }
+
+    // any setter with typed value, returning something
+    @JsonIgnoreProperties({ "skipped" })
+    static class Counters
+    {
+        public String label;
+
+        protected Map<String,Integer> _counts = new TreeMap<String,Integer>();
+
+        @JsonAnyGetter
+        public Map<String,Integer> getCounts() { return _counts; }
+
+        @JsonAnySetter
+        public Counters count(String key, Integer value) {
+            _counts.put(key, value);
+            return this;
+        }
+    }
+
+    // and one with nothing but any properties
+    static class OnlyAny
+    {
+        protected Map<String,String> _props;
+
+        @JsonAnyGetter
+        public Map<String,String> props() { return _props; }
+
+        @JsonAnySetter
+        public void add(Object key, String value) {
+            if (_props == null) {
+                _props = new LinkedHashMap<String,String>();
+            }
+            _props.put((String) key, value);
+        }
+    }
+
+    @JsonFilter("f")
+    static class FilteredAny
+    {
+        public int a = 1;
+
+        @JsonAnyGetter
+        public Map<String,Object> any() {
+            Map<String,Object> m = new LinkedHashMap<String,Object>();
+            m.put("b", 2);
+            m.put("c", 3);
+            return m;
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper VANILLA_MAPPER = new ObjectMapper();
+
+    public void testAnyRoundtrip() throws Exception
+    {
+        final String json = aposToQuotes("{'id':3,'extra1':true,'name':'x','extra2':[1,2],'extra3':null}");
+        // twice, to go through ordered and out-of-order paths
+        for (int i = 0; i < 2; ++i) {
+            Extensible result = MAPPER.readValue(json, Extensible.class);
+            assertEquals(3, result.id);
+            assertEquals("x", result.name);
+            assertEquals(3, result._extra.size());
+            assertEquals(Boolean.TRUE, result._extra.get("extra1"));
+            assertEquals(Arrays.asList(1, 2), result._extra.get("extra2"));
+            assertTrue(result._extra.containsKey("extra3"));
+            assertEquals(VANILLA_MAPPER.writeValueAsString(result), MAPPER.writeValueAsString(result));
+            assertEquals(aposToQuotes("{'id':3,'name':'x','extra1':true,'extra2':[1,2],'extra3':null}"),
+                    MAPPER.writeValueAsString(result));
+        }
+    }
+
+    public void testTypedAnySetter() throws Exception
+    {
+        Counters result = MAPPER.readValue(aposToQuotes("{'b':2,'label':'L','skipped':'x','a':1}"),
+                Counters.class);
+        assertEquals("L", result.label);
+        assertEquals(2, result._counts.size());
+        assertEquals(Integer.valueOf(1), result._counts.get("a"));
+        assertEquals(aposToQuotes("{'label':'L','a':1,'b':2}"), MAPPER.writeValueAsString(result));
+
+        // and type mismatches are reported same as without generated calls
+        try {
+            MAPPER.readValue(aposToQuotes("{'a':'abc'}"), Counters.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "abc");
+        }
+    }
+
+    public void testOnlyAnyProperties() throws Exception
+    {
+        OnlyAny result = MAPPER.readValue(aposToQuotes("{'x':'1','y':'2'}"), OnlyAny.class);
+        assertEquals(2, result._props.size());
+        assertEquals(aposToQuotes("{'x':'1','y':'2'}"), MAPPER.writeValueAsString(result));
+        // null Map means no properties
+        assertEquals("{}", MAPPER.writeValueAsString(new OnlyAny()));
+    }
+
+    public void testFilteredAnyGetter() throws Exception
+    {
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+            .addFilter("f", SimpleBeanPropertyFilter.serializeAllExcept("c"));
+        assertEquals(VANILLA_MAPPER.writer(filters).writeValueAsString(new FilteredAny()),
+                MAPPER.writer(filters).writeValueAsString(new FilteredAny()));
+        assertEquals(aposToQuotes("{'a':1,'b':2}"),
+                MAPPER.writer(filters).writeValueAsString(new FilteredAny()));
+    }
+
+    public void testWithGeneratedReadersAndWriters() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new AfterburnerModule()
+                    .setUseGeneratedPropertyReaders(true)
+                    .setUseGeneratedPropertyWriters(true));
+        final String json = aposToQuotes("{'id':1,'name':'n','more':'stuff'}");
+        for (int i = 0; i < 3; ++i) {
+            Extensible result = mapper.readValue(json, Extensible.class);
+            assertEquals("stuff", result._extra.get("more"));
+            assertEquals(json, mapper.writeValueAsString(result));
+        }
+    }
+}
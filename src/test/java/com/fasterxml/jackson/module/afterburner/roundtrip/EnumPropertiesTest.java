@@ -0,0 +1,227 @@
+package com.fasterxml.jackson.module.afterburner.roundtrip;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+/**
+ * Tests for optimized handling of Enum-valued properties.
+ */
+public class EnumPropertiesTest extends AfterburnerTestBase
+{
+    enum Color { RED, GREEN, BLUE }
+
+    enum Size {
+        @JsonProperty("s") SMALL,
+        @JsonProperty("m") MEDIUM,
+        @JsonProperty("l") LARGE;
+    }
+
+    enum Code {
+        A("alpha"), B("beta");
+
+        private final String _code;
+
+        private Code(String c) { _code = c; }
+
+        @JsonValue
+        public String code() { return _code; }
+    }
+
+    @JsonPropertyOrder({ "color", "size", "code" })
+    static class FieldBean
+    {
+        public Color color;
+        public Size size;
+        public Code code;
+    }
+
+    @JsonPropertyOrder({ "color", "size", "code" })
+    static class MethodBean
+    {
+        protected Color _color;
+        protected Size _size;
+        protected Code _code;
+
+        public Color getColor() { return _color; }
+        public void setColor(Color c) { _color = c; }
+
+        public Size getSize() { return _size; }
+        public void setSize(Size s) { _size = s; }
+
+        public Code getCode() { return _code; }
+        public void setCode(Code c) { _code = c; }
+    }
+
+    static class NumberShapeBean
+    {
+        @JsonFormat(shape=JsonFormat.Shape.NUMBER)
+        public Color color;
+    }
+
+    @JsonFormat(shape=JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({ "color", "size", "code" })
+    static class ArrayBean extends FieldBean { }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper READER_MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUseGeneratedPropertyReaders(true));
+
+    private final static String JSON = aposToQuotes("{'color':'GREEN','size':'l','code':'beta'}");
+    private final static String NULLS_JSON = aposToQuotes("{'color':null,'size':null,'code':null}");
+
+    public void testPropertiesAreOptimized() throws Exception
+    {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) MAPPER.getDeserializationContext())
+                .createInstance(MAPPER.getDeserializationConfig(), null, null);
+        DefaultSerializerProvider prov = ((DefaultSerializerProvider) MAPPER.getSerializerProvider())
+                .createInstance(MAPPER.getSerializationConfig(), MAPPER.getSerializerFactory());
+        for (Class<?> type : new Class<?>[] { FieldBean.class, MethodBean.class }) {
+            JsonDeserializer<?> deser = ctxt.findRootValueDeserializer(MAPPER.constructType(type));
+            Iterator<SettableBeanProperty> it = ((BeanDeserializerBase) deser).properties();
+            while (it.hasNext()) {
+                SettableBeanProperty prop = it.next();
+                assertTrue("Property "+prop+" not optimized",
+                        prop.getClass().getSimpleName().startsWith("SettableEnum"));
+            }
+            Iterator<PropertyWriter> wit = ((BeanSerializer) prov.findTypedValueSerializer(type, true, null))
+                    .properties();
+            while (wit.hasNext()) {
+                PropertyWriter writer = wit.next();
+                assertTrue("Property "+writer+" not optimized",
+                        writer.getClass().getSimpleName().startsWith("Enum"));
+            }
+        }
+    }
+
+    public void testFields() throws Exception
+    {
+        FieldBean bean = new FieldBean();
+        bean.color = Color.GREEN;
+        bean.size = Size.LARGE;
+        bean.code = Code.B;
+        assertEquals(JSON, MAPPER.writeValueAsString(bean));
+        // and second time using captured names
+        assertEquals(JSON, MAPPER.writeValueAsString(bean));
+        assertEquals(NULLS_JSON, MAPPER.writeValueAsString(new FieldBean()));
+
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(JSON, FieldBean.class);
+            assertEquals(Color.GREEN, bean.color);
+            assertEquals(Size.LARGE, bean.size);
+            assertEquals(Code.B, bean.code);
+
+            bean = mapper.readValue(NULLS_JSON, FieldBean.class);
+            assertNull(bean.color);
+            assertNull(bean.size);
+            assertNull(bean.code);
+        }
+    }
+
+    public void testMethods() throws Exception
+    {
+        MethodBean bean = new MethodBean();
+        bean.setColor(Color.GREEN);
+        bean.setSize(Size.LARGE);
+        bean.setCode(Code.B);
+        assertEquals(JSON, MAPPER.writeValueAsString(bean));
+        assertEquals(NULLS_JSON, MAPPER.writeValueAsString(new MethodBean()));
+
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(JSON, MethodBean.class);
+            assertEquals(Color.GREEN, bean.getColor());
+            assertEquals(Size.LARGE, bean.getSize());
+            assertEquals(Code.B, bean.getCode());
+        }
+    }
+
+    public void testWriteUsingIndex() throws Exception
+    {
+        FieldBean bean = new FieldBean();
+        bean.color = Color.BLUE;
+        bean.size = Size.SMALL;
+        bean.code = Code.A;
+        // names captured first, to verify feature is still honored
+        assertEquals(aposToQuotes("{'color':'BLUE','size':'s','code':'alpha'}"),
+                MAPPER.writeValueAsString(bean));
+        // (but @JsonValue has precedence over index)
+        assertEquals(aposToQuotes("{'color':2,'size':0,'code':'alpha'}"),
+                MAPPER.writer().with(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                    .writeValueAsString(bean));
+        assertEquals(aposToQuotes("{'color':'BLUE','size':'s','code':'alpha'}"),
+                MAPPER.writeValueAsString(bean));
+    }
+
+    public void testNumberShape() throws Exception
+    {
+        NumberShapeBean bean = new NumberShapeBean();
+        bean.color = Color.BLUE;
+        assertEquals(aposToQuotes("{'color':2}"), MAPPER.writeValueAsString(bean));
+        assertEquals(aposToQuotes("{'color':2}"), MAPPER.writeValueAsString(bean));
+    }
+
+    public void testReadIndexAndUnknown() throws Exception
+    {
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            FieldBean bean = mapper.readValue(aposToQuotes("{'color':1,'size':2}"), FieldBean.class);
+            assertEquals(Color.GREEN, bean.color);
+            assertEquals(Size.LARGE, bean.size);
+
+            // names that are similar to known ones should not match
+            for (String value : new String[] { "GREE", "GREENS", "green", "SMALL", "" }) {
+                try {
+                    mapper.readValue(aposToQuotes("{'color':'"+value+"','size':'"+value+"'}"),
+                            FieldBean.class);
+                    fail("Should not pass with value '"+value+"'");
+                } catch (JsonMappingException e) {
+                    verifyException(e, "not one of declared Enum instance names");
+                }
+            }
+            bean = mapper.readerFor(FieldBean.class)
+                    .with(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)
+                    .readValue(aposToQuotes("{'color':'PURPLE'}"));
+            assertNull(bean.color);
+        }
+    }
+
+    public void testAsArray() throws Exception
+    {
+        ArrayBean bean = new ArrayBean();
+        bean.color = Color.RED;
+        bean.code = Code.A;
+        final String json = aposToQuotes("['RED',null,'alpha']");
+        assertEquals(json, MAPPER.writeValueAsString(bean));
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(json, ArrayBean.class);
+            assertEquals(Color.RED, bean.color);
+            assertNull(bean.size);
+            assertEquals(Code.A, bean.code);
+        }
+    }
+
+    public void testWithinContainer() throws Exception
+    {
+        List<FieldBean> beans = MAPPER.readValue("["+JSON+","+NULLS_JSON+"]",
+                MAPPER.getTypeFactory().constructCollectionType(List.class, FieldBean.class));
+        assertEquals(2, beans.size());
+        assertEquals(Code.B, beans.get(0).code);
+        assertNull(beans.get(1).code);
+        assertEquals("["+JSON+","+NULLS_JSON+"]", MAPPER.writeValueAsString(beans));
+    }
+}
@@ -0,0 +1,182 @@
+package com.fasterxml.jackson.module.afterburner.roundtrip;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+import com.fasterxml.jackson.module.afterburner.deser.SuperSonicBeanAsArrayDeserializer;
+import com.fasterxml.jackson.module.afterburner.ser.OptimizedBeanAsArraySerializer;
+
+public class OptimizedPOJOAsArrayTest extends AfterburnerTestBase
+{
+    @JsonFormat(shape=JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({ "symbol", "bid", "ask", "volume", "open", "venue", "tags", "flags" })
+    static class Quote
+    {
+        public String symbol;
+        public int bid, ask;
+        public long volume;
+        public boolean open;
+
+        protected String _venue;
+        protected List<String> _tags;
+        protected int _flags;
+
+        public Quote() { }
+        public Quote(String symbol, int bid, int ask, long volume, boolean open,
+                String venue, List<String> tags, int flags) {
+            this.symbol = symbol;
+            this.bid = bid;
+            this.ask = ask;
+            this.volume = volume;
+            this.open = open;
+            _venue = venue;
+            _tags = tags;
+            _flags = flags;
+        }
+
+        public String getVenue() { return _venue; }
+        public void setVenue(String v) { _venue = v; }
+
+        public List<String> getTags() { return _tags; }
+        public void setTags(List<String> t) { _tags = t; }
+
+        public int getFlags() { return _flags; }
+        public void setFlags(int f) { _flags = f; }
+    }
+
+    @JsonFormat(shape=JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({ "a", "b" })
+    @JsonIgnoreProperties(ignoreUnknown=true)
+    static class Lenient
+    {
+        public int a;
+        public String b;
+    }
+
+    @JsonFormat(shape=JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({ "x", "name" })
+    static class Suppressed
+    {
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public int x;
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public String name;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper READER_MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUseGeneratedPropertyReaders(true));
+
+    private final static String QUOTE_JSON = aposToQuotes(
+            "['ACME',100,101,5000000000,true,'XNAS',['a','b'],3]");
+
+    public void testOptimizedHandlers() throws Exception
+    {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) MAPPER.getDeserializationContext())
+                .createInstance(MAPPER.getDeserializationConfig(), null, null);
+        JsonDeserializer<?> deser = ctxt.findRootValueDeserializer(MAPPER.constructType(Quote.class));
+        assertEquals(SuperSonicBeanAsArrayDeserializer.class, deser.getClass());
+
+        DefaultSerializerProvider prov = ((DefaultSerializerProvider) MAPPER.getSerializerProvider())
+                .createInstance(MAPPER.getSerializationConfig(), MAPPER.getSerializerFactory());
+        JsonSerializer<?> ser = prov.findTypedValueSerializer(Quote.class, true, null);
+        assertEquals(OptimizedBeanAsArraySerializer.class, ser.getClass());
+    }
+
+    public void testSerialization() throws Exception
+    {
+        Quote q = new Quote("ACME", 100, 101, 5000000000L, true, "XNAS",
+                Arrays.asList("a", "b"), 3);
+        assertEquals(QUOTE_JSON, MAPPER.writeValueAsString(q));
+        q = new Quote(null, 0, 0, 0L, false, null, null, 0);
+        assertEquals("[null,0,0,0,false,null,null,0]", MAPPER.writeValueAsString(q));
+    }
+
+    public void testSuppressedValues() throws Exception
+    {
+        // placeholders must be written for suppressed values
+        assertEquals("[null,null]", MAPPER.writeValueAsString(new Suppressed()));
+    }
+
+    public void testDeserialization() throws Exception
+    {
+        _verify(MAPPER.readValue(QUOTE_JSON, Quote.class));
+        _verify(READER_MAPPER.readValue(QUOTE_JSON, Quote.class));
+    }
+
+    public void testFewerValues() throws Exception
+    {
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            Quote q = mapper.readValue(aposToQuotes("['ACME',100]"), Quote.class);
+            assertEquals("ACME", q.symbol);
+            assertEquals(100, q.bid);
+            assertEquals(0, q.ask);
+            q = mapper.readValue("[]", Quote.class);
+            assertNull(q.symbol);
+        }
+    }
+
+    public void testExtraValues() throws Exception
+    {
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            try {
+                mapper.readValue(aposToQuotes("['ACME',1,2,3,true,'X',[],4,5]"), Quote.class);
+                fail("Should not pass");
+            } catch (JsonMappingException e) {
+                verifyException(e, "expected at most 8 properties");
+            }
+            Lenient l = mapper.readValue(aposToQuotes("[1,'x',{'a':[1]},3]"), Lenient.class);
+            assertEquals(1, l.a);
+            assertEquals("x", l.b);
+        }
+    }
+
+    public void testPropertyFailure() throws Exception
+    {
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            try {
+                mapper.readValue(aposToQuotes("['ACME',1,'abc']"), Quote.class);
+                fail("Should not pass");
+            } catch (JsonMappingException e) {
+                verifyException(e, "not a valid int value");
+                assertEquals("ask", e.getPath().get(0).getFieldName());
+            }
+        }
+    }
+
+    public void testWithinContainer() throws Exception
+    {
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            List<Quote> quotes = mapper.readValue("["+QUOTE_JSON+","+QUOTE_JSON+"]",
+                    mapper.getTypeFactory().constructCollectionType(List.class, Quote.class));
+            assertEquals(2, quotes.size());
+            _verify(quotes.get(1));
+            assertEquals("["+QUOTE_JSON+","+QUOTE_JSON+"]", mapper.writeValueAsString(quotes));
+        }
+    }
+
+    private void _verify(Quote q)
+    {
+        assertEquals("ACME", q.symbol);
+        assertEquals(100, q.bid);
+        assertEquals(101, q.ask);
+        assertEquals(5000000000L, q.volume);
+        assertTrue(q.open);
+        assertEquals("XNAS", q.getVenue());
+        assertEquals(Arrays.asList("a", "b"), q.getTags());
+        assertEquals(3, q.getFlags());
+    }
+}
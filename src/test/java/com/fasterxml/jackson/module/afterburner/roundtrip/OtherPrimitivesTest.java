@@ -0,0 +1,265 @@
+package com.fasterxml.jackson.module.afterburner.roundtrip;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+/**
+ * Tests for optimized handling of <code>double</code>, <code>float</code>,
+ * <code>short</code>, <code>byte</code> and <code>char</code> properties.
+ */
+public class OtherPrimitivesTest extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "d", "f", "s", "b", "c" })
+    static class FieldBean
+    {
+        public double d;
+        public float f;
+        public short s;
+        public byte b;
+        public char c;
+    }
+
+    @JsonPropertyOrder({ "d", "f", "s", "b", "c" })
+    static class MethodBean
+    {
+        protected double _d;
+        protected float _f;
+        protected short _s;
+        protected byte _b;
+        protected char _c;
+
+        public double getD() { return _d; }
+        public void setD(double v) { _d = v; }
+
+        public float getF() { return _f; }
+        public void setF(float v) { _f = v; }
+
+        public short getS() { return _s; }
+        public void setS(short v) { _s = v; }
+
+        public byte getB() { return _b; }
+        public void setB(byte v) { _b = v; }
+
+        public char getC() { return _c; }
+        public void setC(char v) { _c = v; }
+    }
+
+    // Enough doubles to use switch statement in generated code
+    @JsonPropertyOrder({ "x", "y", "z", "w", "v" })
+    static class Telemetry
+    {
+        public double x, y, z, w;
+
+        protected double _v;
+
+        public double getV() { return _v; }
+        // setter that returns something (2 slots)
+        public double setV(double v) { double old = _v; _v = v; return old; }
+    }
+
+    @JsonFormat(shape=JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({ "d", "f", "s", "b", "c" })
+    static class ArrayBean extends FieldBean { }
+
+    static class NonDefaultBean
+    {
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public double d;
+
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public char c;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper READER_MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUseGeneratedPropertyReaders(true));
+
+    private final static String JSON = aposToQuotes("{'d':0.25,'f':-1.5,'s':-300,'b':7,'c':'x'}");
+
+    public void testPropertiesAreOptimized() throws Exception
+    {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) MAPPER.getDeserializationContext())
+                .createInstance(MAPPER.getDeserializationConfig(), null, null);
+        for (Class<?> type : new Class<?>[] { FieldBean.class, MethodBean.class }) {
+            JsonDeserializer<?> deser = ctxt.findRootValueDeserializer(MAPPER.constructType(type));
+            Iterator<SettableBeanProperty> it = ((BeanDeserializerBase) deser).properties();
+            while (it.hasNext()) {
+                SettableBeanProperty prop = it.next();
+                assertTrue("Property "+prop+" not optimized",
+                        prop.getClass().getName().startsWith("com.fasterxml.jackson.module.afterburner.deser.Settable"));
+            }
+        }
+    }
+
+    public void testFields() throws Exception
+    {
+        FieldBean bean = new FieldBean();
+        bean.d = 0.25;
+        bean.f = -1.5f;
+        bean.s = -300;
+        bean.b = 7;
+        bean.c = 'x';
+        assertEquals(JSON, MAPPER.writeValueAsString(bean));
+
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(JSON, FieldBean.class);
+            assertEquals(0.25, bean.d);
+            assertEquals(-1.5f, bean.f);
+            assertEquals((short) -300, bean.s);
+            assertEquals((byte) 7, bean.b);
+            assertEquals('x', bean.c);
+        }
+    }
+
+    public void testMethods() throws Exception
+    {
+        MethodBean bean = new MethodBean();
+        bean.setD(0.25);
+        bean.setF(-1.5f);
+        bean.setS((short) -300);
+        bean.setB((byte) 7);
+        bean.setC('x');
+        assertEquals(JSON, MAPPER.writeValueAsString(bean));
+
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(JSON, MethodBean.class);
+            assertEquals(0.25, bean.getD());
+            assertEquals(-1.5f, bean.getF());
+            assertEquals((short) -300, bean.getS());
+            assertEquals((byte) 7, bean.getB());
+            assertEquals('x', bean.getC());
+        }
+    }
+
+    public void testManyDoubles() throws Exception
+    {
+        final String json = aposToQuotes("{'x':1.0,'y':2.5,'z':-3.0,'w':1.0E10,'v':0.125}");
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            Telemetry t = mapper.readValue(json, Telemetry.class);
+            assertEquals(1.0, t.x);
+            assertEquals(2.5, t.y);
+            assertEquals(-3.0, t.z);
+            assertEquals(1.0E10, t.w);
+            assertEquals(0.125, t.getV());
+            assertEquals(json, mapper.writeValueAsString(t));
+        }
+    }
+
+    public void testCoercions() throws Exception
+    {
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            FieldBean bean = mapper.readValue(aposToQuotes(
+                    "{'d':'0.5','f':2,'s':'12','b':'-3','c':65}"), FieldBean.class);
+            assertEquals(0.5, bean.d);
+            assertEquals(2.0f, bean.f);
+            assertEquals((short) 12, bean.s);
+            assertEquals((byte) -3, bean.b);
+            assertEquals('A', bean.c);
+
+            bean = mapper.readValue(aposToQuotes(
+                    "{'d':null,'f':null,'s':null,'b':null,'c':null}"), FieldBean.class);
+            assertEquals(0.0, bean.d);
+            assertEquals(0.0f, bean.f);
+            assertEquals((short) 0, bean.s);
+            assertEquals((byte) 0, bean.b);
+            assertEquals('\0', bean.c);
+
+            // unsigned bytes are accepted as well
+            bean = mapper.readValue(aposToQuotes("{'b':255}"), FieldBean.class);
+            assertEquals((byte) -1, bean.b);
+        }
+    }
+
+    public void testOverflow() throws Exception
+    {
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            try {
+                mapper.readValue(aposToQuotes("{'s':40000}"), MethodBean.class);
+                fail("Should not pass");
+            } catch (JsonMappingException e) {
+                verifyException(e, "16-bit value");
+            }
+            try {
+                mapper.readValue(aposToQuotes("{'b':300}"), MethodBean.class);
+                fail("Should not pass");
+            } catch (JsonMappingException e) {
+                verifyException(e, "8-bit value");
+            }
+        }
+    }
+
+    public void testNonDefault() throws Exception
+    {
+        NonDefaultBean bean = new NonDefaultBean();
+        assertEquals("{}", MAPPER.writeValueAsString(bean));
+        bean.d = -0.0;
+        bean.c = 'a';
+        assertEquals(aposToQuotes("{'d':-0.0,'c':'a'}"), MAPPER.writeValueAsString(bean));
+    }
+
+    public void testAsArray() throws Exception
+    {
+        ArrayBean bean = new ArrayBean();
+        bean.d = 0.25;
+        bean.f = -1.5f;
+        bean.s = -300;
+        bean.b = 7;
+        bean.c = 'x';
+        final String json = aposToQuotes("[0.25,-1.5,-300,7,'x']");
+        assertEquals(json, MAPPER.writeValueAsString(bean));
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(json, ArrayBean.class);
+            assertEquals(0.25, bean.d);
+            assertEquals('x', bean.c);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    static class DoubleTimesTwo extends StdDeserializer<Double> {
+        public DoubleTimesTwo() { super(Double.class); }
+
+        @Override
+        public Double deserialize(JsonParser p, DeserializationContext ctxt)
+                throws java.io.IOException {
+            return p.getDoubleValue() * 2.0;
+        }
+    }
+
+    static class CustomBean {
+        @JsonDeserialize(using=DoubleTimesTwo.class)
+        public double d;
+    }
+
+    public void testCustomDeserializer() throws Exception
+    {
+        CustomBean bean = MAPPER.readValue(aposToQuotes("{'d':1.5}"), CustomBean.class);
+        assertEquals(3.0, bean.d);
+    }
+
+    // Just to ensure Lists of beans work the same
+    public void testWithinContainer() throws Exception
+    {
+        List<FieldBean> beans = MAPPER.readValue("["+JSON+","+JSON+"]",
+                MAPPER.getTypeFactory().constructCollectionType(List.class, FieldBean.class));
+        assertEquals(2, beans.size());
+        assertEquals('x', beans.get(1).c);
+        assertEquals("["+JSON+","+JSON+"]", MAPPER.writeValueAsString(beans));
+    }
+}
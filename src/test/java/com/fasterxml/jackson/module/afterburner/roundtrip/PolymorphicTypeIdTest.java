@@ -0,0 +1,150 @@
+package com.fasterxml.jackson.module.afterburner.roundtrip;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class PolymorphicTypeIdTest extends AfterburnerTestBase
+{
+    @JsonTypeInfo(use=JsonTypeInfo.Id.NAME, include=JsonTypeInfo.As.PROPERTY, property="@type")
+    @JsonSubTypes({ @JsonSubTypes.Type(Created.class), @JsonSubTypes.Type(Deleted.class) })
+    static abstract class Event {
+        public int id;
+    }
+
+    @JsonTypeName("created")
+    static class Created extends Event {
+        public String name;
+    }
+
+    @JsonTypeName("deleted")
+    static class Deleted extends Event {
+        public boolean soft;
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.NAME, include=JsonTypeInfo.As.WRAPPER_OBJECT)
+    @JsonSubTypes({ @JsonSubTypes.Type(value=Circle.class, name="circle") })
+    static abstract class Shape { }
+
+    static class Circle extends Shape {
+        public int r;
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.CLASS, include=JsonTypeInfo.As.PROPERTY)
+    static class ClassTyped {
+        public int x = 1;
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.MINIMAL_CLASS, include=JsonTypeInfo.As.WRAPPER_OBJECT)
+    static class MinimalTyped {
+        public int x = 2;
+    }
+
+    // with existing property, type id is written as regular property
+    @JsonTypeInfo(use=JsonTypeInfo.Id.NAME, include=JsonTypeInfo.As.EXISTING_PROPERTY, property="kind")
+    @JsonSubTypes({ @JsonSubTypes.Type(value=Impl.class, name="impl") })
+    static abstract class Existing {
+        public String kind = "impl";
+    }
+
+    static class Impl extends Existing {
+        public int v = 3;
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.NAME, include=JsonTypeInfo.As.WRAPPER_ARRAY)
+    @JsonSubTypes({ @JsonSubTypes.Type(value=ArrayWrapped.class, name="aw") })
+    static class ArrayWrapped {
+        public int a = 4;
+    }
+
+    static class EventHolder {
+        public Event event;
+        public List<Shape> shapes;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper VANILLA_MAPPER = new ObjectMapper();
+
+    public void testAsProperty() throws Exception
+    {
+        Created c = new Created();
+        c.id = 1;
+        c.name = "foo";
+        Deleted d = new Deleted();
+        d.id = 2;
+        d.soft = true;
+        List<Event> events = Arrays.asList(c, d, c, d);
+        // twice, to use cached type ids as well
+        for (int i = 0; i < 2; ++i) {
+            String json = MAPPER.writerFor(new TypeReference<List<Event>>() { })
+                    .writeValueAsString(events);
+            assertEquals(aposToQuotes("[{'@type':'created','id':1,'name':'foo'},{'@type':'deleted','id':2,'soft':true},"
+                    +"{'@type':'created','id':1,'name':'foo'},{'@type':'deleted','id':2,'soft':true}]"), json);
+            Event[] result = MAPPER.readValue(json, Event[].class);
+            assertEquals(4, result.length);
+            assertEquals(Created.class, result[0].getClass());
+            assertEquals("foo", ((Created) result[0]).name);
+            assertEquals(Deleted.class, result[1].getClass());
+        }
+    }
+
+    public void testAsWrapperObject() throws Exception
+    {
+        Circle circle = new Circle();
+        circle.r = 5;
+        EventHolder holder = new EventHolder();
+        holder.shapes = Arrays.<Shape>asList(circle, circle);
+        for (int i = 0; i < 2; ++i) {
+            String json = MAPPER.writeValueAsString(holder);
+            assertEquals(aposToQuotes("{'event':null,'shapes':[{'circle':{'r':5}},{'circle':{'r':5}}]}"), json);
+            EventHolder result = MAPPER.readValue(json, EventHolder.class);
+            assertEquals(5, ((Circle) result.shapes.get(1)).r);
+        }
+    }
+
+    public void testClassIds() throws Exception
+    {
+        _verifySame(new ClassTyped());
+        _verifySame(new ClassTyped());
+        _verifySame(new MinimalTyped());
+        _verifySame(new MinimalTyped());
+        ClassTyped result = MAPPER.readValue(MAPPER.writeValueAsString(new ClassTyped()), ClassTyped.class);
+        assertEquals(1, result.x);
+    }
+
+    public void testOtherInclusions() throws Exception
+    {
+        _verifySame(new Impl());
+        _verifySame(new ArrayWrapped());
+        assertEquals(aposToQuotes("['aw',{'a':4}]"), MAPPER.writeValueAsString(new ArrayWrapped()));
+    }
+
+    public void testDefaultTyping() throws Exception
+    {
+        ObjectMapper mapper = mapperWithModule().enableDefaultTyping(ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        ObjectMapper vanilla = new ObjectMapper().enableDefaultTyping(ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        Circle circle = new Circle();
+        circle.r = 7;
+        EventHolder holder = new EventHolder();
+        holder.shapes = new ArrayList<Shape>(Arrays.<Shape>asList(circle));
+        assertEquals(vanilla.writeValueAsString(holder), mapper.writeValueAsString(holder));
+        assertEquals(vanilla.writeValueAsString(holder), mapper.writeValueAsString(holder));
+    }
+
+    private void _verifySame(Object value) throws Exception
+    {
+        assertEquals(VANILLA_MAPPER.writeValueAsString(value), MAPPER.writeValueAsString(value));
+    }
+}
@@ -0,0 +1,91 @@
+package com.fasterxml.jackson.module.afterburner.roundtrip;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class PrivateMembersTest extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "id", "name", "score", "tag" })
+    static class PrivateBean
+    {
+        @JsonProperty
+        private int id;
+
+        @JsonProperty
+        private String name;
+
+        private long _score;
+
+        public String tag;
+
+        @JsonProperty("score")
+        private long score() { return _score; }
+
+        @JsonProperty("score")
+        private void score(long s) { _score = s; }
+    }
+
+    // private members of super types are not accessed by generated code, but must work
+    @JsonPropertyOrder({ "id", "name", "score", "tag", "extra" })
+    static class SubBean extends PrivateBean
+    {
+        @JsonProperty
+        private boolean extra;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUsePrivateMemberAccess(true));
+
+    public void testPrivateRoundtrip() throws Exception
+    {
+        final String json = aposToQuotes("{'id':3,'name':'abc','score':-5,'tag':'t'}");
+        for (int i = 0; i < 2; ++i) {
+            PrivateBean bean = MAPPER.readValue(json, PrivateBean.class);
+            assertEquals(3, bean.id);
+            assertEquals("abc", bean.name);
+            assertEquals(-5L, bean._score);
+            assertEquals("t", bean.tag);
+            assertEquals(json, MAPPER.writeValueAsString(bean));
+        }
+    }
+
+    // generated property readers must not access private members directly
+    public void testPrivateRoundtripWithReaders() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new AfterburnerModule()
+                    .setUsePrivateMemberAccess(true)
+                    .setUseGeneratedPropertyReaders(true));
+        final String json = aposToQuotes("{'id':3,'name':'abc','score':-5,'tag':'t'}");
+        for (int i = 0; i < 2; ++i) {
+            PrivateBean bean = mapper.readValue(json, PrivateBean.class);
+            assertEquals(3, bean.id);
+            assertEquals("abc", bean.name);
+            assertEquals(-5L, bean._score);
+            assertEquals("t", bean.tag);
+            assertEquals(json, mapper.writeValueAsString(bean));
+        }
+        SubBean sub = mapper.readValue(aposToQuotes("{'id':1,'score':7,'extra':true}"), SubBean.class);
+        assertEquals(1, ((PrivateBean) sub).id);
+        assertEquals(7L, ((PrivateBean) sub)._score);
+        assertTrue(sub.extra);
+    }
+
+    public void testPrivateSuperTypeRoundtrip() throws Exception
+    {
+        final String json = aposToQuotes("{'id':1,'name':null,'score':7,'tag':null,'extra':true}");
+        SubBean bean = MAPPER.readValue(json, SubBean.class);
+        assertEquals(1, ((PrivateBean) bean).id);
+        assertEquals(7L, ((PrivateBean) bean)._score);
+        assertTrue(bean.extra);
+        assertEquals(json, MAPPER.writeValueAsString(bean));
+    }
+}
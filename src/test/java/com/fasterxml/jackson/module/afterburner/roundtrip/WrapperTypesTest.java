@@ -0,0 +1,259 @@
+package com.fasterxml.jackson.module.afterburner.roundtrip;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+/**
+ * Tests for optimized handling of nullable wrapper-typed properties
+ * ({@link Integer}, {@link Long}, {@link Double}, {@link Boolean}).
+ */
+public class WrapperTypesTest extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "i", "l", "d", "b" })
+    static class FieldBean
+    {
+        public Integer i;
+        public Long l;
+        public Double d;
+        public Boolean b;
+    }
+
+    @JsonPropertyOrder({ "i", "l", "d", "b" })
+    static class MethodBean
+    {
+        protected Integer _i;
+        protected Long _l;
+        protected Double _d;
+        protected Boolean _b;
+
+        public Integer getI() { return _i; }
+        public void setI(Integer v) { _i = v; }
+
+        public Long getL() { return _l; }
+        public void setL(Long v) { _l = v; }
+
+        public Double getD() { return _d; }
+        public void setD(Double v) { _d = v; }
+
+        public Boolean getB() { return _b; }
+        public void setB(Boolean v) { _b = v; }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonPropertyOrder({ "i", "l", "d", "b" })
+    static class NonNullBean extends FieldBean { }
+
+    static class NonDefaultBean
+    {
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public Integer i;
+
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public Boolean b;
+    }
+
+    static class FormattedBean
+    {
+        @JsonFormat(shape=JsonFormat.Shape.STRING)
+        public Integer i;
+    }
+
+    @JsonFormat(shape=JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({ "i", "l", "d", "b" })
+    static class ArrayBean extends FieldBean { }
+
+    @JsonDeserialize(builder=Row.Builder.class)
+    static class Row {
+        final Integer id;
+        final Long total;
+
+        Row(Integer id, Long total) {
+            this.id = id;
+            this.total = total;
+        }
+
+        @JsonPOJOBuilder(withPrefix="")
+        static class Builder {
+            private Integer id;
+            private Long total;
+
+            public Builder id(Integer v) { id = v; return this; }
+            public Builder total(Long v) { total = v; return this; }
+
+            public Row build() { return new Row(id, total); }
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper READER_MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUseGeneratedPropertyReaders(true));
+
+    private final static String JSON = aposToQuotes("{'i':-3,'l':5000000000,'d':0.25,'b':true}");
+    private final static String NULLS_JSON = aposToQuotes("{'i':null,'l':null,'d':null,'b':null}");
+
+    public void testPropertiesAreOptimized() throws Exception
+    {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) MAPPER.getDeserializationContext())
+                .createInstance(MAPPER.getDeserializationConfig(), null, null);
+        DefaultSerializerProvider prov = ((DefaultSerializerProvider) MAPPER.getSerializerProvider())
+                .createInstance(MAPPER.getSerializationConfig(), MAPPER.getSerializerFactory());
+        for (Class<?> type : new Class<?>[] { FieldBean.class, MethodBean.class }) {
+            JsonDeserializer<?> deser = ctxt.findRootValueDeserializer(MAPPER.constructType(type));
+            Iterator<SettableBeanProperty> it = ((BeanDeserializerBase) deser).properties();
+            while (it.hasNext()) {
+                SettableBeanProperty prop = it.next();
+                assertTrue("Property "+prop+" not optimized",
+                        prop.getClass().getSimpleName().startsWith("SettableBoxed"));
+            }
+            Iterator<PropertyWriter> wit = ((BeanSerializer) prov.findTypedValueSerializer(type, true, null))
+                    .properties();
+            while (wit.hasNext()) {
+                PropertyWriter writer = wit.next();
+                assertTrue("Property "+writer+" not optimized",
+                        writer.getClass().getSimpleName().startsWith("Boxed"));
+            }
+        }
+    }
+
+    public void testFields() throws Exception
+    {
+        FieldBean bean = new FieldBean();
+        bean.i = -3;
+        bean.l = 5000000000L;
+        bean.d = 0.25;
+        bean.b = Boolean.TRUE;
+        assertEquals(JSON, MAPPER.writeValueAsString(bean));
+        assertEquals(NULLS_JSON, MAPPER.writeValueAsString(new FieldBean()));
+
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(JSON, FieldBean.class);
+            assertEquals(Integer.valueOf(-3), bean.i);
+            assertEquals(Long.valueOf(5000000000L), bean.l);
+            assertEquals(Double.valueOf(0.25), bean.d);
+            assertEquals(Boolean.TRUE, bean.b);
+
+            bean = mapper.readValue(NULLS_JSON, FieldBean.class);
+            assertNull(bean.i);
+            assertNull(bean.l);
+            assertNull(bean.d);
+            assertNull(bean.b);
+        }
+    }
+
+    public void testMethods() throws Exception
+    {
+        MethodBean bean = new MethodBean();
+        bean.setI(-3);
+        bean.setL(5000000000L);
+        bean.setD(0.25);
+        bean.setB(Boolean.TRUE);
+        assertEquals(JSON, MAPPER.writeValueAsString(bean));
+        assertEquals(NULLS_JSON, MAPPER.writeValueAsString(new MethodBean()));
+
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(JSON, MethodBean.class);
+            assertEquals(Integer.valueOf(-3), bean.getI());
+            assertEquals(Long.valueOf(5000000000L), bean.getL());
+            assertEquals(Double.valueOf(0.25), bean.getD());
+            assertEquals(Boolean.TRUE, bean.getB());
+
+            bean = mapper.readValue(NULLS_JSON, MethodBean.class);
+            assertNull(bean.getI());
+            assertNull(bean.getB());
+        }
+    }
+
+    public void testCoercions() throws Exception
+    {
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            FieldBean bean = mapper.readValue(aposToQuotes(
+                    "{'i':'12','l':'-7','d':3,'b':'false'}"), FieldBean.class);
+            assertEquals(Integer.valueOf(12), bean.i);
+            assertEquals(Long.valueOf(-7L), bean.l);
+            assertEquals(Double.valueOf(3.0), bean.d);
+            assertEquals(Boolean.FALSE, bean.b);
+            try {
+                mapper.readValue(aposToQuotes("{'i':'abc'}"), FieldBean.class);
+                fail("Should not pass");
+            } catch (JsonMappingException e) {
+                verifyException(e, "not a valid Integer value");
+            }
+        }
+    }
+
+    public void testInclusion() throws Exception
+    {
+        assertEquals("{}", MAPPER.writeValueAsString(new NonNullBean()));
+        NonNullBean bean = new NonNullBean();
+        bean.l = 0L;
+        assertEquals(aposToQuotes("{'l':0}"), MAPPER.writeValueAsString(bean));
+
+        // default of wrapper is that of primitive; but nulls are not suppressed
+        NonDefaultBean nd = new NonDefaultBean();
+        assertEquals(aposToQuotes("{'i':null,'b':null}"), MAPPER.writeValueAsString(nd));
+        nd.i = 0;
+        nd.b = Boolean.FALSE;
+        assertEquals("{}", MAPPER.writeValueAsString(nd));
+        nd.i = 1;
+        assertEquals(aposToQuotes("{'i':1}"), MAPPER.writeValueAsString(nd));
+    }
+
+    public void testNonDefaultSerializer() throws Exception
+    {
+        FormattedBean bean = new FormattedBean();
+        bean.i = 42;
+        assertEquals(aposToQuotes("{'i':'42'}"), MAPPER.writeValueAsString(bean));
+    }
+
+    public void testAsArray() throws Exception
+    {
+        ArrayBean bean = new ArrayBean();
+        bean.i = 7;
+        bean.b = Boolean.FALSE;
+        final String json = "[7,null,null,false]";
+        assertEquals(json, MAPPER.writeValueAsString(bean));
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, READER_MAPPER }) {
+            bean = mapper.readValue(json, ArrayBean.class);
+            assertEquals(Integer.valueOf(7), bean.i);
+            assertNull(bean.l);
+            assertNull(bean.d);
+            assertEquals(Boolean.FALSE, bean.b);
+        }
+    }
+
+    public void testBuilder() throws Exception
+    {
+        Row row = MAPPER.readValue(aposToQuotes("{'id':3,'total':null}"), Row.class);
+        assertEquals(Integer.valueOf(3), row.id);
+        assertNull(row.total);
+    }
+
+    public void testWithinContainer() throws Exception
+    {
+        List<FieldBean> beans = MAPPER.readValue("["+JSON+","+NULLS_JSON+"]",
+                MAPPER.getTypeFactory().constructCollectionType(List.class, FieldBean.class));
+        assertEquals(2, beans.size());
+        assertEquals(Boolean.TRUE, beans.get(0).b);
+        assertNull(beans.get(1).b);
+        assertEquals("["+JSON+","+NULLS_JSON+"]", MAPPER.writeValueAsString(beans));
+    }
+}
@@ -7,6 +7,8 @@ import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.util.SimpleBeanPropertyDefinition;
 import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+import com.fasterxml.jackson.module.afterburner.util.GeneratedClassRegistry;
+import com.fasterxml.jackson.module.afterburner.util.LookupClassDefiner;
 
 public class TestAccessorGeneration extends AfterburnerTestBase
 {
@@ -36,6 +38,15 @@ public class TestAccessorGeneration extends AfterburnerTestBase
         public int get6() { return 6; }
         public int get7() { return 7; }
     }
+
+    public static class BeanPrivate {
+        private int getX() { return 42; }
+    }
+
+    public static class BeanShared {
+        public int getX() { return 1; }
+        public int getY() { return 2; }
+    }
     
     /*
     /**********************************************************************
@@ -127,4 +138,55 @@ public class TestAccessorGeneration extends AfterburnerTestBase
         assertEquals(bean.get6(), acc.intGetter(bean, 5));
         assertEquals(bean.get7(), acc.intGetter(bean, 6));
     }
+
+    // Accessor classes are shared by all collectors with same properties
+    public void testSharedAccessorClasses() throws Exception
+    {
+        PropertyAccessorCollector coll1 = _intGetters(BeanShared.class, "getX", "getY");
+        assertNull(GeneratedClassRegistry.find(BeanShared.class, coll1._signature()));
+        BeanPropertyAccessor acc1 = coll1.findAccessor(null);
+        assertSame(acc1.getClass(), GeneratedClassRegistry.find(BeanShared.class, coll1._signature()));
+
+        PropertyAccessorCollector coll2 = _intGetters(BeanShared.class, "getX", "getY");
+        assertEquals(coll1._signature(), coll2._signature());
+        assertSame(acc1.getClass(), coll2.findAccessor(null).getClass());
+
+        // but different order means different indexes, so different class
+        BeanPropertyAccessor acc3 = _intGetters(BeanShared.class, "getY", "getX").findAccessor(null);
+        assertNotSame(acc1.getClass(), acc3.getClass());
+        BeanShared bean = new BeanShared();
+        assertEquals(1, acc1.intGetter(bean, 0));
+        assertEquals(2, acc3.intGetter(bean, 0));
+    }
+
+    // Private members can be accessed by nestmates, on JVMs that support them
+    public void testPrivateGetterAccess() throws Exception
+    {
+        if (!LookupClassDefiner.isNestmateAvailable()) {
+            return;
+        }
+        PropertyAccessorCollector coll = _intGetters(BeanPrivate.class, "getX");
+        coll.setPrivateAccess(true);
+        BeanPropertyAccessor acc = coll.findAccessor(null);
+        assertEquals(42, acc.intGetter(new BeanPrivate(), 0));
+        // defined as a hidden class, which has no proper binary name
+        assertTrue(acc.getClass().getName().indexOf('/') > 0);
+    }
+
+    private PropertyAccessorCollector _intGetters(Class<?> beanClass, String... methodNames)
+        throws Exception
+    {
+        PropertyAccessorCollector coll = new PropertyAccessorCollector(beanClass);
+        for (String methodName : methodNames) {
+            Method method = beanClass.getDeclaredMethod(methodName);
+            AnnotatedMethod annMethod = new AnnotatedMethod(null, method, null, null);
+            coll.addIntGetter(new BeanPropertyWriter(SimpleBeanPropertyDefinition.construct(
+                    null, annMethod, new PropertyName(methodName)),
+                    annMethod, null,
+                    null,
+                    null, null, null,
+                    false, null));
+        }
+        return coll;
+    }
 }
@@ -0,0 +1,85 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestDynamicSerializerCache extends AfterburnerTestBase
+{
+    static class FieldBean {
+        public Object value;
+
+        public FieldBean(Object v) { value = v; }
+    }
+
+    static class MethodBean {
+        protected Object _value;
+
+        public MethodBean(Object v) { _value = v; }
+
+        public Object getValue() { return _value; }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    public void testMonomorphicField() throws Exception
+    {
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("{\"value\":"+i+"}", MAPPER.writeValueAsString(new FieldBean(i)));
+        }
+        ObjectFieldPropertyWriter w = _writer(FieldBean.class, ObjectFieldPropertyWriter.class);
+        assertFalse(w.isMegamorphic());
+        assertEquals(0L, w.getMegamorphicLookupCount());
+    }
+
+    public void testPolymorphicField() throws Exception
+    {
+        final Object[] values = new Object[] { 1, "a", true, 2L, Arrays.asList(3) };
+        final String[] exp = new String[] { "1", "\"a\"", "true", "2", "[3]" };
+        // twice, to verify both cached and uncached lookups
+        for (int round = 0; round < 2; ++round) {
+            for (int i = 0; i < values.length; ++i) {
+                assertEquals("{\"value\":"+exp[i]+"}", MAPPER.writeValueAsString(new FieldBean(values[i])));
+                assertEquals("[{\"value\":"+exp[i]+"}]",
+                        MAPPER.writeValueAsString(Arrays.asList(new FieldBean(values[i]))));
+            }
+        }
+        ObjectFieldPropertyWriter w = _writer(FieldBean.class, ObjectFieldPropertyWriter.class);
+        assertTrue(w.isMegamorphic());
+        assertTrue(w.getMegamorphicLookupCount() > 0L);
+    }
+
+    public void testBimorphicMethod() throws Exception
+    {
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("{\"value\":1}", MAPPER.writeValueAsString(new MethodBean(1)));
+            assertEquals("{\"value\":\"b\"}", MAPPER.writeValueAsString(new MethodBean("b")));
+        }
+        ObjectMethodPropertyWriter w = _writer(MethodBean.class, ObjectMethodPropertyWriter.class);
+        assertFalse(w.isMegamorphic());
+
+        Map<String,Object> map = new LinkedHashMap<String,Object>();
+        map.put("x", 1);
+        assertEquals("{\"value\":{\"x\":1}}", MAPPER.writeValueAsString(new MethodBean(map)));
+        assertTrue(w.isMegamorphic());
+        assertEquals(1L, w.getMegamorphicLookupCount());
+    }
+
+    private <T> T _writer(Class<?> beanType, Class<T> writerType) throws Exception
+    {
+        JsonSerializer<?> ser = MAPPER.getSerializerProviderInstance()
+                .findTypedValueSerializer(beanType, true, null);
+        Iterator<?> it = ((BeanSerializer) ser).properties();
+        Object prop = it.next();
+        assertEquals(writerType, prop.getClass());
+        return writerType.cast(prop);
+    }
+}
@@ -0,0 +1,307 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestGeneratedPropertyWriter extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "i", "l", "b", "d", "f", "s", "bt", "c", "str", "tags", "x", "y", "custom" })
+    static class MixedBean {
+        public int i = 1;
+        public long l = -2L;
+        public boolean b = true;
+        public double d = 0.5;
+        public float f = -0.25f;
+        public short s = 3;
+        public byte bt = 4;
+        public char c = 'c';
+        public String str = "foo";
+        public List<String> tags = Arrays.asList("a", "b");
+
+        protected int _x = 5;
+        protected String _y = null;
+
+        @JsonSerialize(using=UpperCaseSerializer.class)
+        public String custom = "abc";
+
+        public int getX() { return _x; }
+        public String getY() { return _y; }
+    }
+
+    @SuppressWarnings("serial")
+    static class UpperCaseSerializer extends StdSerializer<String> {
+        public UpperCaseSerializer() { super(String.class); }
+
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.toUpperCase());
+        }
+    }
+
+    // defaults of properties are compiled in as values to suppress
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    @JsonPropertyOrder({ "i", "l", "b", "d", "f", "str" })
+    static class NonDefaultBean {
+        public int i = 7;
+        public long l = 8L;
+        public boolean b = true;
+        public double d = -1.5;
+        public float f = 2.0f;
+        public String str = "x";
+    }
+
+    @JsonPropertyOrder({ "a", "b", "c" })
+    static class EmptyStringsBean {
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public String a;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public String b;
+        public String c;
+    }
+
+    @JsonPropertyOrder({ "always", "nonNull", "nonEmpty", "nonDefault", "self" })
+    static class ObjectsBean {
+        public List<String> always;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public List<String> nonNull;
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<String> nonEmpty;
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public Integer nonDefault;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public Object getSelf() { return null; }
+    }
+
+    static class FailingBean {
+        public int a = 1;
+
+        public int getB() { throw new IllegalStateException("Fail!"); }
+    }
+
+    static class ViewA { }
+    static class ViewB { }
+
+    @JsonPropertyOrder({ "a", "b" })
+    static class ViewBean {
+        @JsonView(ViewA.class)
+        public int a = 1;
+        @JsonView(ViewB.class)
+        public int b = 2;
+    }
+
+    static class ViewC extends ViewA { }
+
+    @JsonPropertyOrder({ "id", "a", "ab", "c", "name" })
+    static class MultiViewBean {
+        public int id = 1;
+        @JsonView(ViewA.class)
+        public String a = "a";
+        @JsonView({ ViewA.class, ViewB.class })
+        public String ab = "ab";
+        @JsonView(ViewC.class)
+        public int c = 3;
+        public String name = "n";
+    }
+
+    @JsonPropertyOrder({ "x", "child" })
+    static class Node {
+        public int x;
+        public Node child;
+
+        public Node(int x, Node child) {
+            this.x = x;
+            this.child = child;
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUseGeneratedPropertyWriters(true));
+
+    private final ObjectMapper VANILLA_MAPPER = new ObjectMapper();
+
+    public void testWriterIsGenerated() throws Exception
+    {
+        DefaultSerializerProvider prov = ((DefaultSerializerProvider) MAPPER.getSerializerProvider())
+                .createInstance(MAPPER.getSerializationConfig(), MAPPER.getSerializerFactory());
+        JsonSerializer<?> ser = prov.findTypedValueSerializer(MixedBean.class, true, null);
+        assertEquals(OptimizedBeanSerializer.class, ser.getClass());
+        assertNotNull(((OptimizedBeanSerializer) ser)._findFieldsWriter());
+
+        // but not unless enabled
+        ser = mapperWithModule().getSerializerProviderInstance()
+                .findTypedValueSerializer(MixedBean.class, true, null);
+        assertNull(((OptimizedBeanSerializer) ser)._writerGenerator);
+    }
+
+    public void testMixed() throws Exception
+    {
+        MixedBean bean = new MixedBean();
+        final String json = VANILLA_MAPPER.writeValueAsString(bean);
+        assertEquals(json, MAPPER.writeValueAsString(bean));
+        // and second time, with writer already built
+        assertEquals(json, MAPPER.writeValueAsString(bean));
+        assertEquals(aposToQuotes("{'i':1,'l':-2,'b':true,'d':0.5,'f':-0.25,'s':3,'bt':4,'c':'c',"
+                +"'str':'foo','tags':['a','b'],'x':5,'y':null,'custom':'ABC'}"), json);
+    }
+
+    public void testNonDefault() throws Exception
+    {
+        NonDefaultBean bean = new NonDefaultBean();
+        assertEquals("{}", MAPPER.writeValueAsString(bean));
+        bean.i = 0;
+        bean.l = 0L;
+        bean.b = false;
+        bean.d = 0.0;
+        bean.f = 0.0f;
+        bean.str = "y";
+        final String json = aposToQuotes("{'i':0,'l':0,'b':false,'d':0.0,'f':0.0,'str':'y'}");
+        assertEquals(json, MAPPER.writeValueAsString(bean));
+        assertEquals(json, VANILLA_MAPPER.writeValueAsString(bean));
+    }
+
+    public void testStringInclusion() throws Exception
+    {
+        EmptyStringsBean bean = new EmptyStringsBean();
+        assertEquals(aposToQuotes("{'c':null}"), MAPPER.writeValueAsString(bean));
+        bean.a = "";
+        bean.b = "";
+        assertEquals(aposToQuotes("{'b':'','c':null}"), MAPPER.writeValueAsString(bean));
+        bean.a = "a";
+        assertEquals(aposToQuotes("{'a':'a','b':'','c':null}"), MAPPER.writeValueAsString(bean));
+    }
+
+    public void testObjectInclusion() throws Exception
+    {
+        ObjectsBean bean = new ObjectsBean();
+        _verifySame(bean);
+        assertEquals(aposToQuotes("{'always':null,'nonDefault':null}"), MAPPER.writeValueAsString(bean));
+
+        bean.always = Collections.emptyList();
+        bean.nonNull = Collections.emptyList();
+        bean.nonEmpty = Collections.emptyList();
+        bean.nonDefault = 0;
+        _verifySame(bean);
+        assertEquals(aposToQuotes("{'always':[],'nonNull':[]}"),
+                MAPPER.writeValueAsString(bean));
+
+        bean.nonEmpty = Arrays.asList("x");
+        bean.nonDefault = 5;
+        _verifySame(bean);
+        assertEquals(aposToQuotes("{'always':[],'nonNull':[],'nonEmpty':['x'],'nonDefault':5}"),
+                MAPPER.writeValueAsString(bean));
+    }
+
+    public void testExceptionWrapping() throws Exception
+    {
+        try {
+            MAPPER.writeValueAsString(new FailingBean());
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Fail!");
+            assertEquals(1, e.getPath().size());
+            assertEquals("b", e.getPath().get(0).getFieldName());
+        }
+    }
+
+    public void testWithViews() throws Exception
+    {
+        ViewBean bean = new ViewBean();
+        assertEquals(aposToQuotes("{'a':1,'b':2}"), MAPPER.writeValueAsString(bean));
+        assertEquals(aposToQuotes("{'a':1}"),
+                MAPPER.writerWithView(ViewA.class).writeValueAsString(bean));
+        assertEquals(aposToQuotes("{'b':2}"),
+                MAPPER.writerWithView(ViewB.class).writeValueAsString(bean));
+    }
+
+    public void testWithMultipleViews() throws Exception
+    {
+        MultiViewBean bean = new MultiViewBean();
+        for (Class<?> view : new Class<?>[] { null, ViewA.class, ViewB.class, ViewC.class, String.class }) {
+            // twice, to use cached writer as well
+            for (int i = 0; i < 2; ++i) {
+                assertEquals(VANILLA_MAPPER.writerWithView(view).writeValueAsString(bean),
+                        MAPPER.writerWithView(view).writeValueAsString(bean));
+            }
+        }
+        assertEquals(aposToQuotes("{'id':1,'a':'a','ab':'ab','c':3,'name':'n'}"),
+                MAPPER.writerWithView(ViewC.class).writeValueAsString(bean));
+        assertEquals(aposToQuotes("{'id':1,'ab':'ab','name':'n'}"),
+                MAPPER.writerWithView(ViewB.class).writeValueAsString(bean));
+        OptimizedBeanSerializer ser = (OptimizedBeanSerializer) MAPPER.getSerializerProviderInstance()
+                .findTypedValueSerializer(MultiViewBean.class, true, null);
+        assertEquals(4, ser._viewWriters.size());
+
+        // and without default inclusion, only properties with matching views
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new AfterburnerModule().setUseGeneratedPropertyWriters(true))
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        assertEquals(aposToQuotes("{'a':'a','ab':'ab'}"),
+                mapper.writerWithView(ViewA.class).writeValueAsString(bean));
+        assertEquals("{}", mapper.writerWithView(String.class).writeValueAsString(bean));
+        assertEquals(aposToQuotes("{'id':1,'a':'a','ab':'ab','c':3,'name':'n'}"),
+                mapper.writeValueAsString(bean));
+    }
+
+    // Generators that can not omit fields must not get all properties written either
+    public void testViewsWithNonOmittingGenerator() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new AfterburnerModule().setUseGeneratedPropertyWriters(true))
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        ObjectMapper vanilla = new ObjectMapper()
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        MultiViewBean bean = new MultiViewBean();
+        for (Class<?> view : new Class<?>[] { ViewA.class, ViewB.class, String.class }) {
+            assertEquals(_writeNonOmitting(vanilla, view, bean), _writeNonOmitting(mapper, view, bean));
+        }
+        assertEquals(aposToQuotes("{'a':'a','ab':'ab'}"), _writeNonOmitting(mapper, ViewA.class, bean));
+    }
+
+    private String _writeNonOmitting(ObjectMapper mapper, Class<?> view, Object value) throws IOException
+    {
+        StringWriter sw = new StringWriter();
+        JsonGenerator gen = new JsonGeneratorDelegate(mapper.getFactory().createGenerator(sw)) {
+            @Override
+            public boolean canOmitFields() { return false; }
+        };
+        mapper.writerWithView(view).writeValue(gen, value);
+        gen.close();
+        return sw.toString();
+    }
+
+    public void testRecursive() throws Exception
+    {
+        Node root = new Node(1, new Node(2, new Node(3, null)));
+        assertEquals(aposToQuotes("{'x':1,'child':{'x':2,'child':{'x':3,'child':null}}}"),
+                MAPPER.writeValueAsString(root));
+    }
+
+    public void testWithinContainer() throws Exception
+    {
+        List<MixedBean> beans = Arrays.asList(new MixedBean(), new MixedBean());
+        assertEquals(VANILLA_MAPPER.writeValueAsString(beans), MAPPER.writeValueAsString(beans));
+    }
+
+    private void _verifySame(Object value) throws Exception
+    {
+        assertEquals(VANILLA_MAPPER.writeValueAsString(value), MAPPER.writeValueAsString(value));
+    }
+}
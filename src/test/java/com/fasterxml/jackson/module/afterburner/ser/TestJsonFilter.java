@@ -1,9 +1,14 @@
 package com.fasterxml.jackson.module.afterburner.ser;
 
+import java.util.*;
+
 import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
 import com.fasterxml.jackson.databind.ser.impl.*;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
 
 /**
@@ -60,6 +65,35 @@ public class TestJsonFilter extends AfterburnerTestBase
         public Bean second = new Bean();
     }
 
+    @JsonFilter("RootFilter")
+    @JsonPropertyOrder({ "id", "name", "count", "secret" })
+    static class Item
+    {
+        public int id;
+        public String name;
+        public long count = 3L;
+        @JsonView(String.class)
+        public String secret = "s";
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    // filter with decisions that depend on bean: must not be cached
+    static class OddIdFilter extends SimpleBeanPropertyFilter
+    {
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator gen,
+                SerializerProvider provider, PropertyWriter writer) throws Exception
+        {
+            if (!"name".equals(writer.getName()) || (((Item) pojo).id % 2) != 0) {
+                writer.serializeAsField(pojo, gen, provider);
+            }
+        }
+    }
+
     /*
     /**********************************************************
     /* Unit tests
@@ -67,6 +101,9 @@ public class TestJsonFilter extends AfterburnerTestBase
      */
 
     private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper CACHING_MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setCacheFilterDecisions(true));
     
     public void testSimpleInclusionFilter() throws Exception
     {
@@ -140,4 +177,63 @@ public class TestJsonFilter extends AfterburnerTestBase
         assertEquals("{\"first\":{\"a\":\"a\"},\"second\":{\"b\":\"b\"}}",
                 MAPPER.writer(prov).writeValueAsString(new FilteredProps()));
     }
+
+    public void testCachedFilterDecisions() throws Exception
+    {
+        List<Item> items = Arrays.asList(new Item(1, "a"), new Item(2, "b"));
+        FilterProvider prov = new SimpleFilterProvider().addFilter("RootFilter",
+                SimpleBeanPropertyFilter.filterOutAllExcept("id", "count"));
+        ObjectWriter w = CACHING_MAPPER.writer(prov);
+        assertEquals("[{\"id\":1,\"count\":3},{\"id\":2,\"count\":3}]", w.writeValueAsString(items));
+        assertEquals(MAPPER.writer(prov).writeValueAsString(items), w.writeValueAsString(items));
+
+        // different filter instance, different decisions
+        prov = new SimpleFilterProvider().addFilter("RootFilter",
+                SimpleBeanPropertyFilter.serializeAllExcept("id", "count"));
+        w = CACHING_MAPPER.writer(prov);
+        assertEquals("[{\"name\":\"a\",\"secret\":\"s\"},{\"name\":\"b\",\"secret\":\"s\"}]",
+                w.writeValueAsString(items));
+
+        // as well as with views
+        assertEquals("[{\"name\":\"a\"},{\"name\":\"b\"}]",
+                w.withView(Integer.class).writeValueAsString(items));
+        assertEquals("[{\"name\":\"a\",\"secret\":\"s\"},{\"name\":\"b\",\"secret\":\"s\"}]",
+                w.withView(String.class).writeValueAsString(items));
+    }
+
+    public void testCachedFilterDecisionsAlternating() throws Exception
+    {
+        List<Item> items = Arrays.asList(new Item(1, "a"), new Item(2, "b"));
+        ObjectWriter w1 = CACHING_MAPPER.writer(new SimpleFilterProvider().addFilter("RootFilter",
+                SimpleBeanPropertyFilter.filterOutAllExcept("id")));
+        ObjectWriter w2 = CACHING_MAPPER.writer(new SimpleFilterProvider().addFilter("RootFilter",
+                SimpleBeanPropertyFilter.serializeAllExcept("id", "secret")));
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("[{\"id\":1},{\"id\":2}]", w1.writeValueAsString(items));
+            assertEquals("[{\"name\":\"a\",\"count\":3},{\"name\":\"b\",\"count\":3}]",
+                    w2.writeValueAsString(items));
+        }
+    }
+
+    public void testCachedFilterDecisionsOnProperty() throws Exception
+    {
+        FilterProvider prov = new SimpleFilterProvider()
+            .addFilter("RootFilter", SimpleBeanPropertyFilter.filterOutAllExcept("a"))
+            .addFilter("b", SimpleBeanPropertyFilter.filterOutAllExcept("b"));
+        ObjectWriter w = CACHING_MAPPER.writer(prov);
+        for (int i = 0; i < 2; ++i) {
+            assertEquals("{\"first\":{\"a\":\"a\"},\"second\":{\"b\":\"b\"}}",
+                    w.writeValueAsString(new FilteredProps()));
+        }
+    }
+
+    public void testCustomFilterNotCached() throws Exception
+    {
+        List<Item> items = Arrays.asList(new Item(1, "a"), new Item(2, "b"), new Item(3, "c"));
+        FilterProvider prov = new SimpleFilterProvider().addFilter("RootFilter", new OddIdFilter());
+        assertEquals("[{\"id\":1,\"name\":\"a\",\"count\":3,\"secret\":\"s\"},"
+                +"{\"id\":2,\"count\":3,\"secret\":\"s\"},"
+                +"{\"id\":3,\"name\":\"c\",\"count\":3,\"secret\":\"s\"}]",
+                CACHING_MAPPER.writer(prov).writeValueAsString(items));
+    }
 }
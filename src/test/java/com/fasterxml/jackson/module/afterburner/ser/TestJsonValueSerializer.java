@@ -0,0 +1,122 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestJsonValueSerializer extends AfterburnerTestBase
+{
+    static class UserId {
+        protected final String _id;
+
+        public UserId(String id) { _id = id; }
+
+        @JsonValue
+        public String id() { return _id; }
+    }
+
+    static class OrderId {
+        protected final long _id;
+
+        public OrderId(long id) { _id = id; }
+
+        @JsonValue
+        public long id() { return _id; }
+    }
+
+    static class Version {
+        @JsonValue
+        public int asInt() { return 3; }
+    }
+
+    static class Tags {
+        @JsonValue
+        public List<String> tags() { return Arrays.asList("a", "b"); }
+    }
+
+    enum Level {
+        LOW, HIGH;
+
+        @JsonValue
+        public String lower() { return name().toLowerCase(); }
+    }
+
+    static class Failing {
+        @JsonValue
+        public String fail() { throw new IllegalStateException("Oops"); }
+    }
+
+    @JsonPropertyOrder({ "user", "order", "version", "tags", "level" })
+    static class Holder {
+        public UserId user = new UserId("bob");
+        public OrderId order = new OrderId(123456789012L);
+        public Version version = new Version();
+        public Tags tags = new Tags();
+        public Level level = Level.HIGH;
+        public Object any = new UserId("x");
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper VANILLA_MAPPER = new ObjectMapper();
+
+    public void testSimpleValues() throws Exception
+    {
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(quote("abc"), MAPPER.writeValueAsString(new UserId("abc")));
+            assertEquals("null", MAPPER.writeValueAsString(new UserId(null)));
+            assertEquals("123456789012", MAPPER.writeValueAsString(new OrderId(123456789012L)));
+            assertEquals("3", MAPPER.writeValueAsString(new Version()));
+            assertEquals(aposToQuotes("['a','b']"), MAPPER.writeValueAsString(new Tags()));
+            assertEquals(quote("high"), MAPPER.writeValueAsString(Level.HIGH));
+        }
+        _verifySame(MAPPER, VANILLA_MAPPER, new Holder());
+        _verifySame(MAPPER, VANILLA_MAPPER, new UserId[] { new UserId("a"), null, new UserId("b") });
+    }
+
+    public void testWithCustomValueSerializer() throws Exception
+    {
+        SimpleModule custom = new SimpleModule()
+            .addSerializer(Long.class, ToStringSerializer.instance)
+            .addSerializer(Long.TYPE, ToStringSerializer.instance);
+        ObjectMapper mapper = mapperWithModule().registerModule(custom);
+        ObjectMapper vanilla = new ObjectMapper().registerModule(custom);
+        assertEquals(quote("5"), mapper.writeValueAsString(new OrderId(5L)));
+        _verifySame(mapper, vanilla, new Holder());
+    }
+
+    public void testWithTypeInformation() throws Exception
+    {
+        ObjectMapper mapper = mapperWithModule()
+            .enableDefaultTyping(ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        ObjectMapper vanilla = new ObjectMapper()
+            .enableDefaultTyping(ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        _verifySame(mapper, vanilla, new Holder());
+        _verifySame(mapper, vanilla, Arrays.<Object>asList(new UserId("a"), new OrderId(1L)));
+    }
+
+    public void testFailingValueMethod() throws Exception
+    {
+        try {
+            MAPPER.writeValueAsString(new Failing());
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Oops");
+        }
+    }
+
+    private void _verifySame(ObjectMapper mapper, ObjectMapper vanilla, Object value) throws Exception
+    {
+        assertEquals(vanilla.writeValueAsString(value), mapper.writeValueAsString(value));
+    }
+}
@@ -0,0 +1,127 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestPropertyProjection extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "id", "name", "tags", "owner" })
+    static class Item
+    {
+        public int id;
+        public String name;
+        public List<String> tags = Arrays.asList("x");
+        public Owner owner = new Owner();
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @JsonPropertyOrder({ "login", "email" })
+    static class Owner
+    {
+        public String login = "bob";
+        public String getEmail() { return "bob@x"; }
+    }
+
+    static class PublicView { }
+
+    @JsonPropertyOrder({ "a", "b", "c" })
+    static class ViewBean
+    {
+        public int a = 1;
+        @JsonView(PublicView.class)
+        public int b = 2;
+        @JsonView(String.class)
+        public int c = 3;
+    }
+
+    @JsonFilter("f")
+    @JsonPropertyOrder({ "a", "b", "c" })
+    static class FilteredBean
+    {
+        public int a = 1;
+        public int b = 2;
+        public int c = 3;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule().setUsePropertyProjections(true));
+
+    public void testSimpleProjection() throws Exception
+    {
+        PropertyProjection proj = PropertyProjection.empty()
+                .withProperties(Item.class, "id", "owner", "unknown");
+        ObjectWriter w = proj.applyTo(MAPPER.writer());
+        List<Item> items = Arrays.asList(new Item(1, "a"), new Item(2, "b"));
+        final String exp = aposToQuotes("[{'id':1,'owner':{'login':'bob','email':'bob@x'}},"
+                +"{'id':2,'owner':{'login':'bob','email':'bob@x'}}]");
+        assertEquals(exp, w.writeValueAsString(items));
+        // second time with cached properties
+        assertEquals(exp, w.writeValueAsString(items));
+
+        // also for nested types; and replacing earlier definitions
+        proj = proj.withProperties(Owner.class, "email")
+                .withProperties(Item.class, "name", "owner");
+        assertEquals(aposToQuotes("{'name':'a','owner':{'email':'bob@x'}}"),
+                proj.applyTo(MAPPER.writer()).writeValueAsString(new Item(1, "a")));
+
+        // and without projection, all properties
+        assertEquals(aposToQuotes("{'id':1,'name':'a','tags':['x'],'owner':{'login':'bob','email':'bob@x'}}"),
+                MAPPER.writeValueAsString(new Item(1, "a")));
+    }
+
+    public void testProjectionNotEnabled() throws Exception
+    {
+        PropertyProjection proj = PropertyProjection.empty().withProperties(Owner.class, "email");
+        assertEquals(aposToQuotes("{'login':'bob','email':'bob@x'}"),
+                proj.applyTo(mapperWithModule().writer()).writeValueAsString(new Owner()));
+    }
+
+    public void testProjectionWithViews() throws Exception
+    {
+        PropertyProjection proj = PropertyProjection.empty().withProperties(ViewBean.class, "a", "b", "c");
+        ObjectWriter w = proj.applyTo(MAPPER.writer());
+        assertEquals(aposToQuotes("{'a':1,'b':2,'c':3}"), w.writeValueAsString(new ViewBean()));
+        assertEquals(aposToQuotes("{'a':1,'b':2}"),
+                w.withView(PublicView.class).writeValueAsString(new ViewBean()));
+
+        proj = PropertyProjection.empty().withProperties(ViewBean.class, "c");
+        assertEquals("{}", proj.applyTo(MAPPER.writerWithView(PublicView.class))
+                .writeValueAsString(new ViewBean()));
+    }
+
+    public void testProjectionWithFilter() throws Exception
+    {
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+            .addFilter("f", SimpleBeanPropertyFilter.serializeAllExcept("b"));
+        PropertyProjection proj = PropertyProjection.empty().withProperties(FilteredBean.class, "a", "b");
+        assertEquals(aposToQuotes("{'a':1}"),
+                proj.applyTo(MAPPER.writer(filters)).writeValueAsString(new FilteredBean()));
+
+        // and same with cached filter decisions
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new AfterburnerModule()
+                    .setUsePropertyProjections(true)
+                    .setCacheFilterDecisions(true));
+        ObjectWriter w = proj.applyTo(mapper.writer(filters));
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(aposToQuotes("{'a':1}"), w.writeValueAsString(new FilteredBean()));
+        }
+        assertEquals(aposToQuotes("{'a':1,'c':3}"), mapper.writer(filters).writeValueAsString(new FilteredBean()));
+    }
+}
@@ -0,0 +1,135 @@
+package com.fasterxml.jackson.module.afterburner.ser;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+
+public class TestRawPropertyNames extends AfterburnerTestBase
+{
+    @JsonPropertyOrder({ "width", "height", "name", "depth", "visible", "ratio", "label" })
+    static class Box {
+        public int width = 3;
+        public long height = 4L;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public String name;
+        public short depth = 5;
+        public boolean visible = true;
+        public double ratio = 0.75;
+        public String label = "box";
+    }
+
+    // first property may be suppressed, so can not assume separator
+    @JsonPropertyOrder({ "a", "b", "c" })
+    static class Sparse {
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public int a;
+        public int b = 2;
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public int c;
+    }
+
+    @JsonPropertyOrder({ "x", "quo\"ted", "été" })
+    static class OddNames {
+        public int x = 1;
+        @JsonProperty("quo\"ted")
+        public int quoted = 2;
+        @JsonProperty("été")
+        public int summer = 3;
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.NAME, include=JsonTypeInfo.As.PROPERTY, property="@type")
+    @JsonTypeName("point")
+    @JsonPropertyOrder({ "x", "y" })
+    static class Point {
+        public int x = 1;
+        public int y = 2;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    private final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new AfterburnerModule()
+                .setUseGeneratedPropertyWriters(true)
+                .setUseRawPropertyNames(true));
+
+    private final ObjectMapper VANILLA_MAPPER = new ObjectMapper();
+
+    public void testSimple() throws Exception
+    {
+        _verifySame(new Box());
+        Box box = new Box();
+        box.name = "b";
+        box.label = null;
+        _verifySame(box);
+        assertEquals(aposToQuotes("{'width':3,'height':4,'name':'b','depth':5,'visible':true,"
+                +"'ratio':0.75,'label':null}"), MAPPER.writeValueAsString(box));
+    }
+
+    public void testSuppressedFirst() throws Exception
+    {
+        Sparse bean = new Sparse();
+        _verifySame(bean);
+        bean.a = 1;
+        bean.c = 3;
+        _verifySame(bean);
+        assertEquals(aposToQuotes("{'a':1,'b':2,'c':3}"), MAPPER.writeValueAsString(bean));
+    }
+
+    public void testNamesWithEscapes() throws Exception
+    {
+        _verifySame(new OddNames());
+    }
+
+    public void testWithTypeId() throws Exception
+    {
+        _verifySame(new Point());
+        assertEquals(aposToQuotes("{'@type':'point','x':1,'y':2}"), MAPPER.writeValueAsString(new Point()));
+    }
+
+    public void testPrettyPrinting() throws Exception
+    {
+        Box box = new Box();
+        assertEquals(VANILLA_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(box),
+                MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(box));
+    }
+
+    public void testUnquotedNames() throws Exception
+    {
+        Box box = new Box();
+        ObjectWriter w = MAPPER.writer().without(JsonGenerator.Feature.QUOTE_FIELD_NAMES);
+        assertEquals(VANILLA_MAPPER.writer().without(JsonGenerator.Feature.QUOTE_FIELD_NAMES)
+                .writeValueAsString(box), w.writeValueAsString(box));
+    }
+
+    public void testDuplicateDetection() throws Exception
+    {
+        // context needs to be kept up to date, so that nested content is fine
+        List<Object> list = new ArrayList<Object>();
+        list.add(new Box());
+        list.add(new Sparse());
+        ObjectWriter w = MAPPER.writer().with(JsonGenerator.Feature.STRICT_DUPLICATE_DETECTION);
+        assertEquals(VANILLA_MAPPER.writeValueAsString(list), w.writeValueAsString(list));
+    }
+
+    public void testTree() throws Exception
+    {
+        // token buffers (and other non-JSON generators) must not get raw content
+        JsonNode tree = MAPPER.valueToTree(new Box());
+        assertEquals(VANILLA_MAPPER.valueToTree(new Box()), tree);
+    }
+
+    private void _verifySame(Object value) throws Exception
+    {
+        final String json = VANILLA_MAPPER.writeValueAsString(value);
+        assertEquals(json, MAPPER.writeValueAsString(value));
+        assertEquals(json, new String(MAPPER.writeValueAsBytes(value), "UTF-8"));
+    }
+}
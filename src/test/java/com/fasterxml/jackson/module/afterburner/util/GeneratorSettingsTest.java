@@ -0,0 +1,66 @@
+package com.fasterxml.jackson.module.afterburner.util;
+
+import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
+import com.fasterxml.jackson.module.afterburner.util.GeneratorSettings.Feature;
+
+public class GeneratorSettingsTest extends AfterburnerTestBase
+{
+    public static class PublicBean {
+        private int x;
+    }
+
+    private static class PrivateBean { }
+
+    public void testFeatures()
+    {
+        GeneratorSettings settings = new GeneratorSettings(null);
+        for (Feature f : Feature.values()) {
+            assertFalse(settings.isEnabled(f));
+        }
+        GeneratorSettings s2 = settings.with(Feature.USE_RAW_NAMES, true);
+        assertNotSame(settings, s2);
+        assertTrue(s2.isEnabled(Feature.USE_RAW_NAMES));
+        assertFalse(s2.isEnabled(Feature.USE_PROJECTIONS));
+        assertSame(s2, s2.with(Feature.USE_RAW_NAMES, true));
+        assertFalse(s2.with(Feature.USE_RAW_NAMES, false).isEnabled(Feature.USE_RAW_NAMES));
+    }
+
+    public void testClassLoaders()
+    {
+        // by default, class loader of bean class is used
+        GeneratorSettings settings = new GeneratorSettings(null);
+        assertNull(settings.getClassLoader());
+        assertNull(settings.classLoaderFor(PublicBean.class));
+        assertTrue(settings.canGenerateFor(PrivateBean.class));
+        assertFalse(settings.canGenerateFor(String.class));
+
+        // but not with weak loaders, which can not access private classes either
+        settings = settings.with(Feature.USE_WEAK_LOADERS, true);
+        assertSame(MyClassLoader.sharedLoaderFor(PublicBean.class, false),
+                settings.classLoaderFor(PublicBean.class));
+        assertFalse(settings.canGenerateFor(PrivateBean.class));
+        assertTrue(settings.canGenerateFor(PublicBean.class));
+
+        // explicit loader has precedence
+        settings = new GeneratorSettings(getClass().getClassLoader())
+            .with(Feature.USE_WEAK_LOADERS, true);
+        assertNotNull(settings.getClassLoader());
+        assertSame(settings.getClassLoader(), settings.classLoaderFor(PublicBean.class));
+        assertFalse(settings.canGenerateFor(PrivateBean.class));
+    }
+
+    public void testPrivateAccess() throws Exception
+    {
+        GeneratorSettings settings = new GeneratorSettings(null);
+        java.lang.reflect.Field f = PublicBean.class.getDeclaredField("x");
+        assertFalse(settings.canAccessPrivate(PublicBean.class, f));
+        settings = settings.with(Feature.USE_PRIVATE_ACCESS, true);
+        assertEquals(LookupClassDefiner.isNestmateAvailable(),
+                settings.canAccessPrivate(PublicBean.class, f));
+        // only members of bean class itself
+        assertFalse(settings.canAccessPrivate(Object.class, f));
+        // and never with other class loaders
+        assertFalse(settings.with(Feature.USE_WEAK_LOADERS, true)
+                .canAccessPrivate(PublicBean.class, f));
+    }
+}
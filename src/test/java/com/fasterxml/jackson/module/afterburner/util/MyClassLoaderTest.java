@@ -1,9 +1,22 @@
 package com.fasterxml.jackson.module.afterburner.util;
 
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerTestBase;
 
 public class MyClassLoaderTest extends AfterburnerTestBase
 {
+    public static class WeakBean {
+        public int x;
+        public String name;
+
+        public long getValue() { return 7L; }
+        public void setValue(long v) { }
+    }
+
     public void testNameReplacement() throws Exception
     {
         byte[] input = "Something with FOO in it (but not just FO!): FOOFOO".getBytes("UTF-8");
@@ -11,4 +24,67 @@ public class MyClassLoaderTest extends AfterburnerTestBase
         assertEquals(3, count);
         assertEquals("Something with BAR in it (but not just FO!): BARBAR", new String(input, "UTF-8"));
     }
+
+    public void testSharedLoaders() throws Exception
+    {
+        ClassLoader parent = getClass().getClassLoader();
+        MyClassLoader child = MyClassLoader.sharedLoaderFor(parent, false);
+        assertSame(child, MyClassLoader.sharedLoaderFor(WeakBean.class, false));
+        assertSame(parent, child.getParent());
+        MyClassLoader injecting = MyClassLoader.sharedLoaderFor(parent, true);
+        assertNotSame(child, injecting);
+        assertSame(injecting, MyClassLoader.sharedLoaderFor(parent, true));
+        // bootstrap loader is fine as well
+        assertSame(MyClassLoader.sharedLoaderFor((ClassLoader) null, true),
+                MyClassLoader.sharedLoaderFor((ClassLoader) null, true));
+    }
+
+    public void testWeakClassLoaders() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new AfterburnerModule().setUseWeakClassLoaders(true));
+        long classes = MyClassLoader.getGeneratedClassCount();
+        long bytes = MyClassLoader.getGeneratedBytecodeLength();
+        final String json = aposToQuotes("{'x':3,'name':'abc','value':7}");
+        WeakBean bean = mapper.readValue(json, WeakBean.class);
+        assertEquals(3, bean.x);
+        assertEquals("abc", bean.name);
+        assertEquals(json, mapper.writeValueAsString(bean));
+
+        assertTrue(MyClassLoader.getGeneratedClassCount() > classes);
+        assertTrue(MyClassLoader.getGeneratedBytecodeLength() > bytes);
+
+        // and another mapper can reuse classes already defined by shared loader
+        classes = MyClassLoader.getGeneratedClassCount();
+        ObjectMapper mapper2 = new ObjectMapper()
+            .registerModule(new AfterburnerModule().setUseWeakClassLoaders(true));
+        assertEquals(json, mapper2.writeValueAsString(mapper2.readValue(json, WeakBean.class)));
+        assertEquals(classes, MyClassLoader.getGeneratedClassCount());
+    }
+
+    public void testLookupClassDefinition() throws Exception
+    {
+        ClassWriter cw = new ClassWriter(0);
+        cw.visit(Opcodes.V1_6, Opcodes.ACC_SUPER,
+                "com/fasterxml/jackson/module/afterburner/util/MyClassLoaderTest$Defined",
+                null, "java/lang/Object", null);
+        cw.visitEnd();
+        Class<?> cls = LookupClassDefiner.defineClass(getClass(), cw.toByteArray());
+        // only works on Java 9 and above
+        if (!LookupClassDefiner.isAvailable()) {
+            assertNull(cls);
+            return;
+        }
+        assertNotNull(cls);
+        assertEquals(getClass().getName()+"$Defined", cls.getName());
+        assertSame(getClass().getClassLoader(), cls.getClassLoader());
+        assertSame(cls, Class.forName(cls.getName(), false, getClass().getClassLoader()));
+    }
+
+    public void testMetaspaceUsed() throws Exception
+    {
+        long used = MyClassLoader.getMetaspaceUsed();
+        // not all JVMs expose the pool, but if they do, something must be used
+        assertTrue(used == -1L || used > 0L);
+    }
 }